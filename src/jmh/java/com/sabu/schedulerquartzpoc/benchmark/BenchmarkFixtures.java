@@ -0,0 +1,166 @@
+package com.sabu.schedulerquartzpoc.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sabu.schedulerquartzpoc.builder.JobBuilderUtil;
+import com.sabu.schedulerquartzpoc.builder.JobDataCodec;
+import com.sabu.schedulerquartzpoc.builder.JobTypeRegistry;
+import com.sabu.schedulerquartzpoc.builder.TriggerBuilderUtil;
+import com.sabu.schedulerquartzpoc.job.TestJob;
+import com.sabu.schedulerquartzpoc.model.JobDescriptor;
+import com.sabu.schedulerquartzpoc.model.TriggerDescriptor;
+import com.sabu.schedulerquartzpoc.scheduler.DataSourceConnectionProvider;
+import com.sabu.schedulerquartzpoc.scheduler.PausableJobStoreTX;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import javax.sql.DataSource;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.impl.StdSchedulerFactory;
+import org.quartz.utils.DBConnectionManager;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StreamUtils;
+
+/**
+ * Builds the job and trigger builders and benchmark descriptors without a Spring context, and
+ * RAMJobStore or JobStoreTX (on an in-memory H2 database) schedulers that are never started, so
+ * benchmarks measure the build and store path only. Services are wired by each benchmark in its
+ * own setup.
+ *
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+final class BenchmarkFixtures {
+
+  static final String TEST_JOB = TestJob.class.getName();
+
+  private BenchmarkFixtures() {
+  }
+
+  static JobDataCodec jobDataCodec() {
+    return new JobDataCodec(new ObjectMapper());
+  }
+
+  static TriggerBuilderUtil triggerBuilder() {
+    return new TriggerBuilderUtil();
+  }
+
+  static JobTypeRegistry jobTypeRegistry() {
+    JobTypeRegistry jobTypeRegistry = new JobTypeRegistry();
+    jobTypeRegistry.register(TestJob.class);
+    return jobTypeRegistry;
+  }
+
+  static JobBuilderUtil jobBuilder() {
+    return new JobBuilderUtil(triggerBuilder(), jobDataCodec(), jobTypeRegistry());
+  }
+
+  static Scheduler ramScheduler(String name) throws SchedulerException {
+    Properties properties = new Properties();
+    properties.setProperty("org.quartz.scheduler.instanceName", name);
+    properties.setProperty("org.quartz.scheduler.skipUpdateCheck", "true");
+    properties.setProperty("org.quartz.jobStore.class", "org.quartz.simpl.RAMJobStore");
+    properties.setProperty("org.quartz.threadPool.class", "org.quartz.simpl.SimpleThreadPool");
+    properties.setProperty("org.quartz.threadPool.threadCount", "1");
+
+    return new StdSchedulerFactory(properties).getScheduler();
+  }
+
+  /**
+   * @param name DATABASE NAME, EACH NAME IS ITS OWN IN-MEMORY H2 DATABASE
+   * @return POOL OF AN H2 DATABASE WITH THE QUARTZ TABLES AND THE db/migration INDEXES
+   */
+  static HikariDataSource h2JobStore(String name) throws IOException {
+    HikariDataSource dataSource = new HikariDataSource();
+    dataSource.setJdbcUrl("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+    dataSource.setMaximumPoolSize(16);
+    dataSource.setPoolName(name);
+
+    ResourceDatabasePopulator populator = new ResourceDatabasePopulator(
+        new ClassPathResource("org/quartz/impl/jdbcjobstore/tables_h2.sql"));
+    populator.setIgnoreFailedDrops(true);
+    populator.execute(dataSource);
+
+    for (String migration : new String[]{"V1__job_search_indexes.sql",
+        "V7__job_search_state_index.sql"}) {
+      String sql = StreamUtils.copyToString(
+          new ClassPathResource("db/migration/" + migration).getInputStream(),
+          StandardCharsets.UTF_8).replace("${tablePrefix}", "QRTZ_");
+      new ResourceDatabasePopulator(new ByteArrayResource(sql.getBytes(StandardCharsets.UTF_8)))
+          .execute(dataSource);
+    }
+    return dataSource;
+  }
+
+  /**
+   * @return SCHEDULER ON A JobStoreTX, TAKING ITS LOCKS IN QRTZ_LOCKS LIKE A CLUSTERED NODE
+   */
+  static Scheduler jdbcScheduler(String name, DataSource dataSource) throws SchedulerException {
+    String dataSourceName = name + "-ds";
+    DBConnectionManager.getInstance().addConnectionProvider(dataSourceName,
+        new DataSourceConnectionProvider(dataSource, new SimpleMeterRegistry()));
+
+    Properties properties = new Properties();
+    properties.setProperty("org.quartz.scheduler.instanceName", name);
+    properties.setProperty("org.quartz.scheduler.skipUpdateCheck", "true");
+    properties.setProperty("org.quartz.jobStore.class", PausableJobStoreTX.class.getName());
+    properties.setProperty("org.quartz.jobStore.driverDelegateClass",
+        "org.quartz.impl.jdbcjobstore.StdJDBCDelegate");
+    properties.setProperty("org.quartz.jobStore.dataSource", dataSourceName);
+    properties.setProperty("org.quartz.jobStore.tablePrefix", "QRTZ_");
+    properties.setProperty("org.quartz.jobStore.useProperties", "true");
+    properties.setProperty("org.quartz.jobStore.useDBLocks", "true");
+    properties.setProperty("org.quartz.threadPool.class", "org.quartz.simpl.SimpleThreadPool");
+    properties.setProperty("org.quartz.threadPool.threadCount", "1");
+
+    return new StdSchedulerFactory(properties).getScheduler();
+  }
+
+  static void setField(Object target, String name, Object value) {
+    Field field = ReflectionUtils.findField(target.getClass(), name);
+    ReflectionUtils.makeAccessible(field);
+    ReflectionUtils.setField(field, target, value);
+  }
+
+  static Map<String, Object> mailData() {
+    Map<String, Object> data = new LinkedHashMap<>();
+    data.put("toEmail", "user@example.com");
+    data.put("subject", "Campaign update");
+    data.put("message", "Hello, this is the latest update of the campaign you subscribed to.");
+    return data;
+  }
+
+  static JobDescriptor simpleDescriptor(String name) {
+    TriggerDescriptor triggerDescriptor = new TriggerDescriptor();
+    triggerDescriptor.setFireTime(LocalDateTime.now().plusDays(1));
+    return descriptor(name, triggerDescriptor);
+  }
+
+  static JobDescriptor cronDescriptor(String name) {
+    TriggerDescriptor triggerDescriptor = new TriggerDescriptor();
+    triggerDescriptor.setCron("0 0/5 9-17 ? * MON-FRI");
+    return descriptor(name, triggerDescriptor);
+  }
+
+  private static JobDescriptor descriptor(String name, TriggerDescriptor triggerDescriptor) {
+    JobDescriptor jobDescriptor = new JobDescriptor();
+    jobDescriptor.setName(name);
+    jobDescriptor.setGroup("email");
+    jobDescriptor.setType(TEST_JOB);
+    jobDescriptor.setDescription("Benchmark job");
+    jobDescriptor.setData(mailData());
+    jobDescriptor.setTriggerDescriptors(Collections.singletonList(triggerDescriptor));
+    return jobDescriptor;
+  }
+
+}
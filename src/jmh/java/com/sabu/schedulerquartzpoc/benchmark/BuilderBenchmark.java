@@ -0,0 +1,74 @@
+package com.sabu.schedulerquartzpoc.benchmark;
+
+import com.sabu.schedulerquartzpoc.builder.JobBuilderUtil;
+import com.sabu.schedulerquartzpoc.builder.TriggerBuilderUtil;
+import com.sabu.schedulerquartzpoc.model.JobDescriptor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.quartz.JobDetail;
+import org.quartz.Trigger;
+
+/**
+ * Cost of turning descriptors into Quartz objects and back.
+ *
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BuilderBenchmark {
+
+  private JobBuilderUtil jobBuilder;
+
+  private TriggerBuilderUtil triggerBuilder;
+
+  private JobDescriptor simpleDescriptor;
+
+  private JobDescriptor cronDescriptor;
+
+  private JobDetail jobDetail;
+
+  private List<Trigger> triggers;
+
+  @Setup
+  public void setUp() {
+    jobBuilder = BenchmarkFixtures.jobBuilder();
+    triggerBuilder = BenchmarkFixtures.triggerBuilder();
+    simpleDescriptor = BenchmarkFixtures.simpleDescriptor("simple");
+    cronDescriptor = BenchmarkFixtures.cronDescriptor("cron");
+
+    jobDetail = jobBuilder.buildJobDetail(simpleDescriptor);
+    triggers = new ArrayList<>(triggerBuilder.buildTriggers(simpleDescriptor));
+  }
+
+  @Benchmark
+  public JobDetail buildJobDetail() {
+    return jobBuilder.buildJobDetail(simpleDescriptor);
+  }
+
+  @Benchmark
+  public Set<Trigger> buildSimpleTriggers() {
+    return triggerBuilder.buildTriggers(simpleDescriptor);
+  }
+
+  @Benchmark
+  public Set<Trigger> buildCronTriggers() {
+    return triggerBuilder.buildTriggers(cronDescriptor);
+  }
+
+  @Benchmark
+  public JobDescriptor buildDescriptor() {
+    return jobBuilder.buildDescriptor(jobDetail, triggers);
+  }
+
+}
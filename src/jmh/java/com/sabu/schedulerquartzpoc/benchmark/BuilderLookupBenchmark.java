@@ -0,0 +1,60 @@
+package com.sabu.schedulerquartzpoc.benchmark;
+
+import com.sabu.schedulerquartzpoc.builder.JobTypeRegistry;
+import java.text.ParseException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.quartz.CronExpression;
+import org.quartz.CronScheduleBuilder;
+
+/**
+ * Job class and cron resolution as the builders did before, against the registry lookup and the
+ * single cron parse they do now. Run with the gc profiler to compare allocations.
+ *
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BuilderLookupBenchmark {
+
+  private static final String CRON = "0 0/5 9-17 ? * MON-FRI";
+
+  private JobTypeRegistry jobTypeRegistry;
+
+  @Setup
+  public void setUp() {
+    jobTypeRegistry = BenchmarkFixtures.jobTypeRegistry();
+  }
+
+  @Benchmark
+  public CronScheduleBuilder validateAndParseCron() {
+    if (!CronExpression.isValidExpression(CRON)) {
+      throw new IllegalArgumentException(CRON);
+    }
+    return CronScheduleBuilder.cronSchedule(CRON);
+  }
+
+  @Benchmark
+  public CronScheduleBuilder parseCron() throws ParseException {
+    return CronScheduleBuilder.cronSchedule(new CronExpression(CRON));
+  }
+
+  @Benchmark
+  public Class<?> classForName() throws ClassNotFoundException {
+    return Class.forName(BenchmarkFixtures.TEST_JOB);
+  }
+
+  @Benchmark
+  public Class<?> registryLookup() {
+    return jobTypeRegistry.resolve(BenchmarkFixtures.TEST_JOB);
+  }
+
+}
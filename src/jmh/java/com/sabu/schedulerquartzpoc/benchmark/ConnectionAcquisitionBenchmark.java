@@ -0,0 +1,173 @@
+package com.sabu.schedulerquartzpoc.benchmark;
+
+import com.sabu.schedulerquartzpoc.scheduler.DataSourceConnectionProvider;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.DriverManager;
+import java.sql.DriverPropertyInfo;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Logger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.quartz.utils.ConnectionProvider;
+import org.quartz.utils.PoolingConnectionProvider;
+
+/**
+ * Time to get a job store connection, hold it for holdMicros (a statement round trip) and give it
+ * back, with 13 threads at once: the 10 worker threads of the default scheduler plus its scheduler,
+ * cluster manager and misfire handler threads.
+ *
+ * c3p0-10 is the pool Quartz built from the quartzDS properties, with its default of 10
+ * connections. hikari-10 and hikari-13 are DataSourceConnectionProvider on the shared pool, at the
+ * same size and at the size DataSourceConfiguration gives the scheduler. Connections come from an
+ * in-process stub driver, so the numbers are the pool overhead and wait without a database.
+ *
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(13)
+public class ConnectionAcquisitionBenchmark {
+
+  private static final String URL = "jdbc:stub:quartz";
+
+  @Param({"c3p0-10", "hikari-10", "hikari-13"})
+  private String pool;
+
+  @Param({"200"})
+  private long holdMicros;
+
+  private HikariDataSource dataSource;
+
+  private ConnectionProvider connectionProvider;
+
+  @Setup
+  public void setUp() throws SQLException {
+    StubDriver.register();
+    int size = Integer.parseInt(pool.substring(pool.indexOf('-') + 1));
+
+    if (pool.startsWith("c3p0")) {
+      connectionProvider = new PoolingConnectionProvider(StubDriver.class.getName(), URL, "", "",
+          size, null);
+      return;
+    }
+
+    dataSource = new HikariDataSource();
+    dataSource.setDriverClassName(StubDriver.class.getName());
+    dataSource.setJdbcUrl(URL);
+    dataSource.setMaximumPoolSize(size);
+    dataSource.setPoolName("benchmark");
+    connectionProvider = new DataSourceConnectionProvider(dataSource, new SimpleMeterRegistry());
+  }
+
+  @TearDown
+  public void tearDown() throws SQLException {
+    connectionProvider.shutdown();
+    if (dataSource != null) {
+      dataSource.close();
+    }
+  }
+
+  @Benchmark
+  public void acquire() throws SQLException {
+    try (Connection connection = connectionProvider.getConnection()) {
+      LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(holdMicros));
+    }
+  }
+
+  /**
+   * Hands out connections doing nothing: isValid is true, other methods answer false, 0, an empty
+   * map or null.
+   */
+  public static final class StubDriver implements Driver {
+
+    private static volatile boolean registered;
+
+    static synchronized void register() throws SQLException {
+      if (!registered) {
+        DriverManager.registerDriver(new StubDriver());
+        registered = true;
+      }
+    }
+
+    @Override
+    public Connection connect(String url, Properties info) {
+      if (!acceptsURL(url)) {
+        return null;
+      }
+      return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+          new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+              case "hashCode":
+                return System.identityHashCode(proxy);
+              case "equals":
+                return proxy == args[0];
+              case "toString":
+                return "StubConnection";
+              case "isValid":
+                return true;
+              default:
+                break;
+            }
+            Class<?> type = method.getReturnType();
+            if (type == boolean.class) {
+              return false;
+            } else if (type == int.class) {
+              return 0;
+            } else if (type == Map.class) {
+              return Collections.emptyMap();
+            }
+            return null;
+          });
+    }
+
+    @Override
+    public boolean acceptsURL(String url) {
+      return url != null && url.startsWith("jdbc:stub:");
+    }
+
+    @Override
+    public DriverPropertyInfo[] getPropertyInfo(String url, Properties info) {
+      return new DriverPropertyInfo[0];
+    }
+
+    @Override
+    public int getMajorVersion() {
+      return 1;
+    }
+
+    @Override
+    public int getMinorVersion() {
+      return 0;
+    }
+
+    @Override
+    public boolean jdbcCompliant() {
+      return false;
+    }
+
+    @Override
+    public Logger getParentLogger() {
+      return Logger.getGlobal();
+    }
+  }
+
+}
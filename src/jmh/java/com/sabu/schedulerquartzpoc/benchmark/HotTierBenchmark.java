@@ -0,0 +1,99 @@
+package com.sabu.schedulerquartzpoc.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.sabu.schedulerquartzpoc.builder.JobBuilderUtil;
+import com.sabu.schedulerquartzpoc.builder.TriggerBuilderUtil;
+import com.sabu.schedulerquartzpoc.scheduler.HotTier;
+import com.sabu.schedulerquartzpoc.scheduler.SchedulerRouter;
+import com.sabu.schedulerquartzpoc.scheduler.TimingWheelDispatcher;
+import com.sabu.schedulerquartzpoc.service.JobService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.simpl.SimpleJobFactory;
+import org.springframework.util.FileSystemUtils;
+
+/**
+ * Cost per job of JobService.createJob with the hot tier disabled (store only, RAMJobStore shard)
+ * and enabled, with and without an fsync of the journal per job. The JDBC tier cost comes from the
+ * quartz.* and scheduler.job.service timers of a running instance, it needs a database.
+ *
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HotTierBenchmark {
+
+  @Param({"disabled", "journal", "journal-fsync"})
+  private String tier;
+
+  private Path journalDirectory;
+
+  private Scheduler scheduler;
+
+  private HotTier hotTier;
+
+  private JobService jobService;
+
+  private long sequence;
+
+  @Setup
+  public void setUp() throws SchedulerException, IOException {
+    journalDirectory = Files.createTempDirectory("hot-tier-benchmark");
+    scheduler = BenchmarkFixtures.ramScheduler("hot-tier-benchmark-cold");
+
+    JobBuilderUtil jobBuilder = BenchmarkFixtures.jobBuilder();
+    TriggerBuilderUtil triggerBuilder = BenchmarkFixtures.triggerBuilder();
+    SchedulerRouter schedulerRouter = new SchedulerRouter(List.of(scheduler));
+    hotTier = new HotTier(jobBuilder, triggerBuilder, schedulerRouter,
+        JsonMapper.builder().findAndAddModules().build(), new SimpleJobFactory(), null);
+    if (!"disabled".equals(tier)) {
+      BenchmarkFixtures.setField(hotTier, "enabled", true);
+      // BENCHMARK JOBS FIRE A DAY OUT AND MUST NEVER RUN
+      BenchmarkFixtures.setField(hotTier, "horizonSeconds", 2 * 24 * 3600L);
+      BenchmarkFixtures.setField(hotTier, "journalPath",
+          journalDirectory.resolve("hot-tier.journal").toString());
+      BenchmarkFixtures.setField(hotTier, "fsync", "journal-fsync".equals(tier));
+      BenchmarkFixtures.setField(hotTier, "compactAfter", 10000);
+      BenchmarkFixtures.setField(hotTier, "threadCount", 1);
+      BenchmarkFixtures.setField(hotTier, "instanceName", "hot-tier-benchmark");
+      hotTier.start();
+    }
+
+    // TIMING WHEEL DISABLED, NO JobQueryRepository
+    TimingWheelDispatcher timingWheel = new TimingWheelDispatcher(null, jobBuilder, triggerBuilder,
+        schedulerRouter, new SimpleJobFactory(), new ObjectMapper(), new SimpleMeterRegistry());
+    jobService = new JobService(schedulerRouter, hotTier, timingWheel, jobBuilder, triggerBuilder,
+        null);
+  }
+
+  @TearDown
+  public void tearDown() throws SchedulerException, IOException {
+    hotTier.destroy();
+    scheduler.shutdown();
+    FileSystemUtils.deleteRecursively(journalDirectory);
+  }
+
+  @Benchmark
+  public void createJob() {
+    jobService.createJob(BenchmarkFixtures.simpleDescriptor("job-" + sequence++));
+  }
+
+}
@@ -0,0 +1,125 @@
+package com.sabu.schedulerquartzpoc.benchmark;
+
+import com.sabu.schedulerquartzpoc.job.SendEmail;
+import com.sabu.schedulerquartzpoc.model.JobDescriptor;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Date;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.quartz.JobDataMap;
+import org.quartz.JobDetail;
+import org.quartz.JobExecutionContext;
+import org.quartz.impl.JobExecutionContextImpl;
+import org.quartz.spi.OperableTrigger;
+import org.quartz.spi.TriggerFiredBundle;
+
+/**
+ * Fire path of a job reading its data: Quartz builds the JobExecutionContext, merging the job and
+ * trigger data, then the job reads the mail and its retry attempt.
+ *
+ * legacy keeps the job data on every trigger as well and reads it from the trigger map with casts,
+ * typed stores it once on the JobDetail and reads the merged map through the SendEmail
+ * JobParameters. Run with the gc profiler (see build.gradle) to compare allocations per fire; the
+ * stored sizes of the job and trigger data are reported as the jobBytes and triggerBytes counters.
+ *
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JobDataAccessBenchmark {
+
+  private TriggerFiredBundle legacyBundle;
+
+  private TriggerFiredBundle typedBundle;
+
+  private long jobBytes;
+
+  private long legacyTriggerBytes;
+
+  private long typedTriggerBytes;
+
+  @Setup
+  public void setUp() throws IOException {
+    JobDescriptor descriptor = BenchmarkFixtures.cronDescriptor("access");
+    JobDetail jobDetail = BenchmarkFixtures.jobBuilder().buildJobDetail(descriptor);
+
+    OperableTrigger trigger = (OperableTrigger) BenchmarkFixtures.triggerBuilder()
+        .buildTrigger(descriptor, descriptor.getTriggerDescriptors().get(0));
+    trigger.getJobDataMap().put(SendEmail.RETRY_ATTEMPT.getKey(), "2");
+
+    OperableTrigger legacyTrigger = (OperableTrigger) trigger.clone();
+    JobDataMap legacyData = new JobDataMap(trigger.getJobDataMap());
+    legacyData.putAll(BenchmarkFixtures.jobDataCodec().encode(descriptor.getData()));
+    legacyTrigger.setJobDataMap(legacyData);
+
+    legacyBundle = bundle(jobDetail, legacyTrigger);
+    typedBundle = bundle(jobDetail, trigger);
+
+    jobBytes = storedSize(jobDetail.getJobDataMap());
+    legacyTriggerBytes = storedSize(legacyData);
+    typedTriggerBytes = storedSize(trigger.getJobDataMap());
+  }
+
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  @State(Scope.Thread)
+  public static class StoredSize {
+
+    public long jobBytes;
+
+    public long triggerBytes;
+  }
+
+  private static TriggerFiredBundle bundle(JobDetail jobDetail, OperableTrigger trigger) {
+    Date now = new Date();
+    return new TriggerFiredBundle(jobDetail, trigger, null, false, now, now, null, null);
+  }
+
+  private static int storedSize(Map<String, Object> data) throws IOException {
+    Properties properties = new Properties();
+    properties.putAll(data);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    properties.store(out, "");
+    return out.size();
+  }
+
+  @Benchmark
+  public void legacy(Blackhole blackhole, StoredSize storedSize) {
+    storedSize.jobBytes = jobBytes;
+    storedSize.triggerBytes = legacyTriggerBytes;
+    JobExecutionContext context = new JobExecutionContextImpl(null, legacyBundle, null);
+    JobDataMap jobDataMap = context.getTrigger().getJobDataMap();
+
+    blackhole.consume((String) jobDataMap.get("toEmail"));
+    blackhole.consume((String) jobDataMap.get("subject"));
+    blackhole.consume((String) jobDataMap.get("message"));
+    String attempt = jobDataMap.getString("retryAttempt");
+    blackhole.consume(attempt == null ? 0 : Integer.parseInt(attempt));
+  }
+
+  @Benchmark
+  public void typed(Blackhole blackhole, StoredSize storedSize) {
+    storedSize.jobBytes = jobBytes;
+    storedSize.triggerBytes = typedTriggerBytes;
+    JobExecutionContext context = new JobExecutionContextImpl(null, typedBundle, null);
+    JobDataMap jobDataMap = context.getMergedJobDataMap();
+
+    blackhole.consume(SendEmail.TO_EMAIL.get(jobDataMap));
+    blackhole.consume(SendEmail.SUBJECT.get(jobDataMap));
+    blackhole.consume(SendEmail.MESSAGE.get(jobDataMap));
+    blackhole.consume(SendEmail.RETRY_ATTEMPT.getInt(jobDataMap));
+  }
+
+}
@@ -0,0 +1,112 @@
+package com.sabu.schedulerquartzpoc.benchmark;
+
+import com.sabu.schedulerquartzpoc.builder.JobDataCodec;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.quartz.JobDataMap;
+
+/**
+ * Compares how a trigger's job data is stored by the JDBC job store: Java serialization of the
+ * JobDataMap (useProperties=false) against Properties of codec encoded strings
+ * (useProperties=true). The stored size is reported as the bytes counter of serialize and
+ * storeProperties.
+ *
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JobDataCodecBenchmark {
+
+  private JobDataCodec codec;
+
+  private JobDataMap serializedMap;
+
+  private Map<String, Object> data;
+
+  private byte[] serialized;
+
+  private byte[] properties;
+
+  @Setup
+  public void setUp() throws IOException {
+    codec = BenchmarkFixtures.jobDataCodec();
+
+    data = BenchmarkFixtures.mailData();
+    data.put("fireTime", LocalDateTime.now());
+
+    serializedMap = new JobDataMap(data);
+
+    serialized = writeSerialized();
+    properties = writeProperties();
+  }
+
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  @State(Scope.Thread)
+  public static class StoredSize {
+
+    public long bytes;
+  }
+
+  @Benchmark
+  public byte[] serialize(StoredSize storedSize) throws IOException {
+    byte[] stored = writeSerialized();
+    storedSize.bytes = stored.length;
+    return stored;
+  }
+
+  @Benchmark
+  public byte[] storeProperties(StoredSize storedSize) throws IOException {
+    byte[] stored = writeProperties();
+    storedSize.bytes = stored.length;
+    return stored;
+  }
+
+  @Benchmark
+  public Object deserialize() throws IOException, ClassNotFoundException {
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+      return in.readObject();
+    }
+  }
+
+  @Benchmark
+  @SuppressWarnings("unchecked")
+  public Map<String, Object> loadProperties() throws IOException {
+    Properties props = new Properties();
+    props.load(new ByteArrayInputStream(properties));
+    return codec.decode((Map<String, ?>) (Map<?, ?>) props);
+  }
+
+  private byte[] writeSerialized() throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (ObjectOutputStream objectOut = new ObjectOutputStream(out)) {
+      objectOut.writeObject(serializedMap);
+    }
+    return out.toByteArray();
+  }
+
+  private byte[] writeProperties() throws IOException {
+    Properties props = new Properties();
+    props.putAll(codec.encode(data));
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    props.store(out, "");
+    return out.toByteArray();
+  }
+
+}
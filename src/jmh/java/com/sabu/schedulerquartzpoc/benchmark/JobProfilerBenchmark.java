@@ -0,0 +1,68 @@
+package com.sabu.schedulerquartzpoc.benchmark;
+
+import com.sabu.schedulerquartzpoc.job.TestJob;
+import com.sabu.schedulerquartzpoc.scheduler.JobProfiler;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.quartz.JobBuilder;
+import org.quartz.JobDetail;
+import org.quartz.SimpleScheduleBuilder;
+import org.quartz.TriggerBuilder;
+import org.quartz.impl.JobExecutionContextImpl;
+import org.quartz.spi.OperableTrigger;
+import org.quartz.spi.TriggerFiredBundle;
+
+/**
+ * Per run overhead AbstractJob adds with the profiler: start and finish of one run, including the
+ * two ThreadMXBean reads each, from 8 threads recording into the same profile.
+ *
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(8)
+public class JobProfilerBenchmark {
+
+  private JobProfiler jobProfiler;
+
+  private JobExecutionContextImpl context;
+
+  @Setup
+  public void setUp() {
+    jobProfiler = new JobProfiler(BenchmarkFixtures.jobTypeRegistry());
+    BenchmarkFixtures.setField(jobProfiler, "enabled", true);
+    BenchmarkFixtures.setField(jobProfiler, "slowPercentile", 99.0);
+    BenchmarkFixtures.setField(jobProfiler, "slowMultiplier", 2.0);
+    BenchmarkFixtures.setField(jobProfiler, "slowMinRuns", 50L);
+    BenchmarkFixtures.setField(jobProfiler, "slowMinDeadlineMillis", 1000L);
+    BenchmarkFixtures.setField(jobProfiler, "recentSlowRunCount", 50);
+    BenchmarkFixtures.setField(jobProfiler, "maxProfiles", 1000);
+
+    JobDetail jobDetail = JobBuilder.newJob(TestJob.class).withIdentity("job", "email").build();
+    OperableTrigger trigger = (OperableTrigger) TriggerBuilder.newTrigger()
+        .withIdentity("job", "email")
+        .withSchedule(SimpleScheduleBuilder.simpleSchedule())
+        .forJob(jobDetail)
+        .build();
+
+    TriggerFiredBundle bundle = new TriggerFiredBundle(
+        jobDetail, trigger, null, false, new Date(), new Date(), null, null);
+    context = new JobExecutionContextImpl(null, bundle, new TestJob());
+  }
+
+  @Benchmark
+  public void profileRun() {
+    jobProfiler.finish(jobProfiler.start(context), false);
+  }
+
+}
@@ -0,0 +1,116 @@
+package com.sabu.schedulerquartzpoc.benchmark;
+
+import com.sabu.schedulerquartzpoc.builder.JobBuilderUtil;
+import com.sabu.schedulerquartzpoc.builder.TriggerBuilderUtil;
+import com.sabu.schedulerquartzpoc.model.JobDescriptor;
+import com.sabu.schedulerquartzpoc.model.JobPage;
+import com.sabu.schedulerquartzpoc.model.JobSearchRequest;
+import com.sabu.schedulerquartzpoc.repository.JobQueryRepository;
+import com.sabu.schedulerquartzpoc.scheduler.SchedulerRouter;
+import com.zaxxer.hikari.HikariDataSource;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.quartz.JobDetail;
+import org.quartz.JobKey;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.Trigger;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * One page of JobQueryRepository.search over JOB_COUNT jobs in a JobStoreTX on H2, read from the
+ * middle of the key range. One job in PAUSED_EVERY is paused: state reads the paused jobs only,
+ * nextFire a window holding every job, none has no trigger filter.
+ *
+ * H2 is not Postgres, the scores compare the filters with each other rather than giving the
+ * latency of a production page.
+ *
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JobSearchBenchmark {
+
+  private static final int JOB_COUNT = 50_000;
+
+  private static final int PAUSED_EVERY = 100;
+
+  @Param({"none", "state", "nextFire"})
+  private String filter;
+
+  private HikariDataSource dataSource;
+
+  private Scheduler scheduler;
+
+  private JobQueryRepository jobQueryRepository;
+
+  private JobSearchRequest request;
+
+  @Setup
+  public void setUp() throws IOException, SchedulerException {
+    dataSource = BenchmarkFixtures.h2JobStore("job-search-benchmark");
+    scheduler = BenchmarkFixtures.jdbcScheduler("job-search-benchmark", dataSource);
+
+    JobBuilderUtil jobBuilder = BenchmarkFixtures.jobBuilder();
+    TriggerBuilderUtil triggerBuilder = BenchmarkFixtures.triggerBuilder();
+    Map<JobDetail, Set<? extends Trigger>> batch = new HashMap<>();
+    for (int i = 0; i < JOB_COUNT; i++) {
+      JobDescriptor descriptor = BenchmarkFixtures.simpleDescriptor(String.format("job-%06d", i));
+      batch.put(jobBuilder.buildJobDetail(descriptor), Set.of(
+          triggerBuilder.buildTrigger(descriptor, descriptor.getTriggerDescriptors().get(0))));
+      if (batch.size() == 1000) {
+        scheduler.scheduleJobs(batch, true);
+        batch.clear();
+      }
+    }
+    scheduler.scheduleJobs(batch, true);
+
+    for (int i = 0; i < JOB_COUNT; i += PAUSED_EVERY) {
+      scheduler.pauseJob(JobKey.jobKey(String.format("job-%06d", i), "email"));
+    }
+
+    jobQueryRepository = new JobQueryRepository(new JdbcTemplate(dataSource),
+        new SchedulerRouter(List.of(scheduler)), BenchmarkFixtures.jobTypeRegistry());
+    BenchmarkFixtures.setField(jobQueryRepository, "tablePrefix", "QRTZ_");
+
+    // CURSOR AFTER THE FIRST HALF OF THE JOBS
+    request = new JobSearchRequest();
+    request.setSize(JOB_COUNT / 2);
+    request.setCursor(jobQueryRepository.search(request).getNextCursor());
+    request.setSize(50);
+    if ("state".equals(filter)) {
+      request.setState("PAUSED");
+    } else if ("nextFire".equals(filter)) {
+      request.setNextFireFrom(LocalDateTime.now());
+      request.setNextFireTo(LocalDateTime.now().plusDays(2));
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws SchedulerException {
+    scheduler.shutdown();
+    dataSource.close();
+  }
+
+  @Benchmark
+  public JobPage page() {
+    return jobQueryRepository.search(request);
+  }
+
+}
@@ -0,0 +1,93 @@
+package com.sabu.schedulerquartzpoc.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sabu.schedulerquartzpoc.builder.JobBuilderUtil;
+import com.sabu.schedulerquartzpoc.builder.TriggerBuilderUtil;
+import com.sabu.schedulerquartzpoc.model.JobDescriptor;
+import com.sabu.schedulerquartzpoc.model.JobScheduleResult;
+import com.sabu.schedulerquartzpoc.scheduler.HotTier;
+import com.sabu.schedulerquartzpoc.scheduler.SchedulerRouter;
+import com.sabu.schedulerquartzpoc.scheduler.TimingWheelDispatcher;
+import com.sabu.schedulerquartzpoc.service.JobService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.simpl.SimpleJobFactory;
+
+/**
+ * End to end JobService scheduling against a RAMJobStore scheduler, one job at a time and in bulk.
+ * Scores are per scheduled job.
+ *
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JobServiceBenchmark {
+
+  private static final int BULK_SIZE = 1000;
+
+  private Scheduler scheduler;
+
+  private JobService jobService;
+
+  private long sequence;
+
+  @Setup
+  public void setUp() throws SchedulerException {
+    scheduler = BenchmarkFixtures.ramScheduler("job-service-benchmark");
+
+    // HOT TIER AND TIMING WHEEL DISABLED, NO JobQueryRepository: ONLY THE STORE PATH IS USED
+    JobBuilderUtil jobBuilder = BenchmarkFixtures.jobBuilder();
+    TriggerBuilderUtil triggerBuilder = BenchmarkFixtures.triggerBuilder();
+    SchedulerRouter schedulerRouter = new SchedulerRouter(List.of(scheduler));
+    HotTier hotTier = new HotTier(jobBuilder, triggerBuilder, schedulerRouter, new ObjectMapper(),
+        new SimpleJobFactory(), null);
+    TimingWheelDispatcher timingWheel = new TimingWheelDispatcher(null, jobBuilder, triggerBuilder,
+        schedulerRouter, new SimpleJobFactory(), new ObjectMapper(), new SimpleMeterRegistry());
+
+    jobService = new JobService(schedulerRouter, hotTier, timingWheel, jobBuilder, triggerBuilder,
+        null);
+    BenchmarkFixtures.setField(jobService, "bulkChunkSize", 500);
+  }
+
+  @Setup(Level.Iteration)
+  public void clear() throws SchedulerException {
+    scheduler.clear();
+  }
+
+  @TearDown
+  public void tearDown() throws SchedulerException {
+    scheduler.shutdown();
+  }
+
+  @Benchmark
+  public void createJob() {
+    jobService.createJob(BenchmarkFixtures.simpleDescriptor("job-" + sequence++));
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BULK_SIZE)
+  public List<JobScheduleResult> createJobs() {
+    List<JobDescriptor> descriptors = new ArrayList<>(BULK_SIZE);
+    for (int i = 0; i < BULK_SIZE; i++) {
+      descriptors.add(BenchmarkFixtures.simpleDescriptor("bulk-" + sequence++));
+    }
+    return jobService.createJobs(descriptors);
+  }
+
+}
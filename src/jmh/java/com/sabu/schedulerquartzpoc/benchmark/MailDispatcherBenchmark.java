@@ -0,0 +1,95 @@
+package com.sabu.schedulerquartzpoc.benchmark;
+
+import com.sabu.schedulerquartzpoc.service.MailDispatcher;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+/**
+ * Mails per second 16 SendEmail jobs get out when each waits for its mail, sent on its own
+ * (direct) or through the MailDispatcher (batched).
+ *
+ * The sender parks connectMicros per send call, the connection and SMTP handshake, and
+ * messageMicros per mail in it, so the numbers are what batching saves on the round trips without
+ * a mail server.
+ *
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(16)
+public class MailDispatcherBenchmark {
+
+  @Param({"direct", "batched"})
+  private String mode;
+
+  @Param({"20000"})
+  private long connectMicros;
+
+  @Param({"500"})
+  private long messageMicros;
+
+  private SlowMailSender mailSender;
+
+  private MailDispatcher mailDispatcher;
+
+  private SimpleMailMessage message;
+
+  @Setup
+  public void setUp() {
+    mailSender = new SlowMailSender(connectMicros, messageMicros);
+    mailDispatcher = new MailDispatcher(mailSender, true, 50, 200);
+    mailDispatcher.start();
+
+    message = new SimpleMailMessage();
+    message.setTo("user@example.com");
+    message.setSubject("subject");
+    message.setText("text");
+  }
+
+  @TearDown
+  public void tearDown() {
+    mailDispatcher.stop();
+  }
+
+  @Benchmark
+  public void send() throws ExecutionException, InterruptedException {
+    if ("direct".equals(mode)) {
+      mailSender.send(message);
+    } else {
+      mailDispatcher.dispatch(message).get();
+    }
+  }
+
+  private static final class SlowMailSender extends JavaMailSenderImpl {
+
+    private final long connectNanos;
+
+    private final long messageNanos;
+
+    private SlowMailSender(long connectMicros, long messageMicros) {
+      this.connectNanos = TimeUnit.MICROSECONDS.toNanos(connectMicros);
+      this.messageNanos = TimeUnit.MICROSECONDS.toNanos(messageMicros);
+    }
+
+    @Override
+    public void send(SimpleMailMessage... simpleMessages) {
+      LockSupport.parkNanos(connectNanos + messageNanos * simpleMessages.length);
+    }
+  }
+
+}
@@ -0,0 +1,124 @@
+package com.sabu.schedulerquartzpoc.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.sabu.schedulerquartzpoc.builder.JobBuilderUtil;
+import com.sabu.schedulerquartzpoc.builder.TriggerBuilderUtil;
+import com.sabu.schedulerquartzpoc.model.JobDescriptor;
+import com.sabu.schedulerquartzpoc.model.ScheduleImportResult;
+import com.sabu.schedulerquartzpoc.scheduler.HotTier;
+import com.sabu.schedulerquartzpoc.scheduler.SchedulerRouter;
+import com.sabu.schedulerquartzpoc.scheduler.TimingWheelDispatcher;
+import com.sabu.schedulerquartzpoc.service.JobService;
+import com.sabu.schedulerquartzpoc.service.ScheduleTransferService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.simpl.SimpleJobFactory;
+
+/**
+ * Imports a line-delimited export of JOB_COUNT jobs spread over 16 groups into empty RAMJobStore
+ * shards, with 1 and 4 import threads. Scores are per imported job; a million jobs take
+ * 1_000_000 / score seconds plus the difference between the JDBC and RAM job store writes.
+ *
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ScheduleImportBenchmark {
+
+  private static final int JOB_COUNT = 20_000;
+
+  private static final int GROUP_COUNT = 16;
+
+  @Param({"1", "4"})
+  private int importThreads;
+
+  @Param({"1", "4"})
+  private int shardCount;
+
+  private final List<Scheduler> shards = new ArrayList<>();
+
+  private byte[] export;
+
+  private ScheduleTransferService scheduleTransferService;
+
+  @Setup
+  public void setUp() throws SchedulerException, IOException {
+    for (int shard = 0; shard < shardCount; shard++) {
+      shards.add(BenchmarkFixtures.ramScheduler("import-benchmark-" + shard));
+    }
+
+    // HOT TIER AND TIMING WHEEL DISABLED, NO JobQueryRepository: ONLY THE IMPORT IS USABLE
+    ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    JobBuilderUtil jobBuilder = BenchmarkFixtures.jobBuilder();
+    TriggerBuilderUtil triggerBuilder = BenchmarkFixtures.triggerBuilder();
+    SchedulerRouter schedulerRouter = new SchedulerRouter(shards);
+    HotTier hotTier = new HotTier(jobBuilder, triggerBuilder, schedulerRouter, objectMapper,
+        new SimpleJobFactory(), null);
+    TimingWheelDispatcher timingWheel = new TimingWheelDispatcher(null, jobBuilder, triggerBuilder,
+        schedulerRouter, new SimpleJobFactory(), objectMapper, new SimpleMeterRegistry());
+    JobService jobService = new JobService(schedulerRouter, hotTier, timingWheel, jobBuilder,
+        triggerBuilder, null);
+    BenchmarkFixtures.setField(jobService, "bulkChunkSize", 500);
+
+    scheduleTransferService = new ScheduleTransferService(jobService, null, hotTier, timingWheel,
+        jobBuilder, BenchmarkFixtures.jobTypeRegistry(), objectMapper);
+    BenchmarkFixtures.setField(scheduleTransferService, "batchSize", 500);
+    BenchmarkFixtures.setField(scheduleTransferService, "importThreads", importThreads);
+
+    ObjectWriter writer = objectMapper.writerFor(JobDescriptor.class);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    for (int i = 0; i < JOB_COUNT; i++) {
+      JobDescriptor descriptor = i % 2 == 0
+          ? BenchmarkFixtures.simpleDescriptor("job-" + i)
+          : BenchmarkFixtures.cronDescriptor("job-" + i);
+      descriptor.setGroup("group-" + i % GROUP_COUNT);
+      out.write(writer.writeValueAsBytes(descriptor));
+      out.write('\n');
+    }
+    export = out.toByteArray();
+  }
+
+  @Setup(Level.Invocation)
+  public void clear() throws SchedulerException {
+    for (Scheduler shard : shards) {
+      shard.clear();
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws SchedulerException {
+    for (Scheduler shard : shards) {
+      shard.shutdown();
+    }
+    shards.clear();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(JOB_COUNT)
+  public ScheduleImportResult importJobs() throws IOException {
+    return scheduleTransferService.importJobs(new ByteArrayInputStream(export));
+  }
+
+}
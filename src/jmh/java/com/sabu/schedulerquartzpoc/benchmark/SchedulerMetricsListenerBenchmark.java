@@ -0,0 +1,80 @@
+package com.sabu.schedulerquartzpoc.benchmark;
+
+import com.sabu.schedulerquartzpoc.job.TestJob;
+import com.sabu.schedulerquartzpoc.scheduler.SchedulerMetricsListener;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.quartz.JobBuilder;
+import org.quartz.JobDetail;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.SimpleScheduleBuilder;
+import org.quartz.TriggerBuilder;
+import org.quartz.impl.JobExecutionContextImpl;
+import org.quartz.spi.OperableTrigger;
+import org.quartz.spi.TriggerFiredBundle;
+
+/**
+ * Per fire overhead of the metrics listener: every callback Quartz makes for one successful job
+ * execution, recorded into a Prometheus registry.
+ *
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SchedulerMetricsListenerBenchmark {
+
+  private Scheduler scheduler;
+
+  private SchedulerMetricsListener listener;
+
+  private OperableTrigger trigger;
+
+  private JobExecutionContextImpl context;
+
+  @Setup
+  public void setUp() throws SchedulerException {
+    scheduler = BenchmarkFixtures.ramScheduler("metrics-listener-benchmark");
+    listener = new SchedulerMetricsListener(new PrometheusMeterRegistry(PrometheusConfig.DEFAULT));
+
+    JobDetail jobDetail = JobBuilder.newJob(TestJob.class).withIdentity("job", "email").build();
+    trigger = (OperableTrigger) TriggerBuilder.newTrigger()
+        .withIdentity("job", "email")
+        .withSchedule(SimpleScheduleBuilder.simpleSchedule())
+        .forJob(jobDetail)
+        .build();
+
+    Date scheduled = new Date(System.currentTimeMillis() - 15);
+    TriggerFiredBundle bundle = new TriggerFiredBundle(
+        jobDetail, trigger, null, false, new Date(), scheduled, null, null);
+    context = new JobExecutionContextImpl(scheduler, bundle, new TestJob());
+    context.setJobRunTime(42);
+  }
+
+  @TearDown
+  public void tearDown() throws SchedulerException {
+    scheduler.shutdown();
+  }
+
+  @Benchmark
+  public void recordFire() {
+    listener.triggerFired(trigger, context);
+    listener.vetoJobExecution(trigger, context);
+    listener.jobToBeExecuted(context);
+    listener.jobWasExecuted(context, null);
+    listener.triggerComplete(trigger, context, null);
+  }
+
+}
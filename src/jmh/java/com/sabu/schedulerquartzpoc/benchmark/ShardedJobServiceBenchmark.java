@@ -0,0 +1,125 @@
+package com.sabu.schedulerquartzpoc.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sabu.schedulerquartzpoc.builder.JobBuilderUtil;
+import com.sabu.schedulerquartzpoc.builder.TriggerBuilderUtil;
+import com.sabu.schedulerquartzpoc.model.JobDescriptor;
+import com.sabu.schedulerquartzpoc.model.JobScheduleResult;
+import com.sabu.schedulerquartzpoc.scheduler.HotTier;
+import com.sabu.schedulerquartzpoc.scheduler.SchedulerRouter;
+import com.sabu.schedulerquartzpoc.scheduler.TimingWheelDispatcher;
+import com.sabu.schedulerquartzpoc.service.JobService;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.simpl.SimpleJobFactory;
+
+/**
+ * Concurrent JobService scheduling over 1, 2 and 4 shards. With store=jdbc the shards are
+ * JobStoreTX schedulers sharing one H2 database, as the shards of SchedulerConfiguration share
+ * the Spring data source, each taking its own QRTZ_LOCKS rows under its own scheduler name. With
+ * store=ram each RAMJobStore serializes writes on its own lock instead. The score shows how far
+ * contention drops as keys are spread over more shards. Scores are per scheduled job.
+ *
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+public class ShardedJobServiceBenchmark {
+
+  private static final int BULK_SIZE = 200;
+
+  @Param({"1", "2", "4"})
+  private int shardCount;
+
+  @Param({"ram", "jdbc"})
+  private String store;
+
+  private final List<Scheduler> shards = new ArrayList<>();
+
+  private final AtomicLong sequence = new AtomicLong();
+
+  private HikariDataSource dataSource;
+
+  private JobService jobService;
+
+  @Setup
+  public void setUp() throws SchedulerException, IOException {
+    if ("jdbc".equals(store)) {
+      dataSource = BenchmarkFixtures.h2JobStore("sharded-benchmark");
+    }
+    for (int shard = 0; shard < shardCount; shard++) {
+      String name = "sharded-benchmark-" + shard;
+      shards.add(dataSource == null ? BenchmarkFixtures.ramScheduler(name)
+          : BenchmarkFixtures.jdbcScheduler(name, dataSource));
+    }
+
+    // HOT TIER AND TIMING WHEEL DISABLED, NO JobQueryRepository: ONLY THE STORE PATH IS USED
+    JobBuilderUtil jobBuilder = BenchmarkFixtures.jobBuilder();
+    TriggerBuilderUtil triggerBuilder = BenchmarkFixtures.triggerBuilder();
+    SchedulerRouter schedulerRouter = new SchedulerRouter(shards);
+    HotTier hotTier = new HotTier(jobBuilder, triggerBuilder, schedulerRouter, new ObjectMapper(),
+        new SimpleJobFactory(), null);
+    TimingWheelDispatcher timingWheel = new TimingWheelDispatcher(null, jobBuilder, triggerBuilder,
+        schedulerRouter, new SimpleJobFactory(), new ObjectMapper(), new SimpleMeterRegistry());
+
+    jobService = new JobService(schedulerRouter, hotTier, timingWheel, jobBuilder, triggerBuilder,
+        null);
+    BenchmarkFixtures.setField(jobService, "bulkChunkSize", 500);
+  }
+
+  @Setup(Level.Iteration)
+  public void clear() throws SchedulerException {
+    for (Scheduler shard : shards) {
+      shard.clear();
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws SchedulerException {
+    for (Scheduler shard : shards) {
+      shard.shutdown();
+    }
+    shards.clear();
+    if (dataSource != null) {
+      dataSource.close();
+    }
+  }
+
+  @Benchmark
+  public void createJob() {
+    jobService.createJob(BenchmarkFixtures.simpleDescriptor("job-" + sequence.incrementAndGet()));
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BULK_SIZE)
+  public List<JobScheduleResult> createJobs() {
+    List<JobDescriptor> descriptors = new ArrayList<>(BULK_SIZE);
+    for (int i = 0; i < BULK_SIZE; i++) {
+      descriptors.add(BenchmarkFixtures.simpleDescriptor("bulk-" + sequence.incrementAndGet()));
+    }
+    return jobService.createJobs(descriptors);
+  }
+
+}
@@ -0,0 +1,196 @@
+package com.sabu.schedulerquartzpoc.benchmark;
+
+import com.sabu.schedulerquartzpoc.scheduler.TimingWheel;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Fires of the TimingWheel behind TimingWheelDispatcher, without the job itself:
+ *
+ * dispatch: the wheel advanced tick by tick as fast as possible with {@code jobs} timeouts
+ * rescheduling themselves every {@code intervalTicks}, the fires counter is the fires per second a
+ * single wheel thread sustains.
+ *
+ * realTime: the wheel on its own thread at 1 ms ticks with {@code jobs} timeouts every 500 ms, i.e.
+ * 20k fires per second for the default 10k jobs. Each operation waits 100 ms, so the score is only
+ * the pace of the measurement; the fires of the iteration and their lateness behind their tick are
+ * the fires, p50Micros, p99Micros and maxMicros counters.
+ *
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+public class TimingWheelBenchmark {
+
+  private static final long MAX_LATENESS_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+  @State(Scope.Thread)
+  public static class Dispatch {
+
+    @Param({"10000"})
+    private int jobs;
+
+    @Param({"1", "64"})
+    private int intervalTicks;
+
+    private TimingWheel wheel;
+
+    private long tick;
+
+    @Setup
+    public void setUp() {
+      wheel = new TimingWheel(TimeUnit.MILLISECONDS.toNanos(1), 8, 4);
+      for (int i = 0; i < jobs; i++) {
+        Repeating repeating = new Repeating(intervalTicks);
+        wheel.schedule(repeating, 1 + i % intervalTicks);
+      }
+    }
+  }
+
+  @AuxCounters(AuxCounters.Type.OPERATIONS)
+  @State(Scope.Thread)
+  public static class Fires {
+
+    public long fires;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      fires = 0;
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  public int dispatch(Dispatch dispatch, Fires fires) {
+    int expired = dispatch.wheel.advanceTo(++dispatch.tick);
+    fires.fires += expired;
+    return expired;
+  }
+
+  @State(Scope.Benchmark)
+  public static class RealTime {
+
+    @Param({"10000"})
+    private int jobs;
+
+    private TimingWheel wheel;
+
+    private Recorder lateness;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+      lateness = new Recorder(MAX_LATENESS_NANOS, 3);
+      wheel = new TimingWheel(TimeUnit.MILLISECONDS.toNanos(1), 8, 4);
+      long interval = 500;
+      long start = wheel.tickOf(System.nanoTime()) + 100;
+      for (int i = 0; i < jobs; i++) {
+        wheel.schedule(new Timed(interval, lateness), start + i % interval);
+      }
+      wheel.start("timing-wheel-benchmark");
+    }
+
+    @Setup(Level.Iteration)
+    public void resetLateness() {
+      lateness.reset();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+      wheel.stop();
+    }
+  }
+
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  @State(Scope.Thread)
+  public static class Lateness {
+
+    public long fires;
+
+    public long p50Micros;
+
+    public long p99Micros;
+
+    public long maxMicros;
+
+    private Histogram iteration;
+
+    private Histogram interval;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      iteration = new Histogram(MAX_LATENESS_NANOS, 3);
+    }
+
+    private void add(Recorder recorder) {
+      // THE INTERVAL HISTOGRAM IS RECYCLED, ONLY THE ITERATION HISTOGRAM KEEPS THE VALUES
+      interval = recorder.getIntervalHistogram(interval);
+      iteration.add(interval);
+      fires = iteration.getTotalCount();
+      p50Micros = TimeUnit.NANOSECONDS.toMicros(iteration.getValueAtPercentile(50));
+      p99Micros = TimeUnit.NANOSECONDS.toMicros(iteration.getValueAtPercentile(99));
+      maxMicros = TimeUnit.NANOSECONDS.toMicros(iteration.getMaxValue());
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  @Fork(1)
+  @Warmup(iterations = 1, time = 10)
+  @Measurement(iterations = 3, time = 10)
+  public void realTime(RealTime realTime, Lateness lateness) {
+    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(100));
+    lateness.add(realTime.lateness);
+  }
+
+  private static final class Repeating extends TimingWheel.Timeout {
+
+    private final int intervalTicks;
+
+    private Repeating(int intervalTicks) {
+      this.intervalTicks = intervalTicks;
+    }
+
+    @Override
+    protected void expire(TimingWheel wheel, long tick) {
+      wheel.reschedule(this, tick + intervalTicks);
+    }
+  }
+
+  private static final class Timed extends TimingWheel.Timeout {
+
+    private final long intervalTicks;
+
+    private final Recorder lateness;
+
+    private Timed(long intervalTicks, Recorder lateness) {
+      this.intervalTicks = intervalTicks;
+      this.lateness = lateness;
+    }
+
+    @Override
+    protected void expire(TimingWheel wheel, long tick) {
+      // RECORDED ON THE WHEEL THREAD, READ BY THE BENCHMARK THREAD THROUGH THE RECORDER
+      lateness.recordValue(Math.min(MAX_LATENESS_NANOS,
+          Math.max(0, System.nanoTime() - wheel.nanosOf(getDeadline()))));
+      wheel.reschedule(this, getDeadline() + intervalTicks);
+    }
+  }
+
+}
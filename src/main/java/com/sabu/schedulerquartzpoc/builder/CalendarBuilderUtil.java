@@ -0,0 +1,149 @@
+package com.sabu.schedulerquartzpoc.builder;
+
+import com.sabu.schedulerquartzpoc.model.CalendarDescriptor;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+import org.quartz.Calendar;
+import org.quartz.impl.calendar.DailyCalendar;
+import org.quartz.impl.calendar.HolidayCalendar;
+import org.quartz.impl.calendar.WeeklyCalendar;
+import org.springframework.stereotype.Component;
+
+/**
+ * Builds the Quartz calendar of a CalendarDescriptor as a chain: the holidays, the excluded days
+ * of the week on top of them and the daily window on top of both. Only the parts set in the
+ * descriptor are chained.
+ *
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+@Component
+public class CalendarBuilderUtil {
+
+  private static final DateTimeFormatter WINDOW_FORMAT = DateTimeFormatter.ofPattern("HH:mm:ss");
+
+  /**
+   * @throws IllegalArgumentException IF THE DESCRIPTOR HAS NO NAME, EXCLUDES NOTHING, EXCLUDES
+   *     EVERY DAY OF THE WEEK OR HAS AN INCOMPLETE OR EMPTY WINDOW
+   */
+  public Calendar buildCalendar(CalendarDescriptor descriptor) {
+    validate(descriptor);
+
+    Calendar calendar = null;
+    if (!isEmpty(descriptor.getExcludedDates())) {
+      HolidayCalendar holidays = new HolidayCalendar();
+      for (LocalDate date : descriptor.getExcludedDates()) {
+        holidays.addExcludedDate(
+            Date.from(date.atStartOfDay(ZoneId.systemDefault()).toInstant()));
+      }
+      calendar = holidays;
+    }
+
+    if (!isEmpty(descriptor.getExcludedDays())) {
+      WeeklyCalendar weekly = new WeeklyCalendar(calendar);
+      // A NEW WEEKLY CALENDAR EXCLUDES THE WEEKEND
+      weekly.setDaysExcluded(new boolean[8]);
+      for (DayOfWeek day : descriptor.getExcludedDays()) {
+        weekly.setDayExcluded(toCalendarDay(day), true);
+      }
+      calendar = weekly;
+    }
+
+    if (descriptor.getWindowStart() != null) {
+      DailyCalendar window = new DailyCalendar(calendar,
+          WINDOW_FORMAT.format(descriptor.getWindowStart()),
+          WINDOW_FORMAT.format(descriptor.getWindowEnd()));
+      // THE RANGE IS WHAT IS KEPT, NOT WHAT IS EXCLUDED
+      window.setInvertTimeRange(true);
+      calendar = window;
+    }
+
+    calendar.setDescription(descriptor.getDescription());
+    return calendar;
+  }
+
+  private static void validate(CalendarDescriptor descriptor) {
+    if (descriptor.getName() == null || descriptor.getName().isBlank()) {
+      throw new IllegalArgumentException("Calendar name is required");
+    }
+    if ((descriptor.getWindowStart() == null) != (descriptor.getWindowEnd() == null)) {
+      throw new IllegalArgumentException(
+          "Calendar " + descriptor.getName() + " needs both windowStart and windowEnd");
+    }
+    if (descriptor.getWindowStart() != null
+        && !descriptor.getWindowEnd().isAfter(descriptor.getWindowStart())) {
+      throw new IllegalArgumentException(
+          "Window of calendar " + descriptor.getName() + " must end after it starts");
+    }
+    if (!isEmpty(descriptor.getExcludedDays())
+        && descriptor.getExcludedDays().stream().distinct().count() == DayOfWeek.values().length) {
+      throw new IllegalArgumentException(
+          "Calendar " + descriptor.getName() + " excludes every day of the week");
+    }
+    if (isEmpty(descriptor.getExcludedDates()) && isEmpty(descriptor.getExcludedDays())
+        && descriptor.getWindowStart() == null) {
+      throw new IllegalArgumentException("Calendar " + descriptor.getName() + " excludes nothing");
+    }
+  }
+
+  /**
+   * @return DESCRIPTOR OF A CALENDAR BUILT BY {@link #buildCalendar}
+   */
+  public CalendarDescriptor buildDescriptor(String name, Calendar calendar) {
+    CalendarDescriptor descriptor = CalendarDescriptor
+        .builder()
+        .name(name)
+        .description(calendar.getDescription())
+        .build();
+
+    long now = System.currentTimeMillis();
+    for (Calendar part = calendar; part != null; part = part.getBaseCalendar()) {
+      if (part instanceof HolidayCalendar) {
+        List<LocalDate> dates = new ArrayList<>();
+        for (Date date : ((HolidayCalendar) part).getExcludedDates()) {
+          dates.add(date.toInstant().atZone(ZoneId.systemDefault()).toLocalDate());
+        }
+        descriptor.setExcludedDates(dates);
+
+      } else if (part instanceof WeeklyCalendar) {
+        List<DayOfWeek> days = new ArrayList<>();
+        for (DayOfWeek day : DayOfWeek.values()) {
+          if (((WeeklyCalendar) part).isDayExcluded(toCalendarDay(day))) {
+            days.add(day);
+          }
+        }
+        descriptor.setExcludedDays(days);
+
+      } else if (part instanceof DailyCalendar && ((DailyCalendar) part).getInvertTimeRange()) {
+        DailyCalendar window = (DailyCalendar) part;
+        descriptor.setWindowStart(toLocalTime(window.getTimeRangeStartingTimeInMillis(now)));
+        descriptor.setWindowEnd(toLocalTime(window.getTimeRangeEndingTimeInMillis(now)));
+      }
+    }
+    return descriptor;
+  }
+
+  /**
+   * @return DAY CONSTANT OF java.util.Calendar, SUNDAY IS 1
+   */
+  private static int toCalendarDay(DayOfWeek day) {
+    return day.getValue() % 7 + 1;
+  }
+
+  private static LocalTime toLocalTime(long millis) {
+    return Instant.ofEpochMilli(millis).atZone(ZoneId.systemDefault()).toLocalTime();
+  }
+
+  private static boolean isEmpty(List<?> values) {
+    return Objects.isNull(values) || values.isEmpty();
+  }
+
+}
@@ -1,15 +1,21 @@
 package com.sabu.schedulerquartzpoc.builder;
 
+import static com.sabu.schedulerquartzpoc.builder.JobTypeRegistry.SCHEMA_VERSION;
 import static org.quartz.JobBuilder.newJob;
 
 import com.sabu.schedulerquartzpoc.job.AbstractJob;
 import com.sabu.schedulerquartzpoc.model.TriggerDescriptor;
 import com.sabu.schedulerquartzpoc.model.JobDescriptor;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
 import org.quartz.JobDataMap;
 import org.quartz.JobDetail;
 import org.quartz.Trigger;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 /**
@@ -17,16 +23,30 @@ import org.springframework.stereotype.Component;
  * @created : 2023-06-27
  **/
 @Component
+@RequiredArgsConstructor
 public class JobBuilderUtil {
 
+  private final TriggerBuilderUtil triggerBuilder;
+
+  private final JobDataCodec jobDataCodec;
+
+  private final JobTypeRegistry jobTypeRegistry;
+
+  /**
+   * When false, jobs whose triggers all fire once are stored non-durable, so Quartz deletes them
+   * together with their last trigger instead of keeping them in QRTZ_JOB_DETAILS forever.
+   */
+  @Value("${scheduler.retention.durable-one-shot-jobs:true}")
+  private boolean durableOneShotJobs;
+
   public JobDetail buildJobDetail(JobDescriptor jobDescriptor) {
-    JobDataMap jobDataMap = new JobDataMap(jobDescriptor.getData());
+    JobDataMap jobDataMap = buildJobDataMap(jobDescriptor);
 
-    Class<? extends AbstractJob> jobType = getJobType(jobDescriptor.getType());
+    Class<? extends AbstractJob> jobType = jobTypeRegistry.resolve(jobDescriptor.getType());
 
     return newJob()
         .ofType(jobType)
-        .storeDurably(true)
+        .storeDurably(durableOneShotJobs || !isOneShot(jobDescriptor))
         .withIdentity(jobDescriptor.getName(), jobDescriptor.getGroup())
         .withDescription(jobDescriptor.getDescription())
         .usingJobData(jobDataMap)
@@ -34,17 +54,31 @@ public class JobBuilderUtil {
 
   }
 
-  @SuppressWarnings("unchecked")
-  private Class<? extends AbstractJob> getJobType(String classType) {
-    Class<? extends AbstractJob> jobType = null;
-    try {
-      jobType = (Class<? extends AbstractJob>) Class.forName(classType);
-    } catch (ClassNotFoundException e) {
-      // throw exception
-      throw new RuntimeException(e);
-    }
+  private static boolean isOneShot(JobDescriptor jobDescriptor) {
+    List<TriggerDescriptor> triggerDescriptors = jobDescriptor.getTriggerDescriptors();
 
-    return jobType;
+    return triggerDescriptors != null
+        && !triggerDescriptors.isEmpty()
+        && triggerDescriptors.stream().allMatch(triggerDescriptor ->
+            (Objects.isNull(triggerDescriptor.getCron()) || triggerDescriptor.getCron().isEmpty())
+                && Objects.isNull(triggerDescriptor.getIntervalMillis()));
+  }
+
+  /**
+   * The data is stored once, on the JobDetail. Triggers only carry what differs per trigger, Quartz
+   * merges both into the JobExecutionContext when a trigger fires.
+   *
+   * @param jobDescriptor
+   * @return JOB DATA OF THE DESCRIPTOR WITH ALL VALUES ENCODED AS STRINGS
+   */
+  public JobDataMap buildJobDataMap(JobDescriptor jobDescriptor) {
+    JobDataMap jobDataMap = new JobDataMap(jobDataCodec.encode(jobDescriptor.getData()));
+    if (jobDescriptor.getType() != null) {
+      Class<? extends AbstractJob> jobType = jobTypeRegistry.resolve(jobDescriptor.getType());
+      jobTypeRegistry.checkParameters(jobType, jobDescriptor.getData());
+      jobDataMap.put(SCHEMA_VERSION, String.valueOf(jobTypeRegistry.getSchemaVersion(jobType)));
+    }
+    return jobDataMap;
   }
 
   @SuppressWarnings("unchecked")
@@ -55,13 +89,20 @@ public class JobBuilderUtil {
     List<TriggerDescriptor> triggerDescriptors = new ArrayList<>();
 
     for (Trigger trigger : triggersOfJob) {
-      triggerDescriptors.add(TriggerBuilderUtil.buildDescriptor(trigger));
+      triggerDescriptors.add(triggerBuilder.buildDescriptor(trigger));
     }
 
+    Map<String, Object> data = new LinkedHashMap<>(jobDetail.getJobDataMap().getWrappedMap());
+    jobTypeRegistry.upcast(jobDetail.getJobClass(), JobTypeRegistry.readSchemaVersion(data), data);
+    data.remove(SCHEMA_VERSION);
+
     return JobDescriptor
         .builder()
         .name(jobDetail.getKey().getName())
         .group(jobDetail.getKey().getGroup())
+        .type(jobTypeRegistry.getName(jobDetail.getJobClass()))
+        .description(jobDetail.getDescription())
+        .data(jobDataCodec.decode(data))
         .triggerDescriptors(triggerDescriptors)
         .build();
 
@@ -0,0 +1,108 @@
+package com.sabu.schedulerquartzpoc.builder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.temporal.TemporalAccessor;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Encodes descriptor data into String only JobDataMap entries, as required by
+ * org.quartz.jobStore.useProperties=true, so job data is stored as properties rather than Java
+ * serialized objects.
+ *
+ * Strings are stored as is, dates and times as ISO-8601 strings and everything else (numbers,
+ * booleans, nested maps and lists) as JSON. Keys holding JSON are listed under {@link #JSON_KEYS}
+ * so they can be decoded back; dates and times decode as their ISO string.
+ *
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+@Component
+@RequiredArgsConstructor
+public class JobDataCodec {
+
+  public static final String JSON_KEYS = "_jsonKeys";
+
+  private final ObjectMapper objectMapper;
+
+  public Map<String, String> encode(Map<String, ?> data) {
+    Map<String, String> encoded = new LinkedHashMap<>();
+    if (data == null) {
+      return encoded;
+    }
+
+    StringJoiner jsonKeys = new StringJoiner(",");
+
+    data.forEach((key, value) -> {
+      if (JSON_KEYS.equals(key) || key.contains(",")) {
+        throw new IllegalArgumentException("Unsupported job data key " + key);
+      }
+      if (value == null) {
+        return;
+      }
+
+      if (value instanceof String) {
+        encoded.put(key, (String) value);
+      } else if (value instanceof TemporalAccessor) {
+        encoded.put(key, value.toString());
+      } else {
+        encoded.put(key, writeJson(key, value));
+        jsonKeys.add(key);
+      }
+    });
+
+    if (jsonKeys.length() > 0) {
+      encoded.put(JSON_KEYS, jsonKeys.toString());
+    }
+
+    return encoded;
+  }
+
+  public Map<String, Object> decode(Map<String, ?> stored) {
+    Map<String, Object> decoded = new LinkedHashMap<>();
+    if (stored == null) {
+      return decoded;
+    }
+
+    Object jsonKeyList = stored.get(JSON_KEYS);
+    Set<String> jsonKeys = jsonKeyList instanceof String
+        ? new HashSet<>(Arrays.asList(((String) jsonKeyList).split(",")))
+        : Set.of();
+
+    stored.forEach((key, value) -> {
+      if (JSON_KEYS.equals(key)) {
+        return;
+      }
+      // ENTRIES WRITTEN BEFORE THE CODEC (SERIALIZED OBJECTS) ARE RETURNED AS THEY ARE
+      decoded.put(key, jsonKeys.contains(key) && value instanceof String
+          ? readJson(key, (String) value)
+          : value);
+    });
+
+    return decoded;
+  }
+
+  private String writeJson(String key, Object value) {
+    try {
+      return objectMapper.writeValueAsString(value);
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException("Could not encode job data with key " + key, e);
+    }
+  }
+
+  private Object readJson(String key, String value) {
+    try {
+      return objectMapper.readValue(value, Object.class);
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException("Could not decode job data with key " + key, e);
+    }
+  }
+
+}
@@ -0,0 +1,26 @@
+package com.sabu.schedulerquartzpoc.builder;
+
+import java.util.Map;
+
+/**
+ * Upgrades the stored job data of a job type from one schema version to the next. Works on the
+ * stored (encoded, see JobDataCodec) entries, in place.
+ *
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+public interface JobDataUpcaster {
+
+  /**
+   * @return LOGICAL NAME OF THE JOB TYPE
+   */
+  String getJobType();
+
+  /**
+   * @return VERSION OF THE DATA THIS UPCASTER READS, IT WRITES fromVersion + 1
+   */
+  int getFromVersion();
+
+  void upcast(Map<String, Object> data);
+
+}
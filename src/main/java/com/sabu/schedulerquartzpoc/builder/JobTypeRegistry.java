@@ -0,0 +1,236 @@
+package com.sabu.schedulerquartzpoc.builder;
+
+import com.sabu.schedulerquartzpoc.job.AbstractJob;
+import com.sabu.schedulerquartzpoc.job.JobParameter;
+import com.sabu.schedulerquartzpoc.job.JobType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Allow-list of job classes a JobDescriptor type may resolve to. Replaces Class.forName on every
+ * build with a map lookup, and rejects any class name that was not registered.
+ *
+ * Types are registered under a logical name (see {@link JobType}), their class name and their
+ * aliases, together with the schema version of their data and the upcasters bringing data of older
+ * versions up to date. The version is stored in the job data under {@link #SCHEMA_VERSION}, data
+ * without it is version 1. The {@link JobParameter} constants a type declares are collected once
+ * here, and {@link #checkParameters} rejects data missing a required one.
+ *
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+public class JobTypeRegistry {
+
+  public static final String SCHEMA_VERSION = "_schemaVersion";
+
+  private final Map<String, Class<? extends AbstractJob>> jobTypes = new ConcurrentHashMap<>();
+
+  private final Map<Class<?>, String> names = new ConcurrentHashMap<>();
+
+  private final Map<Class<?>, Integer> versions = new ConcurrentHashMap<>();
+
+  private final Map<Class<?>, List<JobParameter<?>>> parameters = new ConcurrentHashMap<>();
+
+  private final Map<String, JobDataUpcaster> upcasters = new ConcurrentHashMap<>();
+
+  private final AtomicLong rejected = new AtomicLong();
+
+  /**
+   * @param jobType REGISTERED UNDER ITS {@link JobType}, OR ITS CLASS NAME WHEN NOT ANNOTATED
+   */
+  public void register(Class<? extends AbstractJob> jobType) {
+    JobType annotation = jobType.getAnnotation(JobType.class);
+    if (annotation == null) {
+      register(jobType.getName(), 1, jobType);
+    } else {
+      register(annotation.name(), annotation.version(), jobType, annotation.aliases());
+    }
+  }
+
+  public void register(String name, int version, Class<? extends AbstractJob> jobType,
+      String... aliases) {
+    if (version < 1) {
+      throw new IllegalArgumentException("Job type " + name + " needs a version >= 1");
+    }
+
+    bind(name, jobType);
+    bind(jobType.getName(), jobType);
+    for (String alias : aliases) {
+      bind(alias, jobType);
+    }
+    names.put(jobType, name);
+    versions.put(jobType, version);
+    parameters.put(jobType, findParameters(jobType));
+  }
+
+  private static List<JobParameter<?>> findParameters(Class<?> jobType) {
+    List<JobParameter<?>> found = new ArrayList<>();
+    for (Field field : jobType.getFields()) {
+      if (Modifier.isStatic(field.getModifiers()) && field.getType() == JobParameter.class) {
+        try {
+          field.trySetAccessible();
+          found.add((JobParameter<?>) field.get(null));
+        } catch (IllegalAccessException e) {
+          throw new IllegalStateException("Could not read job parameter " + field, e);
+        }
+      }
+    }
+    return List.copyOf(found);
+  }
+
+  private void bind(String name, Class<? extends AbstractJob> jobType) {
+    Class<? extends AbstractJob> other = jobTypes.putIfAbsent(name, jobType);
+    if (other != null && other != jobType) {
+      throw new IllegalStateException(
+          "Job type name " + name + " is used by " + other.getName() + " and " + jobType.getName());
+    }
+  }
+
+  public void registerUpcaster(JobDataUpcaster upcaster) {
+    Class<? extends AbstractJob> jobType = resolve(upcaster.getJobType());
+    if (upcaster.getFromVersion() < 1 || upcaster.getFromVersion() >= getSchemaVersion(jobType)) {
+      throw new IllegalStateException("Upcaster of job type " + upcaster.getJobType()
+          + " from version " + upcaster.getFromVersion() + " is out of range");
+    }
+    upcasters.put(upcasterKey(jobType, upcaster.getFromVersion()), upcaster);
+  }
+
+  /**
+   * @param type LOGICAL NAME, CLASS NAME OR ALIAS OF A REGISTERED JOB
+   * @return THE JOB CLASS
+   */
+  public Class<? extends AbstractJob> resolve(String type) {
+    Class<? extends AbstractJob> jobType = type == null ? null : jobTypes.get(type);
+    if (jobType == null) {
+      rejected.incrementAndGet();
+      throw new IllegalArgumentException("Unsupported job type " + type);
+    }
+    return jobType;
+  }
+
+  /**
+   * @return LOGICAL NAME OF THE JOB CLASS, ITS CLASS NAME IF IT IS NOT REGISTERED
+   */
+  public String getName(Class<?> jobType) {
+    return names.getOrDefault(jobType, jobType.getName());
+  }
+
+  /**
+   * @param type LOGICAL NAME, CLASS NAME OR ALIAS, E.G. A STORED job_class_name
+   * @return LOGICAL NAME OF THE JOB TYPE, THE GIVEN TYPE IF IT IS NOT REGISTERED
+   */
+  public String getName(String type) {
+    Class<? extends AbstractJob> jobType = jobTypes.get(type);
+    return jobType == null ? type : getName(jobType);
+  }
+
+  /**
+   * @param type LOGICAL NAME, CLASS NAME OR ALIAS
+   * @return EVERY NAME THE JOB TYPE IS REGISTERED UNDER, I.E. EVERY job_class_name A JOB OF THE
+   *     TYPE MAY BE STORED WITH, JUST THE GIVEN TYPE IF IT IS NOT REGISTERED
+   */
+  public Set<String> getStoredNames(String type) {
+    Class<? extends AbstractJob> jobType = jobTypes.get(type);
+    if (jobType == null) {
+      return Set.of(type);
+    }
+    Set<String> storedNames = new TreeSet<>();
+    jobTypes.forEach((name, other) -> {
+      if (other == jobType) {
+        storedNames.add(name);
+      }
+    });
+    return storedNames;
+  }
+
+  public int getSchemaVersion(Class<?> jobType) {
+    return versions.getOrDefault(jobType, 1);
+  }
+
+  /**
+   * @return JOB PARAMETERS DECLARED BY THE JOB CLASS, EMPTY IF IT IS NOT REGISTERED
+   */
+  public List<JobParameter<?>> getParameters(Class<?> jobType) {
+    return parameters.getOrDefault(jobType, List.of());
+  }
+
+  /**
+   * @param data JOB DATA OF A DESCRIPTOR OF THE JOB CLASS
+   * @throws IllegalArgumentException WHEN A REQUIRED PARAMETER IS MISSING
+   */
+  public void checkParameters(Class<?> jobType, Map<String, ?> data) {
+    for (JobParameter<?> parameter : getParameters(jobType)) {
+      parameter.check(data);
+    }
+  }
+
+  /**
+   * @param data STORED JOB DATA, UPGRADED IN PLACE
+   * @param fromVersion VERSION OF THE DATA
+   * @return VERSION OF THE DATA AFTERWARDS, I.E. THE CURRENT VERSION OF THE JOB TYPE
+   */
+  public int upcast(Class<?> jobType, int fromVersion, Map<String, Object> data) {
+    int current = getSchemaVersion(jobType);
+    for (int version = fromVersion; version < current; version++) {
+      JobDataUpcaster upcaster = upcasters.get(upcasterKey(jobType, version));
+      if (upcaster == null) {
+        throw new IllegalStateException("No upcaster for job type " + getName(jobType)
+            + " from version " + version);
+      }
+      upcaster.upcast(data);
+    }
+    return Math.max(fromVersion, current);
+  }
+
+  /**
+   * @return SCHEMA VERSION STORED IN THE FIRST MAP HOLDING ONE, 1 IF NONE DOES
+   */
+  @SafeVarargs
+  public static int readSchemaVersion(Map<String, ?>... data) {
+    for (Map<String, ?> map : data) {
+      Object version = map == null ? null : map.get(SCHEMA_VERSION);
+      if (version != null) {
+        return Integer.parseInt(version.toString());
+      }
+    }
+    return 1;
+  }
+
+  /**
+   * @return CURRENT CLASS NAME BY ALIAS, FOR EVERY ALIAS THAT IS NEITHER THE LOGICAL NAME NOR THE
+   *     CLASS NAME OF ITS TYPE, E.G. THE CLASS NAME OF A JOB BEFORE A RENAME
+   */
+  public Map<String, String> getAliases() {
+    Map<String, String> aliases = new HashMap<>();
+    jobTypes.forEach((name, jobType) -> {
+      if (!name.equals(jobType.getName()) && !name.equals(names.get(jobType))) {
+        aliases.put(name, jobType.getName());
+      }
+    });
+    return aliases;
+  }
+
+  /**
+   * @return LOGICAL NAMES OF THE REGISTERED TYPES
+   */
+  public Set<String> getJobTypes() {
+    return Set.copyOf(names.values());
+  }
+
+  public long getRejectedCount() {
+    return rejected.get();
+  }
+
+  private String upcasterKey(Class<?> jobType, int fromVersion) {
+    return getName(jobType) + '@' + fromVersion;
+  }
+
+}
@@ -1,16 +1,22 @@
 package com.sabu.schedulerquartzpoc.builder;
 
+import static com.sabu.schedulerquartzpoc.scheduler.PausableJobStoreTX.STORE_PAUSED;
 import static java.util.UUID.randomUUID;
 
 import com.sabu.schedulerquartzpoc.model.JobDescriptor;
 import com.sabu.schedulerquartzpoc.model.TriggerDescriptor;
+import com.sabu.schedulerquartzpoc.model.TriggerDescriptor.MisfirePolicy;
+import java.text.ParseException;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.TimeZone;
-import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.quartz.CronExpression;
 import org.quartz.CronScheduleBuilder;
@@ -19,9 +25,14 @@ import org.quartz.JobDataMap;
 import org.quartz.SimpleScheduleBuilder;
 import org.quartz.SimpleTrigger;
 import org.quartz.Trigger;
+import org.quartz.TriggerKey;
 import org.springframework.stereotype.Component;
 
 /**
+ * Triggers carry their cron or fire time only, the job data is stored once on the JobDetail (see
+ * JobBuilderUtil.buildJobDataMap). Trigger data is limited to entries of a single fire, e.g. the
+ * attempt of a retry trigger, and stored as strings.
+ *
  * @author : sabu.shakya
  * @created : 2023-06-27
  **/
@@ -29,64 +40,143 @@ import org.springframework.stereotype.Component;
 @Component
 public class TriggerBuilderUtil {
 
-  public Set<Trigger> buildTriggers(JobDescriptor jobDescriptor) {
-    return jobDescriptor.getTriggerDescriptors()
-        .stream()
-        .map(triggerDescriptor -> buildTrigger(jobDescriptor, triggerDescriptor))
-        .collect(Collectors.toSet());
+  private static final String FIRE_TIME = "fireTime";
+
+  private static final String CRON = "cron";
 
+  /**
+   * @return ONE TRIGGER PER DESCRIPTOR. THE FIRST ONE IS NAMED AFTER THE JOB, THE N-TH ONE AFTER
+   *     THE JOB AND N-1, E.G. job-1. THE TRIGGERS OF A PAUSED JOB ARE MARKED FOR THE
+   *     PausableJobStoreTX TO STORE THEM PAUSED
+   */
+  public Set<Trigger> buildTriggers(JobDescriptor jobDescriptor) {
+    List<TriggerDescriptor> triggerDescriptors = jobDescriptor.getTriggerDescriptors();
+    Set<Trigger> triggers = new LinkedHashSet<>();
+    String name = buildName(jobDescriptor.getName());
+    boolean paused = Boolean.TRUE.equals(jobDescriptor.getPaused());
+    for (int i = 0; i < triggerDescriptors.size(); i++) {
+      Trigger trigger = buildTrigger(TriggerKey.triggerKey(i == 0 ? name : name + "-" + i,
+          jobDescriptor.getGroup()), triggerDescriptors.get(i));
+      if (paused) {
+        trigger.getJobDataMap().put(STORE_PAUSED, Boolean.TRUE.toString());
+      }
+      triggers.add(trigger);
+    }
+    return triggers;
   }
 
   public Trigger buildTrigger(JobDescriptor descriptor, TriggerDescriptor triggerDescriptor) {
+    return buildTrigger(TriggerKey.triggerKey(buildName(descriptor.getName()),
+        descriptor.getGroup()), triggerDescriptor);
+  }
+
+  private Trigger buildTrigger(TriggerKey key, TriggerDescriptor triggerDescriptor) {
     String cron = triggerDescriptor.getCron();
     LocalDateTime fireTime = triggerDescriptor.getFireTime();
 
+    int priority = Objects.requireNonNullElse(triggerDescriptor.getPriority(),
+        Trigger.DEFAULT_PRIORITY);
+    MisfirePolicy misfirePolicy = Objects.requireNonNullElse(triggerDescriptor.getMisfirePolicy(),
+        MisfirePolicy.RECOVER);
+    JobDataMap jobDataMap = buildJobDataMap(triggerDescriptor.getData());
+
     if (Objects.nonNull(cron) && !cron.isEmpty()) {
-      return buildCronTrigger(descriptor, cron);
+      return buildCronTrigger(key, cron, priority, misfirePolicy,
+          triggerDescriptor.getCalendar(), jobDataMap);
+
+    } else if (Objects.nonNull(triggerDescriptor.getIntervalMillis())) {
+      if (triggerDescriptor.getIntervalMillis() < 1) {
+        throw new IllegalArgumentException("Trigger interval must be at least 1 ms");
+      }
+      LocalDateTime now = LocalDateTime.now();
+      return buildSimpleTrigger(key,
+          Objects.nonNull(fireTime) && fireTime.isAfter(now) ? fireTime : now,
+          triggerDescriptor.getIntervalMillis(), priority, misfirePolicy,
+          triggerDescriptor.getCalendar(), jobDataMap);
 
     } else if (Objects.nonNull(fireTime) && fireTime.isAfter(LocalDateTime.now())) {
-      return buildSimpleTrigger(descriptor, fireTime);
+      return buildSimpleTrigger(key, fireTime, null, priority, misfirePolicy,
+          triggerDescriptor.getCalendar(), jobDataMap);
     }
 
-    // CREATE APPROPRIATE EXCEPTION
-    throw new RuntimeException("Unsupported trigger descriptor");
+    throw new IllegalArgumentException(Objects.isNull(fireTime)
+        ? "Trigger needs a cron, an interval or a fire time"
+        : "Trigger fire time " + fireTime + " is not in the future");
   }
 
-  private SimpleTrigger buildSimpleTrigger(JobDescriptor descriptor, LocalDateTime fireTime) {
+  private static JobDataMap buildJobDataMap(Map<String, Object> data) {
+    // THE JOB STORE RUNS WITH useProperties=true, TRIGGER DATA IS STORED AS STRINGS
     JobDataMap jobDataMap = new JobDataMap();
-    jobDataMap.put("fireTime", fireTime);
-    jobDataMap.putAll(descriptor.getData());
+    if (data != null) {
+      data.forEach((key, value) -> {
+        if (value != null) {
+          jobDataMap.put(key, String.valueOf(value));
+        }
+      });
+    }
+    return jobDataMap;
+  }
+
+  /**
+   * @param intervalMillis NULL FOR A ONE-SHOT TRIGGER
+   */
+  private SimpleTrigger buildSimpleTrigger(TriggerKey key, LocalDateTime fireTime,
+      Long intervalMillis, int priority, MisfirePolicy misfirePolicy, String calendar,
+      JobDataMap jobDataMap) {
+    jobDataMap.put(FIRE_TIME, fireTime.toString());
+
+    // SMART POLICY OF A ONE-SHOT TRIGGER IS FIRE NOW, FIRE_NOW KEEPS IT SO MisfireRecovery CAN TELL
+    // IT APART FROM RECOVER
+    SimpleScheduleBuilder schedule = SimpleScheduleBuilder.simpleSchedule();
+    if (intervalMillis != null) {
+      schedule.withIntervalInMilliseconds(intervalMillis).repeatForever();
+    }
+    if (misfirePolicy == MisfirePolicy.RECOVER) {
+      schedule.withMisfireHandlingInstructionFireNow();
+    } else if (misfirePolicy == MisfirePolicy.SKIP) {
+      schedule.withMisfireHandlingInstructionNextWithRemainingCount();
+    }
 
     return org.quartz.TriggerBuilder
         .newTrigger()
-        .withIdentity(buildName(descriptor.getName()), descriptor.getGroup())
-        .withSchedule(
-            SimpleScheduleBuilder
-                .simpleSchedule()
-                .withMisfireHandlingInstructionNextWithExistingCount())
+        .withIdentity(key)
+        .withPriority(priority)
+        .withSchedule(schedule)
         .startAt(Date.from(fireTime.atZone(ZoneId.systemDefault()).toInstant()))
+        .modifiedByCalendar(calendar)
         .usingJobData(jobDataMap)
         .build();
   }
 
-  private CronTrigger buildCronTrigger(JobDescriptor descriptor, String cron) {
-    if (!CronExpression.isValidExpression(cron)) {
+  private CronTrigger buildCronTrigger(TriggerKey key, String cron, int priority,
+      MisfirePolicy misfirePolicy, String calendar, JobDataMap jobDataMap) {
+    // PARSED ONCE, CronScheduleBuilder.cronSchedule(String) WOULD PARSE IT AGAIN
+    CronExpression cronExpression;
+    try {
+      cronExpression = new CronExpression(cron);
+    } catch (ParseException e) {
       throw new IllegalArgumentException(
           "Provided expression " + cron + " is not a valid cron expression");
     }
 
-    JobDataMap jobDataMap = new JobDataMap();
-    jobDataMap.put("cron", cron);
-    jobDataMap.putAll(descriptor.getData());
+    jobDataMap.put(CRON, cron);
+
+    // SMART POLICY OF A CRON TRIGGER IS FIRE AND PROCEED, SEE buildSimpleTrigger
+    CronScheduleBuilder schedule = CronScheduleBuilder
+        .cronSchedule(cronExpression)
+        .inTimeZone(TimeZone.getTimeZone(ZoneId.systemDefault()));
+    if (misfirePolicy == MisfirePolicy.RECOVER) {
+      schedule = schedule.withMisfireHandlingInstructionFireAndProceed();
+    } else if (misfirePolicy == MisfirePolicy.SKIP) {
+      schedule = schedule.withMisfireHandlingInstructionDoNothing();
+    }
 
     return org.quartz.TriggerBuilder
         .newTrigger()
-        .withIdentity(buildName(descriptor.getName()), descriptor.getGroup())
-        .withSchedule(
-            CronScheduleBuilder
-                .cronSchedule(cron)
-                .withMisfireHandlingInstructionFireAndProceed()
-                .inTimeZone(TimeZone.getTimeZone(ZoneId.systemDefault())))
+        .withIdentity(key)
+        .withPriority(priority)
+        .withSchedule(schedule)
+        .modifiedByCalendar(calendar)
         .usingJobData(jobDataMap)
         .build();
   }
@@ -95,12 +185,62 @@ public class TriggerBuilderUtil {
     return name.isEmpty() ? randomUUID().toString() : name;
   }
 
-  public static TriggerDescriptor buildDescriptor(Trigger trigger) {
+  /**
+   * @param trigger READ BY ITS TYPE, NOT ITS DATA: A RETRY TRIGGER OF A CRON JOB CARRIES THE CRON
+   *     OF THE TRIGGER IT RETRIES BUT FIRES ONCE
+   * @return THE PENDING FIRE TIME FOR A ONE-SHOT TRIGGER, THE FIRST ONE FOR AN INTERVAL TRIGGER
+   */
+  public TriggerDescriptor buildDescriptor(Trigger trigger) {
+    Long intervalMillis = readIntervalMillis(trigger);
+    LocalDateTime fireTime = readFireTime(trigger.getJobDataMap().get(FIRE_TIME));
+    if (trigger instanceof SimpleTrigger && intervalMillis == null
+        && trigger.getNextFireTime() != null) {
+      fireTime = LocalDateTime.ofInstant(trigger.getNextFireTime().toInstant(),
+          ZoneId.systemDefault());
+    }
+
+    Map<String, Object> data = new LinkedHashMap<>(trigger.getJobDataMap().getWrappedMap());
+    data.remove(FIRE_TIME);
+    data.remove(CRON);
+
     return TriggerDescriptor
         .builder()
-        .fireTime((LocalDateTime) trigger.getJobDataMap().get("fireTime"))
-        .cron(trigger.getJobDataMap().getString("cron"))
+        .fireTime(trigger instanceof CronTrigger ? null : fireTime)
+        .cron(trigger instanceof CronTrigger ? ((CronTrigger) trigger).getCronExpression() : null)
+        .intervalMillis(intervalMillis)
+        .priority(trigger.getPriority())
+        .misfirePolicy(readMisfirePolicy(trigger))
+        .calendar(trigger.getCalendarName())
+        .data(data)
         .build();
   }
 
+  private static Long readIntervalMillis(Trigger trigger) {
+    return trigger instanceof SimpleTrigger
+        && ((SimpleTrigger) trigger).getRepeatCount() == SimpleTrigger.REPEAT_INDEFINITELY
+        ? ((SimpleTrigger) trigger).getRepeatInterval()
+        : null;
+  }
+
+  private static MisfirePolicy readMisfirePolicy(Trigger trigger) {
+    int instruction = trigger.getMisfireInstruction();
+    if (instruction == Trigger.MISFIRE_INSTRUCTION_SMART_POLICY) {
+      return MisfirePolicy.FIRE_NOW;
+    }
+    if (trigger instanceof CronTrigger
+        ? instruction == CronTrigger.MISFIRE_INSTRUCTION_DO_NOTHING
+        : instruction == SimpleTrigger.MISFIRE_INSTRUCTION_RESCHEDULE_NEXT_WITH_REMAINING_COUNT) {
+      return MisfirePolicy.SKIP;
+    }
+    return MisfirePolicy.RECOVER;
+  }
+
+  private static LocalDateTime readFireTime(Object fireTime) {
+    // TRIGGERS STORED BEFORE useProperties=true HOLD A SERIALIZED LocalDateTime
+    if (fireTime instanceof LocalDateTime) {
+      return (LocalDateTime) fireTime;
+    }
+    return fireTime instanceof String ? LocalDateTime.parse((String) fireTime) : null;
+  }
+
 }
@@ -0,0 +1,80 @@
+package com.sabu.schedulerquartzpoc.configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.quartz.QuartzProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * The HikariCP pool shared by the application and the Quartz job store (see
+ * DataSourceConnectionProvider).
+ *
+ * Unless spring.datasource.hikari.maximum-pool-size is set, the pool is sized so no scheduler
+ * thread waits for a connection: every scheduler, shards and lanes, gets one connection per
+ * worker thread plus {@link #SCHEDULER_CONNECTIONS} for its own threads, and the application gets
+ * scheduler.datasource.application-connections on top.
+ *
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class DataSourceConfiguration {
+
+  /**
+   * THE SCHEDULER THREAD ACQUIRING TRIGGERS, THE CLUSTER MANAGER CHECKING IN AND THE MISFIRE
+   * HANDLER, AS QUARTZ RECOMMENDS threadCount + 3
+   */
+  static final int SCHEDULER_CONNECTIONS = 3;
+
+  private final QuartzProperties quartzProperties;
+
+  private final SchedulerLaneProperties laneProperties;
+
+  @Value("${scheduler.shards.count:1}")
+  private int shardCount;
+
+  @Value("${scheduler.datasource.application-connections:10}")
+  private int applicationConnections;
+
+  /**
+   * Properties under spring.datasource.hikari are bound after the pool size is computed, so an
+   * explicit maximum-pool-size wins.
+   * @return HikariDataSource
+   */
+  @Bean
+  @ConfigurationProperties("spring.datasource.hikari")
+  public HikariDataSource dataSource(DataSourceProperties properties) {
+    HikariDataSource dataSource = properties
+        .initializeDataSourceBuilder()
+        .type(HikariDataSource.class)
+        .build();
+
+    int schedulerConnections = schedulerConnections();
+    dataSource.setPoolName("scheduler");
+    dataSource.setMaximumPoolSize(schedulerConnections + applicationConnections);
+
+    log.info("Sized connection pool for {} scheduler and {} application connections",
+        schedulerConnections, applicationConnections);
+    return dataSource;
+  }
+
+  private int schedulerConnections() {
+    int threadCount = Integer.parseInt(quartzProperties
+        .getProperties()
+        .getOrDefault(SchedulerTuningProperties.THREAD_COUNT, "10"));
+
+    int connections = shardCount * (threadCount + SCHEDULER_CONNECTIONS);
+    for (SchedulerLaneProperties.Lane lane : laneProperties.getLanes().values()) {
+      connections += lane.getThreadCount() + SCHEDULER_CONNECTIONS;
+    }
+    return connections;
+  }
+
+}
@@ -0,0 +1,65 @@
+package com.sabu.schedulerquartzpoc.configuration;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Comparator;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.quartz.QuartzDataSourceScriptDatabaseInitializer;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+
+/**
+ * Applies the scripts under classpath:db/migration, in file name order, once the Quartz schema
+ * has been initialized. Scripts must be idempotent: with
+ * spring.quartz.jdbc.initialize-schema=always the Quartz tables, and their indexes, are recreated
+ * on every start.
+ *
+ * Runs before the schedulers are created (they depend on this bean), so neither MisfireRecovery
+ * nor a request served by the web server reads a table or index a script has not created yet.
+ *
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DatabaseMigrationRunner implements InitializingBean {
+
+  private static final String MIGRATIONS = "classpath:db/migration/*.sql";
+
+  private final DataSource dataSource;
+
+  private final ObjectProvider<QuartzDataSourceScriptDatabaseInitializer> quartzSchemaInitializer;
+
+  @Value("${spring.quartz.properties.org.quartz.jobStore.tablePrefix:QRTZ_}")
+  private String tablePrefix;
+
+  @Override
+  public void afterPropertiesSet() throws IOException {
+    // THE SCRIPTS INDEX THE QUARTZ TABLES, WHICH MUST EXIST FIRST
+    quartzSchemaInitializer.ifAvailable(initializer -> { });
+
+    Resource[] scripts = new PathMatchingResourcePatternResolver().getResources(MIGRATIONS);
+    Arrays.sort(scripts, Comparator.comparing(Resource::getFilename));
+
+    for (Resource script : scripts) {
+      String sql = StreamUtils.copyToString(script.getInputStream(), StandardCharsets.UTF_8)
+          .replace("${tablePrefix}", tablePrefix.toLowerCase());
+
+      new ResourceDatabasePopulator(new ByteArrayResource(sql.getBytes(StandardCharsets.UTF_8)))
+          .execute(dataSource);
+      log.info("Applied migration {}", script.getFilename());
+    }
+  }
+
+}
@@ -0,0 +1,55 @@
+package com.sabu.schedulerquartzpoc.configuration;
+
+import com.sabu.schedulerquartzpoc.builder.JobTypeRegistry;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.quartz.QuartzDataSourceScriptDatabaseInitializer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rewrites job_class_name holding an alias of a job type, e.g. the class name of a job before it
+ * was renamed, to the current class name. Quartz loads the stored class name when a trigger fires
+ * and would fail every job stored before the rename.
+ *
+ * Runs before the schedulers are created (they depend on this bean), one UPDATE per alias.
+ * JobMigrationService renames the same way online, for jobs still stored by nodes of the previous
+ * release during a rolling deploy.
+ *
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JobClassNameMigration implements InitializingBean {
+
+  private final JdbcTemplate jdbcTemplate;
+
+  private final JobTypeRegistry jobTypeRegistry;
+
+  private final ObjectProvider<QuartzDataSourceScriptDatabaseInitializer> quartzSchemaInitializer;
+
+  @Value("${spring.quartz.properties.org.quartz.jobStore.tablePrefix:QRTZ_}")
+  private String tablePrefix;
+
+  @Override
+  public void afterPropertiesSet() {
+    // THE QUARTZ TABLES MUST EXIST BEFORE THEY ARE READ
+    quartzSchemaInitializer.ifAvailable(initializer -> { });
+
+    for (Map.Entry<String, String> alias : jobTypeRegistry.getAliases().entrySet()) {
+      int renamed = jdbcTemplate.update("UPDATE " + tablePrefix + "job_details"
+          + " SET job_class_name = ? WHERE job_class_name = ?", alias.getValue(), alias.getKey());
+      if (renamed > 0) {
+        log.info("Renamed job class of {} jobs from {} to {}", renamed, alias.getKey(),
+            alias.getValue());
+      }
+    }
+  }
+
+}
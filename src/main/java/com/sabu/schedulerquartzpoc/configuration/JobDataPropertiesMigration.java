@@ -0,0 +1,127 @@
+package com.sabu.schedulerquartzpoc.configuration;
+
+import com.sabu.schedulerquartzpoc.builder.JobDataCodec;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.quartz.QuartzDataSourceScriptDatabaseInitializer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rewrites job data stored as Java serialized maps, i.e. before
+ * org.quartz.jobStore.useProperties=true, into the properties format Quartz now reads. Quartz
+ * would otherwise parse the serialized bytes as properties and hand the jobs garbage.
+ *
+ * Runs before the schedulers are created (they depend on this bean). Values go through the
+ * JobDataCodec like new job data, a row that cannot be deserialized, e.g. because a class of its
+ * data is gone, fails the startup.
+ *
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JobDataPropertiesMigration implements InitializingBean {
+
+  // FIRST TWO BYTES OF EVERY JAVA SERIALIZATION STREAM
+  private static final String SERIALIZED =
+      "substring(job_data from 1 for 2) = decode('aced', 'hex')";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  private final JobDataCodec jobDataCodec;
+
+  private final ObjectProvider<QuartzDataSourceScriptDatabaseInitializer> quartzSchemaInitializer;
+
+  @Value("${spring.quartz.properties.org.quartz.jobStore.tablePrefix:QRTZ_}")
+  private String tablePrefix;
+
+  @Value("${spring.quartz.properties.org.quartz.jobStore.useProperties:false}")
+  private boolean useProperties;
+
+  @Override
+  public void afterPropertiesSet() {
+    if (!useProperties) {
+      return;
+    }
+    // THE QUARTZ TABLES MUST EXIST BEFORE THEY ARE READ
+    quartzSchemaInitializer.ifAvailable(initializer -> { });
+
+    int jobs = migrate("job_details", "job_name", "job_group");
+    int triggers = migrate("triggers", "trigger_name", "trigger_group");
+    if (jobs + triggers > 0) {
+      log.info("Rewrote serialized job data of {} jobs and {} triggers as properties", jobs,
+          triggers);
+    }
+  }
+
+  private int migrate(String table, String nameColumn, String groupColumn) {
+    List<SerializedRow> rows = jdbcTemplate.query(
+        "SELECT sched_name, " + nameColumn + ", " + groupColumn + ", job_data FROM " + tablePrefix
+            + table + " WHERE " + SERIALIZED,
+        (rs, rowNum) -> new SerializedRow(rs.getString(1), rs.getString(2), rs.getString(3),
+            rs.getBytes(4)));
+
+    for (SerializedRow row : rows) {
+      byte[] properties;
+      try {
+        properties = toProperties(row.getJobData());
+      } catch (IOException | ClassNotFoundException | RuntimeException e) {
+        throw new IllegalStateException("Could not convert serialized job data of " + table + " "
+            + row.getGroup() + "." + row.getName() + " in scheduler " + row.getSchedulerName()
+            + " to properties", e);
+      }
+      jdbcTemplate.update("UPDATE " + tablePrefix + table + " SET job_data = ? WHERE sched_name = ?"
+              + " AND " + nameColumn + " = ? AND " + groupColumn + " = ?",
+          properties, row.getSchedulerName(), row.getName(), row.getGroup());
+    }
+
+    return rows.size();
+  }
+
+  /**
+   * @param serialized JAVA SERIALIZED JOB DATA MAP
+   * @return THE MAP ENCODED BY THE JobDataCodec, IN THE FORMAT QUARTZ WRITES PROPERTIES
+   */
+  @SuppressWarnings("unchecked")
+  byte[] toProperties(byte[] serialized) throws IOException, ClassNotFoundException {
+    Map<String, ?> data;
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+      data = (Map<String, ?>) in.readObject();
+    }
+
+    Properties properties = new Properties();
+    properties.putAll(jobDataCodec.encode(data));
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    properties.store(out, "");
+    return out.toByteArray();
+  }
+
+  @Getter
+  @RequiredArgsConstructor
+  private static class SerializedRow {
+
+    private final String schedulerName;
+
+    private final String name;
+
+    private final String group;
+
+    private final byte[] jobData;
+
+  }
+
+}
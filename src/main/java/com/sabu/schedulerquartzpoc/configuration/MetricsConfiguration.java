@@ -0,0 +1,49 @@
+package com.sabu.schedulerquartzpoc.configuration;
+
+import com.sabu.schedulerquartzpoc.builder.JobTypeRegistry;
+import com.sabu.schedulerquartzpoc.service.CalendarService;
+import com.sabu.schedulerquartzpoc.service.IdempotencyService;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+@Configuration
+public class MetricsConfiguration {
+
+  /**
+   * Enables @Timed on Spring beans, e.g. the JobService methods
+   * @return TimedAspect
+   */
+  @Bean
+  public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+    return new TimedAspect(meterRegistry);
+  }
+
+  @Bean
+  public MeterBinder jobTypeMetrics(JobTypeRegistry jobTypeRegistry) {
+    return meterRegistry -> FunctionCounter.builder("scheduler.job.types.rejected",
+            jobTypeRegistry, JobTypeRegistry::getRejectedCount)
+        .register(meterRegistry);
+  }
+
+  @Bean
+  public MeterBinder idempotencyCacheMetrics(IdempotencyService idempotencyService) {
+    return meterRegistry -> CaffeineCacheMetrics.monitor(
+        meterRegistry, idempotencyService.getRecentKeys(), "scheduler.idempotency.keys");
+  }
+
+  @Bean
+  public MeterBinder calendarPreviewCacheMetrics(CalendarService calendarService) {
+    return meterRegistry -> CaffeineCacheMetrics.monitor(
+        meterRegistry, calendarService.getPreviews(), "scheduler.calendar.previews");
+  }
+
+}
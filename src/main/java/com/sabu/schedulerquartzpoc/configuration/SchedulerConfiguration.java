@@ -1,15 +1,34 @@
 package com.sabu.schedulerquartzpoc.configuration;
 
+import com.sabu.schedulerquartzpoc.builder.JobDataUpcaster;
+import com.sabu.schedulerquartzpoc.builder.JobTypeRegistry;
+import com.sabu.schedulerquartzpoc.job.AbstractJob;
+import com.sabu.schedulerquartzpoc.scheduler.DataSourceConnectionProvider;
+import com.sabu.schedulerquartzpoc.scheduler.ElasticThreadPool;
+import com.sabu.schedulerquartzpoc.scheduler.SchedulerMetricsListener;
+import com.sabu.schedulerquartzpoc.scheduler.SchedulerRouter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import javax.sql.DataSource;
 import lombok.RequiredArgsConstructor;
+import org.quartz.Scheduler;
 import org.quartz.spi.TriggerFiredBundle;
+import org.quartz.utils.DBConnectionManager;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.quartz.QuartzProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
 import org.springframework.scheduling.quartz.SchedulerFactoryBean;
 import org.springframework.scheduling.quartz.SpringBeanJobFactory;
+import org.springframework.util.ClassUtils;
 
 /**
  * @author : sabu.shakya
@@ -17,19 +36,92 @@ import org.springframework.scheduling.quartz.SpringBeanJobFactory;
 **/
 @Configuration
 @RequiredArgsConstructor
+@EnableConfigurationProperties(SchedulerTuningProperties.class)
 public class SchedulerConfiguration {
 
+  private static final String THREAD_POOL_CLASS = "org.quartz.threadPool.class";
+
+  private static final String INSTANCE_NAME = "org.quartz.scheduler.instanceName";
+
+  private static final String JOB_STORE_DATA_SOURCE = "org.quartz.jobStore.dataSource";
+
+  private static final String DATA_SOURCE_PREFIX = "org.quartz.dataSource.";
+
   private final QuartzProperties quartzProperties;
 
   private final ApplicationContext applicationContext;
 
+  private final SchedulerTuningProperties tuningProperties;
+
+  private final SchedulerLaneProperties laneProperties;
+
+  @Value("${scheduler.shards.count:1}")
+  private int shardCount;
+
   private Properties getQuartzProperties() {
     Properties properties = new Properties();
     properties.putAll(quartzProperties.getProperties());
+    properties.putIfAbsent(THREAD_POOL_CLASS, ElasticThreadPool.class.getName());
+    removeDataSourceProperties(properties);
 
-    return properties;
+    return tuningProperties.applyTo(properties);
+  }
+
+  /**
+   * Drops the org.quartz.dataSource.NAME.* properties of the job store data source, from which
+   * Quartz would build a pool of its own for every scheduler.
+   */
+  private static void removeDataSourceProperties(Properties properties) {
+    String name = properties.getProperty(JOB_STORE_DATA_SOURCE);
+    if (name == null) {
+      return;
+    }
+    properties.stringPropertyNames().stream()
+        .filter(key -> key.startsWith(DATA_SOURCE_PREFIX + name + "."))
+        .forEach(properties::remove);
   }
 
+  /**
+   * Job store connections of every scheduler, taken from the Spring data source. The provider is
+   * registered once under the name of the job store data source; shards and lanes all refer to
+   * that name, so they share it instead of each registering a pool of its own.
+   * @return DataSourceConnectionProvider
+   */
+  @Bean
+  public DataSourceConnectionProvider quartzConnectionProvider(DataSource dataSource,
+      MeterRegistry meterRegistry) {
+    DataSourceConnectionProvider connectionProvider =
+        new DataSourceConnectionProvider(dataSource, meterRegistry);
+
+    String name = quartzProperties.getProperties().get(JOB_STORE_DATA_SOURCE);
+    if (name != null) {
+      DBConnectionManager.getInstance().addConnectionProvider(name, connectionProvider);
+    }
+    return connectionProvider;
+  }
+
+  /**
+   * Every job bean (subclass of AbstractJob) is an allowed job type, other class names are
+   * rejected when building a job. JobDataUpcaster beans are registered for their job type.
+   * @return JobTypeRegistry
+   */
+  @Bean
+  @SuppressWarnings("unchecked")
+  public JobTypeRegistry jobTypeRegistry() {
+    JobTypeRegistry jobTypeRegistry = new JobTypeRegistry();
+
+    for (String beanName : applicationContext.getBeanNamesForType(AbstractJob.class, true, false)) {
+      Class<?> jobType = applicationContext.getType(beanName, false);
+      if (jobType != null) {
+        jobTypeRegistry.register((Class<? extends AbstractJob>) ClassUtils.getUserClass(jobType));
+      }
+    }
+
+    applicationContext.getBeansOfType(JobDataUpcaster.class).values()
+        .forEach(jobTypeRegistry::registerUpcaster);
+
+    return jobTypeRegistry;
+  }
 
   /**
    * When Spring will use SchedulerFactoryBean to create Scheduler,
@@ -56,17 +148,92 @@ public class SchedulerConfiguration {
    * @return SchedulerFactoryBean
    */
   @Bean
-  public SchedulerFactoryBean createSchedulerFactoryBean(SpringBeanJobFactory jobFactory) {
+  @DependsOn({"databaseMigrationRunner", "jobDataPropertiesMigration", "jobClassNameMigration",
+      "quartzConnectionProvider"})
+  public SchedulerFactoryBean createSchedulerFactoryBean(SpringBeanJobFactory jobFactory,
+      SchedulerMetricsListener metricsListener) {
     jobFactory.setApplicationContext(applicationContext);
 
+    return buildSchedulerFactory(jobFactory, metricsListener, getQuartzProperties());
+  }
+
+  /**
+   * Shard 0 is the Spring managed scheduler, shards 1..n-1 are created here with the same
+   * properties and the instance name suffixed with -shard-i, each lane with the instance name
+   * suffixed with -lane-name and the thread count of the lane.
+   * @return SchedulerRouter
+   */
+  @Bean
+  @DependsOn({"databaseMigrationRunner", "jobDataPropertiesMigration", "jobClassNameMigration",
+      "quartzConnectionProvider"})
+  public SchedulerRouter schedulerRouter(Scheduler scheduler, SpringBeanJobFactory jobFactory,
+      SchedulerMetricsListener metricsListener) throws Exception {
+    List<Scheduler> shards = new ArrayList<>();
+    List<SchedulerFactoryBean> factories = new ArrayList<>();
+    shards.add(scheduler);
+
+    for (int shard = 1; shard < shardCount; shard++) {
+      Properties properties = getQuartzProperties();
+      properties.setProperty(INSTANCE_NAME,
+          properties.getProperty(INSTANCE_NAME) + "-shard-" + shard);
+
+      SchedulerFactoryBean factory = buildSchedulerFactory(jobFactory, metricsListener, properties);
+      factory.afterPropertiesSet();
+
+      factories.add(factory);
+      shards.add(factory.getScheduler());
+    }
+
+    Map<String, String> laneByGroup = laneProperties.getLaneByGroup();
+    Map<String, Scheduler> laneSchedulers = new HashMap<>();
+    for (Map.Entry<String, SchedulerLaneProperties.Lane> lane
+        : laneProperties.getLanes().entrySet()) {
+      Properties properties = laneQuartzProperties(getQuartzProperties(), lane.getKey(),
+          lane.getValue().getThreadCount());
+
+      SchedulerFactoryBean factory = buildSchedulerFactory(jobFactory, metricsListener, properties);
+      factory.afterPropertiesSet();
+
+      factories.add(factory);
+      laneSchedulers.put(lane.getKey(), factory.getScheduler());
+    }
+
+    Map<String, Scheduler> lanes = new HashMap<>();
+    laneByGroup.forEach((group, lane) -> lanes.put(group, laneSchedulers.get(lane)));
+
+    return new SchedulerRouter(shards, lanes, factories);
+  }
+
+  /**
+   * @param properties QUARTZ PROPERTIES OF THE SHARDS, CHANGED IN PLACE
+   * @return PROPERTIES OF THE LANE SCHEDULER, instanceName-lane-NAME WITH THE THREADS OF THE LANE
+   */
+  static Properties laneQuartzProperties(Properties properties, String lane, int threadCount) {
+    properties.setProperty(INSTANCE_NAME, properties.getProperty(INSTANCE_NAME) + "-lane-" + lane);
+    properties.setProperty(SchedulerTuningProperties.THREAD_COUNT, String.valueOf(threadCount));
+    // A LANE NEVER ACQUIRES MORE TRIGGERS THAN IT HAS THREADS
+    int batchMaxCount = Integer.parseInt(
+        properties.getProperty(SchedulerTuningProperties.BATCH_MAX_COUNT));
+    properties.setProperty(SchedulerTuningProperties.BATCH_MAX_COUNT,
+        String.valueOf(Math.min(batchMaxCount, threadCount)));
+    return properties;
+  }
+
+  private SchedulerFactoryBean buildSchedulerFactory(SpringBeanJobFactory jobFactory,
+      SchedulerMetricsListener metricsListener, Properties properties) {
     SchedulerFactoryBean schedulerFactory = new SchedulerFactoryBean();
 
-    schedulerFactory.setQuartzProperties(getQuartzProperties());
+    schedulerFactory.setQuartzProperties(properties);
+    tuningProperties.recordEffectiveSettings(properties);
     schedulerFactory.setAutoStartup(Boolean.TRUE);
     schedulerFactory.setApplicationContext(applicationContext);
     schedulerFactory.setJobFactory(jobFactory);
     schedulerFactory.setApplicationContextSchedulerContextKey("applicationContext");
 
+    schedulerFactory.setGlobalJobListeners(metricsListener);
+    schedulerFactory.setGlobalTriggerListeners(metricsListener);
+    schedulerFactory.setSchedulerListeners(metricsListener);
+
     return schedulerFactory;
   }
 
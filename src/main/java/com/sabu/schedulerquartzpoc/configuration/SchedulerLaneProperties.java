@@ -0,0 +1,79 @@
+package com.sabu.schedulerquartzpoc.configuration;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * Named execution lanes, e.g. scheduler.lanes.bulk.groups=email and
+ * scheduler.lanes.bulk.thread-count=4. The jobs of the groups of a lane run on a dedicated
+ * scheduler with its own thread pool, so a burst in one lane cannot take the threads of another.
+ * Groups without a lane run on the shared scheduler shards.
+ *
+ * Only scheduler.lanes is bound. Lane names are keys chosen by the operator, which @Value cannot
+ * bind, so the map is read with the Binder.
+ *
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+@Getter
+@Component
+public class SchedulerLaneProperties {
+
+  private static final String PREFIX = "scheduler.lanes";
+
+  private final Map<String, Lane> lanes;
+
+  public SchedulerLaneProperties(Environment environment) {
+    this.lanes = Binder
+        .get(environment)
+        .bind(PREFIX, Bindable.mapOf(String.class, Lane.class))
+        .map(bound -> new LinkedHashMap<>(bound))
+        .orElseGet(LinkedHashMap::new);
+  }
+
+  @Getter
+  @Setter
+  public static class Lane {
+
+    /**
+     * Job groups executed in the lane.
+     */
+    private List<String> groups = new ArrayList<>();
+
+    /**
+     * Max jobs of the lane running at once.
+     */
+    private int threadCount = 2;
+
+  }
+
+  /**
+   * @return LANE NAME BY JOB GROUP
+   */
+  public Map<String, String> getLaneByGroup() {
+    Map<String, String> laneByGroup = new HashMap<>();
+    lanes.forEach((name, lane) -> {
+      if (lane.getThreadCount() <= 0) {
+        throw new IllegalStateException("Lane " + name + " needs a thread-count > 0");
+      }
+      lane.getGroups().forEach(group -> {
+        String other = laneByGroup.put(group, name);
+        if (other != null) {
+          throw new IllegalStateException(
+              "Job group " + group + " is assigned to lanes " + other + " and " + name);
+        }
+      });
+    });
+    return laneByGroup;
+  }
+
+}
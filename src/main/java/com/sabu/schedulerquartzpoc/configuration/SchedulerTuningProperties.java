@@ -0,0 +1,127 @@
+package com.sabu.schedulerquartzpoc.configuration;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Trigger acquisition tuning applied on top of spring.quartz.properties.
+ *
+ * By default a scheduler acquires as many triggers per round as its thread pool can run, instead
+ * of Quartz's default of one trigger per TRIGGER_ACCESS lock round trip. The settings every
+ * scheduler ends up with, after the overrides of its lane, are kept by scheduler name.
+ *
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+@Slf4j
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "scheduler.tuning")
+public class SchedulerTuningProperties {
+
+  static final String INSTANCE_NAME = "org.quartz.scheduler.instanceName";
+
+  static final String THREAD_COUNT = "org.quartz.threadPool.threadCount";
+
+  static final String BATCH_MAX_COUNT = "org.quartz.scheduler.batchTriggerAcquisitionMaxCount";
+
+  static final String BATCH_FIRE_AHEAD_WINDOW =
+      "org.quartz.scheduler.batchTriggerAcquisitionFireAheadTimeWindow";
+
+  static final String ACQUIRE_WITHIN_LOCK = "org.quartz.jobStore.acquireTriggersWithinLock";
+
+  static final String CLUSTERED = "org.quartz.jobStore.isClustered";
+
+  static final String MISFIRE_THRESHOLD = "org.quartz.jobStore.misfireThreshold";
+
+  /**
+   * Max triggers acquired per round, defaults to the thread pool size.
+   */
+  private Integer batchTriggerAcquisitionMaxCount;
+
+  /**
+   * How far ahead of their fire time (ms) triggers may be acquired together with the batch.
+   */
+  private long batchTriggerAcquisitionFireAheadTimeWindow = 0L;
+
+  @Getter(AccessLevel.NONE)
+  @Setter(AccessLevel.NONE)
+  private final Map<String, Map<String, String>> effectiveSettings = new LinkedHashMap<>();
+
+  /**
+   * Validates the tuning against the quartz properties and writes the acquisition settings into
+   * them.
+   *
+   * @param properties QUARTZ PROPERTIES OF A SCHEDULER
+   */
+  public Properties applyTo(Properties properties) {
+    int threadCount = Integer.parseInt(properties.getProperty(THREAD_COUNT, "10"));
+    int maxCount = batchTriggerAcquisitionMaxCount != null
+        ? batchTriggerAcquisitionMaxCount
+        : threadCount;
+    boolean clustered = Boolean.parseBoolean(properties.getProperty(CLUSTERED, "false"));
+    boolean acquireWithinLock =
+        Boolean.parseBoolean(properties.getProperty(ACQUIRE_WITHIN_LOCK, "false").trim());
+    long misfireThreshold = Long.parseLong(properties.getProperty(MISFIRE_THRESHOLD, "60000"));
+
+    if (maxCount < 1) {
+      throw new IllegalStateException("batchTriggerAcquisitionMaxCount must be >= 1");
+    }
+    if (maxCount > threadCount) {
+      throw new IllegalStateException("batchTriggerAcquisitionMaxCount must be <= "
+          + THREAD_COUNT + " (" + threadCount + ") but is " + maxCount
+          + ", the scheduler never acquires more triggers than it has free threads");
+    }
+    if (maxCount > 1 && clustered && !acquireWithinLock) {
+      throw new IllegalStateException("batchTriggerAcquisitionMaxCount > 1 on a clustered "
+          + "job store requires " + ACQUIRE_WITHIN_LOCK + "=true");
+    }
+    if (batchTriggerAcquisitionFireAheadTimeWindow < 0
+        || batchTriggerAcquisitionFireAheadTimeWindow >= misfireThreshold) {
+      throw new IllegalStateException("batchTriggerAcquisitionFireAheadTimeWindow must be between"
+          + " 0 and the misfire threshold (" + misfireThreshold + " ms)");
+    }
+
+    properties.setProperty(BATCH_MAX_COUNT, String.valueOf(maxCount));
+    properties.setProperty(BATCH_FIRE_AHEAD_WINDOW,
+        String.valueOf(batchTriggerAcquisitionFireAheadTimeWindow));
+
+    return properties;
+  }
+
+  /**
+   * @param properties QUARTZ PROPERTIES OF A SCHEDULER AS IT IS BUILT, AFTER applyTo AND THE
+   *     OVERRIDES OF ITS LANE, RECORDED UNDER ITS INSTANCE NAME
+   */
+  public synchronized void recordEffectiveSettings(Properties properties) {
+    // SAME DEFAULTS AS QUARTZ
+    Map<String, String> settings = new LinkedHashMap<>();
+    settings.put(THREAD_COUNT, properties.getProperty(THREAD_COUNT, "10").trim());
+    settings.put(BATCH_MAX_COUNT, properties.getProperty(BATCH_MAX_COUNT, "1").trim());
+    settings.put(BATCH_FIRE_AHEAD_WINDOW,
+        properties.getProperty(BATCH_FIRE_AHEAD_WINDOW, "0").trim());
+    settings.put(ACQUIRE_WITHIN_LOCK, properties.getProperty(ACQUIRE_WITHIN_LOCK, "false").trim());
+    settings.put(CLUSTERED, properties.getProperty(CLUSTERED, "false").trim());
+    settings.put(MISFIRE_THRESHOLD, properties.getProperty(MISFIRE_THRESHOLD, "60000").trim());
+    String instanceName = properties.getProperty(INSTANCE_NAME);
+    effectiveSettings.put(instanceName, Collections.unmodifiableMap(settings));
+
+    log.info("Effective trigger acquisition settings of scheduler:{}, settings:{}", instanceName,
+        settings);
+  }
+
+  /**
+   * @return EFFECTIVE SETTINGS BY SCHEDULER INSTANCE NAME, IN THE ORDER THE SCHEDULERS WERE BUILT
+   */
+  public synchronized Map<String, Map<String, String>> getEffectiveSettings() {
+    return Collections.unmodifiableMap(new LinkedHashMap<>(effectiveSettings));
+  }
+
+}
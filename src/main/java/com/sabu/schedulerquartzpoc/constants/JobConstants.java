@@ -6,5 +6,21 @@ package com.sabu.schedulerquartzpoc.constants;
  **/
 public interface JobConstants {
 
-  String EMAIL_JOB = "com.sabu.schedulerquartzpoc.job.SendEmail";
+  // LOGICAL JOB TYPE NAMES, SEE @JobType. THE CLASS NAMES ARE ACCEPTED AS WELL
+
+  String EMAIL_JOB = "sendEmail";
+
+  String MAIL_OUTBOX_DRAIN_JOB = "mailOutboxDrain";
+
+  String MAIL_OUTBOX_PURGE_JOB = "mailOutboxPurge";
+
+  String JOB_RETENTION_SWEEP_JOB = "jobRetentionSweep";
+
+  String IDEMPOTENCY_KEY_PURGE_JOB = "idempotencyKeyPurge";
+
+  String JOB_DEFINITION_MIGRATION_JOB = "jobDefinitionMigration";
+
+  String TIMING_WHEEL_COORDINATOR_JOB = "timingWheelCoordinator";
+
+  String TEST_JOB = "test";
 }
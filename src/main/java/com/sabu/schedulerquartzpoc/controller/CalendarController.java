@@ -0,0 +1,71 @@
+package com.sabu.schedulerquartzpoc.controller;
+
+import com.sabu.schedulerquartzpoc.model.CalendarDescriptor;
+import com.sabu.schedulerquartzpoc.model.TriggerDescriptor;
+import com.sabu.schedulerquartzpoc.service.CalendarService;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+@RestController
+@RequestMapping("/api/calendars")
+@RequiredArgsConstructor
+public class CalendarController {
+
+  private final CalendarService calendarService;
+
+  @GetMapping
+  public ResponseEntity<List<String>> getCalendarNames() {
+    return ResponseEntity.ok(calendarService.getCalendarNames());
+  }
+
+  @GetMapping("/{name}")
+  public ResponseEntity<CalendarDescriptor> getCalendar(@PathVariable String name) {
+    return ResponseEntity.of(calendarService.findCalendar(name));
+  }
+
+  @PutMapping("/{name}")
+  public ResponseEntity<CalendarDescriptor> saveCalendar(@PathVariable String name,
+      @RequestBody CalendarDescriptor descriptor) {
+    descriptor.setName(name);
+    calendarService.saveCalendar(descriptor);
+    return ResponseEntity.ok(descriptor);
+  }
+
+  @DeleteMapping("/{name}")
+  public ResponseEntity<Void> deleteCalendar(@PathVariable String name) {
+    return calendarService.deleteCalendar(name)
+        ? ResponseEntity.noContent().build()
+        : ResponseEntity.notFound().build();
+  }
+
+  /**
+   * @param triggerDescriptor CRON OR FIRE TIME, OPTIONALLY WITH THE NAME OF A CALENDAR
+   * @return NEXT FIRE TIMES OF THE TRIGGER, BAD REQUEST IF THE TRIGGER OR COUNT IS INVALID
+   */
+  @PostMapping("/preview")
+  public ResponseEntity<List<LocalDateTime>> previewFireTimes(
+      @RequestBody TriggerDescriptor triggerDescriptor,
+      @RequestParam(defaultValue = "10") int count) {
+    try {
+      return ResponseEntity.ok(calendarService.previewFireTimes(triggerDescriptor, count));
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.badRequest().build();
+    }
+  }
+
+}
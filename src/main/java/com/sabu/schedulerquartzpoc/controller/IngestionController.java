@@ -0,0 +1,43 @@
+package com.sabu.schedulerquartzpoc.controller;
+
+import com.sabu.schedulerquartzpoc.model.IngestionStatus;
+import com.sabu.schedulerquartzpoc.service.SchedulingIngestionService;
+import java.net.URI;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+@RestController
+@RequestMapping(IngestionController.STATUS_PATH)
+@RequiredArgsConstructor
+public class IngestionController {
+
+  static final String STATUS_PATH = "/api/schedule/status";
+
+  private final SchedulingIngestionService ingestionService;
+
+  @GetMapping("/{trackingId}")
+  public ResponseEntity<IngestionStatus> getStatus(@PathVariable String trackingId) {
+    return ResponseEntity.of(ingestionService.findStatus(trackingId));
+  }
+
+  static ResponseEntity<IngestionStatus> accepted(IngestionStatus status) {
+    return ResponseEntity
+        .accepted()
+        .location(URI.create(STATUS_PATH + "/" + status.getTrackingId()))
+        .body(status);
+  }
+
+  static ResponseEntity<IngestionStatus> tooManyRequests() {
+    return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).build();
+  }
+
+}
@@ -0,0 +1,85 @@
+package com.sabu.schedulerquartzpoc.controller;
+
+import com.sabu.schedulerquartzpoc.model.JobDescriptor;
+import com.sabu.schedulerquartzpoc.model.JobPage;
+import com.sabu.schedulerquartzpoc.model.JobProfile;
+import com.sabu.schedulerquartzpoc.model.JobSearchRequest;
+import com.sabu.schedulerquartzpoc.model.ScheduleImportResult;
+import com.sabu.schedulerquartzpoc.model.SlowJobRun;
+import com.sabu.schedulerquartzpoc.scheduler.JobProfiler;
+import com.sabu.schedulerquartzpoc.service.JobService;
+import com.sabu.schedulerquartzpoc.service.ScheduleTransferService;
+import java.util.List;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+/**
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+@RestController
+@RequestMapping("/api/jobs")
+@RequiredArgsConstructor
+public class JobController {
+
+  private final JobService jobService;
+
+  private final ScheduleTransferService scheduleTransferService;
+
+  private final JobProfiler jobProfiler;
+
+  @Value("${scheduler.transfer.request-timeout-ms:3600000}")
+  private long transferTimeoutMillis;
+
+  @GetMapping
+  public ResponseEntity<JobPage> searchJobs(@Valid JobSearchRequest request) {
+    return ResponseEntity.ok(jobService.searchJobs(request));
+  }
+
+  @GetMapping("/{group}/{name}")
+  public ResponseEntity<JobDescriptor> getJob(@PathVariable String group, @PathVariable String name) {
+    return ResponseEntity.of(jobService.findJob(group, name));
+  }
+
+  /**
+   * Streams the schedule from an async task with its own timeout, a StreamingResponseBody would
+   * run under spring.mvc.async.request-timeout of every async request.
+   */
+  @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public WebAsyncTask<Void> exportJobs(HttpServletResponse response) {
+    return new WebAsyncTask<>(transferTimeoutMillis, () -> {
+      response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+      scheduleTransferService.exportJobs(response.getOutputStream());
+      return null;
+    });
+  }
+
+  @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+  public WebAsyncTask<ResponseEntity<ScheduleImportResult>> importJobs(
+      HttpServletRequest request) {
+    return new WebAsyncTask<>(transferTimeoutMillis, () ->
+        ResponseEntity.ok(scheduleTransferService.importJobs(request.getInputStream())));
+  }
+
+  @GetMapping("/profiles")
+  public ResponseEntity<List<JobProfile>> getProfiles() {
+    return ResponseEntity.ok(jobProfiler.getProfiles());
+  }
+
+  @GetMapping("/profiles/slow")
+  public ResponseEntity<List<SlowJobRun>> getSlowRuns() {
+    return ResponseEntity.ok(jobProfiler.getSlowRuns());
+  }
+
+}
@@ -1,12 +1,19 @@
 package com.sabu.schedulerquartzpoc.controller;
 
+import static com.sabu.schedulerquartzpoc.service.IdempotencyService.IDEMPOTENCY_KEY_HEADER;
+import static com.sabu.schedulerquartzpoc.service.IdempotencyService.IDEMPOTENT_REPLAYED_HEADER;
+
+import com.sabu.schedulerquartzpoc.model.BulkMailRequest;
+import com.sabu.schedulerquartzpoc.model.JobScheduleResult;
 import com.sabu.schedulerquartzpoc.model.MailRequest;
 import com.sabu.schedulerquartzpoc.service.MailService;
+import java.util.List;
 import javax.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -21,10 +28,35 @@ public class MailController {
 
   private final MailService mailService;
 
+  /**
+   * A request repeating the Idempotency-Key of an earlier one is not scheduled again, it is
+   * answered with 204 and the Idempotent-Replayed header.
+   */
   @PostMapping("/mail")
-  public ResponseEntity<?> triggerEmailJob(@RequestBody @Valid MailRequest mailRequest) {
-    mailService.sendEmail(mailRequest);
+  public ResponseEntity<?> triggerEmailJob(@RequestBody @Valid MailRequest mailRequest,
+      @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+    if (!mailService.claim(mailRequest, idempotencyKey)) {
+      return ResponseEntity.noContent().header(IDEMPOTENT_REPLAYED_HEADER, "true").build();
+    }
+
+    if (mailService.isAsync()) {
+      return mailService.enqueueEmail(mailRequest, idempotencyKey)
+          .<ResponseEntity<?>>map(IngestionController::accepted)
+          .orElseGet(() -> {
+            mailService.release(idempotencyKey);
+            return IngestionController.tooManyRequests();
+          });
+    }
+
+    mailService.sendEmail(mailRequest, idempotencyKey);
     return ResponseEntity.noContent().build();
   }
 
+  @PostMapping("/mail/bulk")
+  public ResponseEntity<List<JobScheduleResult>> triggerEmailJobs(
+      @RequestBody @Valid BulkMailRequest bulkMailRequest,
+      @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+    return ResponseEntity.ok(mailService.sendEmails(bulkMailRequest.getMails(), idempotencyKey));
+  }
+
 }
@@ -0,0 +1,52 @@
+package com.sabu.schedulerquartzpoc.controller;
+
+import com.sabu.schedulerquartzpoc.builder.JobTypeRegistry;
+import com.sabu.schedulerquartzpoc.configuration.SchedulerTuningProperties;
+import com.sabu.schedulerquartzpoc.model.JobMigrationCheckpoint;
+import com.sabu.schedulerquartzpoc.service.JobMigrationService;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+@RestController
+@RequestMapping("/api/scheduler")
+@RequiredArgsConstructor
+public class SchedulerController {
+
+  private final SchedulerTuningProperties tuningProperties;
+
+  private final JobTypeRegistry jobTypeRegistry;
+
+  private final JobMigrationService jobMigrationService;
+
+  @GetMapping("/settings")
+  public ResponseEntity<Map<String, Map<String, String>>> getSettings() {
+    return ResponseEntity.ok(tuningProperties.getEffectiveSettings());
+  }
+
+  @GetMapping("/caches")
+  public ResponseEntity<Map<String, Object>> getCaches() {
+    Map<String, Object> jobTypes = new LinkedHashMap<>();
+    jobTypes.put("registered", jobTypeRegistry.getJobTypes());
+    jobTypes.put("rejected", jobTypeRegistry.getRejectedCount());
+
+    Map<String, Object> caches = new LinkedHashMap<>();
+    caches.put("jobTypes", jobTypes);
+
+    return ResponseEntity.ok(caches);
+  }
+
+  @GetMapping("/migration")
+  public ResponseEntity<JobMigrationCheckpoint> getMigration() {
+    return ResponseEntity.ok(jobMigrationService.getProgress());
+  }
+
+}
@@ -3,6 +3,7 @@ package com.sabu.schedulerquartzpoc.controller;
 import com.sabu.schedulerquartzpoc.model.JobDescriptor;
 import com.sabu.schedulerquartzpoc.model.TriggerDescriptor;
 import com.sabu.schedulerquartzpoc.service.JobService;
+import com.sabu.schedulerquartzpoc.service.SchedulingIngestionService;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.HashMap;
@@ -24,6 +25,8 @@ public class TestController {
 
   private final JobService jobService;
 
+  private final SchedulingIngestionService ingestionService;
+
   @PostMapping
   public ResponseEntity<?> triggerTestJob() {
 
@@ -41,6 +44,12 @@ public class TestController {
 
     jobDescriptor.setTriggerDescriptors(Collections.singletonList(triggerDescriptor));
 
+    if (ingestionService.isEnabled()) {
+      return ingestionService.submit(jobDescriptor)
+          .<ResponseEntity<?>>map(IngestionController::accepted)
+          .orElseGet(IngestionController::tooManyRequests);
+    }
+
     jobService.createJob(jobDescriptor);
 
     return ResponseEntity.noContent().build();
@@ -0,0 +1,66 @@
+package com.sabu.schedulerquartzpoc.entity;
+
+import java.time.LocalDateTime;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Email waiting to be sent by the outbox drain job when mail.mode=outbox.
+ *
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(
+    name = "mail_outbox",
+    indexes = @Index(name = "idx_mail_outbox_status_due_at", columnList = "status, due_at"))
+public class MailOutbox {
+
+  public static final int LAST_ERROR_LENGTH = 1024;
+
+  public enum Status {
+    PENDING, SENT, FAILED
+  }
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "to_email", nullable = false)
+  private String toEmail;
+
+  @Column(nullable = false)
+  private String subject;
+
+  @Column(nullable = false, columnDefinition = "text")
+  private String message;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 16)
+  private Status status = Status.PENDING;
+
+  @Column(name = "due_at", nullable = false)
+  private LocalDateTime dueAt;
+
+  @Column(name = "sent_at")
+  private LocalDateTime sentAt;
+
+  private int attempts;
+
+  @Column(name = "last_error", length = LAST_ERROR_LENGTH)
+  private String lastError;
+
+}
@@ -1,17 +1,66 @@
 package com.sabu.schedulerquartzpoc.job;
 
+import com.sabu.schedulerquartzpoc.builder.JobTypeRegistry;
+import com.sabu.schedulerquartzpoc.scheduler.JobProfiler;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
 import org.quartz.Job;
 import org.quartz.JobDataMap;
+import org.quartz.JobDetail;
 import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.quartz.SchedulerException;
+import org.quartz.SimpleScheduleBuilder;
+import org.quartz.Trigger;
+import org.quartz.TriggerBuilder;
+import org.springframework.beans.factory.annotation.Autowired;
 
 /**
+ * Base class of every job. Quartz calls {@link #execute}, which profiles the run (see JobProfiler)
+ * around {@link #executeJob}, the job's own logic.
+ *
  * @author : sabu.shakya
  * @created : 2023-06-27
  **/
 @Slf4j
 public abstract class AbstractJob implements Job {
 
+  private JobProfiler jobProfiler;
+
+  private JobTypeRegistry jobTypeRegistry;
+
+  @Autowired(required = false)
+  public void setJobProfiler(JobProfiler jobProfiler) {
+    this.jobProfiler = jobProfiler;
+  }
+
+  @Autowired(required = false)
+  public void setJobTypeRegistry(JobTypeRegistry jobTypeRegistry) {
+    this.jobTypeRegistry = jobTypeRegistry;
+  }
+
+  @Override
+  public final void execute(JobExecutionContext context) throws JobExecutionException {
+    if (jobProfiler == null || !jobProfiler.isEnabled()) {
+      executeJob(context);
+      return;
+    }
+
+    JobProfiler.Run run = jobProfiler.start(context);
+    boolean failed = true;
+    try {
+      executeJob(context);
+      failed = false;
+    } finally {
+      jobProfiler.finish(run, failed);
+    }
+  }
+
+  protected abstract void executeJob(JobExecutionContext context) throws JobExecutionException;
+
   public void log(JobExecutionContext context) {
     log.info(
         "Processing job with key:{}, description:{}",
@@ -19,8 +68,62 @@ public abstract class AbstractJob implements Job {
         context.getJobDetail().getDescription());
   }
 
+  /**
+   * Read it through the {@link JobParameter} constants of the job. The map is the one Quartz
+   * already merged for the context, so nothing is copied unless the data has to be upcast.
+   *
+   * @return DATA OF THE JOB, OVERRIDDEN BY THE DATA OF THE FIRED TRIGGER, UPCAST TO THE CURRENT
+   *     SCHEMA VERSION OF THE JOB TYPE WHEN IT WAS STORED WITH AN OLDER ONE AND NOT MIGRATED YET
+   */
   public JobDataMap getJobDataMap(JobExecutionContext context) {
-    return context.getTrigger().getJobDataMap();
+    JobDataMap jobDataMap = context.getMergedJobDataMap();
+    if (jobTypeRegistry == null) {
+      return jobDataMap;
+    }
+
+    Class<?> jobType = context.getJobDetail().getJobClass();
+    int version = JobTypeRegistry.readSchemaVersion(jobDataMap);
+    if (version >= jobTypeRegistry.getSchemaVersion(jobType)) {
+      return jobDataMap;
+    }
+
+    JobDataMap upcast = new JobDataMap(jobDataMap);
+    jobTypeRegistry.upcast(jobType, version, upcast);
+    return upcast;
+  }
+
+  /**
+   * Fires the job again after delayMillis, with a new trigger named jobName-triggerSuffix-UUID
+   * that carries the priority and the data of the fired trigger plus the given entries. The UUID
+   * keeps concurrent fires of the job, e.g. through two triggers, from replacing each other's
+   * trigger. The job data is not copied, it stays on the JobDetail. The job is stored again in the
+   * same transaction, so this also works once execute returned and a one-shot job was removed.
+   *
+   * @param triggerSuffix NAMES THE REASON IN THE TRIGGER NAME, E.G. retry-2
+   * @param data ENTRIES ADDED TO THE TRIGGER DATA, E.G. THE RETRY ATTEMPT
+   */
+  public void rescheduleIn(JobExecutionContext context, long delayMillis, String triggerSuffix,
+      Map<String, String> data) throws SchedulerException {
+    JobDetail jobDetail = context.getJobDetail();
+
+    JobDataMap jobDataMap = new JobDataMap(context.getTrigger().getJobDataMap());
+    jobDataMap.putAll(data);
+
+    Trigger trigger = TriggerBuilder
+        .newTrigger()
+        .withIdentity(jobDetail.getKey().getName() + "-" + triggerSuffix + "-" + UUID.randomUUID(),
+            jobDetail.getKey().getGroup())
+        .forJob(jobDetail)
+        .withPriority(context.getTrigger().getPriority())
+        .withSchedule(
+            SimpleScheduleBuilder
+                .simpleSchedule()
+                .withMisfireHandlingInstructionFireNow())
+        .startAt(new Date(System.currentTimeMillis() + delayMillis))
+        .usingJobData(jobDataMap)
+        .build();
+
+    context.getScheduler().scheduleJob(jobDetail, Collections.singleton(trigger), true);
   }
 
 }
@@ -0,0 +1,32 @@
+package com.sabu.schedulerquartzpoc.job;
+
+import static com.sabu.schedulerquartzpoc.constants.JobConstants.IDEMPOTENCY_KEY_PURGE_JOB;
+
+import com.sabu.schedulerquartzpoc.service.IdempotencyService;
+import lombok.RequiredArgsConstructor;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Recurring job deleting idempotency keys past scheduler.idempotency.ttl-seconds.
+ *
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+@Component
+@JobType(name = IDEMPOTENCY_KEY_PURGE_JOB)
+@DisallowConcurrentExecution
+@RequiredArgsConstructor
+public class IdempotencyKeyPurgeJob extends AbstractJob {
+
+  private final IdempotencyService idempotencyService;
+
+  @Override
+  protected void executeJob(JobExecutionContext context) throws JobExecutionException {
+    this.log(context);
+
+    idempotencyService.purgeExpired();
+  }
+}
@@ -0,0 +1,136 @@
+package com.sabu.schedulerquartzpoc.job;
+
+import java.util.Map;
+import java.util.function.Function;
+import org.quartz.JobDataMap;
+
+/**
+ * Typed accessor of one job data entry, declared by a job type as a public static final field
+ * (see SendEmail). JobTypeRegistry collects the parameters of every registered type, so a job
+ * missing a required one is rejected when it is scheduled instead of failing when it fires.
+ *
+ * Values are stored as strings (see JobDataCodec): a string parameter returns the stored value as
+ * is, {@link #getInt} and {@link #getLong} parse it, or return the default of a missing optional
+ * parameter from a primitive copy, without boxing.
+ *
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+public final class JobParameter<T> {
+
+  private final String key;
+
+  private final Class<T> type;
+
+  private final Function<String, T> parser;
+
+  private final boolean required;
+
+  private final T defaultValue;
+
+  private final long defaultNumber;
+
+  private JobParameter(String key, Class<T> type, Function<String, T> parser, boolean required,
+      T defaultValue) {
+    this.key = key;
+    this.type = type;
+    this.parser = parser;
+    this.required = required;
+    this.defaultValue = defaultValue;
+    this.defaultNumber = defaultValue instanceof Number ? ((Number) defaultValue).longValue() : 0;
+  }
+
+  public static JobParameter<String> string(String key) {
+    return of(key, String.class, Function.identity());
+  }
+
+  public static JobParameter<Integer> integer(String key) {
+    return of(key, Integer.class, Integer::valueOf);
+  }
+
+  public static JobParameter<Long> longValue(String key) {
+    return of(key, Long.class, Long::valueOf);
+  }
+
+  /**
+   * @param parser READS THE STORED STRING, E.G. LocalDateTime::parse
+   * @return REQUIRED PARAMETER
+   */
+  public static <T> JobParameter<T> of(String key, Class<T> type, Function<String, T> parser) {
+    return new JobParameter<>(key, type, parser, true, null);
+  }
+
+  /**
+   * @return THE SAME PARAMETER, NOT REQUIRED AND READ AS defaultValue WHEN MISSING
+   */
+  public JobParameter<T> optional(T defaultValue) {
+    return new JobParameter<>(key, type, parser, false, defaultValue);
+  }
+
+  public String getKey() {
+    return key;
+  }
+
+  public boolean isRequired() {
+    return required;
+  }
+
+  public T get(JobDataMap jobDataMap) {
+    Object value = jobDataMap.get(key);
+    if (value == null) {
+      return missing();
+    }
+    // TYPED VALUES ARE LEFT BY JOBS STORED BEFORE useProperties=true
+    return type.isInstance(value) ? type.cast(value) : parser.apply(value.toString());
+  }
+
+  public int getInt(JobDataMap jobDataMap) {
+    Object value = jobDataMap.get(key);
+    if (value == null) {
+      return (int) missingNumber();
+    }
+    return value instanceof Number ? ((Number) value).intValue()
+        : Integer.parseInt(value.toString());
+  }
+
+  public long getLong(JobDataMap jobDataMap) {
+    Object value = jobDataMap.get(key);
+    if (value == null) {
+      return missingNumber();
+    }
+    return value instanceof Number ? ((Number) value).longValue()
+        : Long.parseLong(value.toString());
+  }
+
+  /**
+   * @param data JOB DATA OF A DESCRIPTOR ABOUT TO BE SCHEDULED
+   */
+  public void check(Map<String, ?> data) {
+    if (required && (data == null || data.get(key) == null)) {
+      throw new IllegalArgumentException("Job parameter " + key + " is required");
+    }
+  }
+
+  private T missing() {
+    if (required) {
+      throw new IllegalStateException("Job parameter " + key + " is missing");
+    }
+    return defaultValue;
+  }
+
+  private long missingNumber() {
+    if (required) {
+      throw new IllegalStateException("Job parameter " + key + " is missing");
+    }
+    if (defaultValue != null && !(defaultValue instanceof Number)) {
+      throw new IllegalStateException("Job parameter " + key + " is not a number");
+    }
+    return defaultNumber;
+  }
+
+  @Override
+  public String toString() {
+    return key;
+  }
+
+}
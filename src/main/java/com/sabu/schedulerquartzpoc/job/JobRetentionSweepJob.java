@@ -0,0 +1,30 @@
+package com.sabu.schedulerquartzpoc.job;
+
+import static com.sabu.schedulerquartzpoc.constants.JobConstants.JOB_RETENTION_SWEEP_JOB;
+
+import com.sabu.schedulerquartzpoc.service.JobRetentionService;
+import lombok.RequiredArgsConstructor;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.springframework.stereotype.Component;
+
+/**
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+@Component
+@JobType(name = JOB_RETENTION_SWEEP_JOB)
+@DisallowConcurrentExecution
+@RequiredArgsConstructor
+public class JobRetentionSweepJob extends AbstractJob {
+
+  private final JobRetentionService jobRetentionService;
+
+  @Override
+  protected void executeJob(JobExecutionContext context) throws JobExecutionException {
+    this.log(context);
+
+    jobRetentionService.sweep();
+  }
+}
@@ -0,0 +1,36 @@
+package com.sabu.schedulerquartzpoc.job;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Logical type of a job. Descriptors refer to the job by name, or by one of its aliases, e.g. the
+ * class name it had before a rename, so the class can move without breaking stored jobs.
+ *
+ * Bump version whenever the job data changes shape, and register a JobDataUpcaster from the
+ * previous version.
+ *
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface JobType {
+
+  String name();
+
+  /**
+   * Schema version of the job data.
+   */
+  int version() default 1;
+
+  /**
+   * Former names or fully qualified class names of the job.
+   */
+  String[] aliases() default {};
+
+}
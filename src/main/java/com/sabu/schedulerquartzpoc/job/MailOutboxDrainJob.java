@@ -0,0 +1,31 @@
+package com.sabu.schedulerquartzpoc.job;
+
+import static com.sabu.schedulerquartzpoc.constants.JobConstants.MAIL_OUTBOX_DRAIN_JOB;
+
+import com.sabu.schedulerquartzpoc.service.MailOutboxService;
+import lombok.RequiredArgsConstructor;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Recurring job sending due emails from the mail outbox. Overlapping runs on different cluster
+ * nodes are safe, each one only picks up rows the others have not locked.
+ *
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+@Component
+@JobType(name = MAIL_OUTBOX_DRAIN_JOB)
+@RequiredArgsConstructor
+public class MailOutboxDrainJob extends AbstractJob {
+
+  private final MailOutboxService mailOutboxService;
+
+  @Override
+  protected void executeJob(JobExecutionContext context) throws JobExecutionException {
+    this.log(context);
+
+    mailOutboxService.drain();
+  }
+}
@@ -0,0 +1,32 @@
+package com.sabu.schedulerquartzpoc.job;
+
+import static com.sabu.schedulerquartzpoc.constants.JobConstants.MAIL_OUTBOX_PURGE_JOB;
+
+import com.sabu.schedulerquartzpoc.service.MailOutboxService;
+import lombok.RequiredArgsConstructor;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Recurring job deleting sent emails past mail.outbox.sent-retention-hours from the mail outbox.
+ *
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+@Component
+@JobType(name = MAIL_OUTBOX_PURGE_JOB)
+@DisallowConcurrentExecution
+@RequiredArgsConstructor
+public class MailOutboxPurgeJob extends AbstractJob {
+
+  private final MailOutboxService mailOutboxService;
+
+  @Override
+  protected void executeJob(JobExecutionContext context) throws JobExecutionException {
+    this.log(context);
+
+    mailOutboxService.purgeSent();
+  }
+}
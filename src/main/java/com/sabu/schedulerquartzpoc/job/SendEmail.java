@@ -1,42 +1,120 @@
 package com.sabu.schedulerquartzpoc.job;
 
+import static com.sabu.schedulerquartzpoc.constants.JobConstants.EMAIL_JOB;
+
+import com.sabu.schedulerquartzpoc.service.MailDispatcher;
+import com.sabu.schedulerquartzpoc.service.MailRateLimiter;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.quartz.JobDataMap;
 import org.quartz.JobExecutionContext;
 import org.quartz.JobExecutionException;
+import org.quartz.SchedulerException;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 
 /**
+ * Sends one email. When the global or recipient domain rate limit is exhausted the job is
+ * rescheduled for the token reserved for it, and a failed send is retried with exponential
+ * backoff up to mail.retry.max-attempts. The mail is read from the job data, the attempt and
+ * deferral counts and the reserved tokens travel in the trigger JobDataMap.
+ *
+ * The job only completes once the mail is accepted by the SMTP server or its retry is stored, so
+ * a mail is never lost with its job. With the MailDispatcher the job waits for the batch holding
+ * its mail, at most mail.dispatcher.send-timeout-ms.
+ *
  * @author : sabu.shakya
  * @created : 2023-07-06
  **/
 @Slf4j
 @Service
+@JobType(name = EMAIL_JOB)
 @RequiredArgsConstructor
 public class SendEmail extends AbstractJob {
 
+  public static final JobParameter<String> TO_EMAIL = JobParameter.string("toEmail");
+
+  public static final JobParameter<String> SUBJECT = JobParameter.string("subject").optional(null);
+
+  public static final JobParameter<String> MESSAGE = JobParameter.string("message").optional(null);
+
+  public static final JobParameter<Integer> RETRY_ATTEMPT =
+      JobParameter.integer("retryAttempt").optional(0);
+
+  public static final JobParameter<Integer> DEFERRAL_COUNT =
+      JobParameter.integer("deferralCount").optional(0);
+
+  public static final JobParameter<String> RATE_LIMIT_RESERVED =
+      JobParameter.string("rateLimitReserved").optional(MailRateLimiter.RESERVED_NONE);
+
   @Value("${spring.mail.username}")
   private String email;
 
+  @Value("${mail.retry.max-attempts:5}")
+  private int maxAttempts;
+
+  @Value("${mail.retry.initial-backoff-ms:2000}")
+  private long initialBackoffMillis;
+
+  @Value("${mail.retry.max-backoff-ms:300000}")
+  private long maxBackoffMillis;
+
+  @Value("${mail.dispatcher.send-timeout-ms:30000}")
+  private long sendTimeoutMillis;
+
   private final JavaMailSender javaMailSender;
 
+  private final MailDispatcher mailDispatcher;
+
+  private final MailRateLimiter mailRateLimiter;
+
   @Override
-  public void execute(JobExecutionContext context) throws JobExecutionException {
+  protected void executeJob(JobExecutionContext context) throws JobExecutionException {
     this.log(context);
 
     JobDataMap jobDataMap = this.getJobDataMap(context);
+    String toEmail = TO_EMAIL.get(jobDataMap);
 
-    this.sendEmail(
-        (String) jobDataMap.get("toEmail"),
-        (String) jobDataMap.get("subject"),
-        (String) jobDataMap.get("message"));
+    MailRateLimiter.Reservation reservation = mailRateLimiter.reserve(toEmail,
+        RATE_LIMIT_RESERVED.get(jobDataMap));
+    if (reservation.getWaitMillis() > 0) {
+      defer(context, reservation);
+      return;
+    }
+
+    try {
+      this.sendEmail(
+              toEmail,
+              SUBJECT.get(jobDataMap),
+              MESSAGE.get(jobDataMap))
+          .get(sendTimeoutMillis, TimeUnit.MILLISECONDS);
+      log.info("Completed sending email.");
+
+    } catch (ExecutionException e) {
+      retry(context, e.getCause());
+    } catch (TimeoutException e) {
+      // THE BATCH MAY STILL GO OUT, A RETRY CAN SEND THE MAIL TWICE BUT NEVER LOSES IT
+      retry(context, e);
+    } catch (InterruptedException e) {
+      // E.G. THE SCHEDULER SHUTTING DOWN, THE RETRY FIRES ONCE IT IS BACK
+      Thread.currentThread().interrupt();
+      retry(context, e);
+    }
   }
 
-  public void sendEmail(String toEmail, String subject, String message) {
+  /**
+   * @return COMPLETES ONCE THE MAIL IS HANDED TO THE SMTP SERVER, EXCEPTIONALLY IF IT FAILED
+   */
+  public CompletableFuture<Void> sendEmail(String toEmail, String subject, String message) {
     log.info("Preparing to send email to : {} ", toEmail);
 
     SimpleMailMessage mailMessage = new SimpleMailMessage();
@@ -45,8 +123,72 @@ public class SendEmail extends AbstractJob {
     mailMessage.setText(message);
     mailMessage.setFrom(email);
 
-    javaMailSender.send(mailMessage);
+    if (mailDispatcher.isEnabled()) {
+      // SENT WITH THE NEXT BATCH, OVER ONE SMTP CONNECTION SHARED WITH THE MAILS OF OTHER JOBS
+      return mailDispatcher.dispatch(mailMessage);
+    }
 
-    log.info("Completed sending email.");
+    try {
+      javaMailSender.send(mailMessage);
+      return CompletableFuture.completedFuture(null);
+    } catch (MailException e) {
+      return CompletableFuture.failedFuture(e);
+    }
   }
+
+  private void defer(JobExecutionContext context, MailRateLimiter.Reservation reservation)
+      throws JobExecutionException {
+    int deferrals = DEFERRAL_COUNT.getInt(getJobDataMap(context)) + 1;
+
+    log.info("Rate limit reached, deferring job with key:{} by {}ms",
+        context.getJobDetail().getKey(), reservation.getWaitMillis());
+    reschedule(context, reservation.getWaitMillis(), "deferred-" + deferrals,
+        Map.of(DEFERRAL_COUNT.getKey(), String.valueOf(deferrals),
+            RATE_LIMIT_RESERVED.getKey(), reservation.getReserved()));
+  }
+
+  /**
+   * @throws JobExecutionException ONCE mail.retry.max-attempts ARE USED UP, SO THE FAILURE IS
+   *     RECORDED FOR THE JOB
+   */
+  private void retry(JobExecutionContext context, Throwable error) throws JobExecutionException {
+    int attempt = RETRY_ATTEMPT.getInt(getJobDataMap(context)) + 1;
+    if (attempt > maxAttempts) {
+      log.error("Could not send email for job with key:{} after {} attempts, error:{}",
+          context.getJobDetail().getKey(), maxAttempts, error.getLocalizedMessage());
+      throw new JobExecutionException(
+          "Could not send email after " + maxAttempts + " attempts", error, false);
+    }
+
+    long delay = backoffMillis(attempt);
+    log.warn("Could not send email for job with key:{}, retry {} in {}ms, error:{}",
+        context.getJobDetail().getKey(), attempt, delay, error.getLocalizedMessage());
+    // THE TOKENS WERE USED BY THE FAILED SEND, THE RETRY RESERVES NEW ONES
+    reschedule(context, delay, "retry-" + attempt,
+        Map.of(RETRY_ATTEMPT.getKey(), String.valueOf(attempt),
+            RATE_LIMIT_RESERVED.getKey(), MailRateLimiter.RESERVED_NONE));
+  }
+
+  /**
+   * @throws JobExecutionException ASKING QUARTZ TO FIRE THE JOB AGAIN RIGHT AWAY IF THE NEW TRIGGER
+   *     COULD NOT BE STORED, SO THE MAIL IS NOT DROPPED
+   */
+  private void reschedule(JobExecutionContext context, long delayMillis, String triggerSuffix,
+      Map<String, String> data) throws JobExecutionException {
+    try {
+      rescheduleIn(context, delayMillis, triggerSuffix, data);
+    } catch (SchedulerException e) {
+      log.error("Could not reschedule job with key:{}, error:{}", context.getJobDetail().getKey(),
+          e.getLocalizedMessage(), e);
+      throw new JobExecutionException(e, true);
+    }
+  }
+
+  long backoffMillis(int attempt) {
+    long backoff = Math.min(maxBackoffMillis,
+        initialBackoffMillis << Math.min(attempt - 1, 30));
+    // EQUAL JITTER, BETWEEN HALF AND THE FULL BACKOFF
+    return backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+  }
+
 }
@@ -1,5 +1,7 @@
 package com.sabu.schedulerquartzpoc.job;
 
+import static com.sabu.schedulerquartzpoc.constants.JobConstants.TEST_JOB;
+
 import lombok.extern.slf4j.Slf4j;
 import org.quartz.JobDataMap;
 import org.quartz.JobExecutionContext;
@@ -12,10 +14,11 @@ import org.springframework.stereotype.Component;
  **/
 @Slf4j
 @Component
+@JobType(name = TEST_JOB)
 public class TestJob extends AbstractJob {
 
   @Override
-  public void execute(JobExecutionContext context) throws JobExecutionException {
+  protected void executeJob(JobExecutionContext context) throws JobExecutionException {
     // LOGIC TO EXECUTE
     this.log(context);
     log.info("Executing test job");
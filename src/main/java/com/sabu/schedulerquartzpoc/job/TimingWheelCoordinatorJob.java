@@ -0,0 +1,31 @@
+package com.sabu.schedulerquartzpoc.job;
+
+import static com.sabu.schedulerquartzpoc.constants.JobConstants.TIMING_WHEEL_COORDINATOR_JOB;
+
+import com.sabu.schedulerquartzpoc.scheduler.TimingWheelDispatcher;
+import lombok.RequiredArgsConstructor;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs on whichever node of the cluster Quartz picks, so the timing wheel lease is taken over by a
+ * live node once its owner stops renewing it.
+ *
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+@Component
+@JobType(name = TIMING_WHEEL_COORDINATOR_JOB)
+@DisallowConcurrentExecution
+@RequiredArgsConstructor
+public class TimingWheelCoordinatorJob extends AbstractJob {
+
+  private final TimingWheelDispatcher timingWheelDispatcher;
+
+  @Override
+  protected void executeJob(JobExecutionContext context) throws JobExecutionException {
+    timingWheelDispatcher.coordinate();
+  }
+}
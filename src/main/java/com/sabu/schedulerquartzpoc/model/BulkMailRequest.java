@@ -0,0 +1,22 @@
+package com.sabu.schedulerquartzpoc.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+@Getter
+@Setter
+public class BulkMailRequest {
+
+  @Valid
+  @NotEmpty
+  private List<MailRequest> mails = new ArrayList<>();
+
+}
@@ -0,0 +1,53 @@
+package com.sabu.schedulerquartzpoc.model;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Times a trigger referencing the calendar by name (TriggerDescriptor.calendar) does not fire at,
+ * e.g. business hours on weekdays except holidays. Every part left empty excludes nothing. Times
+ * are in the system time zone, like cron expressions.
+ *
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CalendarDescriptor {
+
+  private String name;
+
+  private String description;
+
+  /**
+   * Whole days excluded, e.g. public holidays.
+   */
+  @Builder.Default
+  private List<LocalDate> excludedDates = new ArrayList<>();
+
+  /**
+   * Days excluded every week, e.g. SATURDAY and SUNDAY.
+   */
+  @Builder.Default
+  private List<DayOfWeek> excludedDays = new ArrayList<>();
+
+  /**
+   * Daily window, only fire times from windowStart up to windowEnd are kept. Both or neither are
+   * set, the window cannot span midnight.
+   */
+  private LocalTime windowStart;
+
+  private LocalTime windowEnd;
+
+}
@@ -0,0 +1,39 @@
+package com.sabu.schedulerquartzpoc.model;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Status of a job descriptor accepted by the asynchronous ingestion queue.
+ *
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+@Getter
+@Setter
+@Builder(toBuilder = true)
+@AllArgsConstructor
+@NoArgsConstructor
+public class IngestionStatus {
+
+  public enum State {
+    QUEUED, SCHEDULED, FAILED
+  }
+
+  private String trackingId;
+
+  private State state;
+
+  private String name;
+
+  private String group;
+
+  private String error;
+
+  private LocalDateTime updatedAt;
+
+}
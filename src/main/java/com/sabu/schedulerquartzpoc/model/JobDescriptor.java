@@ -38,4 +38,11 @@ public class JobDescriptor {
 
   @JsonProperty("triggers")
   private List<TriggerDescriptor> triggerDescriptors = new ArrayList<>();
+
+  /**
+   * Set by the schedule export for a job with a paused trigger. A job created paused has its
+   * triggers stored paused, in the transaction storing the job. A paused job is kept out of the
+   * hot tier.
+   */
+  private Boolean paused;
 }
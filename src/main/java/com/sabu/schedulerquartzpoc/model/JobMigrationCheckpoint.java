@@ -0,0 +1,41 @@
+package com.sabu.schedulerquartzpoc.model;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Progress of a job definition migration, the next batch starts after (lastJobGroup, lastJobName).
+ *
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class JobMigrationCheckpoint {
+
+  private String migrationId;
+
+  private String lastJobGroup;
+
+  private String lastJobName;
+
+  private long scanned;
+
+  private long migrated;
+
+  private long failed;
+
+  private LocalDateTime completedAt;
+
+  public boolean isCompleted() {
+    return completedAt != null;
+  }
+
+}
@@ -0,0 +1,30 @@
+package com.sabu.schedulerquartzpoc.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class JobPage {
+
+  @Builder.Default
+  private List<JobDescriptor> jobs = new ArrayList<>();
+
+  /**
+   * Cursor of the next page, null on the last page
+   */
+  private String nextCursor;
+
+}
@@ -0,0 +1,60 @@
+package com.sabu.schedulerquartzpoc.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Execution profile of a job type within a group, as recorded by JobProfiler since startup.
+ * Durations are wall clock, cpu and allocations are of the thread running the job and left at 0
+ * where the JVM cannot measure them (e.g. on virtual threads).
+ *
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class JobProfile {
+
+  private String type;
+
+  private String group;
+
+  private long runs;
+
+  private long failures;
+
+  private long slowRuns;
+
+  private int running;
+
+  private double meanMillis;
+
+  private double p50Millis;
+
+  private double p90Millis;
+
+  private double p99Millis;
+
+  private double maxMillis;
+
+  /**
+   * Runs taking longer than this are flagged as slow, 0 until enough runs were recorded.
+   */
+  private double deadlineMillis;
+
+  private double meanCpuMillis;
+
+  /**
+   * Share of the wall clock time spent on cpu, low values mean the job mostly waits on I/O.
+   */
+  private double cpuRatio;
+
+  private long meanAllocatedBytes;
+
+}
@@ -0,0 +1,53 @@
+package com.sabu.schedulerquartzpoc.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Outcome of scheduling a single job as part of a bulk request. Emails queued in the mail outbox
+ * have no job, only their outbox id. A replayed result repeats an idempotency key of an earlier
+ * request: nothing was scheduled by this request, the job is the one scheduled back then.
+ *
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class JobScheduleResult {
+
+  private String name;
+
+  private String group;
+
+  private boolean scheduled;
+
+  private String error;
+
+  private Long outboxId;
+
+  private boolean replayed;
+
+  public static JobScheduleResult success(String name, String group) {
+    return JobScheduleResult.builder().name(name).group(group).scheduled(true).build();
+  }
+
+  public static JobScheduleResult replayed(String name, String group) {
+    return JobScheduleResult.builder().name(name).group(group).scheduled(true).replayed(true)
+        .build();
+  }
+
+  public static JobScheduleResult queued(Long outboxId) {
+    return JobScheduleResult.builder().outboxId(outboxId).scheduled(true).build();
+  }
+
+  public static JobScheduleResult failure(String name, String group, String error) {
+    return JobScheduleResult.builder().name(name).group(group).scheduled(false).error(error)
+        .build();
+  }
+}
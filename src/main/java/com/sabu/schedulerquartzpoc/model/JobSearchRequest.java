@@ -0,0 +1,43 @@
+package com.sabu.schedulerquartzpoc.model;
+
+import java.time.LocalDateTime;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
+
+/**
+ * Filters of the job search. Jobs are returned ordered by group and name, starting after the
+ * cursor returned with the previous page.
+ *
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+@Getter
+@Setter
+public class JobSearchRequest {
+
+  private String group;
+
+  private String type;
+
+  /**
+   * Quartz trigger state, e.g. WAITING, PAUSED, BLOCKED, ERROR
+   */
+  private String state;
+
+  @DateTimeFormat(iso = ISO.DATE_TIME)
+  private LocalDateTime nextFireFrom;
+
+  @DateTimeFormat(iso = ISO.DATE_TIME)
+  private LocalDateTime nextFireTo;
+
+  private String cursor;
+
+  @Min(1)
+  @Max(500)
+  private int size = 50;
+
+}
@@ -0,0 +1,40 @@
+package com.sabu.schedulerquartzpoc.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Outcome of a schedule import. Only the first failures are listed, all of them are counted.
+ *
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ScheduleImportResult {
+
+  private long read;
+
+  private long scheduled;
+
+  /**
+   * Jobs not imported because all their fire times passed under MisfirePolicy.SKIP.
+   */
+  private long skipped;
+
+  private long failed;
+
+  private long elapsedMillis;
+
+  @Builder.Default
+  private List<JobScheduleResult> failures = new ArrayList<>();
+
+}
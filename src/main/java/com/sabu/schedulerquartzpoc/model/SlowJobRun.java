@@ -0,0 +1,37 @@
+package com.sabu.schedulerquartzpoc.model;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * A run that took, or is still taking, longer than the deadline of its job profile.
+ *
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SlowJobRun {
+
+  private String type;
+
+  private String group;
+
+  private String name;
+
+  private LocalDateTime startedAt;
+
+  private double durationMillis;
+
+  private double deadlineMillis;
+
+  private boolean running;
+
+}
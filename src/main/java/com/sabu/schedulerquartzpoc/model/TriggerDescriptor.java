@@ -21,10 +21,53 @@ import lombok.Setter;
 @NoArgsConstructor
 public class TriggerDescriptor {
 
+  /**
+   * What happens to a trigger that missed its fire time, e.g. while the cluster was down.
+   */
+  public enum MisfirePolicy {
+    /**
+     * Fire once for the missed fire times, then proceed. After a mass misfire the catch-up runs
+     * in rate-limited waves, see MisfireRecovery. The default.
+     */
+    RECOVER,
+    /**
+     * Fire once right away, without waiting for a recovery wave.
+     */
+    FIRE_NOW,
+    /**
+     * Drop the missed fire times and wait for the next one. A one-shot trigger is dropped.
+     */
+    SKIP
+  }
+
   private String cron;
 
   private LocalDateTime fireTime;
 
+  /**
+   * Repeats the trigger every intervalMillis, from fireTime when given. A job with a single interval
+   * trigger of at most scheduler.timing-wheel.max-interval-ms is fired by the TimingWheelDispatcher
+   * instead of the job store.
+   */
+  private Long intervalMillis;
+
+  /**
+   * Quartz trigger priority, triggers due at the same time fire highest priority first. Defaults
+   * to Trigger.DEFAULT_PRIORITY (5).
+   */
+  private Integer priority;
+
+  /**
+   * Defaults to RECOVER.
+   */
+  private MisfirePolicy misfirePolicy;
+
+  /**
+   * Name of a calendar saved through /api/calendars, fire times it excludes are skipped. Replaces
+   * the cron trigger per business hours slot or holiday gap a job would otherwise need.
+   */
+  private String calendar;
+
   @JsonProperty("data")
   private Map<String, Object> data = new LinkedHashMap<>();
 
@@ -0,0 +1,43 @@
+package com.sabu.schedulerquartzpoc.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.quartz.JobKey;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+@Repository
+@RequiredArgsConstructor
+public class IdempotencyKeyRepository {
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * @param idempotencyKey KEY SENT BY THE CLIENT
+   * @param jobKey JOB SCHEDULED FOR THE KEY
+   * @return TRUE IF THE KEY WAS NOT CLAIMED YET, IN A SINGLE ATOMIC INSERT
+   */
+  public boolean claim(String idempotencyKey, JobKey jobKey) {
+    return jdbcTemplate.update("INSERT INTO idempotency_key (idempotency_key, job_group, job_name)"
+            + " VALUES (?, ?, ?) ON CONFLICT (idempotency_key) DO NOTHING",
+        idempotencyKey, jobKey.getGroup(), jobKey.getName()) == 1;
+  }
+
+  public void release(String idempotencyKey) {
+    jdbcTemplate.update("DELETE FROM idempotency_key WHERE idempotency_key = ?", idempotencyKey);
+  }
+
+  /**
+   * @return NUMBER OF KEYS DELETED
+   */
+  public int deleteCreatedBefore(LocalDateTime createdBefore) {
+    return jdbcTemplate.update("DELETE FROM idempotency_key WHERE created_at < ?",
+        Timestamp.valueOf(createdBefore));
+  }
+
+}
@@ -0,0 +1,179 @@
+package com.sabu.schedulerquartzpoc.repository;
+
+import com.sabu.schedulerquartzpoc.model.JobMigrationCheckpoint;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.quartz.TriggerKey;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Keyset scan of the Quartz job tables and checkpoint storage for JobMigrationService. Job data is
+ * read and written straight in the Quartz tables, in the properties format of useProperties=true,
+ * by callers holding {@link #lockTriggerAccess} in their transaction.
+ *
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+@Repository
+@RequiredArgsConstructor
+public class JobMigrationRepository {
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Value("${spring.quartz.properties.org.quartz.jobStore.tablePrefix:QRTZ_}")
+  private String tablePrefix;
+
+  public Optional<JobMigrationCheckpoint> findCheckpoint(String migrationId) {
+    return jdbcTemplate.query("SELECT * FROM job_migration_checkpoint WHERE migration_id = ?",
+        (rs, rowNum) -> {
+          Timestamp completedAt = rs.getTimestamp("completed_at");
+          return JobMigrationCheckpoint
+              .builder()
+              .migrationId(rs.getString("migration_id"))
+              .lastJobGroup(rs.getString("last_job_group"))
+              .lastJobName(rs.getString("last_job_name"))
+              .scanned(rs.getLong("scanned"))
+              .migrated(rs.getLong("migrated"))
+              .failed(rs.getLong("failed"))
+              .completedAt(completedAt == null ? null : completedAt.toLocalDateTime())
+              .build();
+        }, migrationId).stream().findFirst();
+  }
+
+  public void saveCheckpoint(JobMigrationCheckpoint checkpoint) {
+    jdbcTemplate.update("INSERT INTO job_migration_checkpoint (migration_id, last_job_group,"
+            + " last_job_name, scanned, migrated, failed, completed_at, updated_at)"
+            + " VALUES (?, ?, ?, ?, ?, ?, ?, now())"
+            + " ON CONFLICT (migration_id) DO UPDATE SET last_job_group = EXCLUDED.last_job_group,"
+            + " last_job_name = EXCLUDED.last_job_name, scanned = EXCLUDED.scanned,"
+            + " migrated = EXCLUDED.migrated, failed = EXCLUDED.failed,"
+            + " completed_at = EXCLUDED.completed_at, updated_at = now()",
+        checkpoint.getMigrationId(), checkpoint.getLastJobGroup(), checkpoint.getLastJobName(),
+        checkpoint.getScanned(), checkpoint.getMigrated(), checkpoint.getFailed(),
+        checkpoint.getCompletedAt() == null ? null : Timestamp.valueOf(checkpoint.getCompletedAt()));
+  }
+
+  /**
+   * @return NEXT JOBS AFTER THE CHECKPOINT ORDERED BY (job_group, job_name)
+   */
+  public List<StoredJob> findJobsAfter(List<String> schedulerNames,
+      JobMigrationCheckpoint checkpoint, int limit) {
+    List<Object> args = new ArrayList<>(schedulerNames);
+    StringBuilder sql = new StringBuilder()
+        .append("SELECT sched_name, job_group, job_name, job_class_name FROM ")
+        .append(tablePrefix).append("job_details WHERE sched_name IN (")
+        .append(String.join(", ", Collections.nCopies(schedulerNames.size(), "?"))).append(")");
+    if (checkpoint.getLastJobGroup() != null) {
+      sql.append(" AND (job_group, job_name) > (?, ?)");
+      args.add(checkpoint.getLastJobGroup());
+      args.add(checkpoint.getLastJobName());
+    }
+    sql.append(" ORDER BY job_group, job_name LIMIT ?");
+    args.add(limit);
+
+    return jdbcTemplate.query(sql.toString(), (rs, rowNum) -> new StoredJob(
+        rs.getString("sched_name"), rs.getString("job_group"), rs.getString("job_name"),
+        rs.getString("job_class_name")), args.toArray());
+  }
+
+  /**
+   * Takes the row lock Quartz itself takes before acquiring, firing or completing triggers, held
+   * until the transaction ends.
+   */
+  public void lockTriggerAccess(String schedulerName) {
+    jdbcTemplate.update("INSERT INTO " + tablePrefix + "locks (sched_name, lock_name)"
+        + " VALUES (?, 'TRIGGER_ACCESS') ON CONFLICT DO NOTHING", schedulerName);
+    jdbcTemplate.queryForList("SELECT lock_name FROM " + tablePrefix + "locks"
+        + " WHERE sched_name = ? AND lock_name = 'TRIGGER_ACCESS' FOR UPDATE", schedulerName);
+  }
+
+  /**
+   * @return JOB DATA OF THE JOB, EMPTY IF IT IS GONE
+   */
+  public Optional<Map<String, String>> findJobData(String schedulerName, String group,
+      String name) {
+    return jdbcTemplate.query("SELECT job_data FROM " + tablePrefix + "job_details"
+            + " WHERE sched_name = ? AND job_group = ? AND job_name = ?",
+        (rs, rowNum) -> JobQueryRepository.readProperties(rs.getBytes("job_data")),
+        schedulerName, group, name).stream().findFirst();
+  }
+
+  /**
+   * @return JOB DATA OF EVERY TRIGGER OF THE JOB, BY TRIGGER
+   */
+  public Map<TriggerKey, Map<String, String>> findTriggerData(String schedulerName, String group,
+      String name) {
+    Map<TriggerKey, Map<String, String>> triggerData = new LinkedHashMap<>();
+    jdbcTemplate.query("SELECT trigger_group, trigger_name, job_data FROM " + tablePrefix
+            + "triggers WHERE sched_name = ? AND job_group = ? AND job_name = ?",
+        rs -> {
+          triggerData.put(
+              TriggerKey.triggerKey(rs.getString("trigger_name"), rs.getString("trigger_group")),
+              JobQueryRepository.readProperties(rs.getBytes("job_data")));
+        }, schedulerName, group, name);
+    return triggerData;
+  }
+
+  public void updateJobData(String schedulerName, String group, String name,
+      Map<String, String> jobData) {
+    jdbcTemplate.update("UPDATE " + tablePrefix + "job_details SET job_data = ?"
+            + " WHERE sched_name = ? AND job_group = ? AND job_name = ?",
+        writeProperties(jobData), schedulerName, group, name);
+  }
+
+  public void updateTriggerData(String schedulerName, TriggerKey triggerKey,
+      Map<String, String> jobData) {
+    jdbcTemplate.update("UPDATE " + tablePrefix + "triggers SET job_data = ?"
+            + " WHERE sched_name = ? AND trigger_group = ? AND trigger_name = ?",
+        writeProperties(jobData), schedulerName, triggerKey.getGroup(), triggerKey.getName());
+  }
+
+  private static byte[] writeProperties(Map<String, String> data) {
+    Properties properties = new Properties();
+    properties.putAll(data);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try {
+      properties.store(out, "");
+    } catch (IOException e) {
+      throw new IllegalStateException("Could not write job data", e);
+    }
+    return out.toByteArray();
+  }
+
+  /**
+   * @return TRUE IF THE ROW STILL HELD fromClass AND NOW HOLDS toClass
+   */
+  public boolean renameJobClass(String schedulerName, String group, String name, String fromClass,
+      String toClass) {
+    return jdbcTemplate.update("UPDATE " + tablePrefix + "job_details SET job_class_name = ?"
+            + " WHERE sched_name = ? AND job_group = ? AND job_name = ? AND job_class_name = ?",
+        toClass, schedulerName, group, name, fromClass) == 1;
+  }
+
+  @Getter
+  @RequiredArgsConstructor
+  public static class StoredJob {
+
+    private final String schedulerName;
+
+    private final String group;
+
+    private final String name;
+
+    private final String jobClassName;
+
+  }
+
+}
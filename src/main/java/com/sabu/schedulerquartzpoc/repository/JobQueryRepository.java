@@ -0,0 +1,439 @@
+package com.sabu.schedulerquartzpoc.repository;
+
+import com.sabu.schedulerquartzpoc.builder.JobTypeRegistry;
+import com.sabu.schedulerquartzpoc.model.JobDescriptor;
+import com.sabu.schedulerquartzpoc.model.JobPage;
+import com.sabu.schedulerquartzpoc.model.JobSearchRequest;
+import com.sabu.schedulerquartzpoc.model.TriggerDescriptor;
+import com.sabu.schedulerquartzpoc.scheduler.SchedulerRouter;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.text.ParseException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TimeZone;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.quartz.JobDataMap;
+import org.quartz.JobKey;
+import org.quartz.Trigger;
+import org.quartz.TriggerKey;
+import org.quartz.impl.jdbcjobstore.Constants;
+import org.quartz.impl.triggers.AbstractTrigger;
+import org.quartz.impl.triggers.CronTriggerImpl;
+import org.quartz.impl.triggers.SimpleTriggerImpl;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Reads jobs and their triggers straight from the Quartz tables, one query per page, instead of
+ * a getJobDetail and getTriggersOfJob round trip per job. Pagination is keyset based on
+ * (job_group, job_name) so the cost of a page does not grow with its offset. A key lives on exactly
+ * one shard, so the rows of every shard are read together with sched_name IN (...).
+ *
+ * Without a trigger filter a page is a range of the job details in key order. With a trigger state
+ * it is a range of the triggers in (state, key) order, see V7__job_search_state_index.sql, so a
+ * rare state does not walk every job. A next fire window alone still scans the triggers in key
+ * order until the page is full.
+ *
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+@Repository
+@RequiredArgsConstructor
+public class JobQueryRepository {
+
+  private static final char CURSOR_SEPARATOR = '\n';
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Value("${spring.quartz.properties.org.quartz.jobStore.tablePrefix:QRTZ_}")
+  private String tablePrefix;
+
+  private final SchedulerRouter schedulerRouter;
+
+  private final JobTypeRegistry jobTypeRegistry;
+
+  public JobPage search(JobSearchRequest request) {
+    List<Object> args = new ArrayList<>();
+
+    boolean byTrigger = hasTriggerFilter(request);
+    // ALIAS OF THE TABLE THE PAGE IS A KEY RANGE OF
+    String keyAlias = byTrigger ? "t" : "j";
+
+    StringBuilder page = new StringBuilder()
+        .append(byTrigger ? "SELECT DISTINCT " : "SELECT ")
+        .append(keyAlias).append(".sched_name, ").append(keyAlias).append(".job_group, ")
+        .append(keyAlias).append(".job_name FROM ").append(tablePrefix)
+        .append(byTrigger ? "triggers t" : "job_details j")
+        .append(" WHERE ").append(keyAlias).append(".sched_name IN (")
+        .append(placeholders(schedulerRouter.getSchedulerNames().size())).append(")");
+    args.addAll(schedulerRouter.getSchedulerNames());
+
+    if (byTrigger) {
+      appendTriggerFilter(page, args, request);
+    }
+    String[] cursor = decodeCursor(request.getCursor());
+    if (cursor != null) {
+      page.append(" AND (").append(keyAlias).append(".job_group, ").append(keyAlias)
+          .append(".job_name) > (?, ?)");
+      args.add(cursor[0]);
+      args.add(cursor[1]);
+    }
+    if (request.getGroup() != null) {
+      page.append(" AND ").append(keyAlias).append(".job_group = ?");
+      args.add(request.getGroup());
+    }
+    if (request.getType() != null) {
+      // THE LOGICAL NAME, CLASS NAME OR AN ALIAS, MATCHING JOBS STORED UNDER ANY OF THEM
+      Set<String> classNames = jobTypeRegistry.getStoredNames(request.getType());
+      String typeFilter = "j.job_class_name IN (" + placeholders(classNames.size()) + ")";
+      page.append(byTrigger
+          ? " AND EXISTS (SELECT 1 FROM " + tablePrefix + "job_details j"
+              + " WHERE j.sched_name = t.sched_name AND j.job_group = t.job_group"
+              + " AND j.job_name = t.job_name AND " + typeFilter + ")"
+          : " AND " + typeFilter);
+      args.addAll(classNames);
+    }
+
+    page.append(" ORDER BY ").append(keyAlias).append(".job_group, ").append(keyAlias)
+        .append(".job_name LIMIT ?");
+    args.add(request.getSize());
+
+    String sql = "WITH page AS (" + page + ")"
+        + " SELECT j.job_group, j.job_name, j.job_class_name, j.description,"
+        + " t.trigger_type, t.next_fire_time, t.priority, c.cron_expression"
+        + " FROM page p"
+        + " JOIN " + tablePrefix + "job_details j ON j.sched_name = p.sched_name"
+        + " AND j.job_group = p.job_group AND j.job_name = p.job_name"
+        + " LEFT JOIN " + tablePrefix + "triggers t ON t.sched_name = p.sched_name"
+        + " AND t.job_group = p.job_group AND t.job_name = p.job_name"
+        + " LEFT JOIN " + tablePrefix + "cron_triggers c ON c.sched_name = t.sched_name"
+        + " AND c.trigger_group = t.trigger_group AND c.trigger_name = t.trigger_name"
+        + " ORDER BY p.job_group, p.job_name, t.trigger_group, t.trigger_name";
+
+    Map<String, JobDescriptor> jobs = new LinkedHashMap<>();
+    jdbcTemplate.query(sql, (RowCallbackHandler) rs -> addRow(jobs, rs), args.toArray());
+
+    List<JobDescriptor> items = new ArrayList<>(jobs.values());
+    String nextCursor = null;
+    if (items.size() == request.getSize()) {
+      JobDescriptor last = items.get(items.size() - 1);
+      nextCursor = encodeCursor(last.getGroup(), last.getName());
+    }
+
+    return JobPage.builder().jobs(items).nextCursor(nextCursor).build();
+  }
+
+  private static boolean hasTriggerFilter(JobSearchRequest request) {
+    return request.getState() != null
+        || request.getNextFireFrom() != null
+        || request.getNextFireTo() != null;
+  }
+
+  private static void appendTriggerFilter(
+      StringBuilder page, List<Object> args, JobSearchRequest request) {
+    if (request.getState() != null) {
+      page.append(" AND t.trigger_state = ?");
+      args.add(request.getState());
+    }
+    if (request.getNextFireFrom() != null) {
+      page.append(" AND t.next_fire_time >= ?");
+      args.add(toEpochMillis(request.getNextFireFrom()));
+    }
+    if (request.getNextFireTo() != null) {
+      page.append(" AND t.next_fire_time < ?");
+      args.add(toEpochMillis(request.getNextFireTo()));
+    }
+  }
+
+  /**
+   * Reads a page of jobs with their data and triggers in one query, for the schedule export.
+   *
+   * @param after KEY TO START AFTER, NULL FOR THE FIRST PAGE
+   * @param limit MAX NUMBER OF JOBS RETURNED
+   * @return JOBS IN (GROUP, NAME) ORDER, THEIR TRIGGERS IN NAME ORDER
+   */
+  public List<StoredJob> findJobsAfter(JobKey after, int limit) {
+    List<Object> args = new ArrayList<>(schedulerRouter.getSchedulerNames());
+
+    StringBuilder page = new StringBuilder()
+        .append("SELECT sched_name, job_group, job_name FROM ").append(tablePrefix)
+        .append("job_details WHERE sched_name IN (")
+        .append(placeholders(schedulerRouter.getSchedulerNames().size())).append(")");
+    if (after != null) {
+      page.append(" AND (job_group, job_name) > (?, ?)");
+      args.add(after.getGroup());
+      args.add(after.getName());
+    }
+    page.append(" ORDER BY job_group, job_name LIMIT ?");
+    args.add(limit);
+
+    String sql = "WITH page AS (" + page + ")"
+        + " SELECT j.job_group, j.job_name, j.job_class_name, j.description, j.job_data,"
+        + " t.trigger_group, t.trigger_name, t.trigger_type, t.trigger_state, t.priority,"
+        + " t.misfire_instr, t.calendar_name, t.start_time, t.next_fire_time,"
+        + " t.job_data AS trigger_data, s.repeat_count, s.repeat_interval, c.cron_expression,"
+        + " c.time_zone_id"
+        + " FROM page p"
+        + " JOIN " + tablePrefix + "job_details j ON j.sched_name = p.sched_name"
+        + " AND j.job_group = p.job_group AND j.job_name = p.job_name"
+        + " LEFT JOIN " + tablePrefix + "triggers t ON t.sched_name = p.sched_name"
+        + " AND t.job_group = p.job_group AND t.job_name = p.job_name"
+        + " LEFT JOIN " + tablePrefix + "simple_triggers s ON s.sched_name = t.sched_name"
+        + " AND s.trigger_group = t.trigger_group AND s.trigger_name = t.trigger_name"
+        + " LEFT JOIN " + tablePrefix + "cron_triggers c ON c.sched_name = t.sched_name"
+        + " AND c.trigger_group = t.trigger_group AND c.trigger_name = t.trigger_name"
+        + " ORDER BY p.job_group, p.job_name, t.trigger_group, t.trigger_name";
+
+    Map<JobKey, StoredJob> jobs = new LinkedHashMap<>();
+    jdbcTemplate.query(sql, (RowCallbackHandler) rs -> addStoredRow(jobs, rs), args.toArray());
+    return new ArrayList<>(jobs.values());
+  }
+
+  /**
+   * @param groups JOB GROUPS TO LOOK INTO
+   * @param limit MAX NUMBER OF KEYS RETURNED
+   * @return DURABLE JOBS LEFT WITHOUT ANY TRIGGER, I.E. ONE-SHOT JOBS THAT ALREADY FIRED
+   */
+  public List<JobKey> findOrphanedDurableJobs(List<String> groups, int limit) {
+    if (groups.isEmpty()) {
+      return List.of();
+    }
+
+    String sql = "SELECT j.job_group, j.job_name FROM " + tablePrefix + "job_details j"
+        + " WHERE j.sched_name IN (" + placeholders(schedulerRouter.getSchedulerNames().size()) + ")"
+        + " AND j.is_durable = TRUE"
+        + " AND j.job_group IN (" + placeholders(groups.size()) + ")"
+        + " AND NOT EXISTS (SELECT 1 FROM " + tablePrefix + "triggers t"
+        + " WHERE t.sched_name = j.sched_name"
+        + " AND t.job_group = j.job_group AND t.job_name = j.job_name)"
+        + " LIMIT ?";
+
+    List<Object> args = new ArrayList<>();
+    args.addAll(schedulerRouter.getSchedulerNames());
+    args.addAll(groups);
+    args.add(limit);
+
+    return jdbcTemplate.query(sql,
+        (rs, rowNum) -> JobKey.jobKey(rs.getString("job_name"), rs.getString("job_group")),
+        args.toArray());
+  }
+
+  /**
+   * Copies the jobs into job_history, when archive is set, and deletes them in one transaction. The
+   * transaction holds the TRIGGER_ACCESS lock of the scheduler, as a Quartz job store write does,
+   * and jobs given a trigger since they were found are left alone.
+   *
+   * @param schedulerName SCHEDULER STORING ALL THE JOBS
+   * @param jobKeys DURABLE JOBS WITHOUT ANY TRIGGER
+   * @return NUMBER OF JOBS DELETED
+   */
+  @Transactional
+  public int archiveAndDeleteOrphanedJobs(String schedulerName, List<JobKey> jobKeys,
+      boolean archive) {
+    jdbcTemplate.queryForList("SELECT lock_name FROM " + tablePrefix + "locks"
+        + " WHERE sched_name = ? AND lock_name = 'TRIGGER_ACCESS' FOR UPDATE", schedulerName);
+
+    String orphaned = " WHERE j.sched_name = ? AND j.job_group = ? AND j.job_name = ?"
+        + " AND NOT EXISTS (SELECT 1 FROM " + tablePrefix + "triggers t"
+        + " WHERE t.sched_name = j.sched_name"
+        + " AND t.job_group = j.job_group AND t.job_name = j.job_name)";
+    List<Object[]> args = jobKeys
+        .stream()
+        .map(key -> new Object[]{schedulerName, key.getGroup(), key.getName()})
+        .collect(Collectors.toList());
+
+    if (archive) {
+      jdbcTemplate.batchUpdate("INSERT INTO job_history (sched_name, job_group, job_name,"
+          + " job_class_name, description)"
+          + " SELECT j.sched_name, j.job_group, j.job_name, j.job_class_name, j.description"
+          + " FROM " + tablePrefix + "job_details j" + orphaned, args);
+    }
+
+    return Arrays.stream(jdbcTemplate.batchUpdate(
+            "DELETE FROM " + tablePrefix + "job_details j" + orphaned, args))
+        .sum();
+  }
+
+  private static String placeholders(int count) {
+    return String.join(", ", Collections.nCopies(count, "?"));
+  }
+
+  private static void addRow(Map<String, JobDescriptor> jobs, ResultSet rs) throws SQLException {
+    String group = rs.getString("job_group");
+    String name = rs.getString("job_name");
+
+    JobDescriptor jobDescriptor = jobs.computeIfAbsent(group + CURSOR_SEPARATOR + name,
+        key -> JobDescriptor
+            .builder()
+            .group(group)
+            .name(name)
+            .data(new LinkedHashMap<>())
+            .triggerDescriptors(new ArrayList<>())
+            .build());
+
+    if (jobDescriptor.getType() == null) {
+      jobDescriptor.setType(jobTypeRegistry.getName(rs.getString("job_class_name")));
+      jobDescriptor.setDescription(rs.getString("description"));
+    }
+
+    String triggerType = rs.getString("trigger_type");
+    if (triggerType == null) {
+      return;
+    }
+
+    long nextFireTime = rs.getLong("next_fire_time");
+    boolean hasNextFireTime = !rs.wasNull();
+
+    jobDescriptor.getTriggerDescriptors().add(TriggerDescriptor
+        .builder()
+        .cron(rs.getString("cron_expression"))
+        .priority(rs.getObject("priority", Integer.class))
+        .fireTime(Objects.equals(triggerType, "CRON") || !hasNextFireTime
+            ? null
+            : LocalDateTime.ofInstant(Instant.ofEpochMilli(nextFireTime), ZoneId.systemDefault()))
+        .data(new LinkedHashMap<>())
+        .build());
+  }
+
+  private static void addStoredRow(Map<JobKey, StoredJob> jobs, ResultSet rs)
+      throws SQLException {
+    JobKey jobKey = JobKey.jobKey(rs.getString("job_name"), rs.getString("job_group"));
+    StoredJob job = jobs.get(jobKey);
+    if (job == null) {
+      job = new StoredJob(jobKey, rs.getString("job_class_name"), rs.getString("description"),
+          readProperties(rs.getBytes("job_data")));
+      jobs.put(jobKey, job);
+    }
+
+    String triggerType = rs.getString("trigger_type");
+    AbstractTrigger<?> trigger;
+    if (Constants.TTYPE_CRON.equals(triggerType)) {
+      CronTriggerImpl cronTrigger = new CronTriggerImpl();
+      try {
+        cronTrigger.setCronExpression(rs.getString("cron_expression"));
+      } catch (ParseException e) {
+        throw new SQLException("Invalid cron expression of a trigger of " + jobKey, e);
+      }
+      if (rs.getString("time_zone_id") != null) {
+        cronTrigger.setTimeZone(TimeZone.getTimeZone(rs.getString("time_zone_id")));
+      }
+      trigger = cronTrigger;
+    } else if (Constants.TTYPE_SIMPLE.equals(triggerType)) {
+      SimpleTriggerImpl simpleTrigger = new SimpleTriggerImpl();
+      simpleTrigger.setRepeatCount(rs.getInt("repeat_count"));
+      simpleTrigger.setRepeatInterval(rs.getLong("repeat_interval"));
+      trigger = simpleTrigger;
+    } else {
+      // NO TRIGGER, OR A TYPE THIS SERVICE DOES NOT CREATE
+      return;
+    }
+
+    trigger.setKey(TriggerKey.triggerKey(rs.getString("trigger_name"),
+        rs.getString("trigger_group")));
+    trigger.setJobKey(jobKey);
+    trigger.setPriority(rs.getInt("priority"));
+    trigger.setMisfireInstruction(rs.getInt("misfire_instr"));
+    trigger.setCalendarName(rs.getString("calendar_name"));
+    trigger.setStartTime(new Date(rs.getLong("start_time")));
+    long nextFireTime = rs.getLong("next_fire_time");
+    // QUARTZ STORES -1 FOR A TRIGGER WITHOUT A NEXT FIRE TIME
+    trigger.setNextFireTime(nextFireTime > 0 ? new Date(nextFireTime) : null);
+    trigger.setJobDataMap(new JobDataMap(readProperties(rs.getBytes("trigger_data"))));
+
+    job.triggers.add(trigger);
+    String state = rs.getString("trigger_state");
+    job.paused |= Constants.STATE_PAUSED.equals(state)
+        || Constants.STATE_PAUSED_BLOCKED.equals(state);
+  }
+
+  static Map<String, String> readProperties(byte[] data) throws SQLException {
+    // THE JOB STORE RUNS WITH useProperties=true, SEE JobDataPropertiesMigration
+    Map<String, String> map = new LinkedHashMap<>();
+    if (data == null || data.length == 0) {
+      return map;
+    }
+    Properties properties = new Properties();
+    try {
+      properties.load(new ByteArrayInputStream(data));
+    } catch (IOException e) {
+      throw new SQLException("Could not read stored job data", e);
+    }
+    properties.stringPropertyNames().forEach(key -> map.put(key, properties.getProperty(key)));
+    return map;
+  }
+
+  private static long toEpochMillis(LocalDateTime dateTime) {
+    return Timestamp.valueOf(dateTime).getTime();
+  }
+
+  static String encodeCursor(String group, String name) {
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(
+        (group + CURSOR_SEPARATOR + name).getBytes(StandardCharsets.UTF_8));
+  }
+
+  static String[] decodeCursor(String cursor) {
+    if (cursor == null || cursor.isEmpty()) {
+      return null;
+    }
+
+    String decoded;
+    try {
+      decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("Invalid cursor " + cursor);
+    }
+
+    int separator = decoded.indexOf(CURSOR_SEPARATOR);
+    if (separator < 0) {
+      throw new IllegalArgumentException("Invalid cursor " + cursor);
+    }
+    return new String[]{decoded.substring(0, separator), decoded.substring(separator + 1)};
+  }
+
+  /**
+   * A job with its data and triggers as stored, the job class is not loaded.
+   */
+  @Getter
+  @RequiredArgsConstructor
+  public static class StoredJob {
+
+    private final JobKey key;
+
+    private final String jobClassName;
+
+    private final String description;
+
+    private final Map<String, String> data;
+
+    private final List<Trigger> triggers = new ArrayList<>();
+
+    /**
+     * True if any trigger of the job is paused.
+     */
+    private boolean paused;
+
+  }
+
+}
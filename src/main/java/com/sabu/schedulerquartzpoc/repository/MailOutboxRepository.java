@@ -0,0 +1,42 @@
+package com.sabu.schedulerquartzpoc.repository;
+
+import com.sabu.schedulerquartzpoc.entity.MailOutbox;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, Long> {
+
+  /**
+   * Locks a page of due mails. Rows already locked by a drain running on another node are skipped
+   * instead of waited on, so concurrent drains never block each other.
+   */
+  @Query(
+      value = "SELECT * FROM mail_outbox"
+          + " WHERE status = 'PENDING' AND due_at <= :now"
+          + " ORDER BY due_at"
+          + " LIMIT :limit"
+          + " FOR UPDATE SKIP LOCKED",
+      nativeQuery = true)
+  List<MailOutbox> lockDue(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+  /**
+   * @return NUMBER OF SENT MAILS DELETED, AT MOST limit
+   */
+  @Modifying
+  @Query(
+      value = "DELETE FROM mail_outbox WHERE id IN ("
+          + "SELECT id FROM mail_outbox"
+          + " WHERE status = 'SENT' AND sent_at < :cutoff"
+          + " LIMIT :limit)",
+      nativeQuery = true)
+  int deleteSentBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+}
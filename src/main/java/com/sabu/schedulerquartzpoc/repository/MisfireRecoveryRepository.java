@@ -0,0 +1,115 @@
+package com.sabu.schedulerquartzpoc.repository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.quartz.TriggerKey;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Reads and moves overdue triggers straight in the Quartz tables for MisfireRecovery. Meant to be
+ * called in a transaction holding {@link #lockTriggerAccess}, the row lock Quartz itself takes
+ * before acquiring triggers or handling misfires.
+ *
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+@Repository
+@RequiredArgsConstructor
+public class MisfireRecoveryRepository {
+
+  /**
+   * misfire_instr OF TRIGGERS WITH THE RECOVER POLICY: FIRE AND PROCEED (CRON), FIRE NOW (SIMPLE),
+   * AND NEXT WITH EXISTING COUNT, STORED FOR SIMPLE TRIGGERS BEFORE THE POLICY EXISTED
+   */
+  private static final String RECOVERABLE = "(1, 5)";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Value("${spring.quartz.properties.org.quartz.jobStore.tablePrefix:QRTZ_}")
+  private String tablePrefix;
+
+  public void lockTriggerAccess(String schedulerName) {
+    jdbcTemplate.update("INSERT INTO " + tablePrefix + "locks (sched_name, lock_name)"
+        + " VALUES (?, 'TRIGGER_ACCESS') ON CONFLICT DO NOTHING", schedulerName);
+    jdbcTemplate.queryForList("SELECT lock_name FROM " + tablePrefix + "locks"
+        + " WHERE sched_name = ? AND lock_name = 'TRIGGER_ACCESS' FOR UPDATE", schedulerName);
+  }
+
+  /**
+   * @return NUMBER OF WAITING RECOVERABLE TRIGGERS DUE BEFORE THE GIVEN TIME
+   */
+  public long countOverdue(String schedulerName, long before) {
+    Long count = jdbcTemplate.queryForObject("SELECT count(*) FROM " + tablePrefix + "triggers"
+            + " WHERE sched_name = ? AND trigger_state = 'WAITING' AND next_fire_time < ?"
+            + " AND misfire_instr IN " + RECOVERABLE,
+        Long.class, schedulerName, before);
+    return count == null ? 0 : count;
+  }
+
+  /**
+   * @return WAITING RECOVERABLE TRIGGERS DUE BEFORE THE GIVEN TIME, HIGHEST PRIORITY AND MOST
+   *     OVERDUE FIRST
+   */
+  public List<OverdueTrigger> findOverdue(String schedulerName, long before, int limit) {
+    return jdbcTemplate.query("SELECT trigger_group, trigger_name, next_fire_time FROM "
+            + tablePrefix + "triggers"
+            + " WHERE sched_name = ? AND trigger_state = 'WAITING' AND next_fire_time < ?"
+            + " AND misfire_instr IN " + RECOVERABLE
+            + " ORDER BY priority DESC, next_fire_time LIMIT ?",
+        (rs, rowNum) -> new OverdueTrigger(
+            TriggerKey.triggerKey(rs.getString("trigger_name"), rs.getString("trigger_group")),
+            rs.getLong("next_fire_time")),
+        schedulerName, before, limit);
+  }
+
+  /**
+   * @param slots NEXT FIRE TIME PER TRIGGER, IN THE ORDER OF THE TRIGGERS
+   * @return NUMBER OF TRIGGERS MOVED, A TRIGGER THAT FIRED OR CHANGED MEANWHILE IS LEFT ALONE
+   */
+  public int reschedule(String schedulerName, List<OverdueTrigger> triggers, List<Long> slots) {
+    List<Object[]> args = new ArrayList<>(triggers.size());
+    for (int i = 0; i < triggers.size(); i++) {
+      OverdueTrigger trigger = triggers.get(i);
+      args.add(new Object[]{slots.get(i), schedulerName, trigger.getKey().getGroup(),
+          trigger.getKey().getName(), trigger.getNextFireTime()});
+    }
+
+    int[] updated = jdbcTemplate.batchUpdate("UPDATE " + tablePrefix + "triggers"
+        + " SET next_fire_time = ?"
+        + " WHERE sched_name = ? AND trigger_group = ? AND trigger_name = ?"
+        + " AND next_fire_time = ? AND trigger_state = 'WAITING'", args);
+    return Arrays.stream(updated).map(count -> Math.max(count, 0)).sum();
+  }
+
+  /**
+   * @return END OF THE LAST PLANNED CATCH-UP WAVE, 0 IF NONE
+   */
+  public long findNextSlot(String schedulerName) {
+    List<Long> slots = jdbcTemplate.queryForList(
+        "SELECT next_slot FROM misfire_recovery WHERE sched_name = ?", Long.class, schedulerName);
+    return slots.isEmpty() ? 0 : slots.get(0);
+  }
+
+  public void saveNextSlot(String schedulerName, long nextSlot) {
+    jdbcTemplate.update("INSERT INTO misfire_recovery (sched_name, next_slot, updated_at)"
+        + " VALUES (?, ?, now())"
+        + " ON CONFLICT (sched_name) DO UPDATE SET next_slot = EXCLUDED.next_slot,"
+        + " updated_at = now()", schedulerName, nextSlot);
+  }
+
+  @Getter
+  @RequiredArgsConstructor
+  public static class OverdueTrigger {
+
+    private final TriggerKey key;
+
+    private final long nextFireTime;
+
+  }
+
+}
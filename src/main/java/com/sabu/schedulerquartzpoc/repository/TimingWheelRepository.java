@@ -0,0 +1,203 @@
+package com.sabu.schedulerquartzpoc.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Jobs of the TimingWheelDispatcher and the lease deciding which node fires them. Reads and writes
+ * of the owner are fenced by the lease: they do nothing unless the owner still holds it unexpired.
+ *
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+@Repository
+@RequiredArgsConstructor
+public class TimingWheelRepository {
+
+  private static final RowMapper<StoredJob> STORED_JOB = (rs, rowNum) -> new StoredJob(
+      rs.getLong("id"), rs.getString("job_group"), rs.getString("job_name"),
+      rs.getString("descriptor"), rs.getLong("interval_ms"), rs.getLong("next_fire_time"),
+      rs.getLong("fire_count"), rs.getBoolean("paused"));
+
+  private static final RowMapper<StoredJob> DELETED_JOB = (rs, rowNum) -> new StoredJob(
+      rs.getLong("job_id"), rs.getString("job_group"), rs.getString("job_name"), null, 0, 0, 0,
+      false);
+
+  // A JOB MOVED TO A NEW ID IS LOADED AGAIN BY THE OWNER ON ITS NEXT POLL
+  private static final String NEXT_ID = "nextval(pg_get_serial_sequence('timing_wheel_job', 'id'))";
+
+  private static final String LEASE_HELD = "EXISTS (SELECT 1 FROM timing_wheel_lease"
+      + " WHERE id = 1 AND owner = ? AND expires_at > ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * @return FALSE IF A JOB OF THE SAME GROUP AND NAME IS ALREADY STORED
+   */
+  public boolean insert(String group, String name, String descriptor, long intervalMillis,
+      long nextFireTime, boolean paused) {
+    return jdbcTemplate.update("INSERT INTO timing_wheel_job (job_group, job_name, descriptor,"
+            + " interval_ms, next_fire_time, paused) VALUES (?, ?, ?, ?, ?, ?)"
+            + " ON CONFLICT DO NOTHING",
+        group, name, descriptor, intervalMillis, nextFireTime, paused) > 0;
+  }
+
+  /**
+   * Also records the job in timing_wheel_deleted, for the owner to stop firing it.
+   *
+   * @return FALSE IF NO SUCH JOB IS STORED
+   */
+  public boolean pause(String group, String name) {
+    return jdbcTemplate.update("WITH paused AS (UPDATE timing_wheel_job SET paused = TRUE"
+            + " WHERE job_group = ? AND job_name = ? RETURNING id, job_group, job_name)"
+            + " INSERT INTO timing_wheel_deleted (job_id, job_group, job_name)"
+            + " SELECT id, job_group, job_name FROM paused",
+        group, name) > 0;
+  }
+
+  /**
+   * Moves a paused job to a new id, for the owner to load it again, with fires missed while it was
+   * paused skipped.
+   *
+   * @return FALSE IF NO SUCH JOB IS STORED
+   */
+  public boolean resume(String group, String name, long now) {
+    return jdbcTemplate.update("UPDATE timing_wheel_job SET"
+            + " id = CASE WHEN paused THEN " + NEXT_ID + " ELSE id END,"
+            + " next_fire_time = CASE WHEN paused THEN GREATEST(next_fire_time, ?)"
+            + " ELSE next_fire_time END, paused = FALSE"
+            + " WHERE job_group = ? AND job_name = ?",
+        now, group, name) > 0;
+  }
+
+  /**
+   * Moves a job that is not paused to a new id, for the owner to load it again.
+   *
+   * @return FALSE IF NO SUCH JOB IS STORED
+   */
+  public boolean updateDescriptor(String group, String name, String descriptor) {
+    return jdbcTemplate.update("UPDATE timing_wheel_job SET descriptor = ?,"
+            + " id = CASE WHEN paused THEN id ELSE " + NEXT_ID + " END"
+            + " WHERE job_group = ? AND job_name = ?",
+        descriptor, group, name) > 0;
+  }
+
+  /**
+   * Also records the job in timing_wheel_deleted, for the owner to stop firing it.
+   */
+  public boolean delete(String group, String name) {
+    return jdbcTemplate.update("WITH deleted AS (DELETE FROM timing_wheel_job"
+            + " WHERE job_group = ? AND job_name = ? RETURNING id, job_group, job_name)"
+            + " INSERT INTO timing_wheel_deleted (job_id, job_group, job_name)"
+            + " SELECT id, job_group, job_name FROM deleted",
+        group, name) > 0;
+  }
+
+  /**
+   * @return ID, GROUP AND NAME OF JOBS DELETED SINCE THE LAST CALL, OLDEST FIRST, WHICH ARE NOT
+   *     RETURNED AGAIN. NONE UNLESS THE OWNER HOLDS AN UNEXPIRED LEASE
+   */
+  public List<StoredJob> takeDeleted(String owner, long now, int limit) {
+    return jdbcTemplate.query("DELETE FROM timing_wheel_deleted WHERE seq IN (SELECT seq"
+            + " FROM timing_wheel_deleted ORDER BY seq LIMIT ?) AND " + LEASE_HELD
+            + " RETURNING job_id, job_group, job_name",
+        DELETED_JOB, limit, owner, now);
+  }
+
+  public Optional<StoredJob> find(String group, String name) {
+    return jdbcTemplate.query("SELECT * FROM timing_wheel_job WHERE job_group = ? AND job_name = ?",
+        STORED_JOB, group, name).stream().findFirst();
+  }
+
+  /**
+   * @return JOBS AFTER THE GIVEN GROUP AND NAME, ORDERED BY GROUP AND NAME. THE FIRST PAGE WHEN
+   *     group IS NULL
+   */
+  public List<StoredJob> findAfter(String group, String name, int limit) {
+    if (group == null) {
+      return jdbcTemplate.query("SELECT * FROM timing_wheel_job ORDER BY job_group, job_name"
+          + " LIMIT ?", STORED_JOB, limit);
+    }
+    return jdbcTemplate.query("SELECT * FROM timing_wheel_job WHERE (job_group, job_name) > (?, ?)"
+        + " ORDER BY job_group, job_name LIMIT ?", STORED_JOB, group, name, limit);
+  }
+
+  /**
+   * @return JOBS STORED, OR MOVED, AFTER THE GIVEN ID AND NOT PAUSED, OLDEST FIRST. NONE UNLESS THE
+   *     OWNER HOLDS AN UNEXPIRED LEASE
+   */
+  public List<StoredJob> findAfter(String owner, long now, long id, int limit) {
+    return jdbcTemplate.query("SELECT * FROM timing_wheel_job WHERE id > ? AND NOT paused AND "
+        + LEASE_HELD + " ORDER BY id LIMIT ?", STORED_JOB, id, owner, now, limit);
+  }
+
+  /**
+   * Writes the jobs while holding the lease row locked, so the lease cannot change hands until the
+   * checkpoint is committed.
+   *
+   * @param jobs NEXT FIRE TIME AND FIRE COUNT OF EVERY JOB, BY ID
+   * @return ROWS UPDATED PER JOB, 0 FOR A JOB DELETED MEANWHILE. EMPTY, AND NOTHING WRITTEN, UNLESS
+   *     THE OWNER HOLDS AN UNEXPIRED LEASE
+   */
+  @Transactional
+  public Optional<int[]> checkpoint(String owner, long now, List<StoredJob> jobs) {
+    if (jdbcTemplate.queryForList("SELECT owner FROM timing_wheel_lease"
+        + " WHERE id = 1 AND owner = ? AND expires_at > ? FOR UPDATE", owner, now).isEmpty()) {
+      return Optional.empty();
+    }
+
+    List<Object[]> args = new ArrayList<>(jobs.size());
+    for (StoredJob job : jobs) {
+      args.add(new Object[]{job.getNextFireTime(), job.getFireCount(), job.getId()});
+    }
+    return Optional.of(jdbcTemplate.batchUpdate(
+        "UPDATE timing_wheel_job SET next_fire_time = ?, fire_count = ? WHERE id = ?", args));
+  }
+
+  /**
+   * Takes the lease if it is free or expired, or extends it if the owner already holds it.
+   *
+   * @return TRUE IF THE OWNER HOLDS THE LEASE UNTIL expiresAt
+   */
+  public boolean acquireLease(String owner, long now, long expiresAt) {
+    return jdbcTemplate.update("UPDATE timing_wheel_lease SET owner = ?, expires_at = ?"
+            + " WHERE id = 1 AND (owner = ? OR owner IS NULL OR expires_at < ?)",
+        owner, expiresAt, owner, now) > 0;
+  }
+
+  public void releaseLease(String owner) {
+    jdbcTemplate.update(
+        "UPDATE timing_wheel_lease SET owner = NULL, expires_at = 0 WHERE id = 1 AND owner = ?",
+        owner);
+  }
+
+  @Getter
+  @RequiredArgsConstructor
+  public static class StoredJob {
+
+    private final long id;
+
+    private final String group;
+
+    private final String name;
+
+    private final String descriptor;
+
+    private final long intervalMillis;
+
+    private final long nextFireTime;
+
+    private final long fireCount;
+
+    private final boolean paused;
+
+  }
+
+}
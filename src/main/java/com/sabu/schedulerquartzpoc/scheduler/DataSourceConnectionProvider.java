@@ -0,0 +1,56 @@
+package com.sabu.schedulerquartzpoc.scheduler;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.quartz.utils.ConnectionProvider;
+
+/**
+ * Serves the connections of the Quartz job store from the Spring data source, so Quartz and the
+ * application share one pool instead of Quartz running its own c3p0 pool. Every scheduler
+ * (shards and lanes) uses the same provider, registered under the name of
+ * org.quartz.jobStore.dataSource.
+ *
+ * The time Quartz waits for a connection is recorded as quartz.jdbc.connection.acquire, the wait
+ * of every pool user as hikaricp.connections.acquire.
+ *
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+public class DataSourceConnectionProvider implements ConnectionProvider {
+
+  private final DataSource dataSource;
+
+  private final Timer acquisition;
+
+  public DataSourceConnectionProvider(DataSource dataSource, MeterRegistry meterRegistry) {
+    this.dataSource = dataSource;
+    this.acquisition = Timer.builder("quartz.jdbc.connection.acquire")
+        .description("Time the job store waits for a pooled connection")
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    long start = System.nanoTime();
+    try {
+      return dataSource.getConnection();
+    } finally {
+      acquisition.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  @Override
+  public void shutdown() {
+    // CALLED BY EVERY SCHEDULER SHUTTING DOWN, THE POOL IS CLOSED WITH THE SPRING CONTEXT
+  }
+
+  @Override
+  public void initialize() {
+  }
+
+}
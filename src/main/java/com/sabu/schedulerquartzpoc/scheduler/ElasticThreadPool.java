@@ -0,0 +1,211 @@
+package com.sabu.schedulerquartzpoc.scheduler;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.SchedulerConfigException;
+import org.quartz.spi.ThreadPool;
+
+/**
+ * Quartz ThreadPool running each fired job on a virtual thread when the JVM supports them (Java
+ * 21+), or on an elastic executor that only keeps threads alive while there is work otherwise.
+ *
+ * Concurrency is capped at threadCount. blockForAvailableThreads reports every free slot rather
+ * than just one, so the QuartzSchedulerThread can acquire triggers in batches of up to
+ * min(free slots, batchTriggerAcquisitionMaxCount).
+ *
+ * Configured through org.quartz.threadPool.* properties, e.g. org.quartz.threadPool.threadCount.
+ *
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+@Slf4j
+public class ElasticThreadPool implements ThreadPool {
+
+  private final Object lock = new Object();
+
+  private int threadCount = 10;
+
+  private String threadNamePrefix;
+
+  private boolean preferVirtualThreads = true;
+
+  private long keepAliveMillis = 60_000L;
+
+  private String instanceName = "quartz";
+
+  private ExecutorService executor;
+
+  private int busy;
+
+  private boolean shutdown;
+
+  @Override
+  public void initialize() throws SchedulerConfigException {
+    if (threadCount <= 0) {
+      throw new SchedulerConfigException("Thread count must be > 0");
+    }
+
+    executor = preferVirtualThreads ? virtualThreadExecutor() : null;
+    if (executor == null) {
+      // UNBOUNDED, busy ALREADY CAPS CONCURRENCY. A JOB RELEASES ITS SLOT BEFORE ITS THREAD WAITS
+      // ON THE QUEUE AGAIN, SO A BOUND OF threadCount WOULD REJECT THE NEXT JOB NOW AND THEN
+      executor = new ThreadPoolExecutor(
+          0, Integer.MAX_VALUE, keepAliveMillis, TimeUnit.MILLISECONDS, new SynchronousQueue<>(),
+          threadFactory());
+    }
+
+    log.info("Initialized {} thread pool with max concurrency {} for scheduler {}",
+        executor instanceof ThreadPoolExecutor ? "elastic" : "virtual", threadCount, instanceName);
+  }
+
+  @Override
+  public boolean runInThread(Runnable runnable) {
+    if (runnable == null) {
+      return false;
+    }
+
+    synchronized (lock) {
+      try {
+        while (busy >= threadCount && !shutdown) {
+          lock.wait(500);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return false;
+      }
+      if (shutdown) {
+        return false;
+      }
+      busy++;
+    }
+
+    try {
+      executor.execute(() -> {
+        try {
+          runnable.run();
+        } finally {
+          release();
+        }
+      });
+      return true;
+    } catch (RejectedExecutionException e) {
+      release();
+      log.error("Thread pool of scheduler {} rejected job", instanceName, e);
+      return false;
+    }
+  }
+
+  @Override
+  public int blockForAvailableThreads() {
+    synchronized (lock) {
+      try {
+        while (busy >= threadCount && !shutdown) {
+          lock.wait(500);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return Math.max(0, threadCount - busy);
+    }
+  }
+
+  @Override
+  public void shutdown(boolean waitForJobsToComplete) {
+    synchronized (lock) {
+      shutdown = true;
+      lock.notifyAll();
+    }
+
+    if (executor == null) {
+      return;
+    }
+    executor.shutdown();
+
+    if (waitForJobsToComplete) {
+      try {
+        while (!executor.awaitTermination(1, TimeUnit.SECONDS)) {
+          log.info("Waiting for {} running jobs of scheduler {} to complete", getBusyCount(),
+              instanceName);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  private void release() {
+    synchronized (lock) {
+      busy--;
+      lock.notifyAll();
+    }
+  }
+
+  public int getBusyCount() {
+    synchronized (lock) {
+      return busy;
+    }
+  }
+
+  @Override
+  public int getPoolSize() {
+    return threadCount;
+  }
+
+  @Override
+  public void setInstanceId(String schedInstId) {
+    // NOT NEEDED, THREADS ARE NAMED AFTER THE SCHEDULER INSTANCE NAME
+  }
+
+  @Override
+  public void setInstanceName(String schedName) {
+    this.instanceName = schedName;
+  }
+
+  public void setThreadCount(int threadCount) {
+    this.threadCount = threadCount;
+  }
+
+  public void setThreadNamePrefix(String threadNamePrefix) {
+    this.threadNamePrefix = threadNamePrefix;
+  }
+
+  public void setPreferVirtualThreads(boolean preferVirtualThreads) {
+    this.preferVirtualThreads = preferVirtualThreads;
+  }
+
+  public void setKeepAliveMillis(long keepAliveMillis) {
+    this.keepAliveMillis = keepAliveMillis;
+  }
+
+  private ThreadFactory threadFactory() {
+    String prefix = threadNamePrefix != null ? threadNamePrefix : instanceName + "_Worker-";
+    AtomicInteger counter = new AtomicInteger();
+
+    return runnable -> {
+      Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+      thread.setDaemon(false);
+      return thread;
+    };
+  }
+
+  /**
+   * Looked up reflectively as the project is compiled for Java 11.
+   */
+  private static ExecutorService virtualThreadExecutor() {
+    try {
+      return (ExecutorService) Executors.class
+          .getMethod("newVirtualThreadPerTaskExecutor")
+          .invoke(null);
+    } catch (ReflectiveOperationException e) {
+      return null;
+    }
+  }
+
+}
@@ -0,0 +1,347 @@
+package com.sabu.schedulerquartzpoc.scheduler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sabu.schedulerquartzpoc.builder.JobBuilderUtil;
+import com.sabu.schedulerquartzpoc.builder.TriggerBuilderUtil;
+import com.sabu.schedulerquartzpoc.model.JobDescriptor;
+import com.sabu.schedulerquartzpoc.model.TriggerDescriptor;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.JobDetail;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.quartz.JobKey;
+import org.quartz.ObjectAlreadyExistsException;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.Trigger;
+import org.quartz.impl.StdSchedulerFactory;
+import org.quartz.listeners.JobListenerSupport;
+import org.quartz.spi.JobFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * Node local scheduler for jobs firing within scheduler.hot-tier.horizon-seconds, e.g. the emails
+ * scheduled 30 seconds out. They are stored in a RAMJobStore instead of the clustered JDBC job
+ * store, so scheduling and firing them costs no database round trip.
+ *
+ * Every job is written to a {@link HotTierJournal} on local disk before it is stored and the
+ * journal is replayed when the node starts, jobs that became due while the node was down fire
+ * right after the start. A job is only fired by the node that accepted it. A key already held by
+ * the hot tier or stored in the JDBC job store is rejected.
+ *
+ * Only jobs whose triggers are all one-shot fire times inside the horizon, without a calendar, are
+ * accepted; cron jobs and jobs further out stay in the JDBC job store. Pause state is not
+ * journaled.
+ *
+ * Retry and deferred triggers added while a job runs are not journaled either. The job keeps its
+ * journal entry until it runs without any trigger left, so after a crash the journal fires the job
+ * again from its original descriptor: the retry is not lost, but its attempt count starts over.
+ *
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+@Slf4j
+@Component
+public class HotTier extends JobListenerSupport implements SmartLifecycle, DisposableBean {
+
+  private static final String NAME = "hotTierJournalListener";
+
+  private final JobBuilderUtil jobBuilder;
+
+  private final TriggerBuilderUtil triggerBuilder;
+
+  private final SchedulerRouter schedulerRouter;
+
+  private final ObjectMapper objectMapper;
+
+  private final JobFactory jobFactory;
+
+  private final SchedulerMetricsListener metricsListener;
+
+  @Value("${scheduler.hot-tier.enabled:false}")
+  private boolean enabled;
+
+  @Value("${scheduler.hot-tier.horizon-seconds:120}")
+  private long horizonSeconds;
+
+  @Value("${scheduler.hot-tier.journal.path:data/hot-tier.journal}")
+  private String journalPath;
+
+  @Value("${scheduler.hot-tier.journal.fsync:true}")
+  private boolean fsync;
+
+  @Value("${scheduler.hot-tier.journal.compact-after:10000}")
+  private int compactAfter;
+
+  @Value("${scheduler.hot-tier.thread-count:10}")
+  private int threadCount;
+
+  @Value("${spring.quartz.properties.org.quartz.scheduler.instanceName:quartz}")
+  private String instanceName;
+
+  private HotTierJournal journal;
+
+  private Scheduler scheduler;
+
+  public HotTier(JobBuilderUtil jobBuilder, TriggerBuilderUtil triggerBuilder,
+      SchedulerRouter schedulerRouter, ObjectMapper objectMapper, JobFactory jobFactory,
+      SchedulerMetricsListener metricsListener) {
+    this.jobBuilder = jobBuilder;
+    this.triggerBuilder = triggerBuilder;
+    this.schedulerRouter = schedulerRouter;
+    this.objectMapper = objectMapper;
+    this.jobFactory = jobFactory;
+    this.metricsListener = metricsListener;
+  }
+
+  @Override
+  public String getName() {
+    return NAME;
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * @param descriptor JOB TO BE SCHEDULED
+   * @return TRUE IF THE JOB IS NOT PAUSED AND EVERY TRIGGER OF IT IS A FIRE TIME WITHIN THE
+   *     HORIZON
+   */
+  public boolean accepts(JobDescriptor descriptor) {
+    if (!enabled || scheduler == null || descriptor.getTriggerDescriptors().isEmpty()
+        || Boolean.TRUE.equals(descriptor.getPaused())) {
+      return false;
+    }
+
+    LocalDateTime horizon = LocalDateTime.now().plusSeconds(horizonSeconds);
+    for (TriggerDescriptor triggerDescriptor : descriptor.getTriggerDescriptors()) {
+      String cron = triggerDescriptor.getCron();
+      LocalDateTime fireTime = triggerDescriptor.getFireTime();
+      if ((cron != null && !cron.isEmpty()) || fireTime == null || fireTime.isAfter(horizon)
+          || triggerDescriptor.getCalendar() != null
+          || triggerDescriptor.getIntervalMillis() != null) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @param descriptor JOURNALS AND STORES THE JOB IN THE RAMJobStore
+   * @throws ObjectAlreadyExistsException IF THE HOT TIER OR THE JDBC JOB STORE HOLDS THE KEY
+   */
+  public void schedule(JobDescriptor descriptor) throws SchedulerException {
+    JobDetail jobDetail = jobBuilder.buildJobDetail(descriptor);
+    descriptor.setGroup(jobDetail.getKey().getGroup());
+
+    Set<Trigger> triggers = triggerBuilder.buildTriggers(descriptor);
+
+    if (schedulerRouter.route(jobDetail.getKey()).checkExists(jobDetail.getKey())) {
+      throw new ObjectAlreadyExistsException(jobDetail);
+    }
+
+    // THE JOURNAL ENTRY CLAIMS THE KEY, ONLY ITS OWNER REMOVES IT AGAIN ON FAILURE
+    if (!journal(descriptor)) {
+      throw new ObjectAlreadyExistsException(jobDetail);
+    }
+    try {
+      scheduler.scheduleJob(jobDetail, triggers, Boolean.FALSE);
+    } catch (SchedulerException e) {
+      unjournal(jobDetail.getKey());
+      throw e;
+    }
+  }
+
+  public boolean contains(JobKey jobKey) {
+    try {
+      return scheduler != null && scheduler.checkExists(jobKey);
+    } catch (SchedulerException e) {
+      return false;
+    }
+  }
+
+  /**
+   * @return TRUE IF THE JOB WAS HELD BY THE HOT TIER AND IS NOW DELETED
+   */
+  public boolean delete(JobKey jobKey) throws SchedulerException {
+    if (!contains(jobKey)) {
+      return false;
+    }
+    boolean deleted = scheduler.deleteJob(jobKey);
+    unjournal(jobKey);
+    return deleted;
+  }
+
+  public Scheduler getScheduler() {
+    return scheduler;
+  }
+
+  @Override
+  public void jobWasExecuted(JobExecutionContext context, JobExecutionException jobException) {
+    // A JOB ASKING TO BE FIRED AGAIN RIGHT AWAY, E.G. ITS RETRY COULD NOT BE STORED, RUNS AGAIN
+    if (context.getNextFireTime() != null
+        || (jobException != null && jobException.refireImmediately())) {
+      return;
+    }
+    try {
+      // A JOB RESCHEDULED WHILE RUNNING, E.G. A RETRY, HAS ANOTHER TRIGGER AND STAYS JOURNALED
+      // UNTIL THAT TRIGGER HAS FIRED, THE JOURNAL REPLAYS THE ORIGINAL JOB IN ITS PLACE
+      boolean rescheduled = scheduler
+          .getTriggersOfJob(context.getJobDetail().getKey())
+          .stream()
+          .anyMatch(trigger -> !trigger.getKey().equals(context.getTrigger().getKey()));
+      if (!rescheduled) {
+        unjournal(context.getJobDetail().getKey());
+      }
+    } catch (SchedulerException e) {
+      log.error("Could not read triggers of job with key:{}, error:{}",
+          context.getJobDetail().getKey(), e.getLocalizedMessage(), e);
+    }
+  }
+
+  @Override
+  public void start() {
+    if (!enabled) {
+      return;
+    }
+    if (scheduler != null) {
+      resume();
+      return;
+    }
+
+    try {
+      journal = new HotTierJournal(Paths.get(journalPath), objectMapper, fsync, compactAfter);
+      List<JobDescriptor> pending = journal.open();
+
+      scheduler = new StdSchedulerFactory(quartzProperties()).getScheduler();
+      scheduler.setJobFactory(jobFactory);
+      scheduler.getListenerManager().addJobListener(this);
+      if (metricsListener != null) {
+        scheduler.getListenerManager().addJobListener(metricsListener);
+        scheduler.getListenerManager().addTriggerListener(metricsListener);
+      }
+
+      int replayed = replay(pending);
+      scheduler.start();
+
+      log.info("Hot tier started with horizon:{}s, journal:{}, replayed:{}", horizonSeconds,
+          journalPath, replayed);
+    } catch (IOException | SchedulerException e) {
+      throw new IllegalStateException("Could not start hot tier, error:" + e.getLocalizedMessage(),
+          e);
+    }
+  }
+
+  private int replay(List<JobDescriptor> pending) throws SchedulerException {
+    LocalDateTime dueAt = LocalDateTime.now().plusSeconds(1);
+    int replayed = 0;
+
+    for (JobDescriptor descriptor : pending) {
+      // JOBS THAT BECAME DUE WHILE THE NODE WAS DOWN FIRE RIGHT AWAY
+      descriptor.getTriggerDescriptors().forEach(triggerDescriptor -> {
+        if (triggerDescriptor.getFireTime() == null
+            || triggerDescriptor.getFireTime().isBefore(dueAt)) {
+          triggerDescriptor.setFireTime(dueAt);
+        }
+      });
+
+      try {
+        scheduler.scheduleJob(jobBuilder.buildJobDetail(descriptor),
+            triggerBuilder.buildTriggers(descriptor), Boolean.TRUE);
+        replayed++;
+      } catch (RuntimeException e) {
+        log.error("Could not replay hot tier job with key:{}.{}, error:{}", descriptor.getGroup(),
+            descriptor.getName(), e.getLocalizedMessage(), e);
+        unjournal(JobKey.jobKey(descriptor.getName(), descriptor.getGroup()));
+      }
+    }
+    return replayed;
+  }
+
+  private Properties quartzProperties() {
+    Properties properties = new Properties();
+    properties.setProperty("org.quartz.scheduler.instanceName", instanceName + "-hot");
+    properties.setProperty("org.quartz.scheduler.skipUpdateCheck", "true");
+    properties.setProperty("org.quartz.jobStore.class", "org.quartz.simpl.RAMJobStore");
+    properties.setProperty("org.quartz.jobStore.misfireThreshold", "60000");
+    properties.setProperty("org.quartz.threadPool.class", ElasticThreadPool.class.getName());
+    properties.setProperty("org.quartz.threadPool.threadCount", String.valueOf(threadCount));
+    return properties;
+  }
+
+  private boolean journal(JobDescriptor descriptor) throws SchedulerException {
+    try {
+      return journal.added(descriptor);
+    } catch (IOException e) {
+      throw new SchedulerException("Could not journal job " + descriptor.getName(), e);
+    }
+  }
+
+  private void unjournal(JobKey jobKey) {
+    try {
+      journal.removed(jobKey.getGroup(), jobKey.getName());
+    } catch (IOException e) {
+      // THE JOB FIRES AGAIN IF THE NODE RESTARTS BEFORE THE NEXT COMPACTION
+      log.error("Could not journal removal of job with key:{}, error:{}", jobKey,
+          e.getLocalizedMessage(), e);
+    }
+  }
+
+  private void resume() {
+    try {
+      scheduler.start();
+    } catch (SchedulerException e) {
+      throw new IllegalStateException("Could not resume hot tier, error:" + e.getLocalizedMessage(),
+          e);
+    }
+  }
+
+  @Override
+  public void stop() {
+    if (scheduler == null) {
+      return;
+    }
+    try {
+      scheduler.standby();
+    } catch (SchedulerException e) {
+      log.error("Could not stop hot tier, error:{}", e.getLocalizedMessage(), e);
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    try {
+      return scheduler != null && scheduler.isStarted() && !scheduler.isInStandbyMode();
+    } catch (SchedulerException e) {
+      return false;
+    }
+  }
+
+  @Override
+  public int getPhase() {
+    return Integer.MAX_VALUE;
+  }
+
+  @Override
+  public void destroy() throws SchedulerException, IOException {
+    if (scheduler != null) {
+      // WAIT FOR RUNNING JOBS SO THEIR REMOVAL IS JOURNALED
+      scheduler.shutdown(true);
+      scheduler = null;
+    }
+    if (journal != null) {
+      journal.close();
+    }
+  }
+
+}
@@ -0,0 +1,198 @@
+package com.sabu.schedulerquartzpoc.scheduler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sabu.schedulerquartzpoc.model.JobDescriptor;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Append-only journal of the jobs held by the hot tier, one JSON record per line. A job is written
+ * as ADDED before it is stored in the RAMJobStore and as REMOVED once it fired or was deleted, so
+ * replaying the file gives back every job that was accepted but has not run yet.
+ *
+ * The file is compacted (rewritten with the live jobs only) on open and whenever the removed
+ * records outnumber the live ones by compactAfter.
+ *
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+@Slf4j
+class HotTierJournal {
+
+  enum Op {
+    ADDED, REMOVED
+  }
+
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  static class Record {
+
+    private Op op;
+
+    private String group;
+
+    private String name;
+
+    private JobDescriptor job;
+
+  }
+
+  private final Path path;
+
+  private final ObjectMapper objectMapper;
+
+  private final boolean fsync;
+
+  private final int compactAfter;
+
+  private final Map<String, JobDescriptor> live = new LinkedHashMap<>();
+
+  private FileChannel channel;
+
+  private int removedSinceCompaction;
+
+  HotTierJournal(Path path, ObjectMapper objectMapper, boolean fsync, int compactAfter) {
+    this.path = path;
+    this.objectMapper = objectMapper;
+    this.fsync = fsync;
+    this.compactAfter = compactAfter;
+  }
+
+  /**
+   * @return JOBS ADDED AND NOT REMOVED, IN THE ORDER THEY WERE ADDED
+   */
+  synchronized List<JobDescriptor> open() throws IOException {
+    live.clear();
+    if (Files.exists(path)) {
+      replay();
+    }
+    compact();
+    return new ArrayList<>(live.values());
+  }
+
+  /**
+   * @return FALSE, AND NOTHING WRITTEN, IF A JOB OF THE SAME GROUP AND NAME IS LIVE
+   */
+  synchronized boolean added(JobDescriptor descriptor) throws IOException {
+    String key = key(descriptor.getGroup(), descriptor.getName());
+    if (live.containsKey(key)) {
+      return false;
+    }
+    write(new Record(Op.ADDED, descriptor.getGroup(), descriptor.getName(), descriptor));
+    live.put(key, descriptor);
+    return true;
+  }
+
+  synchronized void removed(String group, String name) throws IOException {
+    if (live.remove(key(group, name)) == null) {
+      return;
+    }
+    write(new Record(Op.REMOVED, group, name, null));
+
+    if (++removedSinceCompaction >= compactAfter + live.size()) {
+      compact();
+    }
+  }
+
+  synchronized void close() throws IOException {
+    if (channel != null) {
+      channel.close();
+      channel = null;
+    }
+  }
+
+  private void replay() throws IOException {
+    int lineNumber = 0;
+    try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        lineNumber++;
+        if (line.isBlank()) {
+          continue;
+        }
+
+        Record record;
+        try {
+          record = objectMapper.readValue(line, Record.class);
+        } catch (IOException e) {
+          // A CRASH WHILE APPENDING LEAVES AT MOST THE LAST LINE TRUNCATED
+          log.warn("Skipping unreadable hot tier journal record at line:{}, error:{}", lineNumber,
+              e.getLocalizedMessage());
+          continue;
+        }
+
+        if (record.getOp() == Op.ADDED) {
+          live.put(key(record.getGroup(), record.getName()), record.getJob());
+        } else {
+          live.remove(key(record.getGroup(), record.getName()));
+        }
+      }
+    }
+  }
+
+  private void compact() throws IOException {
+    close();
+
+    Path parent = path.toAbsolutePath().getParent();
+    Files.createDirectories(parent);
+    Path compacted = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+    try (FileChannel out = FileChannel.open(compacted, StandardOpenOption.WRITE)) {
+      writeAll(out, live.values());
+      out.force(true);
+    }
+    Files.move(compacted, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+    channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    removedSinceCompaction = 0;
+  }
+
+  private void writeAll(FileChannel out, Collection<JobDescriptor> descriptors) throws IOException {
+    for (JobDescriptor descriptor : descriptors) {
+      out.write(encode(new Record(Op.ADDED, descriptor.getGroup(), descriptor.getName(),
+          descriptor)));
+    }
+  }
+
+  private void write(Record record) throws IOException {
+    if (channel == null) {
+      throw new IllegalStateException("Hot tier journal " + path + " is not open");
+    }
+
+    ByteBuffer buffer = encode(record);
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+    if (fsync) {
+      channel.force(false);
+    }
+  }
+
+  private ByteBuffer encode(Record record) throws IOException {
+    byte[] json = objectMapper.writeValueAsBytes(record);
+    return ByteBuffer.allocate(json.length + 1).put(json).put((byte) '\n').flip();
+  }
+
+  private static String key(String group, String name) {
+    return group + '.' + name;
+  }
+
+}
@@ -0,0 +1,323 @@
+package com.sabu.schedulerquartzpoc.scheduler;
+
+import com.sabu.schedulerquartzpoc.builder.JobTypeRegistry;
+import com.sabu.schedulerquartzpoc.model.JobProfile;
+import com.sabu.schedulerquartzpoc.model.SlowJobRun;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.quartz.JobExecutionContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Execution profile per job type and group, recorded by AbstractJob around every run: a wall
+ * clock duration histogram (HdrHistogram, recording is lock-free), failures, and the cpu time and
+ * bytes allocated by the thread running the job, read from the ThreadMXBean.
+ *
+ * Once a profile has scheduler.profiler.slow.min-runs runs, a run taking longer than
+ * multiplier x the percentile duration (at least min-deadline-ms) is logged and kept as a slow
+ * run, and runs still going past that deadline are listed as well.
+ *
+ * At most scheduler.profiler.max-profiles (type, group) pairs are profiled, the groups of a type
+ * first seen past that limit are recorded together under the group "other".
+ *
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+@Slf4j
+@Component
+public class JobProfiler {
+
+  private static final int SIGNIFICANT_DIGITS = 2;
+
+  // THE DEADLINE WALKS THE HISTOGRAM, SO IT IS ONLY REFRESHED EVERY FEW RUNS
+  private static final int DEADLINE_REFRESH_RUNS = 64;
+
+  static final String OTHER_GROUP = "other";
+
+  private final JobTypeRegistry jobTypeRegistry;
+
+  private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
+  private final com.sun.management.ThreadMXBean allocationMXBean;
+
+  private final boolean cpuTimeSupported;
+
+  private final Map<String, Profile> profiles = new ConcurrentHashMap<>();
+
+  private final Set<Run> runs = ConcurrentHashMap.newKeySet();
+
+  private final Deque<SlowJobRun> recentSlowRuns = new ConcurrentLinkedDeque<>();
+
+  @Value("${scheduler.profiler.enabled:true}")
+  private boolean enabled;
+
+  @Value("${scheduler.profiler.slow.percentile:99.0}")
+  private double slowPercentile;
+
+  @Value("${scheduler.profiler.slow.multiplier:2.0}")
+  private double slowMultiplier;
+
+  @Value("${scheduler.profiler.slow.min-runs:50}")
+  private long slowMinRuns;
+
+  @Value("${scheduler.profiler.slow.min-deadline-ms:1000}")
+  private long slowMinDeadlineMillis;
+
+  @Value("${scheduler.profiler.slow.recent-runs:50}")
+  private int recentSlowRunCount;
+
+  @Value("${scheduler.profiler.max-profiles:1000}")
+  private int maxProfiles;
+
+  public JobProfiler(JobTypeRegistry jobTypeRegistry) {
+    this.jobTypeRegistry = jobTypeRegistry;
+
+    this.allocationMXBean = threadMXBean instanceof com.sun.management.ThreadMXBean
+        && ((com.sun.management.ThreadMXBean) threadMXBean).isThreadAllocatedMemorySupported()
+        ? (com.sun.management.ThreadMXBean) threadMXBean
+        : null;
+    this.cpuTimeSupported = threadMXBean.isCurrentThreadCpuTimeSupported();
+    if (cpuTimeSupported && !threadMXBean.isThreadCpuTimeEnabled()) {
+      threadMXBean.setThreadCpuTimeEnabled(true);
+    }
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * @return RUN TO PASS TO {@link #finish} ON THE SAME THREAD
+   */
+  public Run start(JobExecutionContext context) {
+    Class<?> jobClass = context.getJobDetail().getJobClass();
+    String type = jobTypeRegistry == null ? jobClass.getName() : jobTypeRegistry.getName(jobClass);
+
+    Run run = new Run(profile(type, context.getJobDetail().getKey().getGroup()),
+        context.getJobDetail().getKey().getName(), Thread.currentThread().getId(),
+        cpuTime(), allocatedBytes(Thread.currentThread().getId()));
+    run.profile.running.incrementAndGet();
+    runs.add(run);
+    return run;
+  }
+
+  public void finish(Run run, boolean failed) {
+    long duration = System.nanoTime() - run.startNanos;
+    long cpu = elapsed(run.startCpu, cpuTime());
+    long allocated = elapsed(run.startAllocated, allocatedBytes(run.threadId));
+
+    runs.remove(run);
+    run.profile.running.decrementAndGet();
+    record(run.profile, run.name, run.startedAt, duration, cpu, allocated, failed);
+  }
+
+  void record(Profile profile, String name, LocalDateTime startedAt, long durationNanos,
+      long cpuNanos, long allocatedBytes, boolean failed) {
+    long micros = TimeUnit.NANOSECONDS.toMicros(durationNanos);
+    profile.durations.recordValue(micros);
+    profile.totalMicros.add(micros);
+    // ONE RUN OF EVERY DEADLINE_REFRESH_RUNS SEES ITS MULTIPLE, A LongAdder SUM COULD SKIP IT
+    long count = profile.runs.incrementAndGet();
+    if (failed) {
+      profile.failures.increment();
+    }
+    if (cpuNanos >= 0) {
+      profile.cpuNanos.add(cpuNanos);
+      profile.cpuRuns.increment();
+    }
+    if (allocatedBytes >= 0) {
+      profile.allocatedBytes.add(allocatedBytes);
+      profile.allocationRuns.increment();
+    }
+
+    if (count >= slowMinRuns && count % DEADLINE_REFRESH_RUNS == 0) {
+      profile.deadlineMicros = Math.max(TimeUnit.MILLISECONDS.toMicros(slowMinDeadlineMillis),
+          (long) (profile.durations.getValueAtPercentile(slowPercentile) * slowMultiplier));
+    }
+
+    long deadline = profile.deadlineMicros;
+    if (deadline > 0 && micros > deadline) {
+      profile.slowRuns.increment();
+      SlowJobRun slowRun = slowRun(profile, name, startedAt, micros, false);
+      recentSlowRuns.addFirst(slowRun);
+      while (recentSlowRuns.size() > recentSlowRunCount) {
+        recentSlowRuns.pollLast();
+      }
+      log.warn("Slow job key:{}.{}, type:{}, took {}ms, deadline:{}ms", profile.group, name,
+          profile.type, slowRun.getDurationMillis(), slowRun.getDeadlineMillis());
+    }
+  }
+
+  /**
+   * @return PROFILES ORDERED BY TYPE AND GROUP
+   */
+  public List<JobProfile> getProfiles() {
+    return profiles.values()
+        .stream()
+        .sorted(Comparator.comparing((Profile profile) -> profile.type)
+            .thenComparing(profile -> profile.group))
+        .map(JobProfiler::snapshot)
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * @return RUNS STILL GOING PAST THEIR DEADLINE, FOLLOWED BY THE MOST RECENT SLOW RUNS
+   */
+  public List<SlowJobRun> getSlowRuns() {
+    long now = System.nanoTime();
+    List<SlowJobRun> slowRuns = new ArrayList<>();
+    for (Run run : runs) {
+      long micros = TimeUnit.NANOSECONDS.toMicros(now - run.startNanos);
+      long deadline = run.profile.deadlineMicros;
+      if (deadline > 0 && micros > deadline) {
+        slowRuns.add(slowRun(run.profile, run.name, run.startedAt, micros, true));
+      }
+    }
+    slowRuns.addAll(recentSlowRuns);
+    return slowRuns;
+  }
+
+  Profile profile(String type, String group) {
+    Profile profile = profiles.get(type + '|' + group);
+    if (profile != null) {
+      return profile;
+    }
+    // GROUPS CAN BE CREATED PER TENANT OR CAMPAIGN, THE NUMBER OF TYPES IS BOUNDED BY THE CODE
+    String bucket = profiles.size() < maxProfiles ? group : OTHER_GROUP;
+    return profiles.computeIfAbsent(type + '|' + bucket, key -> new Profile(type, bucket));
+  }
+
+  private long cpuTime() {
+    return cpuTimeSupported ? threadMXBean.getCurrentThreadCpuTime() : -1;
+  }
+
+  private long allocatedBytes(long threadId) {
+    return allocationMXBean == null ? -1 : allocationMXBean.getThreadAllocatedBytes(threadId);
+  }
+
+  /**
+   * @return DIFFERENCE OF TWO THREAD COUNTERS, -1 WHEN EITHER COULD NOT BE READ (E.G. A VIRTUAL
+   *     THREAD)
+   */
+  private static long elapsed(long start, long end) {
+    return start < 0 || end < 0 ? -1 : end - start;
+  }
+
+  private static SlowJobRun slowRun(Profile profile, String name, LocalDateTime startedAt,
+      long micros, boolean running) {
+    return SlowJobRun
+        .builder()
+        .type(profile.type)
+        .group(profile.group)
+        .name(name)
+        .startedAt(startedAt)
+        .durationMillis(micros / 1000.0)
+        .deadlineMillis(profile.deadlineMicros / 1000.0)
+        .running(running)
+        .build();
+  }
+
+  private static JobProfile snapshot(Profile profile) {
+    long runs = profile.runs.get();
+    long cpuRuns = profile.cpuRuns.sum();
+    long allocationRuns = profile.allocationRuns.sum();
+    double meanMillis = runs == 0 ? 0 : profile.totalMicros.sum() / 1000.0 / runs;
+    double meanCpuMillis = cpuRuns == 0 ? 0 : profile.cpuNanos.sum() / 1_000_000.0 / cpuRuns;
+
+    return JobProfile
+        .builder()
+        .type(profile.type)
+        .group(profile.group)
+        .runs(runs)
+        .failures(profile.failures.sum())
+        .slowRuns(profile.slowRuns.sum())
+        .running(profile.running.get())
+        .meanMillis(meanMillis)
+        .p50Millis(profile.durations.getValueAtPercentile(50) / 1000.0)
+        .p90Millis(profile.durations.getValueAtPercentile(90) / 1000.0)
+        .p99Millis(profile.durations.getValueAtPercentile(99) / 1000.0)
+        .maxMillis(profile.durations.getMaxValue() / 1000.0)
+        .deadlineMillis(profile.deadlineMicros / 1000.0)
+        .meanCpuMillis(meanCpuMillis)
+        .cpuRatio(meanMillis == 0 ? 0 : Math.min(1, meanCpuMillis / meanMillis))
+        .meanAllocatedBytes(allocationRuns == 0 ? 0 : profile.allocatedBytes.sum() / allocationRuns)
+        .build();
+  }
+
+  static final class Profile {
+
+    private final String type;
+
+    private final String group;
+
+    private final ConcurrentHistogram durations = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+
+    private final AtomicLong runs = new AtomicLong();
+
+    private final LongAdder failures = new LongAdder();
+
+    private final LongAdder slowRuns = new LongAdder();
+
+    private final LongAdder totalMicros = new LongAdder();
+
+    private final LongAdder cpuNanos = new LongAdder();
+
+    private final LongAdder cpuRuns = new LongAdder();
+
+    private final LongAdder allocatedBytes = new LongAdder();
+
+    private final LongAdder allocationRuns = new LongAdder();
+
+    private final AtomicInteger running = new AtomicInteger();
+
+    private volatile long deadlineMicros;
+
+    private Profile(String type, String group) {
+      this.type = type;
+      this.group = group;
+    }
+  }
+
+  public static final class Run {
+
+    private final Profile profile;
+
+    private final String name;
+
+    private final long threadId;
+
+    private final long startCpu;
+
+    private final long startAllocated;
+
+    private final long startNanos = System.nanoTime();
+
+    private final LocalDateTime startedAt = LocalDateTime.now();
+
+    private Run(Profile profile, String name, long threadId, long startCpu, long startAllocated) {
+      this.profile = profile;
+      this.name = name;
+      this.threadId = threadId;
+      this.startCpu = startCpu;
+      this.startAllocated = startAllocated;
+    }
+  }
+
+}
@@ -0,0 +1,214 @@
+package com.sabu.schedulerquartzpoc.scheduler;
+
+import com.sabu.schedulerquartzpoc.repository.MisfireRecoveryRepository;
+import com.sabu.schedulerquartzpoc.repository.MisfireRecoveryRepository.OverdueTrigger;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Spreads the catch-up of a mass misfire over rate-limited waves instead of letting Quartz fire
+ * every misfired trigger at once when the schedulers start after an outage.
+ *
+ * Runs right before the schedulers start. When at least scheduler.misfire.recovery.mass-threshold
+ * triggers with the RECOVER policy are overdue by more than the misfire threshold, they are moved
+ * to future slots, wave-size triggers every wave-interval-ms, highest priority and most overdue
+ * first. The waves stay in the clustered job store, so whichever node is free fires them. The end of
+ * the last wave is kept in misfire_recovery so nodes restarting together queue their waves behind
+ * each other, and every batch is moved under the TRIGGER_ACCESS lock of the scheduler.
+ *
+ * Fewer overdue triggers, or FIRE_NOW and SKIP triggers, are left to the Quartz misfire handler.
+ *
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+@Slf4j
+@Component
+public class MisfireRecovery implements SmartLifecycle {
+
+  private final SchedulerRouter schedulerRouter;
+
+  private final MisfireRecoveryRepository misfireRecoveryRepository;
+
+  private final TransactionTemplate transactionTemplate;
+
+  private final MeterRegistry meterRegistry;
+
+  private final Map<String, Long> nextSlots = new ConcurrentHashMap<>();
+
+  private final Map<String, Counter> recovered = new ConcurrentHashMap<>();
+
+  @Value("${scheduler.misfire.recovery.enabled:true}")
+  private boolean enabled;
+
+  @Value("${scheduler.misfire.recovery.mass-threshold:100}")
+  private long massThreshold;
+
+  @Value("${scheduler.misfire.recovery.wave-size:50}")
+  private int waveSize;
+
+  @Value("${scheduler.misfire.recovery.wave-interval-ms:10000}")
+  private long waveIntervalMillis;
+
+  @Value("${scheduler.misfire.recovery.initial-delay-ms:5000}")
+  private long initialDelayMillis;
+
+  @Value("${scheduler.misfire.recovery.batch-size:500}")
+  private int batchSize;
+
+  @Value("${spring.quartz.properties.org.quartz.jobStore.misfireThreshold:60000}")
+  private long misfireThreshold;
+
+  private volatile boolean running;
+
+  public MisfireRecovery(SchedulerRouter schedulerRouter,
+      MisfireRecoveryRepository misfireRecoveryRepository, TransactionTemplate transactionTemplate,
+      MeterRegistry meterRegistry) {
+    this.schedulerRouter = schedulerRouter;
+    this.misfireRecoveryRepository = misfireRecoveryRepository;
+    this.transactionTemplate = transactionTemplate;
+    this.meterRegistry = meterRegistry;
+
+    Gauge.builder("scheduler.misfire.backlog", this, MisfireRecovery::getBacklog)
+        .description("Estimated triggers waiting in catch-up waves")
+        .register(meterRegistry);
+    Gauge.builder("scheduler.misfire.drain.rate", this, MisfireRecovery::getDrainRate)
+        .description("Catch-up triggers fired per second while a backlog is left")
+        .register(meterRegistry);
+  }
+
+  /**
+   * @return NUMBER OF TRIGGERS MOVED INTO CATCH-UP WAVES OVER ALL SCHEDULERS
+   */
+  public long recover() {
+    long total = 0;
+    for (String schedulerName : schedulerRouter.getSchedulerNames()) {
+      total += recover(schedulerName);
+    }
+    return total;
+  }
+
+  private long recover(String schedulerName) {
+    long overdueBefore = System.currentTimeMillis() - misfireThreshold;
+    long overdue = misfireRecoveryRepository.countOverdue(schedulerName, overdueBefore);
+    if (overdue < massThreshold) {
+      nextSlots.put(schedulerName, misfireRecoveryRepository.findNextSlot(schedulerName));
+      if (overdue > 0) {
+        log.info("{} overdue triggers on {}, left to the misfire handler", overdue, schedulerName);
+      }
+      return 0;
+    }
+
+    log.warn("Mass misfire on {}: {} overdue triggers, recovering {} every {} ms", schedulerName,
+        overdue, waveSize, waveIntervalMillis);
+
+    // WHOLE WAVES PER BATCH, SO A BATCH NEVER LEAVES A WAVE HALF FULL
+    int limit = Math.max(1, batchSize / waveSize) * waveSize;
+    long total = 0;
+    int moved;
+    do {
+      Integer batch = transactionTemplate.execute(
+          status -> recoverBatch(schedulerName, overdueBefore, limit));
+      moved = batch == null ? 0 : batch;
+      total += moved;
+    } while (moved == limit);
+
+    log.info("Recovered {} overdue triggers on {}, last wave at {}", total, schedulerName,
+        new Date(nextSlots.getOrDefault(schedulerName, 0L)));
+    return total;
+  }
+
+  private int recoverBatch(String schedulerName, long overdueBefore, int limit) {
+    misfireRecoveryRepository.lockTriggerAccess(schedulerName);
+
+    List<OverdueTrigger> triggers =
+        misfireRecoveryRepository.findOverdue(schedulerName, overdueBefore, limit);
+    if (triggers.isEmpty()) {
+      return 0;
+    }
+
+    long firstSlot = Math.max(System.currentTimeMillis() + initialDelayMillis,
+        misfireRecoveryRepository.findNextSlot(schedulerName));
+    List<Long> slots = new ArrayList<>(triggers.size());
+    for (int i = 0; i < triggers.size(); i++) {
+      slots.add(slotOf(firstSlot, i, waveSize, waveIntervalMillis));
+    }
+    long nextSlot = slotOf(firstSlot, triggers.size() + waveSize - 1, waveSize, waveIntervalMillis);
+
+    int moved = misfireRecoveryRepository.reschedule(schedulerName, triggers, slots);
+    misfireRecoveryRepository.saveNextSlot(schedulerName, nextSlot);
+    nextSlots.put(schedulerName, nextSlot);
+    recovered(schedulerName).increment(moved);
+
+    // A FULL BATCH MEANS MORE MAY BE LEFT, EVEN IF SOME TRIGGERS FIRED OR CHANGED MEANWHILE
+    return triggers.size();
+  }
+
+  static long slotOf(long firstSlot, int index, int waveSize, long waveIntervalMillis) {
+    return firstSlot + (index / waveSize) * waveIntervalMillis;
+  }
+
+  private Counter recovered(String schedulerName) {
+    return recovered.computeIfAbsent(schedulerName, name -> Counter
+        .builder("scheduler.misfire.recovered")
+        .tag("scheduler", name)
+        .register(meterRegistry));
+  }
+
+  /**
+   * @return TRIGGERS IN WAVES NOT DUE YET, ESTIMATED FROM THE END OF THE LAST WAVE
+   */
+  public double getBacklog() {
+    long now = System.currentTimeMillis();
+    return nextSlots.values()
+        .stream()
+        .mapToLong(nextSlot -> Math.max(0, nextSlot - now))
+        .mapToDouble(remaining -> Math.ceil((double) remaining / waveIntervalMillis) * waveSize)
+        .sum();
+  }
+
+  public double getDrainRate() {
+    return getBacklog() > 0 ? waveSize * 1000.0 / waveIntervalMillis : 0;
+  }
+
+  @Override
+  public void start() {
+    running = true;
+    if (!enabled) {
+      return;
+    }
+    try {
+      recover();
+    } catch (RuntimeException e) {
+      // THE MISFIRE HANDLER STILL RECOVERS EVERY TRIGGER, JUST NOT IN WAVES
+      log.error("Could not recover misfired triggers, error:{}", e.getLocalizedMessage(), e);
+    }
+  }
+
+  @Override
+  public void stop() {
+    running = false;
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  @Override
+  public int getPhase() {
+    // RIGHT BEFORE THE SCHEDULERS START, SO THEIR MISFIRE HANDLERS FIND NOTHING LEFT TO FIRE AT ONCE
+    return Integer.MAX_VALUE - 1;
+  }
+
+}
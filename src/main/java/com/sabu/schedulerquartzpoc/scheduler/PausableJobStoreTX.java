@@ -0,0 +1,39 @@
+package com.sabu.schedulerquartzpoc.scheduler;
+
+import java.sql.Connection;
+import org.quartz.JobDetail;
+import org.quartz.JobPersistenceException;
+import org.quartz.impl.jdbcjobstore.JobStoreTX;
+import org.quartz.spi.OperableTrigger;
+
+/**
+ * JobStoreTX storing the triggers of a job created paused as PAUSED, in the transaction storing
+ * the job, so a paused job never has a moment in which its triggers could fire. Configured as
+ * org.quartz.jobStore.class.
+ *
+ * TriggerBuilderUtil marks the triggers of a JobDescriptor with paused set by STORE_PAUSED in
+ * their data. The marker is removed from a copy of the trigger before it is written, the trigger
+ * of the caller keeps it so a retried store is paused as well.
+ *
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+public class PausableJobStoreTX extends JobStoreTX {
+
+  public static final String STORE_PAUSED = "storePaused";
+
+  @Override
+  protected void storeTrigger(Connection conn, OperableTrigger newTrigger, JobDetail job,
+      boolean replaceExisting, String state, boolean forceState, boolean recovering)
+      throws JobPersistenceException {
+    if (!newTrigger.getJobDataMap().containsKey(STORE_PAUSED)) {
+      super.storeTrigger(conn, newTrigger, job, replaceExisting, state, forceState, recovering);
+      return;
+    }
+
+    OperableTrigger trigger = (OperableTrigger) newTrigger.clone();
+    trigger.getJobDataMap().remove(STORE_PAUSED);
+    super.storeTrigger(conn, trigger, job, replaceExisting, STATE_PAUSED, true, recovering);
+  }
+
+}
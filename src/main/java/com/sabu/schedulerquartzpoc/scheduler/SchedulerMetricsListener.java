@@ -0,0 +1,191 @@
+package com.sabu.schedulerquartzpoc.scheduler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.quartz.JobListener;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.Trigger;
+import org.quartz.Trigger.CompletedExecutionInstruction;
+import org.quartz.TriggerListener;
+import org.quartz.listeners.SchedulerListenerSupport;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records Quartz job and trigger events as Micrometer metrics, tagged by job group and job type.
+ *
+ * Meters are looked up once per group and type and then cached, so a fire only costs a map
+ * lookup and the meter updates. The listener is shared by every shard, lane and the hot tier, so
+ * the thread pool utilization is tagged by the scheduler that fired the job, each against its own
+ * thread pool size.
+ *
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+@Component
+public class SchedulerMetricsListener extends SchedulerListenerSupport
+    implements JobListener, TriggerListener {
+
+  private static final String NAME = "schedulerMetricsListener";
+
+  private final MeterRegistry meterRegistry;
+
+  private final AtomicInteger runningJobs = new AtomicInteger();
+
+  private final Map<String, JobMeters> jobMeters = new ConcurrentHashMap<>();
+
+  private final Map<String, AtomicInteger> runningJobsByScheduler = new ConcurrentHashMap<>();
+
+  private final Map<String, Counter> misfires = new ConcurrentHashMap<>();
+
+  private final Counter schedulerErrors;
+
+  public SchedulerMetricsListener(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+
+    Gauge.builder("quartz.jobs.running", runningJobs, AtomicInteger::get)
+        .description("Jobs currently executing")
+        .register(meterRegistry);
+
+    schedulerErrors = Counter.builder("quartz.scheduler.errors").register(meterRegistry);
+  }
+
+  @Override
+  public String getName() {
+    return NAME;
+  }
+
+  @Override
+  public void jobToBeExecuted(JobExecutionContext context) {
+    runningJobs.incrementAndGet();
+    runningJobs(context.getScheduler()).incrementAndGet();
+
+    long lag = context.getFireTime().getTime() - context.getScheduledFireTime().getTime();
+    meters(context).fireLag.record(Math.max(0, lag), TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public void jobExecutionVetoed(JobExecutionContext context) {
+    meters(context).vetoed.increment();
+  }
+
+  @Override
+  public void jobWasExecuted(JobExecutionContext context, JobExecutionException jobException) {
+    runningJobs.decrementAndGet();
+    runningJobs(context.getScheduler()).decrementAndGet();
+
+    JobMeters meters = meters(context);
+    (jobException == null ? meters.succeeded : meters.failed)
+        .record(context.getJobRunTime(), TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public void triggerFired(Trigger trigger, JobExecutionContext context) {
+    // RECORDED IN jobToBeExecuted
+  }
+
+  @Override
+  public boolean vetoJobExecution(Trigger trigger, JobExecutionContext context) {
+    return false;
+  }
+
+  @Override
+  public void triggerMisfired(Trigger trigger) {
+    misfires
+        .computeIfAbsent(trigger.getKey().getGroup(), group -> Counter
+            .builder("quartz.trigger.misfires")
+            .tag("group", group)
+            .register(meterRegistry))
+        .increment();
+  }
+
+  @Override
+  public void triggerComplete(Trigger trigger, JobExecutionContext context,
+      CompletedExecutionInstruction triggerInstructionCode) {
+    // RECORDED IN jobWasExecuted
+  }
+
+  @Override
+  public void schedulerError(String msg, SchedulerException cause) {
+    schedulerErrors.increment();
+  }
+
+  /**
+   * @return JOBS RUNNING ON THE SCHEDULER, WITH ITS UTILIZATION GAUGE REGISTERED ON FIRST USE
+   */
+  private AtomicInteger runningJobs(Scheduler scheduler) {
+    String name;
+    try {
+      name = scheduler.getSchedulerName();
+    } catch (SchedulerException e) {
+      throw new IllegalStateException("Could not read the scheduler name", e);
+    }
+
+    return runningJobsByScheduler.computeIfAbsent(name, key -> {
+      int threadPoolSize;
+      try {
+        threadPoolSize = scheduler.getMetaData().getThreadPoolSize();
+      } catch (SchedulerException e) {
+        throw new IllegalStateException("Could not read the thread pool of scheduler " + key, e);
+      }
+
+      AtomicInteger running = new AtomicInteger();
+      Gauge.builder("quartz.thread.pool.utilization", running,
+              value -> (double) value.get() / threadPoolSize)
+          .description("Share of the thread pool busy executing jobs")
+          .tag("scheduler", key)
+          .register(meterRegistry);
+      return running;
+    });
+  }
+
+  private JobMeters meters(JobExecutionContext context) {
+    String group = context.getJobDetail().getKey().getGroup();
+    Class<?> jobClass = context.getJobDetail().getJobClass();
+
+    return jobMeters.computeIfAbsent(group + '|' + jobClass.getName(),
+        key -> new JobMeters(meterRegistry, group, jobClass.getSimpleName()));
+  }
+
+  private static final class JobMeters {
+
+    private final Timer fireLag;
+
+    private final Timer succeeded;
+
+    private final Timer failed;
+
+    private final Counter vetoed;
+
+    private JobMeters(MeterRegistry meterRegistry, String group, String type) {
+      fireLag = Timer.builder("quartz.job.fire.lag")
+          .description("Delay between a trigger's scheduled fire time and the job starting")
+          .tags("group", group, "type", type)
+          .publishPercentileHistogram()
+          .register(meterRegistry);
+      succeeded = executionTimer(meterRegistry, group, type, "success");
+      failed = executionTimer(meterRegistry, group, type, "failure");
+      vetoed = Counter.builder("quartz.job.vetoed")
+          .tags("group", group, "type", type)
+          .register(meterRegistry);
+    }
+
+    private static Timer executionTimer(
+        MeterRegistry meterRegistry, String group, String type, String result) {
+      return Timer.builder("quartz.job.execution")
+          .description("Job run time")
+          .tags("group", group, "type", type, "result", result)
+          .publishPercentileHistogram()
+          .register(meterRegistry);
+    }
+  }
+
+}
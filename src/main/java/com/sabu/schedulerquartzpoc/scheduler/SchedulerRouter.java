@@ -0,0 +1,150 @@
+package com.sabu.schedulerquartzpoc.scheduler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.JobKey;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.quartz.SchedulerFactoryBean;
+
+/**
+ * Routes every job operation to the scheduler owning its JobKey. Jobs of a group assigned to an
+ * execution lane go to the scheduler of that lane, with its own thread pool, every other job goes
+ * to one of the shards by hash of its key. Each shard and lane has its own instance name, i.e. its
+ * own sched_name rows in the QRTZ_ tables and its own QRTZ_LOCKS rows, so they do not contend on
+ * each other's locks.
+ *
+ * Shard 0 is the scheduler managed by Spring; the factories of the other shards and of the lanes
+ * are started and destroyed together with this router.
+ *
+ * Changing the shard count or the lane groups changes where existing keys are routed, jobs must be
+ * exported and re-imported when resharding.
+ *
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+@Slf4j
+public class SchedulerRouter implements SmartLifecycle, DisposableBean {
+
+  private final int shardCount;
+
+  private final List<Scheduler> schedulers;
+
+  private final List<String> schedulerNames;
+
+  private final Map<String, Integer> laneByGroup;
+
+  private final List<SchedulerFactoryBean> managedFactories;
+
+  private volatile boolean running;
+
+  public SchedulerRouter(List<Scheduler> shards) {
+    this(shards, Collections.emptyMap(), Collections.emptyList());
+  }
+
+  /**
+   * @param shards SCHEDULERS JOBS ARE SPREAD OVER BY KEY HASH
+   * @param lanes SCHEDULER OF EACH LANE BY THE JOB GROUPS ASSIGNED TO IT
+   * @param managedFactories FACTORIES STARTED AND DESTROYED WITH THE ROUTER
+   */
+  public SchedulerRouter(List<Scheduler> shards, Map<String, Scheduler> lanes,
+      List<SchedulerFactoryBean> managedFactories) {
+    if (shards.isEmpty()) {
+      throw new IllegalArgumentException("At least one scheduler shard is required");
+    }
+    this.shardCount = shards.size();
+    this.managedFactories = List.copyOf(managedFactories);
+
+    List<Scheduler> all = new ArrayList<>(shards);
+    Map<String, Integer> groups = new HashMap<>();
+    lanes.forEach((group, lane) -> {
+      int index = all.indexOf(lane);
+      if (index < 0) {
+        index = all.size();
+        all.add(lane);
+      }
+      groups.put(group, index);
+    });
+    this.schedulers = List.copyOf(all);
+    this.laneByGroup = Map.copyOf(groups);
+
+    List<String> names = new ArrayList<>(schedulers.size());
+    for (Scheduler scheduler : schedulers) {
+      try {
+        names.add(scheduler.getSchedulerName());
+      } catch (SchedulerException e) {
+        throw new IllegalStateException("Could not read scheduler name", e);
+      }
+    }
+    this.schedulerNames = Collections.unmodifiableList(names);
+  }
+
+  public Scheduler route(JobKey jobKey) {
+    return schedulers.get(indexOf(jobKey));
+  }
+
+  /**
+   * @return INDEX IN {@link #getSchedulers()} OF THE SCHEDULER OWNING THE KEY
+   */
+  public int indexOf(JobKey jobKey) {
+    Integer lane = laneByGroup.get(jobKey.getGroup());
+    return lane != null ? lane : Math.floorMod(jobKey.hashCode(), shardCount);
+  }
+
+  /**
+   * @return SHARDS FOLLOWED BY LANES
+   */
+  public List<Scheduler> getSchedulers() {
+    return schedulers;
+  }
+
+  /**
+   * @return sched_name OF EVERY SHARD AND LANE, IN THE ORDER OF {@link #getSchedulers()}
+   */
+  public List<String> getSchedulerNames() {
+    return schedulerNames;
+  }
+
+  public int getShardCount() {
+    return shardCount;
+  }
+
+  @Override
+  public void start() {
+    managedFactories.forEach(SchedulerFactoryBean::start);
+    running = true;
+    log.info("Routing jobs over {} scheduler shards and lanes {}: {}", shardCount, laneByGroup,
+        schedulerNames);
+  }
+
+  @Override
+  public void stop() {
+    managedFactories.forEach(SchedulerFactoryBean::stop);
+    running = false;
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  @Override
+  public int getPhase() {
+    // SAME PHASE AS THE SPRING MANAGED SchedulerFactoryBean
+    return Integer.MAX_VALUE;
+  }
+
+  @Override
+  public void destroy() throws SchedulerException {
+    for (SchedulerFactoryBean factory : managedFactories) {
+      factory.destroy();
+    }
+  }
+
+}
@@ -0,0 +1,251 @@
+package com.sabu.schedulerquartzpoc.scheduler;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Hierarchical timing wheel: levels of wheels of 2^wheelBits buckets, a bucket of level n covering
+ * 2^(wheelBits x n) ticks. A timeout is put in the lowest level whose range reaches its deadline
+ * and moved down a level each time the wheel below it wraps, so scheduling and expiring a timeout
+ * costs O(1) however many timeouts are pending. Deadlines beyond the top level wait in its last
+ * bucket and are placed again when it is reached.
+ *
+ * Ticks are counted from the creation of the wheel. Buckets are only touched by the thread
+ * advancing the wheel, either {@link #start} or a caller of {@link #advanceTo}; other threads hand
+ * their timeouts over through a queue drained on every tick.
+ *
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+@Slf4j
+public final class TimingWheel {
+
+  private final long tickNanos;
+
+  private final int wheelBits;
+
+  private final int mask;
+
+  private final Timeout[][] buckets;
+
+  private final Queue<Timeout> pending = new ConcurrentLinkedQueue<>();
+
+  private final long startNanos = System.nanoTime();
+
+  private long currentTick;
+
+  private volatile int size;
+
+  private volatile boolean running;
+
+  private Thread thread;
+
+  /**
+   * @param tickNanos RESOLUTION OF THE WHEEL
+   * @param wheelBits EVERY LEVEL HAS 2^wheelBits BUCKETS
+   * @param levels NUMBER OF LEVELS, THE WHEEL REACHES 2^(wheelBits x levels) TICKS AHEAD
+   */
+  public TimingWheel(long tickNanos, int wheelBits, int levels) {
+    if (tickNanos < 1 || wheelBits < 1 || levels < 1 || wheelBits * levels > 62) {
+      throw new IllegalArgumentException("Invalid timing wheel dimensions");
+    }
+    this.tickNanos = tickNanos;
+    this.wheelBits = wheelBits;
+    this.mask = (1 << wheelBits) - 1;
+    // EVERY BUCKET IS THE HEAD OF A LINKED LIST OF TIMEOUTS, ALWAYS TAKEN AS A WHOLE
+    this.buckets = new Timeout[levels][1 << wheelBits];
+  }
+
+  public long tickOf(long nanoTime) {
+    return Math.max(0, (nanoTime - startNanos) / tickNanos);
+  }
+
+  public long nanosOf(long tick) {
+    return startNanos + tick * tickNanos;
+  }
+
+  public long getCurrentTick() {
+    return currentTick;
+  }
+
+  /**
+   * @return TIMEOUTS PLACED IN THE WHEEL, NOT COUNTING THOSE STILL QUEUED
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Safe from any thread. A deadline already passed expires on the next tick. A timeout is in the
+   * wheel at most once, it is only scheduled again once it expired.
+   */
+  public void schedule(Timeout timeout, long deadlineTick) {
+    timeout.deadline = deadlineTick;
+    pending.add(timeout);
+  }
+
+  /**
+   * Schedules a timeout again from its own {@link Timeout#expire}, without going through the queue.
+   */
+  public void reschedule(Timeout timeout, long deadlineTick) {
+    timeout.deadline = Math.max(deadlineTick, currentTick + 1);
+    place(timeout);
+  }
+
+  /**
+   * Advances the wheel tick by tick, expiring every timeout due up to the given tick. Only called
+   * by the thread driving the wheel.
+   *
+   * @return NUMBER OF TIMEOUTS EXPIRED
+   */
+  public int advanceTo(long tick) {
+    int expired = 0;
+    while (currentTick < tick) {
+      currentTick++;
+      cascade();
+      drainPending();
+      expired += expire(currentTick & mask);
+    }
+    return expired;
+  }
+
+  private void cascade() {
+    // THE HIGHEST LEVEL WHOSE LOWER LEVELS ALL WRAPPED IS MOVED DOWN FIRST
+    int level = 0;
+    while (level + 1 < buckets.length
+        && (currentTick & ((1L << (wheelBits * (level + 1))) - 1)) == 0) {
+      level++;
+    }
+    for (; level > 0; level--) {
+      int index = (int) ((currentTick >>> (wheelBits * level)) & mask);
+      Timeout timeout = buckets[level][index];
+      buckets[level][index] = null;
+      while (timeout != null) {
+        Timeout next = timeout.next;
+        timeout.next = null;
+        size--;
+        place(timeout);
+        timeout = next;
+      }
+    }
+  }
+
+  private void drainPending() {
+    Timeout timeout;
+    while ((timeout = pending.poll()) != null) {
+      if (timeout.deadline < currentTick) {
+        timeout.deadline = currentTick;
+      }
+      place(timeout);
+    }
+  }
+
+  private int expire(long index) {
+    Timeout timeout = buckets[0][(int) index];
+    buckets[0][(int) index] = null;
+    int expired = 0;
+    while (timeout != null) {
+      Timeout next = timeout.next;
+      timeout.next = null;
+      size--;
+      if (timeout.deadline > currentTick) {
+        // BEYOND THE REACH OF A SINGLE LEVEL WHEEL, IT GOES ROUND AGAIN
+        place(timeout);
+      } else if (!timeout.cancelled) {
+        expired++;
+        try {
+          timeout.expire(this, currentTick);
+        } catch (RuntimeException e) {
+          // THE REST OF THE BUCKET STILL EXPIRES
+          log.error("Timeout failed to expire, error:{}", e.getLocalizedMessage(), e);
+        }
+      }
+      timeout = next;
+    }
+    return expired;
+  }
+
+  private void place(Timeout timeout) {
+    int level = 0;
+    long deadline = timeout.deadline;
+    while (level + 1 < buckets.length
+        && (deadline >>> (wheelBits * level)) - (currentTick >>> (wheelBits * level)) > mask) {
+      level++;
+    }
+    long slot = deadline >>> (wheelBits * level);
+    long furthest = (currentTick >>> (wheelBits * level)) + mask;
+    int index = (int) (Math.min(slot, furthest) & mask);
+
+    timeout.next = buckets[level][index];
+    buckets[level][index] = timeout;
+    size++;
+  }
+
+  /**
+   * Advances the wheel in real time on a thread of its own until {@link #stop}.
+   */
+  public synchronized void start(String name) {
+    if (running) {
+      return;
+    }
+    running = true;
+    thread = new Thread(this::run, name);
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  public synchronized void stop() {
+    running = false;
+    if (thread != null) {
+      LockSupport.unpark(thread);
+      thread = null;
+    }
+  }
+
+  private void run() {
+    while (running) {
+      advanceTo(tickOf(System.nanoTime()));
+      long wait = nanosOf(currentTick + 1) - System.nanoTime();
+      if (wait > 0) {
+        LockSupport.parkNanos(this, wait);
+      }
+    }
+  }
+
+  /**
+   * Entry of the wheel, scheduled again by its owner as often as needed.
+   */
+  public abstract static class Timeout {
+
+    private long deadline;
+
+    private volatile boolean cancelled;
+
+    private Timeout next;
+
+    /**
+     * Called on the thread driving the wheel, so it must hand any real work to another thread.
+     *
+     * @param tick TICK THE TIMEOUT EXPIRED AT
+     */
+    protected abstract void expire(TimingWheel wheel, long tick);
+
+    /**
+     * Safe from any thread, the timeout is dropped when its bucket is reached.
+     */
+    public void cancel() {
+      cancelled = true;
+    }
+
+    public boolean isCancelled() {
+      return cancelled;
+    }
+
+    public long getDeadline() {
+      return deadline;
+    }
+  }
+
+}
@@ -0,0 +1,778 @@
+package com.sabu.schedulerquartzpoc.scheduler;
+
+import static com.sabu.schedulerquartzpoc.constants.JobConstants.TIMING_WHEEL_COORDINATOR_JOB;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sabu.schedulerquartzpoc.builder.JobBuilderUtil;
+import com.sabu.schedulerquartzpoc.builder.TriggerBuilderUtil;
+import com.sabu.schedulerquartzpoc.model.JobDescriptor;
+import com.sabu.schedulerquartzpoc.model.TriggerDescriptor;
+import com.sabu.schedulerquartzpoc.repository.TimingWheelRepository;
+import com.sabu.schedulerquartzpoc.repository.TimingWheelRepository.StoredJob;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.Job;
+import org.quartz.JobDetail;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.quartz.JobKey;
+import org.quartz.JobListener;
+import org.quartz.ListenerManager;
+import org.quartz.Matcher;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.Trigger.CompletedExecutionInstruction;
+import org.quartz.TriggerListener;
+import org.quartz.impl.JobExecutionContextImpl;
+import org.quartz.spi.JobFactory;
+import org.quartz.spi.OperableTrigger;
+import org.quartz.spi.TriggerFiredBundle;
+import org.quartz.utils.Key;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fires jobs with a single interval trigger (TriggerDescriptor.intervalMillis) of at most
+ * scheduler.timing-wheel.max-interval-ms from a {@link TimingWheel} in memory instead of the JDBC
+ * job store, so a fire costs no database round trip and no trigger lock.
+ *
+ * The jobs are stored in timing_wheel_job and fired by a single node of the cluster, the one
+ * holding the lease in timing_wheel_lease. The lease is taken by the TimingWheelCoordinatorJob,
+ * a clustered Quartz job running on any node, and renewed by its owner every third of
+ * scheduler.timing-wheel.lease-ms. The owner picks up jobs stored by other nodes every
+ * scheduler.timing-wheel.poll-ms and checkpoints the next fire time and fire count of every job
+ * every scheduler.timing-wheel.checkpoint-ms; fires missed in between, e.g. after the owner died,
+ * are skipped, not caught up. The owner stops firing as soon as its lease expired without being
+ * renewed, and its polls and checkpoints do nothing once another node took the lease over. A job
+ * deleted on any node is evicted by the owner on its next poll.
+ *
+ * Every fire goes through the job and trigger listeners of the scheduler the job is routed to, as a
+ * fire of that scheduler would.
+ *
+ * Triggers fire at a fixed rate. A fire due while the previous run of the job is still going is
+ * skipped and counted as an overrun. A paused job stays stored and is evicted by the owner on its
+ * next poll; resuming it, or updating the data of a job that is not paused, moves it to a new id
+ * the owner loads on its next poll, with the fires missed meanwhile skipped.
+ *
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+@Slf4j
+@Component
+public class TimingWheelDispatcher implements DisposableBean {
+
+  public static final String COORDINATOR_JOB_GROUP = "system";
+
+  public static final String COORDINATOR_JOB_NAME = "timingWheelCoordinator";
+
+  private static final int PAGE_SIZE = 1000;
+
+  private final TimingWheelRepository repository;
+
+  private final JobBuilderUtil jobBuilder;
+
+  private final TriggerBuilderUtil triggerBuilder;
+
+  private final SchedulerRouter schedulerRouter;
+
+  private final JobFactory jobFactory;
+
+  private final ObjectMapper objectMapper;
+
+  private final Map<JobKey, Entry> entries = new ConcurrentHashMap<>();
+
+  private final String owner = UUID.randomUUID().toString();
+
+  private final Counter fires;
+
+  private final Counter overruns;
+
+  private final Counter missed;
+
+  private final Timer lateness;
+
+  @Value("${scheduler.timing-wheel.enabled:false}")
+  private boolean enabled;
+
+  @Value("${scheduler.timing-wheel.tick-ms:1}")
+  private long tickMillis;
+
+  @Value("${scheduler.timing-wheel.wheel-bits:8}")
+  private int wheelBits;
+
+  @Value("${scheduler.timing-wheel.levels:4}")
+  private int levels;
+
+  @Value("${scheduler.timing-wheel.threads:8}")
+  private int threads;
+
+  @Value("${scheduler.timing-wheel.lease-ms:15000}")
+  private long leaseMillis;
+
+  @Value("${scheduler.timing-wheel.poll-ms:1000}")
+  private long pollMillis;
+
+  @Value("${scheduler.timing-wheel.checkpoint-ms:5000}")
+  private long checkpointMillis;
+
+  @Value("${scheduler.timing-wheel.max-interval-ms:60000}")
+  private long maxIntervalMillis;
+
+  @Value("${scheduler.timing-wheel.coordinator-cron:0/5 * * * * ?}")
+  private String coordinatorCron;
+
+  private volatile boolean owning;
+
+  /**
+   * END OF THE LEASE AS LAST TAKEN OR RENEWED, FROM THE TIME BEFORE ASKING THE DATABASE
+   */
+  private volatile long leaseExpiry;
+
+  private TimingWheel wheel;
+
+  private ExecutorService workers;
+
+  private ScheduledExecutorService coordinator;
+
+  private long lastSeenId;
+
+  /**
+   * currentTimeMillis x 10^6 - nanoTime, TO PLACE FIRE TIMES IN THE WHEEL
+   */
+  private long epochOffsetNanos;
+
+  public TimingWheelDispatcher(TimingWheelRepository repository, JobBuilderUtil jobBuilder,
+      TriggerBuilderUtil triggerBuilder, SchedulerRouter schedulerRouter, JobFactory jobFactory,
+      ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+    this.repository = repository;
+    this.jobBuilder = jobBuilder;
+    this.triggerBuilder = triggerBuilder;
+    this.schedulerRouter = schedulerRouter;
+    this.jobFactory = jobFactory;
+    this.objectMapper = objectMapper;
+
+    this.fires = Counter.builder("scheduler.timing-wheel.fires").register(meterRegistry);
+    this.overruns = Counter.builder("scheduler.timing-wheel.overruns").register(meterRegistry);
+    this.missed = Counter.builder("scheduler.timing-wheel.missed").register(meterRegistry);
+    this.lateness = Timer
+        .builder("scheduler.timing-wheel.lateness")
+        .publishPercentiles(0.5, 0.99)
+        .register(meterRegistry);
+    Gauge.builder("scheduler.timing-wheel.jobs", entries, Map::size).register(meterRegistry);
+    Gauge.builder("scheduler.timing-wheel.owner", this, dispatcher -> dispatcher.owning ? 1 : 0)
+        .register(meterRegistry);
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public boolean isOwning() {
+    return owning;
+  }
+
+  /**
+   * @param descriptor JOB TO BE SCHEDULED
+   * @return TRUE IF THE JOB HAS A SINGLE INTERVAL TRIGGER, WITHOUT A CALENDAR, SHORT ENOUGH FOR
+   *     THE WHEEL
+   */
+  public boolean accepts(JobDescriptor descriptor) {
+    if (!enabled || descriptor.getTriggerDescriptors() == null
+        || descriptor.getTriggerDescriptors().size() != 1) {
+      return false;
+    }
+
+    TriggerDescriptor triggerDescriptor = descriptor.getTriggerDescriptors().get(0);
+    Long intervalMillis = triggerDescriptor.getIntervalMillis();
+    return intervalMillis != null && intervalMillis <= maxIntervalMillis
+        && (triggerDescriptor.getCron() == null || triggerDescriptor.getCron().isEmpty())
+        && triggerDescriptor.getCalendar() == null;
+  }
+
+  /**
+   * @param descriptor STORED IN timing_wheel_job, FIRED BY THE OWNER ONCE IT POLLED IT UNLESS
+   *     STORED PAUSED
+   * @throws IllegalArgumentException IF THE JOB IS INVALID OR ALREADY STORED
+   */
+  public void schedule(JobDescriptor descriptor) {
+    JobDetail jobDetail = jobBuilder.buildJobDetail(descriptor);
+    descriptor.setGroup(jobDetail.getKey().getGroup());
+    // VALIDATES THE TRIGGER, IT IS BUILT AGAIN BY THE OWNER
+    triggerBuilder.buildTriggers(descriptor);
+
+    TriggerDescriptor triggerDescriptor = descriptor.getTriggerDescriptors().get(0);
+    long nextFireTime =
+        Math.max(System.currentTimeMillis(), toMillis(triggerDescriptor.getFireTime()));
+
+    boolean inserted;
+    try {
+      inserted = repository.insert(descriptor.getGroup(), descriptor.getName(),
+          objectMapper.writeValueAsString(descriptor), triggerDescriptor.getIntervalMillis(),
+          nextFireTime, Boolean.TRUE.equals(descriptor.getPaused()));
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException(
+          "Could not store job " + jobDetail.getKey() + ", error:" + e.getLocalizedMessage(), e);
+    }
+    if (!inserted) {
+      throw new IllegalArgumentException("Job " + jobDetail.getKey() + " already exists");
+    }
+    log.info("Job with key:{} stored for the timing wheel, interval:{}ms", jobDetail.getKey(),
+        triggerDescriptor.getIntervalMillis());
+  }
+
+  /**
+   * @return TRUE IF THE JOB WAS STORED FOR THE WHEEL AND IS NOW DELETED
+   */
+  public boolean delete(JobKey jobKey) {
+    if (!enabled) {
+      return false;
+    }
+    boolean deleted = repository.delete(jobKey.getGroup(), jobKey.getName());
+    cancel(jobKey);
+    return deleted;
+  }
+
+  /**
+   * @return TRUE IF THE JOB IS STORED FOR THE WHEEL AND NOW PAUSED
+   */
+  public boolean pause(JobKey jobKey) {
+    if (!enabled) {
+      return false;
+    }
+    boolean paused = repository.pause(jobKey.getGroup(), jobKey.getName());
+    cancel(jobKey);
+    return paused;
+  }
+
+  /**
+   * @return TRUE IF THE JOB IS STORED FOR THE WHEEL AND NO LONGER PAUSED
+   */
+  public boolean resume(JobKey jobKey) {
+    return enabled
+        && repository.resume(jobKey.getGroup(), jobKey.getName(), System.currentTimeMillis());
+  }
+
+  /**
+   * @param data REPLACES THE JOB DATA OF THE STORED JOB, ITS TRIGGER IS KEPT
+   * @return TRUE IF THE JOB IS STORED FOR THE WHEEL AND NOW UPDATED
+   * @throws IllegalArgumentException IF THE JOB DATA IS INVALID
+   */
+  public boolean update(JobKey jobKey, Map<String, Object> data) {
+    if (!enabled) {
+      return false;
+    }
+    Optional<StoredJob> storedJob = repository.find(jobKey.getGroup(), jobKey.getName());
+    if (storedJob.isEmpty()) {
+      return false;
+    }
+
+    JobDescriptor descriptor = readDescriptor(storedJob.get());
+    descriptor.setData(data);
+    // VALIDATES THE JOB DATA, THE JOB IS BUILT AGAIN BY THE OWNER
+    jobBuilder.buildJobDetail(descriptor);
+    try {
+      return repository.updateDescriptor(jobKey.getGroup(), jobKey.getName(),
+          objectMapper.writeValueAsString(descriptor));
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException(
+          "Could not store job " + jobKey + ", error:" + e.getLocalizedMessage(), e);
+    }
+  }
+
+  private void cancel(JobKey jobKey) {
+    Entry entry = entries.remove(jobKey);
+    if (entry != null) {
+      entry.cancel();
+    }
+  }
+
+  /**
+   * @return DESCRIPTOR OF THE JOB WITH THE FIRE TIME OF ITS TRIGGER SET TO THE LAST CHECKPOINTED
+   *     NEXT FIRE TIME
+   */
+  public Optional<JobDescriptor> findJob(JobKey jobKey) {
+    if (!enabled) {
+      return Optional.empty();
+    }
+    return repository.find(jobKey.getGroup(), jobKey.getName()).map(this::describe);
+  }
+
+  /**
+   * @param after LAST JOB OF THE PREVIOUS PAGE, NULL FOR THE FIRST PAGE
+   * @return JOBS AFTER THE GIVEN ONE ORDERED BY GROUP AND NAME, AS {@link #findJob} DESCRIBES THEM
+   */
+  public List<JobDescriptor> findJobsAfter(JobKey after, int limit) {
+    if (!enabled) {
+      return Collections.emptyList();
+    }
+    List<StoredJob> storedJobs = after == null
+        ? repository.findAfter(null, null, limit)
+        : repository.findAfter(after.getGroup(), after.getName(), limit);
+    List<JobDescriptor> descriptors = new ArrayList<>(storedJobs.size());
+    storedJobs.forEach(storedJob -> descriptors.add(describe(storedJob)));
+    return descriptors;
+  }
+
+  private JobDescriptor describe(StoredJob storedJob) {
+    JobDescriptor descriptor = readDescriptor(storedJob);
+    descriptor.getTriggerDescriptors().get(0).setFireTime(LocalDateTime.ofInstant(
+        Instant.ofEpochMilli(storedJob.getNextFireTime()), ZoneId.systemDefault()));
+    descriptor.setPaused(storedJob.isPaused() ? Boolean.TRUE : null);
+    return descriptor;
+  }
+
+  /**
+   * Stores the TimingWheelCoordinatorJob in the clustered job store, straight through the router
+   * as JobService depends on this dispatcher.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void registerCoordinatorJob() {
+    if (!enabled) {
+      return;
+    }
+
+    TriggerDescriptor triggerDescriptor = new TriggerDescriptor();
+    triggerDescriptor.setCron(coordinatorCron);
+
+    JobDescriptor jobDescriptor = new JobDescriptor();
+    jobDescriptor.setGroup(COORDINATOR_JOB_GROUP);
+    jobDescriptor.setName(COORDINATOR_JOB_NAME);
+    jobDescriptor.setType(TIMING_WHEEL_COORDINATOR_JOB);
+    jobDescriptor.setDescription("Take the timing wheel lease when it is free.");
+    jobDescriptor.setTriggerDescriptors(Collections.singletonList(triggerDescriptor));
+
+    JobDetail jobDetail = jobBuilder.buildJobDetail(jobDescriptor);
+    try {
+      schedulerRouter.route(jobDetail.getKey())
+          .scheduleJob(jobDetail, triggerBuilder.buildTriggers(jobDescriptor), true);
+    } catch (SchedulerException e) {
+      log.error("Could not save job key:{},error:{}", jobDetail.getKey(), e.getLocalizedMessage(),
+          e);
+    }
+  }
+
+  /**
+   * Called by the TimingWheelCoordinatorJob. Takes the lease if it is free or expired and starts
+   * firing the stored jobs on this node.
+   */
+  public void coordinate() {
+    if (!enabled || owning) {
+      return;
+    }
+    long now = System.currentTimeMillis();
+    if (repository.acquireLease(owner, now, now + leaseMillis)) {
+      leaseExpiry = now + leaseMillis;
+      startOwning();
+    }
+  }
+
+  private synchronized void startOwning() {
+    if (owning) {
+      return;
+    }
+    owning = true;
+    log.info("Took the timing wheel lease as owner:{}", owner);
+
+    try {
+      epochOffsetNanos = System.currentTimeMillis() * 1_000_000L - System.nanoTime();
+      wheel = new TimingWheel(TimeUnit.MILLISECONDS.toNanos(tickMillis), wheelBits, levels);
+      workers = Executors.newFixedThreadPool(threads, threadFactory("timing-wheel-worker-"));
+
+      lastSeenId = 0;
+      poll();
+      wheel.start("timing-wheel");
+
+      long renewMillis = Math.max(1, leaseMillis / 3);
+      coordinator = Executors.newSingleThreadScheduledExecutor(threadFactory("timing-wheel-"));
+      coordinator.scheduleWithFixedDelay(this::renew, renewMillis, renewMillis,
+          TimeUnit.MILLISECONDS);
+      coordinator.scheduleWithFixedDelay(this::poll, pollMillis, pollMillis,
+          TimeUnit.MILLISECONDS);
+      coordinator.scheduleWithFixedDelay(this::checkpoint, checkpointMillis, checkpointMillis,
+          TimeUnit.MILLISECONDS);
+    } catch (RuntimeException e) {
+      log.error("Could not start the timing wheel, error:{}", e.getLocalizedMessage(), e);
+      stopOwning(false);
+      repository.releaseLease(owner);
+    }
+  }
+
+  private synchronized void stopOwning(boolean checkpoint) {
+    if (!owning) {
+      return;
+    }
+    owning = false;
+
+    if (coordinator != null) {
+      coordinator.shutdown();
+    }
+    if (wheel != null) {
+      wheel.stop();
+    }
+    if (checkpoint) {
+      checkpoint();
+    }
+    entries.values().forEach(TimingWheel.Timeout::cancel);
+    entries.clear();
+    if (workers != null) {
+      workers.shutdown();
+    }
+    log.info("Stopped firing timing wheel jobs as owner:{}", owner);
+  }
+
+  private void renew() {
+    long now = System.currentTimeMillis();
+    try {
+      if (repository.acquireLease(owner, now, now + leaseMillis)) {
+        leaseExpiry = now + leaseMillis;
+        return;
+      }
+      log.warn("Lost the timing wheel lease as owner:{}", owner);
+    } catch (RuntimeException e) {
+      // ANOTHER NODE MAY TAKE THE LEASE ONCE IT EXPIRES, STOP BEFORE THE JOBS FIRE TWICE
+      log.error("Could not renew the timing wheel lease, error:{}", e.getLocalizedMessage(), e);
+    }
+    stopOwning(false);
+  }
+
+  private void poll() {
+    try {
+      List<StoredJob> storedJobs;
+      do {
+        long now = System.currentTimeMillis();
+        storedJobs = repository.findAfter(owner, now, lastSeenId, PAGE_SIZE);
+        for (StoredJob storedJob : storedJobs) {
+          add(storedJob, now);
+          lastSeenId = storedJob.getId();
+        }
+      } while (storedJobs.size() == PAGE_SIZE);
+
+      List<StoredJob> deletedJobs;
+      do {
+        deletedJobs = repository.takeDeleted(owner, System.currentTimeMillis(), PAGE_SIZE);
+        deletedJobs.forEach(this::evict);
+      } while (deletedJobs.size() == PAGE_SIZE);
+    } catch (RuntimeException e) {
+      log.error("Could not poll timing wheel jobs, error:{}", e.getLocalizedMessage(), e);
+    }
+  }
+
+  private void evict(StoredJob deletedJob) {
+    JobKey jobKey = JobKey.jobKey(deletedJob.getName(), deletedJob.getGroup());
+    Entry entry = entries.get(jobKey);
+    // A JOB STORED AGAIN UNDER THE SAME KEY HAS A NEW ID AND STAYS
+    if (entry != null && entry.id == deletedJob.getId() && entries.remove(jobKey, entry)) {
+      entry.cancel();
+    }
+  }
+
+  private void add(StoredJob storedJob, long now) {
+    JobKey jobKey = JobKey.jobKey(storedJob.getName(), storedJob.getGroup());
+    try {
+      JobDescriptor descriptor = readDescriptor(storedJob);
+      JobDetail jobDetail = jobBuilder.buildJobDetail(descriptor);
+      OperableTrigger trigger = (OperableTrigger) triggerBuilder
+          .buildTrigger(descriptor, descriptor.getTriggerDescriptors().get(0));
+      trigger.setJobKey(jobKey);
+
+      Scheduler scheduler = schedulerRouter.route(jobKey);
+      Date created = new Date(now);
+      // ONE INSTANCE PER JOB, CREATED ONCE RATHER THAN ON EVERY FIRE
+      Job job = jobFactory.newJob(
+          new TriggerFiredBundle(jobDetail, trigger, null, false, created, created, null, null),
+          scheduler);
+
+      // FIRES MISSED SINCE THE LAST CHECKPOINT ARE SKIPPED
+      long interval = storedJob.getIntervalMillis();
+      long nextFireTime = storedJob.getNextFireTime();
+      if (nextFireTime < now) {
+        long behind = (now - nextFireTime) / interval;
+        missed.increment(behind);
+        nextFireTime += behind * interval;
+      }
+
+      Entry entry = new Entry(storedJob.getId(), job, jobDetail, trigger, scheduler, interval,
+          nextFireTime, storedJob.getFireCount());
+      Entry replaced = entries.put(jobKey, entry);
+      if (replaced != null) {
+        replaced.cancel();
+      }
+      wheel.schedule(entry, tickOf(nextFireTime));
+    } catch (SchedulerException | RuntimeException e) {
+      log.error("Could not load timing wheel job with key:{}, error:{}", jobKey,
+          e.getLocalizedMessage(), e);
+    }
+  }
+
+  private void checkpoint() {
+    List<Entry> checkpointed = new ArrayList<>(entries.values());
+    if (checkpointed.isEmpty()) {
+      return;
+    }
+
+    List<StoredJob> storedJobs = new ArrayList<>(checkpointed.size());
+    for (Entry entry : checkpointed) {
+      storedJobs.add(new StoredJob(entry.id, entry.jobDetail.getKey().getGroup(),
+          entry.jobDetail.getKey().getName(), null, entry.intervalMillis, entry.nextFireTime,
+          entry.fireCount, false));
+    }
+
+    try {
+      int[] updated = repository.checkpoint(owner, System.currentTimeMillis(), storedJobs)
+          .orElse(null);
+      if (updated == null) {
+        log.warn("Lost the timing wheel lease as owner:{}, nothing checkpointed", owner);
+        stopOwning(false);
+        return;
+      }
+      for (int i = 0; i < updated.length; i++) {
+        if (updated[i] == 0) {
+          // DELETED OR REPLACED ON ANOTHER NODE
+          Entry entry = checkpointed.get(i);
+          entries.remove(entry.jobDetail.getKey(), entry);
+          entry.cancel();
+        }
+      }
+    } catch (RuntimeException e) {
+      log.error("Could not checkpoint timing wheel jobs, error:{}", e.getLocalizedMessage(), e);
+    }
+  }
+
+  private JobDescriptor readDescriptor(StoredJob storedJob) {
+    try {
+      return objectMapper.readValue(storedJob.getDescriptor(), JobDescriptor.class);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Could not read timing wheel job " + storedJob.getGroup()
+          + "." + storedJob.getName() + ", error:" + e.getLocalizedMessage(), e);
+    }
+  }
+
+  private long tickOf(long epochMillis) {
+    return wheel.tickOf(epochMillis * 1_000_000L - epochOffsetNanos);
+  }
+
+  private static long toMillis(LocalDateTime time) {
+    return time == null ? 0 : time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+  }
+
+  private static <T extends Key<T>> boolean matches(List<Matcher<T>> matchers, T key) {
+    // A LISTENER ADDED WITHOUT MATCHERS HEARS EVERY JOB, AS IN QUARTZ
+    return matchers == null || matchers.stream().anyMatch(matcher -> matcher.isMatch(key));
+  }
+
+  private static ThreadFactory threadFactory(String prefix) {
+    AtomicInteger counter = new AtomicInteger();
+    return runnable -> {
+      Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
+  @Override
+  public void destroy() {
+    if (!owning) {
+      return;
+    }
+    stopOwning(true);
+    try {
+      repository.releaseLease(owner);
+    } catch (RuntimeException e) {
+      log.error("Could not release the timing wheel lease, error:{}", e.getLocalizedMessage(), e);
+    }
+  }
+
+  /**
+   * A job in the wheel, scheduled again on every expiry. nextFireTime and fireCount are only
+   * written on the thread of the wheel.
+   */
+  private final class Entry extends TimingWheel.Timeout implements Runnable {
+
+    private final long id;
+
+    private final Job job;
+
+    private final JobDetail jobDetail;
+
+    private final OperableTrigger trigger;
+
+    private final Scheduler scheduler;
+
+    private final long intervalMillis;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private volatile long nextFireTime;
+
+    private volatile long fireCount;
+
+    // SCHEDULED TIMES OF THE CURRENT AND PREVIOUS RUN, HANDED OVER THROUGH THE WORKER POOL
+    private long firing;
+
+    private long previous;
+
+    private Entry(long id, Job job, JobDetail jobDetail, OperableTrigger trigger,
+        Scheduler scheduler, long intervalMillis, long nextFireTime, long fireCount) {
+      this.id = id;
+      this.job = job;
+      this.jobDetail = jobDetail;
+      this.trigger = trigger;
+      this.scheduler = scheduler;
+      this.intervalMillis = intervalMillis;
+      this.nextFireTime = nextFireTime;
+      this.fireCount = fireCount;
+    }
+
+    @Override
+    protected void expire(TimingWheel wheel, long tick) {
+      long now = System.currentTimeMillis();
+      if (now > leaseExpiry) {
+        // ANOTHER NODE MAY TAKE THE LEASE OVER BY NOW, STOP BEFORE THE JOBS FIRE TWICE
+        log.warn("Timing wheel lease expired without being renewed as owner:{}", owner);
+        stopOwning(false);
+        return;
+      }
+
+      long scheduled = nextFireTime;
+      if (running.compareAndSet(false, true)) {
+        firing = scheduled;
+        try {
+          workers.execute(this);
+          fireCount++;
+          fires.increment();
+        } catch (RejectedExecutionException e) {
+          // THE NODE STOPPED OWNING THE WHEEL
+          running.set(false);
+          return;
+        }
+      } else {
+        overruns.increment();
+      }
+
+      long next = scheduled + intervalMillis;
+      if (next < now) {
+        long behind = (now - next) / intervalMillis;
+        missed.increment(behind);
+        next += behind * intervalMillis;
+      }
+      nextFireTime = next;
+      wheel.reschedule(this, tickOf(next));
+    }
+
+    @Override
+    public void run() {
+      if (isCancelled()) {
+        // DELETED OR NO LONGER OWNED WHILE WAITING FOR A WORKER
+        running.set(false);
+        return;
+      }
+
+      long start = System.currentTimeMillis();
+      lateness.record(Math.max(0, start - firing), TimeUnit.MILLISECONDS);
+
+      TriggerFiredBundle bundle = new TriggerFiredBundle(jobDetail, trigger, null, false,
+          new Date(start), new Date(firing), previous == 0 ? null : new Date(previous),
+          new Date(firing + intervalMillis));
+      JobExecutionContextImpl context = new JobExecutionContextImpl(scheduler, bundle, job);
+      try {
+        List<TriggerListener> triggerListeners = triggerListeners();
+        List<JobListener> jobListeners = jobListeners();
+        if (vetoed(triggerListeners, context)) {
+          jobListeners.forEach(listener -> listener.jobExecutionVetoed(context));
+          return;
+        }
+
+        jobListeners.forEach(listener -> listener.jobToBeExecuted(context));
+        JobExecutionException failure = null;
+        try {
+          job.execute(context);
+        } catch (JobExecutionException e) {
+          failure = e;
+        } catch (RuntimeException e) {
+          failure = new JobExecutionException(e, false);
+        }
+        context.setJobRunTime(System.currentTimeMillis() - start);
+        if (failure != null) {
+          log.error("Timing wheel job with key:{} failed, error:{}", jobDetail.getKey(),
+              failure.getLocalizedMessage(), failure);
+        }
+
+        for (JobListener listener : jobListeners) {
+          listener.jobWasExecuted(context, failure);
+        }
+        for (TriggerListener listener : triggerListeners) {
+          listener.triggerComplete(trigger, context, CompletedExecutionInstruction.NOOP);
+        }
+      } catch (SchedulerException | RuntimeException e) {
+        log.error("Timing wheel job with key:{} could not notify its listeners, error:{}",
+            jobDetail.getKey(), e.getLocalizedMessage(), e);
+      } finally {
+        previous = firing;
+        running.set(false);
+      }
+    }
+
+    private boolean vetoed(List<TriggerListener> triggerListeners, JobExecutionContext context) {
+      boolean vetoed = false;
+      for (TriggerListener listener : triggerListeners) {
+        listener.triggerFired(trigger, context);
+        vetoed |= listener.vetoJobExecution(trigger, context);
+      }
+      return vetoed;
+    }
+
+    /**
+     * @return JOB LISTENERS OF THE SCHEDULER MATCHING THE JOB, AS QUARTZ PICKS THEM FOR A FIRE
+     */
+    private List<JobListener> jobListeners() throws SchedulerException {
+      ListenerManager listenerManager = scheduler.getListenerManager();
+      List<JobListener> listeners = new ArrayList<>();
+      for (JobListener listener : listenerManager.getJobListeners()) {
+        if (matches(listenerManager.getJobListenerMatchers(listener.getName()),
+            jobDetail.getKey())) {
+          listeners.add(listener);
+        }
+      }
+      return listeners;
+    }
+
+    private List<TriggerListener> triggerListeners() throws SchedulerException {
+      ListenerManager listenerManager = scheduler.getListenerManager();
+      List<TriggerListener> listeners = new ArrayList<>();
+      for (TriggerListener listener : listenerManager.getTriggerListeners()) {
+        if (matches(listenerManager.getTriggerListenerMatchers(listener.getName()),
+            trigger.getKey())) {
+          listeners.add(listener);
+        }
+      }
+      return listeners;
+    }
+  }
+
+}
@@ -0,0 +1,276 @@
+package com.sabu.schedulerquartzpoc.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sabu.schedulerquartzpoc.builder.CalendarBuilderUtil;
+import com.sabu.schedulerquartzpoc.builder.TriggerBuilderUtil;
+import com.sabu.schedulerquartzpoc.model.CalendarDescriptor;
+import com.sabu.schedulerquartzpoc.model.JobDescriptor;
+import com.sabu.schedulerquartzpoc.model.TriggerDescriptor;
+import com.sabu.schedulerquartzpoc.scheduler.SchedulerRouter;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.Calendar;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.TriggerUtils;
+import org.quartz.spi.OperableTrigger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * Calendars shared by triggers through their name (see TriggerDescriptor.calendar). A calendar is
+ * stored once per scheduler, i.e. in QRTZ_CALENDARS of every shard and lane, and replacing it
+ * moves the next fire time of every trigger using it.
+ *
+ * Previews of the next fire times of a trigger are cached, scheduler.calendar.preview.cache-size
+ * of them for scheduler.calendar.preview.expire-after-ms. A cached preview is computed again once
+ * its first fire time passed.
+ *
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+@Slf4j
+@Service
+public class CalendarService {
+
+  private final SchedulerRouter schedulerRouter;
+
+  private final CalendarBuilderUtil calendarBuilder;
+
+  private final TriggerBuilderUtil triggerBuilder;
+
+  private final Cache<String, List<Date>> previews;
+
+  @Value("${scheduler.calendar.preview.max-count:100}")
+  private int maxPreviewCount;
+
+  public CalendarService(SchedulerRouter schedulerRouter, CalendarBuilderUtil calendarBuilder,
+      TriggerBuilderUtil triggerBuilder,
+      @Value("${scheduler.calendar.preview.cache-size:1000}") long cacheSize,
+      @Value("${scheduler.calendar.preview.expire-after-ms:60000}") long expireAfterMillis) {
+    this.schedulerRouter = schedulerRouter;
+    this.calendarBuilder = calendarBuilder;
+    this.triggerBuilder = triggerBuilder;
+    // EXPIRES SO A CALENDAR REPLACED BY ANOTHER NODE SHOWS UP IN THE PREVIEWS OF THIS ONE
+    this.previews = Caffeine
+        .newBuilder()
+        .maximumSize(cacheSize)
+        .expireAfterWrite(Duration.ofMillis(expireAfterMillis))
+        .recordStats()
+        .build();
+  }
+
+  /**
+   * @param descriptor ADDED TO EVERY SCHEDULER, REPLACING THE CALENDAR OF THE SAME NAME
+   * @throws IllegalStateException IF A SCHEDULER FAILS, THE SCHEDULERS ALREADY SAVED TO GET THEIR
+   *     PREVIOUS CALENDAR BACK THEN
+   */
+  public void saveCalendar(CalendarDescriptor descriptor) {
+    String name = descriptor.getName();
+    Calendar calendar = calendarBuilder.buildCalendar(descriptor);
+    Map<Scheduler, Optional<Calendar>> savedTo = new LinkedHashMap<>();
+    try {
+      for (Scheduler scheduler : schedulerRouter.getSchedulers()) {
+        Optional<Calendar> previous = Optional.ofNullable(scheduler.getCalendar(name));
+        scheduler.addCalendar(name, calendar, true, true);
+        savedTo.put(scheduler, previous);
+      }
+    } catch (SchedulerException e) {
+      rollBack(name, savedTo);
+      throw new IllegalStateException(
+          "Could not save calendar " + name + ", error:" + e.getLocalizedMessage(), e);
+    } finally {
+      previews.invalidateAll();
+    }
+    log.info("Saved calendar with name:{}", name);
+  }
+
+  private void rollBack(String name, Map<Scheduler, Optional<Calendar>> savedTo) {
+    savedTo.forEach((scheduler, previous) -> {
+      try {
+        if (previous.isPresent()) {
+          scheduler.addCalendar(name, previous.get(), true, true);
+        } else {
+          scheduler.deleteCalendar(name);
+        }
+      } catch (SchedulerException e) {
+        log.error("Could not roll back calendar with name:{}, error:{}", name,
+            e.getLocalizedMessage(), e);
+      }
+    });
+  }
+
+  public Optional<CalendarDescriptor> findCalendar(String name) {
+    return Optional.ofNullable(getCalendar(name))
+        .map(calendar -> calendarBuilder.buildDescriptor(name, calendar));
+  }
+
+  /**
+   * @return NAMES OF THE CALENDARS OF EVERY SCHEDULER, ALSO THOSE ONLY SOME OF THEM HAVE
+   */
+  public List<String> getCalendarNames() {
+    Set<String> names = new TreeSet<>();
+    try {
+      for (Scheduler scheduler : schedulerRouter.getSchedulers()) {
+        names.addAll(scheduler.getCalendarNames());
+      }
+    } catch (SchedulerException e) {
+      throw new IllegalStateException("Could not list calendars", e);
+    }
+    return new ArrayList<>(names);
+  }
+
+  /**
+   * @return FALSE IF THERE IS NO CALENDAR OF THE NAME
+   * @throws IllegalStateException IF A TRIGGER STILL USES THE CALENDAR, IT IS KEPT ON EVERY
+   *     SCHEDULER THEN
+   */
+  public boolean deleteCalendar(String name) {
+    Calendar calendar = getCalendar(name);
+    if (calendar == null) {
+      return false;
+    }
+
+    List<Scheduler> deletedFrom = new ArrayList<>();
+    try {
+      for (Scheduler scheduler : schedulerRouter.getSchedulers()) {
+        if (scheduler.deleteCalendar(name)) {
+          deletedFrom.add(scheduler);
+        }
+      }
+    } catch (SchedulerException e) {
+      restore(name, calendar, deletedFrom);
+      throw new IllegalStateException(
+          "Could not delete calendar " + name + ", error:" + e.getLocalizedMessage(), e);
+    }
+    previews.invalidateAll();
+    log.info("Deleted calendar with name:{}", name);
+    return true;
+  }
+
+  private void restore(String name, Calendar calendar, List<Scheduler> schedulers) {
+    for (Scheduler scheduler : schedulers) {
+      try {
+        scheduler.addCalendar(name, calendar, false, false);
+      } catch (SchedulerException e) {
+        log.error("Could not restore calendar with name:{}, error:{}", name,
+            e.getLocalizedMessage(), e);
+      }
+    }
+  }
+
+  /**
+   * @param triggerDescriptor CRON OR FIRE TIME, WITH OR WITHOUT A CALENDAR
+   * @param count NUMBER OF FIRE TIMES, AT MOST scheduler.calendar.preview.max-count
+   * @return NEXT FIRE TIMES FROM NOW, FEWER IF THE TRIGGER STOPS FIRING BEFORE, NONE IF ITS FIRE
+   *     TIME PASSED
+   */
+  public List<LocalDateTime> previewFireTimes(TriggerDescriptor triggerDescriptor, int count) {
+    if (count < 1 || count > maxPreviewCount) {
+      throw new IllegalArgumentException(
+          "Preview count must be between 1 and " + maxPreviewCount);
+    }
+
+    String key = triggerDescriptor.getCron() + '|' + triggerDescriptor.getFireTime() + '|'
+        + triggerDescriptor.getIntervalMillis() + '|' + triggerDescriptor.getCalendar() + '|'
+        + count;
+    Date now = new Date();
+    if (isPassedOneShot(triggerDescriptor)) {
+      return List.of();
+    }
+
+    List<Date> fireTimes = previews.getIfPresent(key);
+    if (fireTimes == null || (fireTimes.size() == count && fireTimes.get(0).before(now))) {
+      fireTimes = computeFireTimes(triggerDescriptor, count);
+      previews.put(key, fireTimes);
+    }
+
+    return fireTimes
+        .stream()
+        .filter(fireTime -> !fireTime.before(now))
+        .map(fireTime -> LocalDateTime.ofInstant(fireTime.toInstant(), ZoneId.systemDefault()))
+        .collect(Collectors.toList());
+  }
+
+  private static boolean isPassedOneShot(TriggerDescriptor triggerDescriptor) {
+    // CRON AND INTERVAL TRIGGERS START FROM NOW WHEN THEIR FIRE TIME PASSED
+    String cron = triggerDescriptor.getCron();
+    return (cron == null || cron.isEmpty()) && triggerDescriptor.getIntervalMillis() == null
+        && triggerDescriptor.getFireTime() != null
+        && !triggerDescriptor.getFireTime().isAfter(LocalDateTime.now());
+  }
+
+  private List<Date> computeFireTimes(TriggerDescriptor triggerDescriptor, int count) {
+    Calendar calendar = null;
+    if (triggerDescriptor.getCalendar() != null) {
+      calendar = getCalendar(triggerDescriptor.getCalendar());
+      if (calendar == null) {
+        throw new IllegalArgumentException("Unknown calendar " + triggerDescriptor.getCalendar());
+      }
+    }
+
+    JobDescriptor preview = new JobDescriptor();
+    preview.setName("preview");
+    preview.setGroup("preview");
+    OperableTrigger trigger =
+        (OperableTrigger) triggerBuilder.buildTrigger(preview, triggerDescriptor);
+    return List.copyOf(TriggerUtils.computeFireTimes(trigger, calendar, count));
+  }
+
+  /**
+   * @return CALENDAR OF THE FIRST SCHEDULER HAVING ONE OF THE NAME, NULL IF NONE HAS
+   */
+  private Calendar getCalendar(String name) {
+    try {
+      for (Scheduler scheduler : schedulerRouter.getSchedulers()) {
+        Calendar calendar = scheduler.getCalendar(name);
+        if (calendar != null) {
+          return calendar;
+        }
+      }
+      return null;
+    } catch (SchedulerException e) {
+      throw new IllegalStateException("Could not read calendar " + name, e);
+    }
+  }
+
+  /**
+   * Copies every calendar to the shards and lanes missing it, e.g. added since it was saved.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void syncCalendars() {
+    for (String name : getCalendarNames()) {
+      Calendar calendar = getCalendar(name);
+      for (Scheduler scheduler : schedulerRouter.getSchedulers()) {
+        try {
+          if (scheduler.getCalendar(name) == null) {
+            scheduler.addCalendar(name, calendar, false, false);
+            log.info("Copied calendar with name:{} to {}", name, scheduler.getSchedulerName());
+          }
+        } catch (SchedulerException e) {
+          log.error("Could not copy calendar with name:{}, error:{}", name,
+              e.getLocalizedMessage(), e);
+        }
+      }
+    }
+  }
+
+  public Cache<String, List<Date>> getPreviews() {
+    return previews;
+  }
+
+}
@@ -0,0 +1,151 @@
+package com.sabu.schedulerquartzpoc.service;
+
+import static com.sabu.schedulerquartzpoc.constants.JobConstants.IDEMPOTENCY_KEY_PURGE_JOB;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sabu.schedulerquartzpoc.model.JobDescriptor;
+import com.sabu.schedulerquartzpoc.model.TriggerDescriptor;
+import com.sabu.schedulerquartzpoc.repository.IdempotencyKeyRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.JobKey;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * Rejects scheduling requests repeating an Idempotency-Key. Keys seen recently by this node are
+ * answered from a bounded in-memory cache, other keys are claimed with a single insert into the
+ * unique idempotency_key table, which also covers the other nodes of the cluster.
+ *
+ * Keys are kept for scheduler.idempotency.ttl-seconds, a client retrying later is scheduled again.
+ * Expired keys are deleted by a recurring job on scheduler.idempotency.purge-cron.
+ *
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+@Slf4j
+@Service
+public class IdempotencyService {
+
+  public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+  public static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+
+  public static final String PURGE_JOB_GROUP = "system";
+
+  public static final String PURGE_JOB_NAME = "idempotencyKeyPurge";
+
+  // LENGTH OF THE idempotency_key COLUMN
+  public static final int MAX_KEY_LENGTH = 200;
+
+  private final IdempotencyKeyRepository idempotencyKeyRepository;
+
+  private final JobService jobService;
+
+  private final Cache<String, JobKey> recentKeys;
+
+  private final Duration ttl;
+
+  @Value("${scheduler.idempotency.purge-cron:0 30 * * * ?}")
+  private String purgeCron;
+
+  public IdempotencyService(
+      IdempotencyKeyRepository idempotencyKeyRepository,
+      JobService jobService,
+      @Value("${scheduler.idempotency.cache.max-size:100000}") long maxSize,
+      @Value("${scheduler.idempotency.ttl-seconds:86400}") long ttlSeconds) {
+    this.idempotencyKeyRepository = idempotencyKeyRepository;
+    this.jobService = jobService;
+    this.ttl = Duration.ofSeconds(ttlSeconds);
+    this.recentKeys = Caffeine
+        .newBuilder()
+        .maximumSize(maxSize)
+        .expireAfterWrite(ttl)
+        .recordStats()
+        .build();
+  }
+
+  /**
+   * @param idempotencyKey KEY SENT BY THE CLIENT, NULL WHEN THE REQUEST IS NOT IDEMPOTENT
+   * @param jobKey JOB TO BE SCHEDULED FOR THE KEY
+   * @return TRUE IF THE REQUEST IS TO BE SCHEDULED, FALSE IF THE KEY WAS ALREADY USED
+   */
+  public boolean claim(String idempotencyKey, JobKey jobKey) {
+    if (idempotencyKey == null) {
+      return true;
+    }
+    validate(idempotencyKey);
+
+    if (recentKeys.getIfPresent(idempotencyKey) != null) {
+      log.info("Rejected duplicate request with idempotency key:{}", idempotencyKey);
+      return false;
+    }
+
+    boolean claimed = idempotencyKeyRepository.claim(idempotencyKey, jobKey);
+    recentKeys.put(idempotencyKey, jobKey);
+
+    if (!claimed) {
+      log.info("Rejected duplicate request with idempotency key:{}", idempotencyKey);
+    }
+    return claimed;
+  }
+
+  /**
+   * @param idempotencyKey RELEASES THE KEY OF A REQUEST THAT COULD NOT BE SCHEDULED, SO IT CAN BE
+   *     RETRIED
+   */
+  public void release(String idempotencyKey) {
+    if (idempotencyKey == null) {
+      return;
+    }
+    recentKeys.invalidate(idempotencyKey);
+    idempotencyKeyRepository.release(idempotencyKey);
+  }
+
+  /**
+   * @return NUMBER OF KEYS OLDER THAN THE TTL DELETED
+   */
+  public int purgeExpired() {
+    int purged = idempotencyKeyRepository.deleteCreatedBefore(LocalDateTime.now().minus(ttl));
+    if (purged > 0) {
+      log.info("Purged {} expired idempotency keys", purged);
+    }
+    return purged;
+  }
+
+  public Cache<String, JobKey> getRecentKeys() {
+    return recentKeys;
+  }
+
+  /**
+   * REGISTERS (OR REPLACES) THE RECURRING JOB PURGING EXPIRED KEYS
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void registerPurgeJob() {
+    TriggerDescriptor triggerDescriptor = new TriggerDescriptor();
+    triggerDescriptor.setCron(purgeCron);
+
+    JobDescriptor jobDescriptor = new JobDescriptor();
+    jobDescriptor.setType(IDEMPOTENCY_KEY_PURGE_JOB);
+    jobDescriptor.setDescription("Delete idempotency keys past their TTL.");
+    jobDescriptor.setTriggerDescriptors(Collections.singletonList(triggerDescriptor));
+
+    jobService.replaceJob(PURGE_JOB_GROUP, PURGE_JOB_NAME, jobDescriptor);
+  }
+
+  /**
+   * @throws IllegalArgumentException IF THE KEY IS BLANK OR LONGER THAN MAX_KEY_LENGTH
+   */
+  public static void validate(String idempotencyKey) {
+    if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+      throw new IllegalArgumentException(
+          "Idempotency key must be 1 to " + MAX_KEY_LENGTH + " characters long");
+    }
+  }
+
+}
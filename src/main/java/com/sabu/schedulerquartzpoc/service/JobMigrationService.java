@@ -0,0 +1,276 @@
+package com.sabu.schedulerquartzpoc.service;
+
+import static com.sabu.schedulerquartzpoc.builder.JobTypeRegistry.SCHEMA_VERSION;
+import static com.sabu.schedulerquartzpoc.constants.JobConstants.JOB_DEFINITION_MIGRATION_JOB;
+
+import com.sabu.schedulerquartzpoc.builder.JobTypeRegistry;
+import com.sabu.schedulerquartzpoc.job.AbstractJob;
+import com.sabu.schedulerquartzpoc.model.JobDescriptor;
+import com.sabu.schedulerquartzpoc.model.JobMigrationCheckpoint;
+import com.sabu.schedulerquartzpoc.model.TriggerDescriptor;
+import com.sabu.schedulerquartzpoc.repository.JobMigrationRepository;
+import com.sabu.schedulerquartzpoc.repository.JobMigrationRepository.StoredJob;
+import com.sabu.schedulerquartzpoc.scheduler.SchedulerRouter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.JobKey;
+import org.quartz.TriggerKey;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Brings stored job definitions up to date with the job types of the running release while the
+ * scheduler keeps firing them:
+ * <ul>
+ *   <li>job_class_name holding an alias (e.g. the class name before a rename) is rewritten to the
+ *   current class name, otherwise Quartz could not load the job at all. JobClassNameMigration
+ *   already does so at startup, this covers jobs stored by nodes still on the previous release</li>
+ *   <li>job and trigger data stored with an older schema version is upcast (see JobTypeRegistry)
+ *   and stored again with the current version</li>
+ *   <li>job data copied into the trigger data, as triggers stored before the data moved to the
+ *   JobDetail alone carry it, is removed from the triggers</li>
+ * </ul>
+ *
+ * Jobs are scanned in (group, name) order, scheduler.migration.batch-size at a time, with a pause
+ * between batches. The position is checkpointed per batch under scheduler.migration.id so a run
+ * resumes where the last one stopped; a completed migration is not scanned again until the id
+ * changes. Jobs not migrated yet keep working, AbstractJob upcasts their data when they fire.
+ * Each job is rewritten in place under the TRIGGER_ACCESS lock of its scheduler, the lock Quartz
+ * takes to fire a trigger, so a trigger firing meanwhile is neither brought back nor moved.
+ *
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+@Slf4j
+@Service
+public class JobMigrationService {
+
+  public static final String MIGRATION_JOB_GROUP = "system";
+
+  public static final String MIGRATION_JOB_NAME = "jobDefinitionMigration";
+
+  private final SchedulerRouter schedulerRouter;
+
+  private final JobTypeRegistry jobTypeRegistry;
+
+  private final JobMigrationRepository jobMigrationRepository;
+
+  private final JobService jobService;
+
+  private final TransactionTemplate transactionTemplate;
+
+  private final Counter migratedJobs;
+
+  private final Counter skippedJobs;
+
+  private final Counter failedJobs;
+
+  @Value("${scheduler.migration.enabled:false}")
+  private boolean enabled;
+
+  @Value("${scheduler.migration.id:job-types-1}")
+  private String migrationId;
+
+  @Value("${scheduler.migration.batch-size:200}")
+  private int batchSize;
+
+  @Value("${scheduler.migration.max-batches-per-run:50}")
+  private int maxBatchesPerRun;
+
+  @Value("${scheduler.migration.pause-between-batches-ms:500}")
+  private long pauseBetweenBatchesMillis;
+
+  @Value("${scheduler.migration.cron:0 0/5 * * * ?}")
+  private String migrationCron;
+
+  public JobMigrationService(SchedulerRouter schedulerRouter, JobTypeRegistry jobTypeRegistry,
+      JobMigrationRepository jobMigrationRepository, JobService jobService,
+      TransactionTemplate transactionTemplate, MeterRegistry meterRegistry) {
+    this.schedulerRouter = schedulerRouter;
+    this.jobTypeRegistry = jobTypeRegistry;
+    this.jobMigrationRepository = jobMigrationRepository;
+    this.jobService = jobService;
+    this.transactionTemplate = transactionTemplate;
+    this.migratedJobs = migrationCounter(meterRegistry, "migrated");
+    this.skippedJobs = migrationCounter(meterRegistry, "skipped");
+    this.failedJobs = migrationCounter(meterRegistry, "failed");
+  }
+
+  private static Counter migrationCounter(MeterRegistry meterRegistry, String result) {
+    return Counter.builder("scheduler.migration.jobs")
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+
+  /**
+   * @return CHECKPOINT OF THE CURRENT MIGRATION, EMPTY IF IT HAS NOT STARTED
+   */
+  public JobMigrationCheckpoint getProgress() {
+    return jobMigrationRepository.findCheckpoint(migrationId)
+        .orElseGet(() -> JobMigrationCheckpoint.builder().migrationId(migrationId).build());
+  }
+
+  /**
+   * RUNS UP TO scheduler.migration.max-batches-per-run BATCHES FROM THE LAST CHECKPOINT
+   *
+   * @return CHECKPOINT AFTER THE RUN
+   */
+  public JobMigrationCheckpoint migrate() {
+    JobMigrationCheckpoint checkpoint = getProgress();
+    if (checkpoint.isCompleted()) {
+      return checkpoint;
+    }
+
+    List<String> schedulerNames = schedulerRouter.getSchedulerNames();
+    for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+      List<StoredJob> jobs = jobMigrationRepository.findJobsAfter(
+          schedulerNames, checkpoint, batchSize);
+
+      for (StoredJob job : jobs) {
+        checkpoint.setScanned(checkpoint.getScanned() + 1);
+        migrate(job, checkpoint);
+        checkpoint.setLastJobGroup(job.getGroup());
+        checkpoint.setLastJobName(job.getName());
+      }
+
+      if (jobs.size() < batchSize) {
+        checkpoint.setCompletedAt(LocalDateTime.now());
+      }
+      jobMigrationRepository.saveCheckpoint(checkpoint);
+
+      log.info("Job definition migration {}: scanned:{}, migrated:{}, failed:{}, last:{}.{}",
+          migrationId, checkpoint.getScanned(), checkpoint.getMigrated(), checkpoint.getFailed(),
+          checkpoint.getLastJobGroup(), checkpoint.getLastJobName());
+
+      if (checkpoint.isCompleted() || !pause()) {
+        break;
+      }
+    }
+    return checkpoint;
+  }
+
+  private void migrate(StoredJob job, JobMigrationCheckpoint checkpoint) {
+    JobKey jobKey = JobKey.jobKey(job.getName(), job.getGroup());
+    try {
+      Class<? extends AbstractJob> jobType = jobTypeRegistry.resolve(job.getJobClassName());
+      if (Boolean.TRUE.equals(transactionTemplate.execute(status -> migrate(job, jobType)))) {
+        migratedJobs.increment();
+        checkpoint.setMigrated(checkpoint.getMigrated() + 1);
+      } else {
+        skippedJobs.increment();
+      }
+    } catch (RuntimeException e) {
+      failedJobs.increment();
+      checkpoint.setFailed(checkpoint.getFailed() + 1);
+      log.error("Could not migrate job key:{}, error:{}", jobKey, e.getLocalizedMessage(), e);
+    }
+  }
+
+  /**
+   * RENAMES THE JOB CLASS AND REWRITES THE JOB AND TRIGGER DATA IN PLACE, WHEN ANY OF THE DATA IS
+   * OLDER THAN THE CURRENT SCHEMA VERSION OR A TRIGGER CARRIES A COPY OF THE JOB DATA. RUNS IN ONE
+   * TRANSACTION HOLDING THE TRIGGER_ACCESS LOCK OF THE SCHEDULER, SO NO TRIGGER IS ACQUIRED, FIRED
+   * OR COMPLETED IN BETWEEN, AND TRIGGERS KEEP THEIR NEXT FIRE TIME AND STATE.
+   *
+   * @return TRUE IF ANYTHING WAS WRITTEN
+   */
+  private boolean migrate(StoredJob job, Class<?> jobType) {
+    String schedulerName = job.getSchedulerName();
+    jobMigrationRepository.lockTriggerAccess(schedulerName);
+
+    boolean renamed = !jobType.getName().equals(job.getJobClassName())
+        && jobMigrationRepository.renameJobClass(schedulerName, job.getGroup(), job.getName(),
+        job.getJobClassName(), jobType.getName());
+
+    Map<String, String> jobData = jobMigrationRepository
+        .findJobData(schedulerName, job.getGroup(), job.getName())
+        .orElse(null);
+    if (jobData == null) {
+      // DELETED SINCE THE SCAN
+      return renamed;
+    }
+
+    int current = jobTypeRegistry.getSchemaVersion(jobType);
+    boolean stale = JobTypeRegistry.readSchemaVersion(jobData) < current;
+    Map<String, String> upcastJobData =
+        upcast(jobType, jobData, JobTypeRegistry.readSchemaVersion(jobData));
+
+    Map<TriggerKey, Map<String, String>> upcastTriggerData = new LinkedHashMap<>();
+    for (Map.Entry<TriggerKey, Map<String, String>> trigger : jobMigrationRepository
+        .findTriggerData(schedulerName, job.getGroup(), job.getName()).entrySet()) {
+      Map<String, String> triggerData = trigger.getValue();
+      int version = JobTypeRegistry.readSchemaVersion(triggerData, jobData);
+      stale |= version < current;
+
+      Map<String, String> upcastData = upcast(jobType, triggerData, version);
+      // THE MERGED DATA THE JOB READS STAYS THE SAME WITHOUT THE ENTRIES EQUAL TO THE JOB DATA
+      stale |= upcastData.entrySet().removeIf(
+          entry -> Objects.equals(entry.getValue(), upcastJobData.get(entry.getKey())));
+      upcastTriggerData.put(trigger.getKey(), upcastData);
+    }
+    if (!stale) {
+      return renamed;
+    }
+
+    jobMigrationRepository.updateJobData(schedulerName, job.getGroup(), job.getName(),
+        upcastJobData);
+    upcastTriggerData.forEach((triggerKey, data) ->
+        jobMigrationRepository.updateTriggerData(schedulerName, triggerKey, data));
+    return true;
+  }
+
+  private Map<String, String> upcast(Class<?> jobType, Map<String, String> data, int version) {
+    Map<String, Object> upcast = new LinkedHashMap<>(data);
+    upcast.put(SCHEMA_VERSION, String.valueOf(jobTypeRegistry.upcast(jobType, version, upcast)));
+
+    // THE JOB STORE RUNS WITH useProperties=true, DATA IS STORED AS STRINGS
+    Map<String, String> properties = new LinkedHashMap<>();
+    upcast.forEach((key, value) -> {
+      if (value != null) {
+        properties.put(key, String.valueOf(value));
+      }
+    });
+    return properties;
+  }
+
+  private boolean pause() {
+    try {
+      Thread.sleep(pauseBetweenBatchesMillis);
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  /**
+   * REGISTERS (OR REPLACES) THE RECURRING MIGRATION JOB WHEN THE MIGRATION IS ENABLED
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void registerMigrationJob() {
+    if (!enabled) {
+      return;
+    }
+
+    TriggerDescriptor triggerDescriptor = new TriggerDescriptor();
+    triggerDescriptor.setCron(migrationCron);
+
+    JobDescriptor jobDescriptor = new JobDescriptor();
+    jobDescriptor.setType(JOB_DEFINITION_MIGRATION_JOB);
+    jobDescriptor.setDescription("Upgrade stored job definitions to the current job types.");
+    jobDescriptor.setTriggerDescriptors(Collections.singletonList(triggerDescriptor));
+
+    jobService.replaceJob(MIGRATION_JOB_GROUP, MIGRATION_JOB_NAME, jobDescriptor);
+  }
+
+}
@@ -0,0 +1,144 @@
+package com.sabu.schedulerquartzpoc.service;
+
+import static com.sabu.schedulerquartzpoc.constants.JobConstants.JOB_RETENTION_SWEEP_JOB;
+
+import com.sabu.schedulerquartzpoc.model.JobDescriptor;
+import com.sabu.schedulerquartzpoc.model.TriggerDescriptor;
+import com.sabu.schedulerquartzpoc.repository.JobQueryRepository;
+import com.sabu.schedulerquartzpoc.scheduler.SchedulerRouter;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.JobKey;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+/**
+ * Removes durable jobs that no longer have any trigger, i.e. one-shot jobs stored before
+ * scheduler.retention.durable-one-shot-jobs=false, optionally archiving them to job_history first.
+ *
+ * Jobs are deleted in batches of scheduler.retention.sweeper.batch-size, with a pause between
+ * batches so the scheduler locks are never held for long. The jobs of a batch on one scheduler are
+ * archived and deleted in the same transaction, so a job is never archived twice or deleted
+ * unarchived.
+ *
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JobRetentionService {
+
+  public static final String SWEEP_JOB_GROUP = "system";
+
+  public static final String SWEEP_JOB_NAME = "jobRetentionSweep";
+
+  private final SchedulerRouter schedulerRouter;
+
+  private final JobQueryRepository jobQueryRepository;
+
+  private final JobService jobService;
+
+  @Value("${scheduler.retention.sweeper.enabled:false}")
+  private boolean enabled;
+
+  @Value("${scheduler.retention.sweeper.groups:email}")
+  private List<String> groups;
+
+  @Value("${scheduler.retention.sweeper.archive:true}")
+  private boolean archive;
+
+  @Value("${scheduler.retention.sweeper.batch-size:200}")
+  private int batchSize;
+
+  @Value("${scheduler.retention.sweeper.max-batches-per-run:50}")
+  private int maxBatchesPerRun;
+
+  @Value("${scheduler.retention.sweeper.pause-between-batches-ms:500}")
+  private long pauseBetweenBatchesMillis;
+
+  @Value("${scheduler.retention.sweeper.cron:0 0/10 * * * ?}")
+  private String sweepCron;
+
+  /**
+   * @return NUMBER OF JOBS REMOVED
+   */
+  public int sweep() {
+    int removed = 0;
+
+    for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+      List<JobKey> jobKeys = jobQueryRepository.findOrphanedDurableJobs(groups, batchSize);
+      if (jobKeys.isEmpty()) {
+        break;
+      }
+
+      try {
+        removed += deleteJobs(jobKeys);
+      } catch (DataAccessException e) {
+        log.error("Could not delete {} orphaned jobs, error:{}", jobKeys.size(),
+            e.getLocalizedMessage(), e);
+        break;
+      }
+
+      if (jobKeys.size() < batchSize || !pause()) {
+        break;
+      }
+    }
+
+    if (removed > 0) {
+      log.info("Removed {} orphaned one-shot jobs", removed);
+    }
+    return removed;
+  }
+
+  private int deleteJobs(List<JobKey> jobKeys) {
+    Map<Integer, List<JobKey>> jobKeysByShard = jobKeys
+        .stream()
+        .collect(Collectors.groupingBy(schedulerRouter::indexOf));
+
+    int deleted = 0;
+    for (Map.Entry<Integer, List<JobKey>> shard : jobKeysByShard.entrySet()) {
+      deleted += jobQueryRepository.archiveAndDeleteOrphanedJobs(
+          schedulerRouter.getSchedulerNames().get(shard.getKey()), shard.getValue(), archive);
+    }
+    return deleted;
+  }
+
+  private boolean pause() {
+    try {
+      Thread.sleep(pauseBetweenBatchesMillis);
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  /**
+   * REGISTERS (OR REPLACES) THE RECURRING SWEEP JOB WHEN THE SWEEPER IS ENABLED
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void registerSweepJob() {
+    if (!enabled) {
+      return;
+    }
+
+    TriggerDescriptor triggerDescriptor = new TriggerDescriptor();
+    triggerDescriptor.setCron(sweepCron);
+
+    JobDescriptor jobDescriptor = new JobDescriptor();
+    jobDescriptor.setType(JOB_RETENTION_SWEEP_JOB);
+    jobDescriptor.setDescription("Remove one-shot jobs left without triggers.");
+    jobDescriptor.setTriggerDescriptors(Collections.singletonList(triggerDescriptor));
+
+    jobService.replaceJob(SWEEP_JOB_GROUP, SWEEP_JOB_NAME, jobDescriptor);
+  }
+
+}
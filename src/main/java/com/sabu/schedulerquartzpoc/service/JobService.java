@@ -5,6 +5,20 @@ import static org.quartz.JobKey.jobKey;
 import com.sabu.schedulerquartzpoc.builder.JobBuilderUtil;
 import com.sabu.schedulerquartzpoc.builder.TriggerBuilderUtil;
 import com.sabu.schedulerquartzpoc.model.JobDescriptor;
+import com.sabu.schedulerquartzpoc.model.JobPage;
+import com.sabu.schedulerquartzpoc.model.JobScheduleResult;
+import com.sabu.schedulerquartzpoc.model.JobSearchRequest;
+import com.sabu.schedulerquartzpoc.repository.JobQueryRepository;
+import com.sabu.schedulerquartzpoc.scheduler.HotTier;
+import com.sabu.schedulerquartzpoc.scheduler.SchedulerRouter;
+import com.sabu.schedulerquartzpoc.scheduler.TimingWheelDispatcher;
+import io.micrometer.core.annotation.Timed;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -13,9 +27,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.quartz.JobBuilder;
 import org.quartz.JobDataMap;
 import org.quartz.JobDetail;
+import org.quartz.JobKey;
+import org.quartz.ObjectAlreadyExistsException;
 import org.quartz.Scheduler;
 import org.quartz.SchedulerException;
 import org.quartz.Trigger;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 /**
@@ -27,17 +44,37 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class JobService {
 
-  private final Scheduler scheduler;
+  private static final String SERVICE_TIMER = "scheduler.job.service";
+
+  private final SchedulerRouter schedulerRouter;
+
+  private final HotTier hotTier;
+
+  private final TimingWheelDispatcher timingWheel;
 
   private final JobBuilderUtil jobBuilder;
 
   private final TriggerBuilderUtil triggerBuilder;
 
+  private final JobQueryRepository jobQueryRepository;
+
+  @Value("${scheduler.bulk.chunk-size:500}")
+  private int bulkChunkSize;
+
   /**
    * @param jobDescriptor CREATES JOB BASED ON JOB DESCRIPTOR AND SCHEDULES AS PER THE TRIGGER
    *     DESCRIPTION
    */
+  @Timed(value = SERVICE_TIMER, histogram = true)
   public void createJob(JobDescriptor jobDescriptor) {
+    if (hotTier.accepts(jobDescriptor)) {
+      createHotJob(jobDescriptor);
+      return;
+    }
+    if (timingWheel.accepts(jobDescriptor)) {
+      timingWheel.schedule(jobDescriptor);
+      return;
+    }
 
     JobDetail jobDetail = jobBuilder.buildJobDetail(jobDescriptor);
 
@@ -46,7 +83,7 @@ public class JobService {
     try {
       log.info("Scheduling job with key :  {}", jobDetail.getKey());
 
-      scheduler.scheduleJob(jobDetail, triggers, Boolean.FALSE);
+      schedulerRouter.route(jobDetail.getKey()).scheduleJob(jobDetail, triggers, Boolean.FALSE);
 
       log.info("Job with  key : {} scheduled ", jobDetail.getKey());
 
@@ -58,35 +95,143 @@ public class JobService {
 
   }
 
+  private void createHotJob(JobDescriptor jobDescriptor) {
+    try {
+      hotTier.schedule(jobDescriptor);
+      log.info("Job with key : {}.{} scheduled in hot tier", jobDescriptor.getGroup(),
+          jobDescriptor.getName());
+    } catch (SchedulerException e) {
+      log.error("Could not schedule job with key : {}.{}, error:{}", jobDescriptor.getGroup(),
+          jobDescriptor.getName(), e.getLocalizedMessage(), e);
+      throw new IllegalArgumentException(e.getLocalizedMessage());
+    }
+  }
+
+  /**
+   * @param jobDescriptors CREATES JOBS IN CHUNKS OF scheduler.bulk.chunk-size, THE PART OF A CHUNK
+   *     ROUTED TO ONE SHARD IS STORED IN A SINGLE JOB STORE TRANSACTION
+   * @return RESULT PER DESCRIPTOR, IN THE SAME ORDER AS THE REQUEST
+   */
+  @Timed(value = SERVICE_TIMER, histogram = true)
+  public List<JobScheduleResult> createJobs(List<JobDescriptor> jobDescriptors) {
+    List<JobScheduleResult> results = new ArrayList<>(jobDescriptors.size());
+
+    for (int from = 0; from < jobDescriptors.size(); from += bulkChunkSize) {
+      int to = Math.min(jobDescriptors.size(), from + bulkChunkSize);
+      results.addAll(scheduleChunk(jobDescriptors.subList(from, to)));
+    }
+
+    return results;
+  }
+
+  private List<JobScheduleResult> scheduleChunk(List<JobDescriptor> chunk) {
+    JobScheduleResult[] results = new JobScheduleResult[chunk.size()];
+    Map<Integer, Map<JobDetail, Set<? extends Trigger>>> triggersAndJobsByShard = new LinkedHashMap<>();
+    Map<JobKey, Integer> positions = new LinkedHashMap<>();
+    Set<JobKey> keys = new HashSet<>();
+
+    for (int i = 0; i < chunk.size(); i++) {
+      JobDescriptor descriptor = chunk.get(i);
+      if (hotTier.accepts(descriptor)) {
+        results[i] = scheduleHot(descriptor);
+        continue;
+      }
+      if (timingWheel.accepts(descriptor)) {
+        results[i] = scheduleOnWheel(descriptor);
+        continue;
+      }
+      try {
+        JobDetail jobDetail = jobBuilder.buildJobDetail(descriptor);
+        if (!keys.add(jobDetail.getKey())) {
+          results[i] = JobScheduleResult.failure(descriptor.getName(), descriptor.getGroup(),
+              "Duplicate job key " + jobDetail.getKey() + " in request");
+          continue;
+        }
+        triggersAndJobsByShard
+            .computeIfAbsent(schedulerRouter.indexOf(jobDetail.getKey()), shard -> new LinkedHashMap<>())
+            .put(jobDetail, triggerBuilder.buildTriggers(descriptor));
+        positions.put(jobDetail.getKey(), i);
+      } catch (RuntimeException e) {
+        results[i] = JobScheduleResult.failure(descriptor.getName(), descriptor.getGroup(),
+            e.getLocalizedMessage());
+      }
+    }
+
+    triggersAndJobsByShard.forEach((shard, triggersAndJobs) -> {
+      Scheduler scheduler = schedulerRouter.getSchedulers().get(shard);
+      try {
+        scheduler.scheduleJobs(triggersAndJobs, Boolean.FALSE);
+        triggersAndJobs.keySet().forEach(jobDetail -> results[positions.get(jobDetail.getKey())] =
+            JobScheduleResult.success(jobDetail.getKey().getName(), jobDetail.getKey().getGroup()));
+        log.info("Scheduled chunk of {} jobs on shard {}", triggersAndJobs.size(), shard);
+
+      } catch (SchedulerException e) {
+        // THE WHOLE CHUNK IS ROLLED BACK, RETRY ONE BY ONE TO FIND OUT WHICH ITEMS FAILED
+        log.warn("Could not schedule chunk of {} jobs on shard {}, falling back to single inserts, "
+            + "error:{}", triggersAndJobs.size(), shard, e.getLocalizedMessage());
+        triggersAndJobs.forEach((jobDetail, triggers) -> results[positions.get(jobDetail.getKey())] =
+            scheduleSingle(scheduler, jobDetail, triggers));
+      }
+    });
+
+    return Arrays.asList(results);
+  }
+
+  private JobScheduleResult scheduleHot(JobDescriptor descriptor) {
+    try {
+      hotTier.schedule(descriptor);
+      return JobScheduleResult.success(descriptor.getName(), descriptor.getGroup());
+    } catch (SchedulerException | RuntimeException e) {
+      return JobScheduleResult.failure(descriptor.getName(), descriptor.getGroup(),
+          e.getLocalizedMessage());
+    }
+  }
+
+  private JobScheduleResult scheduleOnWheel(JobDescriptor descriptor) {
+    try {
+      timingWheel.schedule(descriptor);
+      return JobScheduleResult.success(descriptor.getName(), descriptor.getGroup());
+    } catch (RuntimeException e) {
+      return JobScheduleResult.failure(descriptor.getName(), descriptor.getGroup(),
+          e.getLocalizedMessage());
+    }
+  }
+
+  private JobScheduleResult scheduleSingle(Scheduler scheduler, JobDetail jobDetail,
+      Set<? extends Trigger> triggers) {
+    JobKey key = jobDetail.getKey();
+    try {
+      scheduler.scheduleJob(jobDetail, triggers, Boolean.FALSE);
+      return JobScheduleResult.success(key.getName(), key.getGroup());
+    } catch (SchedulerException e) {
+      log.error("Could not schedule job with key : {}, error:{}", key, e.getLocalizedMessage());
+      return JobScheduleResult.failure(key.getName(), key.getGroup(), e.getLocalizedMessage());
+    }
+  }
 
   /**
    * @param jobDescriptor
-   * IF NEED TO RE-USE THE JOB WITH SAME NAME (GROUP.NAME) BUT DIFFERENT JOB DATA
+   * IF NEED TO RE-USE THE JOB WITH SAME NAME (GROUP.NAME) BUT DIFFERENT JOB DATA. A NEW JOB TAKES A
+   * SINGLE WRITE, AN EXISTING ONE IS DETECTED BY THE FAILED INSERT RATHER THAN A LOOKUP
    */
+  @Timed(value = SERVICE_TIMER, histogram = true)
   public void createAndUpdateJobIfAlreadyExits(JobDescriptor jobDescriptor) {
     JobDetail jobDetail = jobBuilder.buildJobDetail(jobDescriptor);
 
     Set<Trigger> triggers = triggerBuilder.buildTriggers(jobDescriptor);
 
+    Scheduler scheduler = locate(jobDetail.getKey());
+
     try {
       log.info("Scheduling job with key: {}", jobDetail.getKey());
 
-      // Check if the job already exists in the scheduler
-      JobDetail existingJob = scheduler.getJobDetail(jobDetail.getKey());
-      if (existingJob != null) {
-        // Job already exists, update its JobDataMap
-        JobDataMap jobDataMap = existingJob.getJobDataMap();
-        // Update the necessary data in the jobDataMap based on your requirements
-        jobDataMap.put("someKey", "someValue");
-        // You can update any other data as needed
-
-        // Reschedule the existing job with the updated JobDataMap
-        scheduler.addJob(existingJob, true, true);
-        log.info("Existing job with key: {} updated and rescheduled.", jobDetail.getKey());
-      } else {
-        // Job does not exist, schedule the new one
+      try {
         scheduler.scheduleJob(jobDetail, triggers, false);
         log.info("Job with key: {} scheduled.", jobDetail.getKey());
+      } catch (ObjectAlreadyExistsException e) {
+        // Job already exists, replace its JobDataMap and keep its triggers
+        scheduler.addJob(jobDetail, true, true);
+        log.info("Existing job with key: {} updated and rescheduled.", jobDetail.getKey());
       }
     } catch (SchedulerException e) {
       log.error("Could not schedule job with key: {}, error: {}", jobDetail.getKey(), e.getLocalizedMessage(), e);
@@ -96,26 +241,30 @@ public class JobService {
 
   /**
    * @param jobDescriptor
-   * IF JOB WITH NAME ALREADY EXISTS, DELETE IT AND CREATE NEW WITH SAME NAME
+   * IF JOB WITH NAME ALREADY EXISTS, REPLACE IT WITH THE NEW ONE WITH SAME NAME IN A SINGLE JOB STORE
+   * TRANSACTION. THE TRIGGERS OF A JOB ARE NAMED AFTER IT, SO THE OLD TRIGGERS ARE REPLACED TOO
    */
+  @Timed(value = SERVICE_TIMER, histogram = true)
   public void createJobDeletingExistingJob(JobDescriptor jobDescriptor) {
     JobDetail jobDetail = jobBuilder.buildJobDetail(jobDescriptor);
 
     Set<Trigger> triggers = triggerBuilder.buildTriggers(jobDescriptor);
 
+    Scheduler scheduler = schedulerRouter.route(jobDetail.getKey());
+
     try {
       log.info("Scheduling job with key: {}", jobDetail.getKey());
 
-      // Check if the job already exists in the scheduler
-      JobDetail existingJob = scheduler.getJobDetail(jobDetail.getKey());
-      if (existingJob != null) {
-        // Job already exists, remove it before scheduling the new one
+      hotTier.delete(jobDetail.getKey());
+      timingWheel.delete(jobDetail.getKey());
+
+      if (timingWheel.accepts(jobDescriptor)) {
         scheduler.deleteJob(jobDetail.getKey());
-        log.info("Existing job with key: {} removed before scheduling the new one.", jobDetail.getKey());
+        timingWheel.schedule(jobDescriptor);
+      } else {
+        scheduler.scheduleJob(jobDetail, triggers, Boolean.TRUE);
       }
 
-      scheduler.scheduleJob(jobDetail, triggers, Boolean.FALSE);
-
       log.info("Job with key: {} scheduled", jobDetail.getKey());
     } catch (SchedulerException e) {
       log.error("Could not schedule job with key: {}, error: {}", jobDetail.getKey(), e.getLocalizedMessage(), e);
@@ -129,12 +278,19 @@ public class JobService {
    * @param name
    * @param descriptor UPDATES THE EXISTING JOB WITH GIVEN GROUP AND NAME
    */
+  @Timed(value = SERVICE_TIMER, histogram = true)
   public void updateJob(String group, String name, JobDescriptor descriptor) {
+    if (timingWheel.update(jobKey(name, group), descriptor.getData())) {
+      log.info("Updated timing wheel job with key:{}.{}", group, name);
+      return;
+    }
+
+    Scheduler scheduler = locate(jobKey(name, group));
     try {
       JobDetail oldJobDetail = scheduler.getJobDetail(jobKey(name, group));
       if (Objects.nonNull(oldJobDetail)) {
 
-        JobDataMap jobDataMap = new JobDataMap(descriptor.getData());
+        JobDataMap jobDataMap = jobBuilder.buildJobDataMap(descriptor);
 
         JobBuilder jb = oldJobDetail.getJobBuilder();
 
@@ -158,6 +314,7 @@ public class JobService {
    * @param descriptor
    * @return REPLACES JOB WITH GROUP AND NAME WITH THE NEW ONE GIVEN IN JOB DESCRIPTOR
    */
+  @Timed(value = SERVICE_TIMER, histogram = true)
   public JobDescriptor replaceJob(String group, String name, JobDescriptor descriptor) {
     descriptor.setGroup(group);
     descriptor.setName(name);
@@ -169,7 +326,14 @@ public class JobService {
     log.info("Replacing job with key:{}", jobDetail.getKey());
 
     try {
-      scheduler.scheduleJob(jobDetail, triggersForJob, true);
+      hotTier.delete(jobDetail.getKey());
+      timingWheel.delete(jobDetail.getKey());
+      if (timingWheel.accepts(descriptor)) {
+        schedulerRouter.route(jobDetail.getKey()).deleteJob(jobDetail.getKey());
+        timingWheel.schedule(descriptor);
+      } else {
+        schedulerRouter.route(jobDetail.getKey()).scheduleJob(jobDetail, triggersForJob, true);
+      }
       log.info("Job with saved sucessfully key:{}", jobDetail.getKey());
     } catch (SchedulerException e) {
       log.error(
@@ -183,9 +347,12 @@ public class JobService {
    * @param group
    * @param name DELETES JOB WITH KEY NAME AND GROUP
    */
+  @Timed(value = SERVICE_TIMER, histogram = true)
   public void deleteJob(String group, String name) {
     try {
-      scheduler.deleteJob(jobKey(name, group));
+      if (!hotTier.delete(jobKey(name, group)) && !timingWheel.delete(jobKey(name, group))) {
+        schedulerRouter.route(jobKey(name, group)).deleteJob(jobKey(name, group));
+      }
       log.info("Deleted job with key:{}.{}", group, name);
     } catch (SchedulerException e) {
       log.error("Could not delete job with key:{}.{} due to error", group, name, e);
@@ -196,9 +363,12 @@ public class JobService {
    * @param group
    * @param name PAUSES JOB
    */
+  @Timed(value = SERVICE_TIMER, histogram = true)
   public void pauseJob(String group, String name) {
     try {
-      scheduler.pauseJob(jobKey(name, group));
+      if (!timingWheel.pause(jobKey(name, group))) {
+        locate(jobKey(name, group)).pauseJob(jobKey(name, group));
+      }
       log.info("Paused job with key:{}.{}", group, name);
     } catch (SchedulerException e) {
       log.error("Could not pause job with key:{}.{} due to error", group, name, e);
@@ -209,16 +379,26 @@ public class JobService {
    * @param group
    * @param name RESUMES JOB
    */
+  @Timed(value = SERVICE_TIMER, histogram = true)
   public void resumeJob(String group, String name) {
     try {
-      scheduler.resumeJob(jobKey(name, group));
+      if (!timingWheel.resume(jobKey(name, group))) {
+        locate(jobKey(name, group)).resumeJob(jobKey(name, group));
+      }
       log.info("Resumed job with key:{}.{}", group, name);
     } catch (SchedulerException e) {
       log.error("Could not resume job with key:{}.{} due to error", group, name, e);
     }
   }
 
+  @Timed(value = SERVICE_TIMER, histogram = true)
   public Optional<JobDescriptor> findJob(String group, String name) {
+    Optional<JobDescriptor> wheelJob = timingWheel.findJob(jobKey(name, group));
+    if (wheelJob.isPresent()) {
+      return wheelJob;
+    }
+
+    Scheduler scheduler = locate(jobKey(name, group));
     // @formatter:off
     try {
       JobDetail jobDetail = scheduler.getJobDetail(jobKey(name, group));
@@ -236,5 +416,18 @@ public class JobService {
     return Optional.empty();
   }
 
+  /**
+   * @param request FILTERS AND CURSOR
+   * @return ONE PAGE OF JOBS WITH THEIR TRIGGERS, JOB DATA IS NOT INCLUDED. JOBS HELD BY THE HOT
+   *     TIER ARE NOT LISTED
+   */
+  @Timed(value = SERVICE_TIMER, histogram = true)
+  public JobPage searchJobs(JobSearchRequest request) {
+    return jobQueryRepository.search(request);
+  }
+
+  private Scheduler locate(JobKey jobKey) {
+    return hotTier.contains(jobKey) ? hotTier.getScheduler() : schedulerRouter.route(jobKey);
+  }
 
 }
@@ -0,0 +1,169 @@
+package com.sabu.schedulerquartzpoc.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Component;
+
+/**
+ * Buffers outgoing mails and sends them in batches, so a burst of SendEmail jobs shares one SMTP
+ * connection (JavaMailSender.send(SimpleMailMessage...) connects once per call) instead of
+ * opening and negotiating a session per mail.
+ *
+ * A batch is flushed when it reaches mail.dispatcher.max-batch-size or every
+ * mail.dispatcher.flush-interval-ms, whichever comes first. Callers wait on the returned future
+ * (see SendEmail), so a buffered mail is never acknowledged before it is sent and nothing is lost
+ * if the node stops with mails still buffered: their jobs did not complete.
+ *
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+@Slf4j
+@Component
+public class MailDispatcher {
+
+  private final JavaMailSender javaMailSender;
+
+  private final boolean enabled;
+
+  private final int maxBatchSize;
+
+  private final long flushIntervalMillis;
+
+  private final Queue<PendingMail> buffer = new ConcurrentLinkedQueue<>();
+
+  private final AtomicInteger buffered = new AtomicInteger();
+
+  private ScheduledExecutorService flusher;
+
+  public MailDispatcher(
+      JavaMailSender javaMailSender,
+      @Value("${mail.dispatcher.enabled:true}") boolean enabled,
+      @Value("${mail.dispatcher.max-batch-size:50}") int maxBatchSize,
+      @Value("${mail.dispatcher.flush-interval-ms:200}") long flushIntervalMillis) {
+    this.javaMailSender = javaMailSender;
+    this.enabled = enabled;
+    this.maxBatchSize = maxBatchSize;
+    this.flushIntervalMillis = flushIntervalMillis;
+  }
+
+  @PostConstruct
+  public void start() {
+    if (!enabled) {
+      return;
+    }
+    flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "mail-dispatcher");
+      thread.setDaemon(true);
+      return thread;
+    });
+    flusher.scheduleWithFixedDelay(
+        this::flush, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+  }
+
+  @PreDestroy
+  public void stop() {
+    if (flusher != null) {
+      flusher.shutdown();
+    }
+    flush();
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * @param message MAIL TO SEND WITH THE NEXT BATCH
+   * @return COMPLETES ONCE THE BATCH CONTAINING THE MAIL HAS BEEN HANDED TO THE SMTP SERVER
+   */
+  public CompletableFuture<Void> dispatch(SimpleMailMessage message) {
+    PendingMail pendingMail = new PendingMail(message);
+    buffer.add(pendingMail);
+
+    if (buffered.incrementAndGet() >= maxBatchSize && flusher != null) {
+      flusher.execute(this::flush);
+    }
+
+    return pendingMail.future;
+  }
+
+  public synchronized void flush() {
+    List<PendingMail> batch = new ArrayList<>(maxBatchSize);
+    PendingMail pendingMail;
+
+    while ((pendingMail = buffer.poll()) != null) {
+      buffered.decrementAndGet();
+      batch.add(pendingMail);
+
+      if (batch.size() == maxBatchSize) {
+        send(batch);
+        batch = new ArrayList<>(maxBatchSize);
+      }
+    }
+
+    if (!batch.isEmpty()) {
+      send(batch);
+    }
+  }
+
+  private void send(List<PendingMail> batch) {
+    SimpleMailMessage[] messages = batch
+        .stream()
+        .map(pendingMail -> pendingMail.message)
+        .toArray(SimpleMailMessage[]::new);
+
+    try {
+      javaMailSender.send(messages);
+      batch.forEach(pendingMail -> pendingMail.future.complete(null));
+      log.info("Sent batch of {} emails", batch.size());
+
+    } catch (MailSendException e) {
+      // ONLY THE MESSAGES LISTED AS FAILED WERE REJECTED, THE REST OF THE BATCH WENT THROUGH
+      Map<Object, Exception> failedMessages = e.getFailedMessages();
+      for (PendingMail pendingMail : batch) {
+        Exception failure = failedMessages.get(pendingMail.message);
+        if (failure != null || failedMessages.isEmpty()) {
+          pendingMail.future.completeExceptionally(failure != null ? failure : e);
+        } else {
+          pendingMail.future.complete(null);
+        }
+      }
+      log.error("Could not send {} of {} emails in batch, error:{}",
+          failedMessages.isEmpty() ? batch.size() : failedMessages.size(), batch.size(),
+          e.getLocalizedMessage());
+
+    } catch (MailException e) {
+      batch.forEach(pendingMail -> pendingMail.future.completeExceptionally(e));
+      log.error("Could not send batch of {} emails, error:{}", batch.size(),
+          e.getLocalizedMessage(), e);
+    }
+  }
+
+  private static final class PendingMail {
+
+    private final SimpleMailMessage message;
+
+    private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+    private PendingMail(SimpleMailMessage message) {
+      this.message = message;
+    }
+  }
+
+}
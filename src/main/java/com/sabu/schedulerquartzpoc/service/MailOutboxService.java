@@ -0,0 +1,253 @@
+package com.sabu.schedulerquartzpoc.service;
+
+import static com.sabu.schedulerquartzpoc.constants.JobConstants.MAIL_OUTBOX_DRAIN_JOB;
+import static com.sabu.schedulerquartzpoc.constants.JobConstants.MAIL_OUTBOX_PURGE_JOB;
+
+import com.sabu.schedulerquartzpoc.entity.MailOutbox;
+import com.sabu.schedulerquartzpoc.entity.MailOutbox.Status;
+import com.sabu.schedulerquartzpoc.model.JobDescriptor;
+import com.sabu.schedulerquartzpoc.model.MailRequest;
+import com.sabu.schedulerquartzpoc.model.TriggerDescriptor;
+import com.sabu.schedulerquartzpoc.repository.MailOutboxRepository;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Outbox based mail delivery, used when mail.mode=outbox. Emails are appended to the mail_outbox
+ * table and a single recurring Quartz job drains the due rows page by page, instead of storing a
+ * durable job and a trigger per email. Sent mails are kept for mail.outbox.sent-retention-hours
+ * and then deleted by a second recurring job.
+ *
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MailOutboxService {
+
+  public static final String DRAIN_JOB_GROUP = "system";
+
+  public static final String DRAIN_JOB_NAME = "mailOutboxDrain";
+
+  public static final String PURGE_JOB_NAME = "mailOutboxPurge";
+
+  private final MailOutboxRepository mailOutboxRepository;
+
+  private final TransactionTemplate transactionTemplate;
+
+  private final JavaMailSender javaMailSender;
+
+  private final JobService jobService;
+
+  @Value("${spring.mail.username}")
+  private String email;
+
+  @Value("${mail.mode:job}")
+  private String mailMode;
+
+  @Value("${mail.outbox.delay-seconds:30}")
+  private long delaySeconds;
+
+  @Value("${mail.outbox.page-size:100}")
+  private int pageSize;
+
+  @Value("${mail.outbox.max-pages-per-drain:50}")
+  private int maxPagesPerDrain;
+
+  @Value("${mail.outbox.max-attempts:5}")
+  private int maxAttempts;
+
+  @Value("${mail.outbox.retry-delay-seconds:60}")
+  private long retryDelaySeconds;
+
+  @Value("${mail.outbox.drain-cron:0/5 * * * * ?}")
+  private String drainCron;
+
+  @Value("${mail.outbox.sent-retention-hours:168}")
+  private long sentRetentionHours;
+
+  @Value("${mail.outbox.purge-batch-size:1000}")
+  private int purgeBatchSize;
+
+  @Value("${mail.outbox.purge-cron:0 0 * * * ?}")
+  private String purgeCron;
+
+  public boolean isEnabled() {
+    return "outbox".equalsIgnoreCase(mailMode);
+  }
+
+  public void append(MailRequest mailRequest) {
+    mailOutboxRepository.save(buildOutbox(mailRequest));
+  }
+
+  /**
+   * @return ID OF EVERY APPENDED MAIL, IN THE SAME ORDER AS THE REQUESTS
+   */
+  public List<Long> appendAll(List<MailRequest> mailRequests) {
+    return mailOutboxRepository.saveAll(
+            mailRequests.stream().map(this::buildOutbox).collect(Collectors.toList()))
+        .stream()
+        .map(MailOutbox::getId)
+        .collect(Collectors.toList());
+  }
+
+  private MailOutbox buildOutbox(MailRequest mailRequest) {
+    MailOutbox mail = new MailOutbox();
+    mail.setToEmail(mailRequest.getToEmail());
+    mail.setSubject(mailRequest.getSubject());
+    mail.setMessage(mailRequest.getMessage());
+    mail.setDueAt(LocalDateTime.now().plusSeconds(delaySeconds));
+    return mail;
+  }
+
+  /**
+   * SENDS DUE MAILS, ONE PAGE PER TRANSACTION, UNTIL NO DUE MAILS ARE LEFT OR
+   * mail.outbox.max-pages-per-drain IS REACHED
+   */
+  public void drain() {
+    int total = 0;
+
+    for (int page = 0; page < maxPagesPerDrain; page++) {
+      Integer drained = transactionTemplate.execute(status -> drainPage());
+      total += drained == null ? 0 : drained;
+
+      if (drained == null || drained < pageSize) {
+        break;
+      }
+    }
+
+    if (total > 0) {
+      log.info("Drained {} emails from outbox", total);
+    }
+  }
+
+  /**
+   * DELETES MAILS SENT MORE THAN mail.outbox.sent-retention-hours AGO, IN BATCHES OF
+   * mail.outbox.purge-batch-size, EACH IN ITS OWN TRANSACTION
+   */
+  public void purgeSent() {
+    LocalDateTime cutoff = LocalDateTime.now().minusHours(sentRetentionHours);
+    int total = 0;
+    Integer deleted;
+
+    do {
+      deleted = transactionTemplate.execute(
+          status -> mailOutboxRepository.deleteSentBefore(cutoff, purgeBatchSize));
+      total += deleted == null ? 0 : deleted;
+    } while (deleted != null && deleted == purgeBatchSize);
+
+    if (total > 0) {
+      log.info("Purged {} sent emails from outbox", total);
+    }
+  }
+
+  private int drainPage() {
+    LocalDateTime now = LocalDateTime.now();
+    List<MailOutbox> mails = mailOutboxRepository.lockDue(now, pageSize);
+    if (mails.isEmpty()) {
+      return 0;
+    }
+
+    Map<SimpleMailMessage, MailOutbox> messages = new IdentityHashMap<>();
+    mails.forEach(mail -> messages.put(buildMessage(mail), mail));
+
+    Map<Object, Exception> failedMessages = Collections.emptyMap();
+    Exception batchFailure = null;
+    try {
+      // THE WHOLE PAGE GOES OUT OVER ONE SMTP CONNECTION
+      javaMailSender.send(messages.keySet().toArray(new SimpleMailMessage[0]));
+    } catch (MailSendException e) {
+      failedMessages = e.getFailedMessages();
+      batchFailure = failedMessages.isEmpty() ? e : null;
+    } catch (MailException e) {
+      batchFailure = e;
+    }
+
+    for (Map.Entry<SimpleMailMessage, MailOutbox> entry : messages.entrySet()) {
+      Exception failure = batchFailure != null ? batchFailure : failedMessages.get(entry.getKey());
+      if (failure == null) {
+        markSent(entry.getValue(), now);
+      } else {
+        markFailed(entry.getValue(), now, failure);
+      }
+    }
+
+    mailOutboxRepository.saveAll(mails);
+
+    return mails.size();
+  }
+
+  private void markSent(MailOutbox mail, LocalDateTime now) {
+    mail.setStatus(Status.SENT);
+    mail.setSentAt(now);
+    mail.setAttempts(mail.getAttempts() + 1);
+  }
+
+  private void markFailed(MailOutbox mail, LocalDateTime now, Exception failure) {
+    mail.setAttempts(mail.getAttempts() + 1);
+    // A LONGER MESSAGE WOULD FAIL THE SAVE OF THE WHOLE PAGE, AFTER ITS MAILS WERE SENT
+    String error = failure.getLocalizedMessage();
+    mail.setLastError(error == null || error.length() <= MailOutbox.LAST_ERROR_LENGTH
+        ? error : error.substring(0, MailOutbox.LAST_ERROR_LENGTH));
+
+    if (mail.getAttempts() >= maxAttempts) {
+      mail.setStatus(Status.FAILED);
+      log.error("Giving up on email to : {} after {} attempts, error:{}", mail.getToEmail(),
+          mail.getAttempts(), failure.getLocalizedMessage());
+      return;
+    }
+    mail.setDueAt(now.plusSeconds(retryDelaySeconds * mail.getAttempts()));
+  }
+
+  private SimpleMailMessage buildMessage(MailOutbox mail) {
+    SimpleMailMessage mailMessage = new SimpleMailMessage();
+    mailMessage.setTo(mail.getToEmail());
+    mailMessage.setSubject(mail.getSubject());
+    mailMessage.setText(mail.getMessage());
+    mailMessage.setFrom(email);
+    return mailMessage;
+  }
+
+  /**
+   * REGISTERS (OR REPLACES) THE RECURRING DRAIN AND PURGE JOBS WHEN RUNNING IN OUTBOX MODE
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void registerDrainJob() {
+    if (!isEnabled()) {
+      return;
+    }
+
+    jobService.replaceJob(DRAIN_JOB_GROUP, DRAIN_JOB_NAME, buildRecurringJob(MAIL_OUTBOX_DRAIN_JOB,
+        drainCron, "Drain due emails from the mail outbox."));
+    jobService.replaceJob(DRAIN_JOB_GROUP, PURGE_JOB_NAME, buildRecurringJob(MAIL_OUTBOX_PURGE_JOB,
+        purgeCron, "Delete sent emails past their retention from the mail outbox."));
+  }
+
+  private static JobDescriptor buildRecurringJob(String type, String cron, String description) {
+    TriggerDescriptor triggerDescriptor = new TriggerDescriptor();
+    triggerDescriptor.setCron(cron);
+
+    JobDescriptor jobDescriptor = new JobDescriptor();
+    jobDescriptor.setType(type);
+    jobDescriptor.setDescription(description);
+    jobDescriptor.setTriggerDescriptors(Collections.singletonList(triggerDescriptor));
+    return jobDescriptor;
+  }
+
+}
@@ -0,0 +1,161 @@
+package com.sabu.schedulerquartzpoc.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Limits the rate SendEmail jobs hand mails to the SMTP provider, with a global token bucket and
+ * one bucket per recipient domain. A mail over budget is not waited for: a future token is
+ * reserved for it and the caller reschedules the job for then, so no scheduler thread is blocked
+ * and jobs deferred together come back one slot apart instead of all at once.
+ *
+ * The domain token is reserved first. The global token is only reserved once the domain token is
+ * due, so mails queued behind a busy domain do not hold global tokens other domains could use. The
+ * caller passes back what the previous reservation returned, so a deferred job is never charged
+ * twice.
+ *
+ * Buckets are per node, the global rate of a cluster is mail.rate-limit.global.permits-per-second
+ * times the number of nodes. A domain bucket is dropped once it is full again, when a new one is
+ * the same. Past mail.rate-limit.domain.max-tracked domains, only buckets that have not reserved
+ * future slots are evicted.
+ *
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+@Component
+public class MailRateLimiter {
+
+  // WHAT A MAIL HOLDS A TOKEN OF, STORED IN THE TRIGGER OF A DEFERRED JOB
+  public static final String RESERVED_NONE = "none";
+
+  public static final String RESERVED_DOMAIN = "domain";
+
+  public static final String RESERVED_ALL = "all";
+
+  private final boolean enabled;
+
+  private final double domainPermitsPerSecond;
+
+  private final double domainBurst;
+
+  private final TokenBucket globalBucket;
+
+  private final Cache<String, TokenBucket> domainBuckets;
+
+  private final Counter globalLimited;
+
+  private final Counter domainLimited;
+
+  public MailRateLimiter(
+      MeterRegistry meterRegistry,
+      @Value("${mail.rate-limit.enabled:true}") boolean enabled,
+      @Value("${mail.rate-limit.global.permits-per-second:10}") double globalPermitsPerSecond,
+      @Value("${mail.rate-limit.global.burst:20}") double globalBurst,
+      @Value("${mail.rate-limit.domain.permits-per-second:5}") double domainPermitsPerSecond,
+      @Value("${mail.rate-limit.domain.burst:10}") double domainBurst,
+      @Value("${mail.rate-limit.domain.max-tracked:10000}") long maxTrackedDomains) {
+    this.enabled = enabled;
+    this.domainPermitsPerSecond = domainPermitsPerSecond;
+    this.domainBurst = domainBurst;
+    this.globalBucket = new TokenBucket(globalPermitsPerSecond, globalBurst);
+    // A BUCKET HOLDING RESERVED SLOTS WEIGHS NOTHING, SO IT IS NEVER EVICTED FOR SIZE
+    this.domainBuckets = Caffeine
+        .newBuilder()
+        .maximumWeight(maxTrackedDomains)
+        .weigher((String domain, TokenBucket bucket) -> bucket.isOverdrawn() ? 0 : 1)
+        .expireAfter(new UntilFull())
+        .build();
+
+    this.globalLimited = Counter.builder("mail.rate.limited")
+        .tag("scope", "global")
+        .register(meterRegistry);
+    this.domainLimited = Counter.builder("mail.rate.limited")
+        .tag("scope", "domain")
+        .register(meterRegistry);
+  }
+
+  /**
+   * @param toEmail RECIPIENT OF THE MAIL
+   * @param reserved RESERVED OF THE PREVIOUS RESERVATION FOR THE MAIL, RESERVED_NONE FOR THE FIRST
+   * @return RESERVATION, WITH A WAIT OF 0 IF THE MAIL CAN BE SENT NOW
+   */
+  public Reservation reserve(String toEmail, String reserved) {
+    if (!enabled || RESERVED_ALL.equals(reserved)) {
+      return new Reservation(0, RESERVED_ALL);
+    }
+
+    if (!RESERVED_DOMAIN.equals(reserved)) {
+      // RESERVED INSIDE compute, SO THE EXPIRY AND WEIGHT ARE TAKEN AFTER THE RESERVATION
+      long[] wait = new long[1];
+      domainBuckets.asMap().compute(domainOf(toEmail), (domain, bucket) -> {
+        TokenBucket domainBucket =
+            bucket == null ? new TokenBucket(domainPermitsPerSecond, domainBurst) : bucket;
+        wait[0] = domainBucket.reserve();
+        return domainBucket;
+      });
+      if (wait[0] > 0) {
+        domainLimited.increment();
+        return new Reservation(toMillis(wait[0]), RESERVED_DOMAIN);
+      }
+    }
+
+    long wait = globalBucket.reserve();
+    if (wait > 0) {
+      globalLimited.increment();
+      return new Reservation(toMillis(wait), RESERVED_ALL);
+    }
+    return new Reservation(0, RESERVED_ALL);
+  }
+
+  private static long toMillis(long nanos) {
+    return Math.max(1, TimeUnit.NANOSECONDS.toMillis(nanos));
+  }
+
+  static String domainOf(String toEmail) {
+    int at = toEmail == null ? -1 : toEmail.lastIndexOf('@');
+    return at < 0 ? "" : toEmail.substring(at + 1).toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * Expires a domain bucket once it is full again.
+   */
+  private static final class UntilFull implements Expiry<String, TokenBucket> {
+
+    @Override
+    public long expireAfterCreate(String domain, TokenBucket bucket, long currentTime) {
+      return bucket.nanosUntilFull();
+    }
+
+    @Override
+    public long expireAfterUpdate(String domain, TokenBucket bucket, long currentTime,
+        long currentDuration) {
+      return bucket.nanosUntilFull();
+    }
+
+    @Override
+    public long expireAfterRead(String domain, TokenBucket bucket, long currentTime,
+        long currentDuration) {
+      return currentDuration;
+    }
+  }
+
+  @Getter
+  @RequiredArgsConstructor
+  public static class Reservation {
+
+    private final long waitMillis;
+
+    private final String reserved;
+
+  }
+
+}
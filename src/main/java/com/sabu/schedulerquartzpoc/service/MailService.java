@@ -1,15 +1,26 @@
 package com.sabu.schedulerquartzpoc.service;
 
 import static com.sabu.schedulerquartzpoc.constants.JobConstants.EMAIL_JOB;
+import static org.quartz.JobKey.jobKey;
 
+import com.sabu.schedulerquartzpoc.model.IngestionStatus;
 import com.sabu.schedulerquartzpoc.model.JobDescriptor;
+import com.sabu.schedulerquartzpoc.model.JobScheduleResult;
 import com.sabu.schedulerquartzpoc.model.MailRequest;
 import com.sabu.schedulerquartzpoc.model.TriggerDescriptor;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -21,22 +32,165 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class MailService {
 
+  private static final String EMAIL_GROUP = "email";
+
+  // QUARTZ NAMES ARE VARCHAR(200), RETRY AND DEFERRED TRIGGERS APPEND A SUFFIX AND A UUID TO THE
+  // JOB NAME
+  private static final int MAX_JOB_NAME_LENGTH = 140;
+
   private final JobService jobService;
 
-  public void sendEmail(MailRequest mailRequest) {
-    Map<String, Object> data = buildData(mailRequest);
+  private final MailOutboxService mailOutboxService;
+
+  private final SchedulingIngestionService ingestionService;
+
+  private final IdempotencyService idempotencyService;
+
+  /**
+   * @return TRUE WHEN EMAILS ARE SCHEDULED THROUGH THE ASYNCHRONOUS INGESTION QUEUE
+   */
+  public boolean isAsync() {
+    return ingestionService.isEnabled() && !mailOutboxService.isEnabled();
+  }
+
+  /**
+   * @param mailRequest
+   * @param idempotencyKey KEY SENT BY THE CLIENT, MAY BE NULL
+   * @return FALSE IF THE KEY WAS ALREADY USED, I.E. THE EMAIL IS ALREADY SCHEDULED
+   */
+  public boolean claim(MailRequest mailRequest, String idempotencyKey) {
+    return idempotencyService.claim(idempotencyKey,
+        jobKey(buildJobName(mailRequest.getToEmail(), idempotencyKey), EMAIL_GROUP));
+  }
+
+  public void release(String idempotencyKey) {
+    idempotencyService.release(idempotencyKey);
+  }
 
-    JobDescriptor jobDescriptor = buildJobDescriptor(data);
+  /**
+   * @param mailRequest
+   * @param idempotencyKey CLAIMED KEY, MAY BE NULL
+   * @return QUEUED STATUS, EMPTY IF THE INGESTION QUEUE IS FULL
+   */
+  public Optional<IngestionStatus> enqueueEmail(MailRequest mailRequest, String idempotencyKey) {
+    return ingestionService.submit(buildJobDescriptor(buildData(mailRequest), idempotencyKey),
+        idempotencyKey);
+  }
+
+  /**
+   * @param mailRequest
+   * @param idempotencyKey CLAIMED KEY, MAY BE NULL. RELEASED IF THE EMAIL CANNOT BE SCHEDULED
+   */
+  public void sendEmail(MailRequest mailRequest, String idempotencyKey) {
+    try {
+      if (mailOutboxService.isEnabled()) {
+        mailOutboxService.append(mailRequest);
+        return;
+      }
+
+      Map<String, Object> data = buildData(mailRequest);
+
+      JobDescriptor jobDescriptor = buildJobDescriptor(data, idempotencyKey);
+
+      jobService.createJob(jobDescriptor);
+    } catch (RuntimeException e) {
+      idempotencyService.release(idempotencyKey);
+      throw e;
+    }
+  }
+
+  /**
+   * @param mailRequests
+   * @param idempotencyKey KEY OF THE WHOLE REQUEST, MAY BE NULL. EACH EMAIL IS CLAIMED AS key#index
+   *     SO A RETRIED REQUEST ONLY SCHEDULES THE EMAILS THAT FAILED BEFORE
+   * @return RESULT PER EMAIL, IN THE SAME ORDER AS THE REQUEST, REPLAYED FOR AN EMAIL WHOSE KEY WAS
+   *     ALREADY USED
+   */
+  public List<JobScheduleResult> sendEmails(List<MailRequest> mailRequests, String idempotencyKey) {
+    if (idempotencyKey != null) {
+      IdempotencyService.validate(idempotencyKey);
+    }
+
+    JobScheduleResult[] results = new JobScheduleResult[mailRequests.size()];
+    List<Integer> positions = new ArrayList<>(mailRequests.size());
+
+    for (int i = 0; i < mailRequests.size(); i++) {
+      MailRequest mailRequest = mailRequests.get(i);
+      String itemKey = itemKey(idempotencyKey, i);
+      String name = buildJobName(mailRequest.getToEmail(), itemKey);
+
+      if (!idempotencyService.claim(itemKey, jobKey(name, EMAIL_GROUP))) {
+        results[i] = JobScheduleResult.replayed(name, EMAIL_GROUP);
+        continue;
+      }
+      positions.add(i);
+    }
+
+    if (mailOutboxService.isEnabled()) {
+      List<Long> outboxIds = mailOutboxService.appendAll(positions
+          .stream()
+          .map(mailRequests::get)
+          .collect(Collectors.toList()));
+      for (int j = 0; j < positions.size(); j++) {
+        results[positions.get(j)] = JobScheduleResult.queued(outboxIds.get(j));
+      }
+      return List.of(results);
+    }
+
+    List<JobDescriptor> jobDescriptors = positions
+        .stream()
+        .map(i -> buildJobDescriptor(buildData(mailRequests.get(i)), itemKey(idempotencyKey, i)))
+        .collect(Collectors.toList());
+
+    List<JobScheduleResult> scheduled = jobService.createJobs(jobDescriptors);
+    for (int j = 0; j < scheduled.size(); j++) {
+      int i = positions.get(j);
+      results[i] = scheduled.get(j);
+      if (!results[i].isScheduled()) {
+        idempotencyService.release(itemKey(idempotencyKey, i));
+      }
+    }
+
+    return List.of(results);
+  }
+
+  private static String itemKey(String idempotencyKey, int index) {
+    if (idempotencyKey == null) {
+      return null;
+    }
+    String itemKey = idempotencyKey + "#" + index;
+    // A KEY TOO LONG FOR THE SUFFIX IS REPLACED BY ITS DIGEST, STILL THE SAME FOR EVERY RETRY
+    return itemKey.length() <= IdempotencyService.MAX_KEY_LENGTH
+        ? itemKey
+        : digest(idempotencyKey) + "#" + index;
+  }
+
+  private static String buildJobName(String toEmail, String idempotencyKey) {
+    // NEEDS TO BE UNIQUE, AND THE SAME FOR EVERY RETRY OF AN IDEMPOTENT REQUEST
+    String name = idempotencyKey == null
+        ? "mailTo:" + toEmail + UUID.randomUUID()
+        : "mailTo:" + toEmail + ":" + idempotencyKey;
+    return name.length() <= MAX_JOB_NAME_LENGTH ? name : "mailTo:" + digest(name);
+  }
 
-    jobService.createJob(jobDescriptor);
+  /**
+   * @return URL SAFE BASE64 OF THE SHA-256 OF THE VALUE, 43 CHARACTERS
+   */
+  private static String digest(String value) {
+    try {
+      byte[] hash = MessageDigest.getInstance("SHA-256")
+          .digest(value.getBytes(StandardCharsets.UTF_8));
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
   }
 
-  private static JobDescriptor buildJobDescriptor(Map<String, Object> data) {
+  private static JobDescriptor buildJobDescriptor(Map<String, Object> data, String idempotencyKey) {
     JobDescriptor jobDescriptor = new JobDescriptor();
 
-    jobDescriptor.setGroup("email");
-    // NEEDS TO BE UNIQUE
-    jobDescriptor.setName("mailTo:"+ data.get("toEmail")+ UUID.randomUUID());
+    jobDescriptor.setGroup(EMAIL_GROUP);
+    jobDescriptor.setName(buildJobName((String) data.get("toEmail"), idempotencyKey));
     jobDescriptor.setData(data);
     jobDescriptor.setType(EMAIL_JOB);
     jobDescriptor.setDescription("Schedule send email.");
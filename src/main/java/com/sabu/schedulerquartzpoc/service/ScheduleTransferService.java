@@ -0,0 +1,368 @@
+package com.sabu.schedulerquartzpoc.service;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.sabu.schedulerquartzpoc.builder.JobBuilderUtil;
+import com.sabu.schedulerquartzpoc.builder.JobTypeRegistry;
+import com.sabu.schedulerquartzpoc.job.AbstractJob;
+import com.sabu.schedulerquartzpoc.model.JobDescriptor;
+import com.sabu.schedulerquartzpoc.model.JobScheduleResult;
+import com.sabu.schedulerquartzpoc.model.ScheduleImportResult;
+import com.sabu.schedulerquartzpoc.model.TriggerDescriptor;
+import com.sabu.schedulerquartzpoc.model.TriggerDescriptor.MisfirePolicy;
+import com.sabu.schedulerquartzpoc.repository.JobQueryRepository;
+import com.sabu.schedulerquartzpoc.repository.JobQueryRepository.StoredJob;
+import com.sabu.schedulerquartzpoc.scheduler.HotTier;
+import com.sabu.schedulerquartzpoc.scheduler.TimingWheelDispatcher;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.JobBuilder;
+import org.quartz.JobDataMap;
+import org.quartz.JobDetail;
+import org.quartz.JobKey;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.Trigger;
+import org.quartz.Trigger.TriggerState;
+import org.quartz.impl.matchers.GroupMatcher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Export and import of the whole schedule as line-delimited JSON, one JobDescriptor (with its
+ * triggers and data) per line, to bootstrap a new environment or restore a cluster.
+ *
+ * Both directions stream: the export reads the job store a page of jobs with their triggers per
+ * query, the import reads one line at a time and holds at most two batches per import thread, so
+ * memory use does not depend on the number of jobs. The import spreads groups over
+ * scheduler.transfer.import.threads threads, each storing batches of scheduler.transfer.batch-size
+ * through JobService.createJobs.
+ *
+ * Retry and deferred triggers are exported as one-shot triggers at their pending fire time, a
+ * paused job as paused. A one-shot fire time that passed by the time it is imported is a misfire:
+ * the trigger fires right after the import, or is dropped under MisfirePolicy.SKIP.
+ *
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ScheduleTransferService {
+
+  private static final int MAX_REPORTED_FAILURES = 100;
+
+  // LEAVES THE BATCH TIME TO BE STORED BEFORE A CAUGHT UP FIRE TIME PASSES
+  private static final long CATCH_UP_DELAY_SECONDS = 5;
+
+  private final JobService jobService;
+
+  private final JobQueryRepository jobQueryRepository;
+
+  private final HotTier hotTier;
+
+  private final TimingWheelDispatcher timingWheel;
+
+  private final JobBuilderUtil jobBuilder;
+
+  private final JobTypeRegistry jobTypeRegistry;
+
+  private final ObjectMapper objectMapper;
+
+  @Value("${scheduler.transfer.batch-size:500}")
+  private int batchSize;
+
+  @Value("${scheduler.transfer.import.threads:4}")
+  private int importThreads;
+
+  /**
+   * @param out RECEIVES ONE JOB DESCRIPTOR PER LINE, ORDERED BY GROUP AND NAME. JOBS OF THE TIMING
+   *     WHEEL, THEN JOBS HELD BY THE HOT TIER, FOLLOW THE STORED ONES
+   * @return NUMBER OF JOBS EXPORTED
+   */
+  public long exportJobs(OutputStream out) throws IOException {
+    ObjectWriter writer = objectMapper.writerFor(JobDescriptor.class);
+    OutputStream buffered = new BufferedOutputStream(out, 64 * 1024);
+    long exported = 0;
+
+    JobKey after = null;
+    List<StoredJob> jobs;
+    do {
+      jobs = jobQueryRepository.findJobsAfter(after, batchSize);
+      for (StoredJob job : jobs) {
+        Optional<JobDescriptor> descriptor = describe(job);
+        if (descriptor.isPresent()) {
+          write(buffered, writer, descriptor.get());
+          exported++;
+        }
+      }
+      buffered.flush();
+      after = jobs.isEmpty() ? null : jobs.get(jobs.size() - 1).getKey();
+    } while (jobs.size() == batchSize);
+
+    exported += exportTimingWheel(buffered, writer);
+    exported += exportHotTier(buffered, writer);
+    buffered.flush();
+
+    log.info("Exported {} jobs", exported);
+    return exported;
+  }
+
+  private Optional<JobDescriptor> describe(StoredJob job) {
+    Class<? extends AbstractJob> jobType;
+    try {
+      jobType = jobTypeRegistry.resolve(job.getJobClassName());
+    } catch (IllegalArgumentException e) {
+      log.warn("Could not export job with key:{}, error:{}", job.getKey(), e.getLocalizedMessage());
+      return Optional.empty();
+    }
+
+    JobDetail jobDetail = JobBuilder
+        .newJob(jobType)
+        .withIdentity(job.getKey())
+        .withDescription(job.getDescription())
+        .usingJobData(new JobDataMap(job.getData()))
+        .build();
+    return Optional.of(describe(jobDetail, job.getTriggers(), job.isPaused()));
+  }
+
+  private JobDescriptor describe(JobDetail jobDetail, List<? extends Trigger> triggers,
+      boolean paused) {
+    JobDescriptor descriptor = jobBuilder.buildDescriptor(jobDetail, triggers);
+    descriptor.setPaused(paused ? Boolean.TRUE : null);
+    return descriptor;
+  }
+
+  private long exportTimingWheel(OutputStream out, ObjectWriter writer) throws IOException {
+    long exported = 0;
+    JobKey after = null;
+    List<JobDescriptor> jobs;
+    do {
+      jobs = timingWheel.findJobsAfter(after, batchSize);
+      for (JobDescriptor job : jobs) {
+        write(out, writer, job);
+        exported++;
+      }
+      out.flush();
+      if (!jobs.isEmpty()) {
+        JobDescriptor last = jobs.get(jobs.size() - 1);
+        after = JobKey.jobKey(last.getName(), last.getGroup());
+      }
+    } while (jobs.size() == batchSize);
+    return exported;
+  }
+
+  private long exportHotTier(OutputStream out, ObjectWriter writer) throws IOException {
+    Scheduler scheduler = hotTier.getScheduler();
+    if (scheduler == null) {
+      return 0;
+    }
+
+    // THE HOT TIER IS A RAMJobStore, A LOOKUP PER JOB DOES NOT LEAVE THE JVM
+    long exported = 0;
+    try {
+      for (JobKey jobKey : scheduler.getJobKeys(GroupMatcher.anyJobGroup())) {
+        JobDetail jobDetail = scheduler.getJobDetail(jobKey);
+        if (jobDetail == null) {
+          // FIRED SINCE THE KEYS WERE LISTED
+          continue;
+        }
+        List<Trigger> triggers = new ArrayList<>(scheduler.getTriggersOfJob(jobKey));
+        triggers.sort(Comparator.comparing(Trigger::getKey));
+        boolean paused = false;
+        for (Trigger trigger : triggers) {
+          paused |= scheduler.getTriggerState(trigger.getKey()) == TriggerState.PAUSED;
+        }
+        write(out, writer, describe(jobDetail, triggers, paused));
+        exported++;
+      }
+    } catch (SchedulerException e) {
+      throw new IllegalStateException("Could not export the hot tier jobs", e);
+    }
+    return exported;
+  }
+
+  private static void write(OutputStream out, ObjectWriter writer, JobDescriptor job)
+      throws IOException {
+    out.write(writer.writeValueAsBytes(job));
+    out.write('\n');
+  }
+
+  /**
+   * @param in ONE JOB DESCRIPTOR PER LINE, AS WRITTEN BY {@link #exportJobs}. EXISTING JOBS ARE
+   *     NOT REPLACED AND COUNT AS FAILED
+   * @return COUNTS AND THE FIRST FAILURES
+   */
+  public ScheduleImportResult importJobs(InputStream in) throws IOException {
+    long start = System.currentTimeMillis();
+    ObjectReader reader = objectMapper.readerFor(JobDescriptor.class);
+    Progress progress = new Progress();
+
+    // ONE SINGLE THREADED EXECUTOR PER LANE KEEPS A GROUP ON ONE THREAD, THE SEMAPHORE BOUNDS THE
+    // BATCHES WAITING ACROSS ALL LANES
+    List<ExecutorService> lanes = new ArrayList<>(importThreads);
+    List<List<JobDescriptor>> pending = new ArrayList<>(importThreads);
+    for (int lane = 0; lane < importThreads; lane++) {
+      lanes.add(Executors.newSingleThreadExecutor());
+      pending.add(new ArrayList<>(batchSize));
+    }
+    Semaphore inFlight = new Semaphore(importThreads * 2);
+
+    try (MappingIterator<JobDescriptor> jobs = reader.readValues(in)) {
+      while (jobs.hasNextValue()) {
+        JobDescriptor job = jobs.nextValue();
+        progress.read.incrementAndGet();
+
+        int lane = Math.floorMod(Objects.hashCode(job.getGroup()), importThreads);
+        pending.get(lane).add(job);
+        if (pending.get(lane).size() == batchSize) {
+          submit(lanes.get(lane), pending.get(lane), inFlight, progress);
+          pending.set(lane, new ArrayList<>(batchSize));
+        }
+      }
+      for (int lane = 0; lane < importThreads; lane++) {
+        if (!pending.get(lane).isEmpty()) {
+          submit(lanes.get(lane), pending.get(lane), inFlight, progress);
+        }
+      }
+    } finally {
+      awaitLanes(lanes);
+    }
+
+    log.info("Imported {} of {} jobs, skipped:{}, failed:{}", progress.scheduled.get(),
+        progress.read.get(), progress.skipped.get(), progress.failed.get());
+
+    return ScheduleImportResult
+        .builder()
+        .read(progress.read.get())
+        .scheduled(progress.scheduled.get())
+        .skipped(progress.skipped.get())
+        .failed(progress.failed.get())
+        .elapsedMillis(System.currentTimeMillis() - start)
+        .failures(progress.failures)
+        .build();
+  }
+
+  private void submit(ExecutorService lane, List<JobDescriptor> batch, Semaphore inFlight,
+      Progress progress) {
+    try {
+      inFlight.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while importing jobs");
+    }
+
+    lane.execute(() -> {
+      try {
+        List<JobDescriptor> jobs = catchUp(batch, progress);
+        // A PAUSED JOB IS STORED PAUSED, IT NEVER FIRES BETWEEN THE IMPORT AND A PAUSE
+        jobService.createJobs(jobs).forEach(progress::add);
+      } catch (RuntimeException e) {
+        log.error("Could not import batch of {} jobs, error:{}", batch.size(),
+            e.getLocalizedMessage(), e);
+        batch.forEach(job -> progress.add(JobScheduleResult.failure(job.getName(), job.getGroup(),
+            e.getLocalizedMessage())));
+      } finally {
+        inFlight.release();
+      }
+    });
+  }
+
+  /**
+   * Moves one-shot fire times that passed, or are about to, to CATCH_UP_DELAY_SECONDS from now. A
+   * passed one under MisfirePolicy.SKIP is dropped instead, a job left without any trigger is
+   * skipped.
+   */
+  private static List<JobDescriptor> catchUp(List<JobDescriptor> batch, Progress progress) {
+    LocalDateTime now = LocalDateTime.now();
+    LocalDateTime fireAt = now.plusSeconds(CATCH_UP_DELAY_SECONDS);
+    List<JobDescriptor> jobs = new ArrayList<>(batch.size());
+
+    for (JobDescriptor job : batch) {
+      List<TriggerDescriptor> triggers = job.getTriggerDescriptors();
+      if (triggers == null || triggers.isEmpty()) {
+        // LEFT TO createJobs TO REPORT
+        jobs.add(job);
+        continue;
+      }
+
+      triggers.removeIf(trigger -> isOneShotBefore(trigger, now)
+          && trigger.getMisfirePolicy() == MisfirePolicy.SKIP);
+      triggers.stream()
+          .filter(trigger -> isOneShotBefore(trigger, fireAt))
+          .forEach(trigger -> trigger.setFireTime(fireAt));
+
+      if (triggers.isEmpty()) {
+        log.info("Skipped job with key:{}.{}, its fire times passed", job.getGroup(),
+            job.getName());
+        progress.skipped.incrementAndGet();
+      } else {
+        jobs.add(job);
+      }
+    }
+    return jobs;
+  }
+
+  private static boolean isOneShotBefore(TriggerDescriptor trigger, LocalDateTime time) {
+    return (trigger.getCron() == null || trigger.getCron().isEmpty())
+        && trigger.getIntervalMillis() == null
+        && trigger.getFireTime() != null
+        && trigger.getFireTime().isBefore(time);
+  }
+
+  private void awaitLanes(List<ExecutorService> lanes) {
+    lanes.forEach(ExecutorService::shutdown);
+    try {
+      for (ExecutorService lane : lanes) {
+        lane.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+      }
+    } catch (InterruptedException e) {
+      lanes.forEach(ExecutorService::shutdownNow);
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static final class Progress {
+
+    private final AtomicLong read = new AtomicLong();
+
+    private final AtomicLong scheduled = new AtomicLong();
+
+    private final AtomicLong skipped = new AtomicLong();
+
+    private final AtomicLong failed = new AtomicLong();
+
+    private final List<JobScheduleResult> failures = new ArrayList<>();
+
+    private void add(JobScheduleResult result) {
+      if (result.isScheduled()) {
+        scheduled.incrementAndGet();
+        return;
+      }
+      failed.incrementAndGet();
+      synchronized (failures) {
+        if (failures.size() < MAX_REPORTED_FAILURES) {
+          failures.add(result);
+        }
+      }
+    }
+  }
+
+}
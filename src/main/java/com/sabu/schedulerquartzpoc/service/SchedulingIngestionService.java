@@ -0,0 +1,230 @@
+package com.sabu.schedulerquartzpoc.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sabu.schedulerquartzpoc.model.IngestionStatus;
+import com.sabu.schedulerquartzpoc.model.IngestionStatus.State;
+import com.sabu.schedulerquartzpoc.model.JobDescriptor;
+import com.sabu.schedulerquartzpoc.model.JobScheduleResult;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Asynchronous ingestion, used when scheduler.ingestion.mode=async. Controllers put descriptors on
+ * a bounded lock-free queue and answer right away with a tracking id; a single writer thread
+ * drains the queue in micro-batches through JobService.createJobs.
+ *
+ * A full queue rejects new descriptors so callers can back off (HTTP 429). The idempotency key of
+ * a descriptor that fails to be scheduled is released, so the client can retry it.
+ *
+ * Statuses are kept for scheduler.ingestion.status-ttl-seconds after their last change, and at
+ * most scheduler.ingestion.status-max-size of them, the oldest evicted first.
+ *
+ * The queue lives in memory only: descriptors accepted but not yet written are lost if the process
+ * dies, and their tracking ids are unknown after a restart. Callers needing every accepted request
+ * stored use the sync mode.
+ *
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+@Slf4j
+@Service
+public class SchedulingIngestionService {
+
+  private final JobService jobService;
+
+  private final IdempotencyService idempotencyService;
+
+  private final Queue<Ingestion> queue = new ConcurrentLinkedQueue<>();
+
+  private final AtomicInteger queued = new AtomicInteger();
+
+  private final Cache<String, IngestionStatus> statuses;
+
+  @Value("${scheduler.ingestion.mode:sync}")
+  private String mode;
+
+  @Value("${scheduler.ingestion.capacity:10000}")
+  private int capacity;
+
+  @Value("${scheduler.ingestion.batch-size:200}")
+  private int batchSize;
+
+  @Value("${scheduler.ingestion.idle-wait-ms:5}")
+  private long idleWaitMillis;
+
+  private volatile boolean running;
+
+  private Thread writer;
+
+  public SchedulingIngestionService(JobService jobService, IdempotencyService idempotencyService,
+      @Value("${scheduler.ingestion.status-ttl-seconds:3600}") long statusTtlSeconds,
+      @Value("${scheduler.ingestion.status-max-size:100000}") long statusMaxSize) {
+    this.jobService = jobService;
+    this.idempotencyService = idempotencyService;
+    this.statuses = Caffeine
+        .newBuilder()
+        .expireAfterWrite(statusTtlSeconds, TimeUnit.SECONDS)
+        .maximumSize(statusMaxSize)
+        .build();
+  }
+
+  public boolean isEnabled() {
+    return "async".equalsIgnoreCase(mode);
+  }
+
+  @PostConstruct
+  public void start() {
+    if (!isEnabled()) {
+      return;
+    }
+    running = true;
+    writer = new Thread(this::writeLoop, "scheduling-ingestion-writer");
+    writer.setDaemon(true);
+    writer.start();
+  }
+
+  @PreDestroy
+  public void stop() throws InterruptedException {
+    if (writer == null) {
+      return;
+    }
+    running = false;
+    LockSupport.unpark(writer);
+    writer.join(TimeUnit.SECONDS.toMillis(30));
+  }
+
+  /**
+   * @param jobDescriptor JOB TO SCHEDULE
+   * @return QUEUED STATUS WITH THE TRACKING ID, EMPTY IF THE QUEUE IS FULL
+   */
+  public Optional<IngestionStatus> submit(JobDescriptor jobDescriptor) {
+    return submit(jobDescriptor, null);
+  }
+
+  /**
+   * @param jobDescriptor JOB TO SCHEDULE
+   * @param idempotencyKey CLAIMED KEY, MAY BE NULL. RELEASED IF THE JOB CANNOT BE SCHEDULED
+   * @return QUEUED STATUS WITH THE TRACKING ID, EMPTY IF THE QUEUE IS FULL
+   */
+  public Optional<IngestionStatus> submit(JobDescriptor jobDescriptor, String idempotencyKey) {
+    if (queued.incrementAndGet() > capacity) {
+      queued.decrementAndGet();
+      return Optional.empty();
+    }
+
+    IngestionStatus status = IngestionStatus
+        .builder()
+        .trackingId(UUID.randomUUID().toString())
+        .state(State.QUEUED)
+        .name(jobDescriptor.getName())
+        .group(jobDescriptor.getGroup())
+        .updatedAt(LocalDateTime.now())
+        .build();
+
+    statuses.put(status.getTrackingId(), status);
+    queue.add(new Ingestion(status.getTrackingId(), jobDescriptor, idempotencyKey));
+
+    return Optional.of(status);
+  }
+
+  public Optional<IngestionStatus> findStatus(String trackingId) {
+    return Optional.ofNullable(statuses.getIfPresent(trackingId));
+  }
+
+  private void writeLoop() {
+    while (running || !queue.isEmpty()) {
+      List<Ingestion> batch = poll();
+
+      if (batch.isEmpty()) {
+        LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(idleWaitMillis));
+      } else {
+        write(batch);
+      }
+    }
+  }
+
+  private List<Ingestion> poll() {
+    List<Ingestion> batch = new ArrayList<>(batchSize);
+    Ingestion ingestion;
+
+    while (batch.size() < batchSize && (ingestion = queue.poll()) != null) {
+      queued.decrementAndGet();
+      batch.add(ingestion);
+    }
+    return batch;
+  }
+
+  private void write(List<Ingestion> batch) {
+    List<JobDescriptor> descriptors = new ArrayList<>(batch.size());
+    batch.forEach(ingestion -> descriptors.add(ingestion.jobDescriptor));
+
+    List<JobScheduleResult> results;
+    try {
+      results = jobService.createJobs(descriptors);
+    } catch (RuntimeException e) {
+      log.error("Could not schedule batch of {} jobs, error:{}", batch.size(),
+          e.getLocalizedMessage(), e);
+      batch.forEach(ingestion -> complete(ingestion, State.FAILED, e.getLocalizedMessage()));
+      return;
+    }
+
+    for (int i = 0; i < batch.size(); i++) {
+      JobScheduleResult result = results.get(i);
+      complete(batch.get(i), result.isScheduled() ? State.SCHEDULED : State.FAILED,
+          result.getError());
+    }
+  }
+
+  private void complete(Ingestion ingestion, State state, String error) {
+    if (state == State.FAILED) {
+      release(ingestion.idempotencyKey);
+    }
+
+    // STATUSES ARE READ BY REQUEST THREADS, SO THEY ARE REPLACED RATHER THAN MUTATED
+    statuses.asMap().computeIfPresent(ingestion.trackingId, (id, status) -> status
+        .toBuilder()
+        .state(state)
+        .error(error)
+        .updatedAt(LocalDateTime.now())
+        .build());
+  }
+
+  private void release(String idempotencyKey) {
+    try {
+      idempotencyService.release(idempotencyKey);
+    } catch (RuntimeException e) {
+      log.error("Could not release idempotency key:{}, error:{}", idempotencyKey,
+          e.getLocalizedMessage(), e);
+    }
+  }
+
+  private static final class Ingestion {
+
+    private final String trackingId;
+
+    private final JobDescriptor jobDescriptor;
+
+    private final String idempotencyKey;
+
+    private Ingestion(String trackingId, JobDescriptor jobDescriptor, String idempotencyKey) {
+      this.trackingId = trackingId;
+      this.jobDescriptor = jobDescriptor;
+      this.idempotencyKey = idempotencyKey;
+    }
+  }
+
+}
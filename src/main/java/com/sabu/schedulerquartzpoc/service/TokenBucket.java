@@ -0,0 +1,79 @@
+package com.sabu.schedulerquartzpoc.service;
+
+/**
+ * Token bucket refilled continuously at permitsPerSecond, holding at most burst tokens.
+ *
+ * {@link #reserve} always takes a token, letting the bucket go negative: every caller over budget
+ * is handed its own future slot, one 1 / permitsPerSecond after the previous one.
+ *
+ * @author : sabu.shakya
+ * @created : 2026-10-17
+ **/
+public class TokenBucket {
+
+  private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+  private final double capacity;
+
+  private final double tokensPerNano;
+
+  private double tokens;
+
+  private long refilledAt;
+
+  public TokenBucket(double permitsPerSecond, double burst) {
+    if (permitsPerSecond <= 0 || burst < 1) {
+      throw new IllegalArgumentException("Token bucket needs permitsPerSecond > 0 and burst >= 1");
+    }
+    this.capacity = burst;
+    this.tokensPerNano = permitsPerSecond / NANOS_PER_SECOND;
+    this.tokens = burst;
+    this.refilledAt = System.nanoTime();
+  }
+
+  /**
+   * @return 0 IF A TOKEN WAS AVAILABLE, OTHERWISE NANOS UNTIL THE TOKEN RESERVED FOR THE CALLER IS
+   */
+  public long reserve() {
+    return reserve(System.nanoTime());
+  }
+
+  synchronized long reserve(long now) {
+    refill(now);
+    tokens -= 1;
+    return tokens >= 0 ? 0 : (long) Math.ceil(-tokens / tokensPerNano);
+  }
+
+  /**
+   * @return NANOS UNTIL THE BUCKET IS FULL AGAIN, 0 IF IT IS FULL. A BUCKET DROPPED BY THEN WOULD
+   *     FORGET THE SLOTS IT RESERVED
+   */
+  public long nanosUntilFull() {
+    return nanosUntilFull(System.nanoTime());
+  }
+
+  synchronized long nanosUntilFull(long now) {
+    refill(now);
+    return (long) Math.ceil((capacity - tokens) / tokensPerNano);
+  }
+
+  /**
+   * @return TRUE IF MORE TOKENS ARE RESERVED THAN THE BUCKET HOLDS
+   */
+  public boolean isOverdrawn() {
+    return isOverdrawn(System.nanoTime());
+  }
+
+  synchronized boolean isOverdrawn(long now) {
+    refill(now);
+    return tokens < 0;
+  }
+
+  private void refill(long now) {
+    if (now > refilledAt) {
+      tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerNano);
+      refilledAt = now;
+    }
+  }
+
+}
@@ -0,0 +1,8 @@
+-- Indexes backing the keyset paginated job search (JobQueryRepository).
+-- ${tablePrefix} is replaced with org.quartz.jobStore.tablePrefix.
+
+CREATE INDEX IF NOT EXISTS idx_${tablePrefix}j_search_type
+    ON ${tablePrefix}job_details (sched_name, job_class_name, job_group, job_name);
+
+CREATE INDEX IF NOT EXISTS idx_${tablePrefix}t_search_job
+    ON ${tablePrefix}triggers (sched_name, job_group, job_name, trigger_state, next_fire_time);
@@ -0,0 +1,14 @@
+-- Compact history of one-shot jobs removed by the retention sweeper (JobRetentionService).
+-- Job data is not archived.
+
+CREATE TABLE IF NOT EXISTS job_history (
+    id             BIGSERIAL PRIMARY KEY,
+    sched_name     VARCHAR(120) NOT NULL,
+    job_group      VARCHAR(200) NOT NULL,
+    job_name       VARCHAR(200) NOT NULL,
+    job_class_name VARCHAR(250) NOT NULL,
+    description    VARCHAR(250),
+    archived_at    TIMESTAMP    NOT NULL DEFAULT now()
+);
+
+CREATE INDEX IF NOT EXISTS idx_job_history_job ON job_history (job_group, job_name);
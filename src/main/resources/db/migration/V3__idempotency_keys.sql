@@ -0,0 +1,12 @@
+-- Idempotency keys claimed by the scheduling endpoints (IdempotencyService). The primary key makes
+-- the claim a single INSERT ... ON CONFLICT DO NOTHING, rows older than the TTL are purged by the
+-- IdempotencyKeyPurgeJob on scheduler.idempotency.purge-cron.
+
+CREATE TABLE IF NOT EXISTS idempotency_key (
+    idempotency_key VARCHAR(200) PRIMARY KEY,
+    job_group       VARCHAR(200) NOT NULL,
+    job_name        VARCHAR(200) NOT NULL,
+    created_at      TIMESTAMP    NOT NULL DEFAULT now()
+);
+
+CREATE INDEX IF NOT EXISTS idx_idempotency_key_created_at ON idempotency_key (created_at);
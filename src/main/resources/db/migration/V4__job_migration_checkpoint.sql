@@ -0,0 +1,13 @@
+-- Progress of the online job definition migration (JobMigrationService), one row per migration id.
+-- last_job_group / last_job_name is the keyset position the next batch resumes from.
+
+CREATE TABLE IF NOT EXISTS job_migration_checkpoint (
+    migration_id   VARCHAR(100) PRIMARY KEY,
+    last_job_group VARCHAR(200),
+    last_job_name  VARCHAR(200),
+    scanned        BIGINT       NOT NULL DEFAULT 0,
+    migrated       BIGINT       NOT NULL DEFAULT 0,
+    failed         BIGINT       NOT NULL DEFAULT 0,
+    completed_at   TIMESTAMP,
+    updated_at     TIMESTAMP    NOT NULL DEFAULT now()
+);
@@ -0,0 +1,8 @@
+-- End of the last catch-up wave planned by MisfireRecovery per scheduler, so nodes recovering
+-- the same scheduler queue their waves after each other instead of firing them together.
+
+CREATE TABLE IF NOT EXISTS misfire_recovery (
+    sched_name VARCHAR(120) PRIMARY KEY,
+    next_slot  BIGINT    NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT now()
+);
@@ -0,0 +1,22 @@
+-- Jobs fired by the TimingWheelDispatcher instead of the Quartz job store, and the lease of the
+-- single node firing them. next_fire_time and fire_count are only checkpointed every few seconds.
+
+CREATE TABLE IF NOT EXISTS timing_wheel_job (
+    id             BIGSERIAL PRIMARY KEY,
+    job_group      VARCHAR(200) NOT NULL,
+    job_name       VARCHAR(200) NOT NULL,
+    descriptor     TEXT         NOT NULL,
+    interval_ms    BIGINT       NOT NULL,
+    next_fire_time BIGINT       NOT NULL,
+    fire_count     BIGINT       NOT NULL DEFAULT 0,
+    created_at     TIMESTAMP    NOT NULL DEFAULT now(),
+    UNIQUE (job_group, job_name)
+);
+
+CREATE TABLE IF NOT EXISTS timing_wheel_lease (
+    id         INT PRIMARY KEY,
+    owner      VARCHAR(200),
+    expires_at BIGINT NOT NULL
+);
+
+INSERT INTO timing_wheel_lease (id, owner, expires_at) VALUES (1, NULL, 0) ON CONFLICT DO NOTHING;
@@ -0,0 +1,6 @@
+-- Trigger state first, so a job search filtered on a state reads a key range of the triggers
+-- instead of probing the triggers of every job (JobQueryRepository).
+-- ${tablePrefix} is replaced with org.quartz.jobStore.tablePrefix.
+
+CREATE INDEX IF NOT EXISTS idx_${tablePrefix}t_search_state
+    ON ${tablePrefix}triggers (sched_name, trigger_state, job_group, job_name, next_fire_time);
@@ -0,0 +1,9 @@
+-- Jobs deleted from timing_wheel_job, read and removed by the owner of the timing wheel lease on
+-- every poll so it stops firing them without waiting for its next checkpoint.
+
+CREATE TABLE IF NOT EXISTS timing_wheel_deleted (
+    seq       BIGSERIAL PRIMARY KEY,
+    job_id    BIGINT       NOT NULL,
+    job_group VARCHAR(200) NOT NULL,
+    job_name  VARCHAR(200) NOT NULL
+);
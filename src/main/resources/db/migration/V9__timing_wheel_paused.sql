@@ -0,0 +1,4 @@
+-- Paused timing wheel jobs stay stored but are not fired. The owner evicts a job once it is
+-- recorded in timing_wheel_deleted and loads it again when resuming moves it to a new id.
+
+ALTER TABLE timing_wheel_job ADD COLUMN IF NOT EXISTS paused BOOLEAN NOT NULL DEFAULT FALSE;
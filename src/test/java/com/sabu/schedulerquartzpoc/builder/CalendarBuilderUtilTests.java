@@ -0,0 +1,117 @@
+package com.sabu.schedulerquartzpoc.builder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sabu.schedulerquartzpoc.model.CalendarDescriptor;
+import com.sabu.schedulerquartzpoc.model.JobDescriptor;
+import com.sabu.schedulerquartzpoc.model.TriggerDescriptor;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.quartz.Calendar;
+import org.quartz.TriggerUtils;
+import org.quartz.spi.OperableTrigger;
+
+class CalendarBuilderUtilTests {
+
+  private final CalendarBuilderUtil calendarBuilder = new CalendarBuilderUtil();
+
+  private final TriggerBuilderUtil triggerBuilder =
+      new TriggerBuilderUtil();
+
+  private static final LocalDate HOLIDAY = LocalDate.now()
+      .plusWeeks(1)
+      .with(TemporalAdjusters.previousOrSame(DayOfWeek.WEDNESDAY));
+
+  private static CalendarDescriptor businessHours() {
+    return CalendarDescriptor
+        .builder()
+        .name("business-hours")
+        .description("Weekdays 09:00 to 17:00 except holidays")
+        .excludedDates(List.of(HOLIDAY))
+        .excludedDays(List.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY))
+        .windowStart(LocalTime.of(9, 0))
+        .windowEnd(LocalTime.of(17, 0))
+        .build();
+  }
+
+  private static long millis(LocalDateTime time) {
+    return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+  }
+
+  @Test
+  void excludesHolidaysWeekendsAndTimesOutsideTheWindow() {
+    Calendar calendar = calendarBuilder.buildCalendar(businessHours());
+
+    LocalDate monday = HOLIDAY.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    assertThat(calendar.isTimeIncluded(millis(monday.atTime(10, 0)))).isTrue();
+    assertThat(calendar.isTimeIncluded(millis(monday.atTime(8, 59)))).isFalse();
+    assertThat(calendar.isTimeIncluded(millis(monday.atTime(17, 30)))).isFalse();
+    assertThat(calendar.isTimeIncluded(millis(monday.plusDays(5).atTime(10, 0)))).isFalse();
+    assertThat(calendar.isTimeIncluded(millis(HOLIDAY.atTime(10, 0)))).isFalse();
+  }
+
+  @Test
+  void oneHourlyTriggerFiresOnlyDuringBusinessHours() {
+    TriggerDescriptor triggerDescriptor =
+        TriggerDescriptor.builder().cron("0 0 * * * ?").calendar("business-hours").build();
+    JobDescriptor jobDescriptor = new JobDescriptor();
+    jobDescriptor.setName("job");
+    jobDescriptor.setGroup("group");
+
+    OperableTrigger trigger =
+        (OperableTrigger) triggerBuilder.buildTrigger(jobDescriptor, triggerDescriptor);
+    assertThat(trigger.getCalendarName()).isEqualTo("business-hours");
+
+    List<Date> fireTimes = TriggerUtils.computeFireTimes(trigger,
+        calendarBuilder.buildCalendar(businessHours()), 100);
+    List<LocalDateTime> times = fireTimes.stream()
+        .map(date -> LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault()))
+        .collect(Collectors.toList());
+
+    assertThat(times).hasSize(100).allSatisfy(time -> {
+      assertThat(time.getHour()).isBetween(9, 17);
+      assertThat(time.getDayOfWeek()).isNotIn(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY);
+      assertThat(time.toLocalDate()).isNotEqualTo(HOLIDAY);
+    });
+  }
+
+  @Test
+  void readsBackTheDescriptor() {
+    CalendarDescriptor descriptor = calendarBuilder.buildDescriptor("business-hours",
+        calendarBuilder.buildCalendar(businessHours()));
+
+    assertThat(descriptor.getName()).isEqualTo("business-hours");
+    assertThat(descriptor.getDescription()).isEqualTo("Weekdays 09:00 to 17:00 except holidays");
+    assertThat(descriptor.getExcludedDates()).containsExactly(HOLIDAY);
+    assertThat(descriptor.getExcludedDays())
+        .containsExactly(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY);
+    assertThat(descriptor.getWindowStart()).isEqualTo(LocalTime.of(9, 0));
+    assertThat(descriptor.getWindowEnd()).isEqualTo(LocalTime.of(17, 0));
+  }
+
+  @Test
+  void rejectsCalendarsExcludingNothingOrEverything() {
+    assertThatThrownBy(() -> calendarBuilder.buildCalendar(
+        CalendarDescriptor.builder().name("empty").build()))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> calendarBuilder.buildCalendar(CalendarDescriptor
+        .builder()
+        .name("never")
+        .excludedDays(List.of(DayOfWeek.values()))
+        .build()))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> calendarBuilder.buildCalendar(
+        CalendarDescriptor.builder().name("window").windowStart(LocalTime.NOON).build()))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+}
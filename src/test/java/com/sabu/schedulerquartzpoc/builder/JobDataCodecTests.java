@@ -0,0 +1,71 @@
+package com.sabu.schedulerquartzpoc.builder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class JobDataCodecTests {
+
+  private final JobDataCodec codec = new JobDataCodec(new ObjectMapper());
+
+  @Test
+  void encodesEveryValueAsString() {
+    Map<String, Object> data = new LinkedHashMap<>();
+    data.put("toEmail", "user@example.com");
+    data.put("attempts", 3);
+    data.put("fireTime", LocalDateTime.of(2026, 10, 17, 9, 30));
+    data.put("nested", Map.of("enabled", true));
+
+    Map<String, String> encoded = codec.encode(data);
+
+    assertThat(encoded)
+        .containsEntry("toEmail", "user@example.com")
+        .containsEntry("attempts", "3")
+        .containsEntry("fireTime", "2026-10-17T09:30")
+        .containsEntry("nested", "{\"enabled\":true}")
+        .containsEntry(JobDataCodec.JSON_KEYS, "attempts,nested");
+  }
+
+  @Test
+  void roundTripsStringsNumbersBooleansAndNestedValues() {
+    Map<String, Object> data = new LinkedHashMap<>();
+    data.put("subject", "Hello");
+    data.put("count", 42);
+    data.put("ratio", 0.5);
+    data.put("flag", false);
+    data.put("tags", List.of("a", "b"));
+    data.put("nested", Map.of("key", "value"));
+    data.put("numericString", "42");
+
+    Map<String, Object> decoded = codec.decode(codec.encode(data));
+
+    assertThat(decoded).isEqualTo(data);
+    assertThat(decoded.get("numericString")).isInstanceOf(String.class);
+  }
+
+  @Test
+  void decodesDatesAsIsoStrings() {
+    LocalDateTime fireTime = LocalDateTime.of(2026, 10, 17, 9, 30, 15);
+
+    Map<String, Object> decoded = codec.decode(codec.encode(Map.of("fireTime", fireTime)));
+
+    assertThat(LocalDateTime.parse((String) decoded.get("fireTime"))).isEqualTo(fireTime);
+  }
+
+  @Test
+  void skipsNullValuesAndRejectsReservedKeys() {
+    Map<String, Object> data = new LinkedHashMap<>();
+    data.put("missing", null);
+
+    assertThat(codec.encode(data)).isEmpty();
+    assertThatThrownBy(() -> codec.encode(Map.of(JobDataCodec.JSON_KEYS, "x")))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+}
@@ -0,0 +1,151 @@
+package com.sabu.schedulerquartzpoc.builder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sabu.schedulerquartzpoc.job.AbstractJob;
+import com.sabu.schedulerquartzpoc.job.JobParameter;
+import com.sabu.schedulerquartzpoc.job.JobType;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.quartz.JobExecutionContext;
+
+class JobTypeRegistryTests {
+
+  @JobType(name = "versioned", version = 3, aliases = "com.example.OldVersionedJob")
+  static class VersionedJob extends AbstractJob {
+
+    @Override
+    protected void executeJob(JobExecutionContext context) {
+    }
+  }
+
+  static class PlainJob extends AbstractJob {
+
+    public static final JobParameter<String> RECIPIENT = JobParameter.string("recipient");
+
+    public static final JobParameter<Integer> ATTEMPT = JobParameter.integer("attempt").optional(0);
+
+    @Override
+    protected void executeJob(JobExecutionContext context) {
+    }
+  }
+
+  private static JobDataUpcaster upcaster(int fromVersion, String from, String to) {
+    return new JobDataUpcaster() {
+      @Override
+      public String getJobType() {
+        return "versioned";
+      }
+
+      @Override
+      public int getFromVersion() {
+        return fromVersion;
+      }
+
+      @Override
+      public void upcast(Map<String, Object> data) {
+        data.put(to, data.remove(from));
+      }
+    };
+  }
+
+  @Test
+  void resolvesNameClassNameAndAliases() {
+    JobTypeRegistry registry = new JobTypeRegistry();
+    registry.register(VersionedJob.class);
+    registry.register(PlainJob.class);
+
+    assertThat(registry.resolve("versioned")).isEqualTo(VersionedJob.class);
+    assertThat(registry.resolve(VersionedJob.class.getName())).isEqualTo(VersionedJob.class);
+    assertThat(registry.resolve("com.example.OldVersionedJob")).isEqualTo(VersionedJob.class);
+    assertThat(registry.resolve(PlainJob.class.getName())).isEqualTo(PlainJob.class);
+    assertThat(registry.getName(VersionedJob.class)).isEqualTo("versioned");
+    assertThat(registry.getName(PlainJob.class)).isEqualTo(PlainJob.class.getName());
+    assertThat(registry.getSchemaVersion(PlainJob.class)).isEqualTo(1);
+
+    assertThatThrownBy(() -> registry.resolve("unknown"))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThat(registry.getRejectedCount()).isEqualTo(1);
+  }
+
+  @Test
+  void listsOnlyAliasesWithTheirCurrentClassName() {
+    JobTypeRegistry registry = new JobTypeRegistry();
+    registry.register(VersionedJob.class);
+    registry.register(PlainJob.class);
+
+    assertThat(registry.getAliases())
+        .containsExactly(Map.entry("com.example.OldVersionedJob", VersionedJob.class.getName()));
+  }
+
+  @Test
+  void namesStoredClassNamesAndMatchesEveryNameOfAType() {
+    JobTypeRegistry registry = new JobTypeRegistry();
+    registry.register(VersionedJob.class);
+
+    assertThat(registry.getName("com.example.OldVersionedJob")).isEqualTo("versioned");
+    assertThat(registry.getName(VersionedJob.class.getName())).isEqualTo("versioned");
+    assertThat(registry.getName("com.example.UnknownJob")).isEqualTo("com.example.UnknownJob");
+    assertThat(registry.getStoredNames("versioned")).containsExactlyInAnyOrder("versioned",
+        VersionedJob.class.getName(), "com.example.OldVersionedJob");
+    assertThat(registry.getStoredNames("unknown")).containsExactly("unknown");
+    assertThat(registry.getRejectedCount()).isZero();
+  }
+
+  @Test
+  void rejectsDataMissingARequiredParameter() {
+    JobTypeRegistry registry = new JobTypeRegistry();
+    registry.register(PlainJob.class);
+
+    assertThat(registry.getParameters(PlainJob.class))
+        .containsExactlyInAnyOrder(PlainJob.RECIPIENT, PlainJob.ATTEMPT);
+    registry.checkParameters(PlainJob.class, Map.of("recipient", "to@example.com"));
+    assertThatThrownBy(() -> registry.checkParameters(PlainJob.class, Map.of("attempt", "1")))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("recipient");
+    assertThat(registry.getParameters(VersionedJob.class)).isEmpty();
+  }
+
+  @Test
+  void upcastsThroughEveryVersion() {
+    JobTypeRegistry registry = new JobTypeRegistry();
+    registry.register(VersionedJob.class);
+    registry.registerUpcaster(upcaster(1, "to", "toEmail"));
+    registry.registerUpcaster(upcaster(2, "toEmail", "recipient"));
+
+    Map<String, Object> data = new HashMap<>();
+    data.put("to", "someone@example.com");
+
+    int version = registry.upcast(VersionedJob.class, JobTypeRegistry.readSchemaVersion(data), data);
+
+    assertThat(version).isEqualTo(3);
+    assertThat(data).containsOnlyKeys("recipient");
+    assertThat(registry.upcast(VersionedJob.class, 3, data)).isEqualTo(3);
+  }
+
+  @Test
+  void failsWhenAnUpcasterIsMissing() {
+    JobTypeRegistry registry = new JobTypeRegistry();
+    registry.register(VersionedJob.class);
+    registry.registerUpcaster(upcaster(2, "toEmail", "recipient"));
+
+    assertThatThrownBy(() -> registry.upcast(VersionedJob.class, 1, new HashMap<>()))
+        .isInstanceOf(IllegalStateException.class);
+    assertThatThrownBy(() -> registry.registerUpcaster(upcaster(3, "a", "b")))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void readsVersionFromFirstMapHoldingOne() {
+    Map<String, Object> trigger = new HashMap<>();
+    Map<String, Object> job = Map.of(JobTypeRegistry.SCHEMA_VERSION, "2");
+
+    assertThat(JobTypeRegistry.readSchemaVersion(trigger, job)).isEqualTo(2);
+    trigger.put(JobTypeRegistry.SCHEMA_VERSION, "3");
+    assertThat(JobTypeRegistry.readSchemaVersion(trigger, job)).isEqualTo(3);
+    assertThat(JobTypeRegistry.readSchemaVersion(new HashMap<>())).isEqualTo(1);
+  }
+
+}
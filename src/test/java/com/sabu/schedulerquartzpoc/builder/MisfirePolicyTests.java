@@ -0,0 +1,59 @@
+package com.sabu.schedulerquartzpoc.builder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sabu.schedulerquartzpoc.model.JobDescriptor;
+import com.sabu.schedulerquartzpoc.model.TriggerDescriptor;
+import com.sabu.schedulerquartzpoc.model.TriggerDescriptor.MisfirePolicy;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.quartz.CronTrigger;
+import org.quartz.SimpleTrigger;
+import org.quartz.Trigger;
+
+class MisfirePolicyTests {
+
+  private final TriggerBuilderUtil triggerBuilder =
+      new TriggerBuilderUtil();
+
+  private static JobDescriptor job() {
+    JobDescriptor jobDescriptor = new JobDescriptor();
+    jobDescriptor.setName("job");
+    jobDescriptor.setGroup("group");
+    return jobDescriptor;
+  }
+
+  private static TriggerDescriptor cron(MisfirePolicy misfirePolicy) {
+    return TriggerDescriptor.builder().cron("0 0 12 * * ?").misfirePolicy(misfirePolicy).build();
+  }
+
+  private static TriggerDescriptor oneShot(MisfirePolicy misfirePolicy) {
+    return TriggerDescriptor.builder().fireTime(LocalDateTime.now().plusDays(1))
+        .misfirePolicy(misfirePolicy).build();
+  }
+
+  @Test
+  void recoversByDefault() {
+    Trigger cron = triggerBuilder.buildTrigger(job(), cron(null));
+    Trigger oneShot = triggerBuilder.buildTrigger(job(), oneShot(null));
+
+    assertThat(cron.getMisfireInstruction())
+        .isEqualTo(CronTrigger.MISFIRE_INSTRUCTION_FIRE_ONCE_NOW);
+    assertThat(oneShot.getMisfireInstruction())
+        .isEqualTo(SimpleTrigger.MISFIRE_INSTRUCTION_FIRE_NOW);
+  }
+
+  @ParameterizedTest
+  @EnumSource(MisfirePolicy.class)
+  void readsBackThePolicy(MisfirePolicy misfirePolicy) {
+    Trigger cron = triggerBuilder.buildTrigger(job(), cron(misfirePolicy));
+    Trigger oneShot = triggerBuilder.buildTrigger(job(), oneShot(misfirePolicy));
+
+    assertThat(triggerBuilder.buildDescriptor(cron).getMisfirePolicy()).isEqualTo(misfirePolicy);
+    assertThat(triggerBuilder.buildDescriptor(oneShot).getMisfirePolicy())
+        .isEqualTo(misfirePolicy);
+  }
+
+}
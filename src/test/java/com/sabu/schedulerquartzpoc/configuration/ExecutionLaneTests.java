@@ -0,0 +1,189 @@
+package com.sabu.schedulerquartzpoc.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sabu.schedulerquartzpoc.scheduler.ElasticThreadPool;
+import com.sabu.schedulerquartzpoc.scheduler.SchedulerRouter;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.quartz.Job;
+import org.quartz.JobBuilder;
+import org.quartz.JobDetail;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobKey;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.TriggerBuilder;
+import org.quartz.impl.StdSchedulerFactory;
+import org.springframework.mock.env.MockEnvironment;
+
+class ExecutionLaneTests {
+
+  private static final int BULK_JOBS = 50;
+
+  // STATIC, QUARTZ CREATES A NEW JOB INSTANCE PER FIRE. RESET BEFORE EVERY TEST
+  private static CountDownLatch releaseBulk;
+
+  private static AtomicInteger bulkRunning;
+
+  private static CountDownLatch criticalFired;
+
+  private static AtomicInteger bulkRunningWhenCriticalFired;
+
+  private final MockEnvironment environment = new MockEnvironment()
+      .withProperty("scheduler.lanes.bulk.groups", "email")
+      .withProperty("scheduler.lanes.bulk.thread-count", "2");
+
+  private Scheduler shard;
+
+  private Scheduler bulkLane;
+
+  @BeforeEach
+  void setUp() {
+    releaseBulk = new CountDownLatch(1);
+    bulkRunning = new AtomicInteger();
+    criticalFired = new CountDownLatch(1);
+    bulkRunningWhenCriticalFired = new AtomicInteger(-1);
+  }
+
+  @AfterEach
+  void tearDown() throws SchedulerException {
+    releaseBulk.countDown();
+    if (bulkLane != null) {
+      bulkLane.shutdown(false);
+    }
+    if (shard != null) {
+      shard.shutdown(false);
+    }
+  }
+
+  @Test
+  void bindsOnlyTheLanes() {
+    SchedulerLaneProperties laneProperties = new SchedulerLaneProperties(environment);
+
+    assertThat(laneProperties.getLanes()).containsOnlyKeys("bulk");
+    assertThat(laneProperties.getLanes().get("bulk").getThreadCount()).isEqualTo(2);
+    assertThat(laneProperties.getLaneByGroup()).containsExactly(Map.entry("email", "bulk"));
+  }
+
+  @Test
+  void laneSchedulerGetsItsNameAndThreadsAndNoLargerBatch() {
+    Properties properties = SchedulerConfiguration.laneQuartzProperties(
+        schedulerProperties("lane-test"), "bulk", 2);
+
+    assertThat(properties.getProperty("org.quartz.scheduler.instanceName"))
+        .isEqualTo("lane-test-lane-bulk");
+    assertThat(properties.getProperty(SchedulerTuningProperties.THREAD_COUNT)).isEqualTo("2");
+    assertThat(properties.getProperty(SchedulerTuningProperties.BATCH_MAX_COUNT)).isEqualTo("2");
+  }
+
+  @Test
+  void recordsTheSettingsOfEverySchedulerAfterItsLane() {
+    SchedulerTuningProperties tuningProperties = new SchedulerTuningProperties();
+    tuningProperties.recordEffectiveSettings(schedulerProperties("lane-test"));
+    tuningProperties.recordEffectiveSettings(SchedulerConfiguration.laneQuartzProperties(
+        schedulerProperties("lane-test"), "bulk", 1));
+
+    assertThat(tuningProperties.getEffectiveSettings())
+        .containsOnlyKeys("lane-test", "lane-test-lane-bulk");
+    assertThat(tuningProperties.getEffectiveSettings().get("lane-test"))
+        .containsEntry(SchedulerTuningProperties.THREAD_COUNT, "2");
+    assertThat(tuningProperties.getEffectiveSettings().get("lane-test-lane-bulk"))
+        .containsEntry(SchedulerTuningProperties.THREAD_COUNT, "1")
+        .containsEntry(SchedulerTuningProperties.BATCH_MAX_COUNT, "1");
+  }
+
+  @Test
+  void floodedBulkLaneDoesNotHoldBackOtherJobs() throws Exception {
+    SchedulerLaneProperties laneProperties = new SchedulerLaneProperties(environment);
+    SchedulerLaneProperties.Lane lane = laneProperties.getLanes().get("bulk");
+
+    shard = new StdSchedulerFactory(schedulerProperties("lane-test-shard")).getScheduler();
+    bulkLane = new StdSchedulerFactory(SchedulerConfiguration.laneQuartzProperties(
+        schedulerProperties("lane-test"), "bulk", lane.getThreadCount())).getScheduler();
+
+    Map<String, Scheduler> lanes = new HashMap<>();
+    laneProperties.getLaneByGroup().forEach((group, name) -> lanes.put(group, bulkLane));
+    SchedulerRouter router = new SchedulerRouter(List.of(shard), lanes, List.of());
+    shard.start();
+    bulkLane.start();
+
+    for (int i = 0; i < BULK_JOBS; i++) {
+      schedule(router, JobKey.jobKey("bulk-" + i, "email"), BulkJob.class);
+    }
+    // BOTH THREADS OF THE BULK LANE ARE BUSY UNTIL RELEASED, THE REST OF THE BULK JOBS ARE WAITING
+    awaitBulkRunning(lane.getThreadCount());
+
+    schedule(router, JobKey.jobKey("critical", "system"), CriticalJob.class);
+
+    assertThat(criticalFired.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(bulkRunningWhenCriticalFired.get()).isEqualTo(lane.getThreadCount());
+    assertThat(router.route(JobKey.jobKey("bulk-0", "email"))).isSameAs(bulkLane);
+    assertThat(router.route(JobKey.jobKey("critical", "system"))).isSameAs(shard);
+  }
+
+  private static void schedule(SchedulerRouter router, JobKey jobKey, Class<? extends Job> type)
+      throws SchedulerException {
+    JobDetail jobDetail = JobBuilder.newJob(type).withIdentity(jobKey).build();
+    router.route(jobKey).scheduleJob(jobDetail, TriggerBuilder
+        .newTrigger()
+        .withIdentity(jobKey.getName(), jobKey.getGroup())
+        .startAt(new Date())
+        .build());
+  }
+
+  private static void awaitBulkRunning(int running) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 5000;
+    while (bulkRunning.get() < running) {
+      assertThat(System.currentTimeMillis()).isLessThan(deadline);
+      Thread.sleep(10);
+    }
+  }
+
+  private static Properties schedulerProperties(String name) {
+    Properties properties = new Properties();
+    properties.setProperty("org.quartz.scheduler.instanceName", name);
+    properties.setProperty("org.quartz.scheduler.skipUpdateCheck", "true");
+    properties.setProperty("org.quartz.jobStore.class", "org.quartz.simpl.RAMJobStore");
+    properties.setProperty("org.quartz.threadPool.class", ElasticThreadPool.class.getName());
+    properties.setProperty(SchedulerTuningProperties.THREAD_COUNT, "2");
+    properties.setProperty(SchedulerTuningProperties.BATCH_MAX_COUNT, "10");
+    return properties;
+  }
+
+  public static class BulkJob implements Job {
+
+    @Override
+    public void execute(JobExecutionContext context) {
+      bulkRunning.incrementAndGet();
+      try {
+        releaseBulk.await(10, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } finally {
+        bulkRunning.decrementAndGet();
+      }
+    }
+
+  }
+
+  public static class CriticalJob implements Job {
+
+    @Override
+    public void execute(JobExecutionContext context) {
+      bulkRunningWhenCriticalFired.set(bulkRunning.get());
+      criticalFired.countDown();
+    }
+
+  }
+
+}
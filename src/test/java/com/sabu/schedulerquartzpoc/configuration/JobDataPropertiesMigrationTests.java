@@ -0,0 +1,46 @@
+package com.sabu.schedulerquartzpoc.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sabu.schedulerquartzpoc.builder.JobDataCodec;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.time.LocalDateTime;
+import java.util.Properties;
+import org.junit.jupiter.api.Test;
+import org.quartz.JobDataMap;
+
+class JobDataPropertiesMigrationTests {
+
+  private final JobDataPropertiesMigration migration =
+      new JobDataPropertiesMigration(null, new JobDataCodec(new ObjectMapper()), null);
+
+  @Test
+  void rewritesSerializedJobDataAsCodecProperties() throws Exception {
+    JobDataMap jobDataMap = new JobDataMap();
+    jobDataMap.put("toEmail", "user@example.com");
+    jobDataMap.put("attempts", 3);
+    jobDataMap.put("fireTime", LocalDateTime.of(2026, 10, 17, 9, 30));
+
+    Properties properties = new Properties();
+    properties.load(new ByteArrayInputStream(migration.toProperties(serialize(jobDataMap))));
+
+    assertThat(properties)
+        .containsEntry("toEmail", "user@example.com")
+        .containsEntry("attempts", "3")
+        .containsEntry("fireTime", "2026-10-17T09:30")
+        .containsEntry(JobDataCodec.JSON_KEYS, "attempts");
+  }
+
+  private static byte[] serialize(Object value) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(value);
+    }
+    return bytes.toByteArray();
+  }
+
+}
@@ -0,0 +1,50 @@
+package com.sabu.schedulerquartzpoc.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.quartz.JobDataMap;
+
+class JobParameterTests {
+
+  private static final JobParameter<String> NAME = JobParameter.string("name");
+
+  private static final JobParameter<Integer> COUNT = JobParameter.integer("count").optional(0);
+
+  private static final JobParameter<LocalDateTime> SINCE =
+      JobParameter.of("since", LocalDateTime.class, LocalDateTime::parse).optional(null);
+
+  @Test
+  void readsStoredStrings() {
+    JobDataMap jobDataMap = new JobDataMap(Map.of(
+        "name", "report",
+        "count", "42",
+        "since", "2026-10-17T10:15:30"));
+
+    assertThat(NAME.get(jobDataMap)).isSameAs(jobDataMap.get("name"));
+    assertThat(COUNT.getInt(jobDataMap)).isEqualTo(42);
+    assertThat(COUNT.get(jobDataMap)).isEqualTo(42);
+    assertThat(SINCE.get(jobDataMap)).isEqualTo(LocalDateTime.of(2026, 10, 17, 10, 15, 30));
+  }
+
+  @Test
+  void readsTypedValuesOfOlderJobs() {
+    JobDataMap jobDataMap = new JobDataMap(Map.of("count", 7L));
+
+    assertThat(COUNT.getInt(jobDataMap)).isEqualTo(7);
+  }
+
+  @Test
+  void missingOptionalParameterIsItsDefault() {
+    JobDataMap jobDataMap = new JobDataMap();
+
+    assertThat(COUNT.getInt(jobDataMap)).isZero();
+    assertThat(COUNT.getLong(jobDataMap)).isZero();
+    assertThat(SINCE.get(jobDataMap)).isNull();
+    assertThatThrownBy(() -> NAME.get(jobDataMap)).isInstanceOf(IllegalStateException.class);
+  }
+
+}
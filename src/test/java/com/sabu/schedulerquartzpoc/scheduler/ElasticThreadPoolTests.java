@@ -0,0 +1,41 @@
+package com.sabu.schedulerquartzpoc.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.quartz.SchedulerConfigException;
+
+class ElasticThreadPoolTests {
+
+  private static final int ROUNDS = 20_000;
+
+  private final ElasticThreadPool threadPool = new ElasticThreadPool();
+
+  @AfterEach
+  void tearDown() {
+    threadPool.shutdown(true);
+  }
+
+  @Test
+  void saturatedPoolNeverRejectsAJob() throws SchedulerConfigException {
+    // THE ELASTIC EXECUTOR, NOT VIRTUAL THREADS, IS THE ONE A BOUNDED POOL SIZE BREAKS
+    threadPool.setPreferVirtualThreads(false);
+    threadPool.setThreadCount(2);
+    threadPool.initialize();
+
+    AtomicInteger ran = new AtomicInteger();
+    int rejected = 0;
+    for (int i = 0; i < ROUNDS; i++) {
+      if (!threadPool.runInThread(ran::incrementAndGet)) {
+        rejected++;
+      }
+    }
+    threadPool.shutdown(true);
+
+    assertThat(rejected).isZero();
+    assertThat(ran.get()).isEqualTo(ROUNDS);
+  }
+
+}
@@ -0,0 +1,106 @@
+package com.sabu.schedulerquartzpoc.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.sabu.schedulerquartzpoc.model.JobDescriptor;
+import com.sabu.schedulerquartzpoc.model.TriggerDescriptor;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class HotTierJournalTests {
+
+  private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void replaysJobsNotRemoved() throws IOException {
+    Path path = directory.resolve("hot-tier.journal");
+
+    HotTierJournal journal = new HotTierJournal(path, objectMapper, false, 100);
+    journal.open();
+    journal.added(descriptor("first"));
+    journal.added(descriptor("second"));
+    journal.removed("email", "first");
+    journal.close();
+
+    List<JobDescriptor> pending = new HotTierJournal(path, objectMapper, false, 100).open();
+
+    assertThat(pending).extracting(JobDescriptor::getName).containsExactly("second");
+    assertThat(pending.get(0).getData()).containsEntry("toEmail", "user@example.com");
+    assertThat(pending.get(0).getTriggerDescriptors().get(0).getFireTime()).isNotNull();
+  }
+
+  @Test
+  void addsALiveKeyOnlyOnce() throws IOException {
+    Path path = directory.resolve("hot-tier.journal");
+
+    HotTierJournal journal = new HotTierJournal(path, objectMapper, false, 100);
+    journal.open();
+    assertThat(journal.added(descriptor("first"))).isTrue();
+    assertThat(journal.added(descriptor("first"))).isFalse();
+    journal.removed("email", "first");
+    assertThat(journal.added(descriptor("first"))).isTrue();
+    journal.close();
+
+    assertThat(new HotTierJournal(path, objectMapper, false, 100).open())
+        .extracting(JobDescriptor::getName)
+        .containsExactly("first");
+  }
+
+  @Test
+  void skipsTruncatedLastRecord() throws IOException {
+    Path path = directory.resolve("hot-tier.journal");
+
+    HotTierJournal journal = new HotTierJournal(path, objectMapper, false, 100);
+    journal.open();
+    journal.added(descriptor("first"));
+    journal.close();
+    Files.write(path, "{\"op\":\"ADDED\",\"gro".getBytes(StandardCharsets.UTF_8),
+        StandardOpenOption.APPEND);
+
+    assertThat(new HotTierJournal(path, objectMapper, false, 100).open())
+        .extracting(JobDescriptor::getName)
+        .containsExactly("first");
+  }
+
+  @Test
+  void compactsRemovedRecords() throws IOException {
+    Path path = directory.resolve("hot-tier.journal");
+
+    HotTierJournal journal = new HotTierJournal(path, objectMapper, false, 2);
+    journal.open();
+    for (int i = 0; i < 10; i++) {
+      journal.added(descriptor("job-" + i));
+      journal.removed("email", "job-" + i);
+    }
+    journal.close();
+
+    assertThat(Files.readAllLines(path)).hasSizeLessThan(4);
+  }
+
+  private static JobDescriptor descriptor(String name) {
+    TriggerDescriptor triggerDescriptor = new TriggerDescriptor();
+    triggerDescriptor.setFireTime(LocalDateTime.now().plusSeconds(30));
+
+    JobDescriptor jobDescriptor = new JobDescriptor();
+    jobDescriptor.setName(name);
+    jobDescriptor.setGroup("email");
+    jobDescriptor.setType("com.sabu.schedulerquartzpoc.job.SendEmail");
+    jobDescriptor.setData(Map.of("toEmail", "user@example.com"));
+    jobDescriptor.setTriggerDescriptors(List.of(triggerDescriptor));
+    return jobDescriptor;
+  }
+
+}
@@ -0,0 +1,98 @@
+package com.sabu.schedulerquartzpoc.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sabu.schedulerquartzpoc.model.JobProfile;
+import com.sabu.schedulerquartzpoc.model.SlowJobRun;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class JobProfilerTests {
+
+  private JobProfiler jobProfiler;
+
+  @BeforeEach
+  void setUp() {
+    jobProfiler = new JobProfiler(null);
+    ReflectionTestUtils.setField(jobProfiler, "enabled", true);
+    ReflectionTestUtils.setField(jobProfiler, "slowPercentile", 99.0);
+    ReflectionTestUtils.setField(jobProfiler, "slowMultiplier", 2.0);
+    ReflectionTestUtils.setField(jobProfiler, "slowMinRuns", 64L);
+    ReflectionTestUtils.setField(jobProfiler, "slowMinDeadlineMillis", 10L);
+    ReflectionTestUtils.setField(jobProfiler, "recentSlowRunCount", 2);
+    ReflectionTestUtils.setField(jobProfiler, "maxProfiles", 3);
+  }
+
+  private void record(JobProfiler.Profile profile, long millis, boolean failed) {
+    jobProfiler.record(profile, "job", LocalDateTime.now(), TimeUnit.MILLISECONDS.toNanos(millis),
+        TimeUnit.MILLISECONDS.toNanos(millis / 2), 1024, failed);
+  }
+
+  @Test
+  void summarizesRunsPerTypeAndGroup() {
+    JobProfiler.Profile profile = jobProfiler.profile("sendEmail", "email");
+    for (int i = 1; i <= 100; i++) {
+      record(profile, i, i % 10 == 0);
+    }
+    jobProfiler.profile("test", "email");
+
+    assertThat(jobProfiler.getProfiles()).extracting(JobProfile::getType)
+        .containsExactly("sendEmail", "test");
+
+    JobProfile summary = jobProfiler.getProfiles().get(0);
+    assertThat(summary.getRuns()).isEqualTo(100);
+    assertThat(summary.getFailures()).isEqualTo(10);
+    assertThat(summary.getMeanMillis()).isEqualTo(50.5);
+    assertThat(summary.getP50Millis()).isBetween(49.0, 51.0);
+    assertThat(summary.getP99Millis()).isBetween(98.0, 100.0);
+    assertThat(summary.getCpuRatio()).isBetween(0.45, 0.5);
+    assertThat(summary.getMeanAllocatedBytes()).isEqualTo(1024);
+  }
+
+  @Test
+  void flagsRunsPastThePercentileDeadline() {
+    JobProfiler.Profile profile = jobProfiler.profile("sendEmail", "email");
+    for (int i = 0; i < 64; i++) {
+      record(profile, 20, false);
+    }
+    JobProfile summary = jobProfiler.getProfiles().get(0);
+    assertThat(summary.getDeadlineMillis()).isBetween(39.0, 41.0);
+
+    record(profile, 30, false);
+    record(profile, 100, false);
+    record(profile, 200, false);
+    record(profile, 300, false);
+
+    assertThat(jobProfiler.getProfiles().get(0).getSlowRuns()).isEqualTo(3);
+    assertThat(jobProfiler.getSlowRuns()).extracting(SlowJobRun::getDurationMillis)
+        .containsExactly(300.0, 200.0);
+  }
+
+  @Test
+  void doesNotFlagBeforeEnoughRuns() {
+    JobProfiler.Profile profile = jobProfiler.profile("sendEmail", "email");
+    for (int i = 0; i < 10; i++) {
+      record(profile, 1000, false);
+    }
+
+    assertThat(jobProfiler.getProfiles().get(0).getDeadlineMillis()).isZero();
+    assertThat(jobProfiler.getSlowRuns()).isEmpty();
+  }
+
+  @Test
+  void foldsGroupsPastTheLimitIntoOther() {
+    for (int i = 0; i < 10; i++) {
+      jobProfiler.profile("sendEmail", "campaign-" + i);
+    }
+
+    assertThat(jobProfiler.getProfiles()).extracting(JobProfile::getGroup)
+        .containsExactlyInAnyOrder("campaign-0", "campaign-1", "campaign-2",
+            JobProfiler.OTHER_GROUP);
+    assertThat(jobProfiler.profile("sendEmail", "campaign-1"))
+        .isNotSameAs(jobProfiler.profile("sendEmail", "campaign-9"));
+  }
+
+}
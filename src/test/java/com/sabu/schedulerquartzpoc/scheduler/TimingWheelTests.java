@@ -0,0 +1,91 @@
+package com.sabu.schedulerquartzpoc.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class TimingWheelTests {
+
+  // 4 BUCKETS PER LEVEL, 3 LEVELS REACH 64 TICKS AHEAD
+  private final TimingWheel wheel = new TimingWheel(1_000_000, 2, 3);
+
+  private final List<Long> expired = new ArrayList<>();
+
+  private Recording schedule(long deadline) {
+    Recording recording = new Recording();
+    wheel.schedule(recording, deadline);
+    return recording;
+  }
+
+  @Test
+  void expiresEveryTimeoutAtItsDeadlineAcrossLevels() {
+    long[] deadlines = {1, 3, 4, 5, 15, 16, 17, 63, 64, 100, 300};
+    for (long deadline : deadlines) {
+      schedule(deadline);
+    }
+
+    int count = wheel.advanceTo(400);
+
+    assertThat(count).isEqualTo(deadlines.length);
+    assertThat(expired).containsExactly(1L, 3L, 4L, 5L, 15L, 16L, 17L, 63L, 64L, 100L, 300L);
+    assertThat(wheel.size()).isZero();
+  }
+
+  @Test
+  void expiresPassedDeadlinesOnTheNextTick() {
+    wheel.advanceTo(10);
+    schedule(2);
+
+    wheel.advanceTo(11);
+
+    assertThat(expired).containsExactly(11L);
+  }
+
+  @Test
+  void dropsCancelledTimeouts() {
+    Recording cancelled = schedule(20);
+    schedule(21);
+    wheel.advanceTo(5);
+    cancelled.cancel();
+
+    assertThat(wheel.advanceTo(30)).isEqualTo(1);
+    assertThat(expired).containsExactly(21L);
+  }
+
+  @Test
+  void reschedulesFromExpiry() {
+    Repeating repeating = new Repeating(7);
+    wheel.schedule(repeating, 7);
+
+    wheel.advanceTo(70);
+
+    assertThat(expired).containsExactly(7L, 14L, 21L, 28L, 35L, 42L, 49L, 56L, 63L, 70L);
+    assertThat(wheel.size()).isEqualTo(1);
+  }
+
+  private class Recording extends TimingWheel.Timeout {
+
+    @Override
+    protected void expire(TimingWheel wheel, long tick) {
+      expired.add(tick);
+    }
+  }
+
+  private class Repeating extends TimingWheel.Timeout {
+
+    private final long interval;
+
+    private Repeating(long interval) {
+      this.interval = interval;
+    }
+
+    @Override
+    protected void expire(TimingWheel wheel, long tick) {
+      expired.add(tick);
+      wheel.reschedule(this, tick + interval);
+    }
+  }
+
+}
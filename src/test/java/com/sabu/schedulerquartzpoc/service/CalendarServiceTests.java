@@ -0,0 +1,96 @@
+package com.sabu.schedulerquartzpoc.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sabu.schedulerquartzpoc.builder.CalendarBuilderUtil;
+import com.sabu.schedulerquartzpoc.builder.TriggerBuilderUtil;
+import com.sabu.schedulerquartzpoc.model.CalendarDescriptor;
+import com.sabu.schedulerquartzpoc.model.TriggerDescriptor;
+import com.sabu.schedulerquartzpoc.scheduler.SchedulerRouter;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Properties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.impl.StdSchedulerFactory;
+import org.quartz.impl.calendar.WeeklyCalendar;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class CalendarServiceTests {
+
+  private final CalendarBuilderUtil calendarBuilder = new CalendarBuilderUtil();
+
+  private Scheduler first;
+
+  private Scheduler second;
+
+  private CalendarService calendarService;
+
+  @BeforeEach
+  void setUp() throws SchedulerException {
+    first = new StdSchedulerFactory(schedulerProperties("calendar-test-first")).getScheduler();
+    second = new StdSchedulerFactory(schedulerProperties("calendar-test-second")).getScheduler();
+    calendarService = new CalendarService(new SchedulerRouter(List.of(first, second)),
+        calendarBuilder, new TriggerBuilderUtil(), 10, 60000);
+    ReflectionTestUtils.setField(calendarService, "maxPreviewCount", 10);
+  }
+
+  @AfterEach
+  void tearDown() throws SchedulerException {
+    first.shutdown(false);
+    second.shutdown(false);
+  }
+
+  @Test
+  void failedSaveRestoresTheSchedulersAlreadySaved() throws SchedulerException {
+    // A NEW WEEKLY CALENDAR EXCLUDES THE WEEKEND
+    first.addCalendar("weekdays", new WeeklyCalendar(), false, false);
+    // A SHUT DOWN SCHEDULER REJECTS THE CALENDAR AFTER THE FIRST ONE TOOK IT
+    second.shutdown(false);
+
+    assertThatThrownBy(() -> calendarService.saveCalendar(CalendarDescriptor
+        .builder()
+        .name("weekdays")
+        .excludedDays(List.of(DayOfWeek.MONDAY))
+        .build()))
+        .isInstanceOf(IllegalStateException.class);
+
+    WeeklyCalendar restored = (WeeklyCalendar) first.getCalendar("weekdays");
+    assertThat(restored.isDayExcluded(java.util.Calendar.SATURDAY)).isTrue();
+    assertThat(restored.isDayExcluded(java.util.Calendar.MONDAY)).isFalse();
+  }
+
+  @Test
+  void listsTheCalendarsOfEveryScheduler() throws SchedulerException {
+    first.addCalendar("first-only", new WeeklyCalendar(), false, false);
+    second.addCalendar("second-only", new WeeklyCalendar(), false, false);
+
+    assertThat(calendarService.getCalendarNames()).containsExactly("first-only", "second-only");
+    assertThat(calendarService.findCalendar("second-only")).isPresent();
+  }
+
+  @Test
+  void passedFireTimeHasNoPreview() {
+    TriggerDescriptor passed = TriggerDescriptor
+        .builder()
+        .fireTime(LocalDateTime.now().minusMinutes(1))
+        .build();
+
+    assertThat(calendarService.previewFireTimes(passed, 5)).isEmpty();
+  }
+
+  private static Properties schedulerProperties(String name) {
+    Properties properties = new Properties();
+    properties.setProperty("org.quartz.scheduler.instanceName", name);
+    properties.setProperty("org.quartz.scheduler.skipUpdateCheck", "true");
+    properties.setProperty("org.quartz.jobStore.class", "org.quartz.simpl.RAMJobStore");
+    properties.setProperty("org.quartz.threadPool.threadCount", "1");
+    return properties;
+  }
+
+}
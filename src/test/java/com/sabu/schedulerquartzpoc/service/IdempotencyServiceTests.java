@@ -0,0 +1,86 @@
+package com.sabu.schedulerquartzpoc.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sabu.schedulerquartzpoc.repository.IdempotencyKeyRepository;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.quartz.JobKey;
+
+class IdempotencyServiceTests {
+
+  private final InMemoryRepository repository = new InMemoryRepository();
+
+  private final IdempotencyService idempotencyService = new IdempotencyService(repository, null,
+      100, 3600);
+
+  @Test
+  void rejectsRepeatedKeyFromCache() {
+    JobKey jobKey = JobKey.jobKey("mailTo:user@example.com:key-1", "email");
+
+    assertThat(idempotencyService.claim("key-1", jobKey)).isTrue();
+    assertThat(idempotencyService.claim("key-1", jobKey)).isFalse();
+    assertThat(repository.claims).isEqualTo(1);
+  }
+
+  @Test
+  void rejectsKeyClaimedByAnotherNode() {
+    repository.keys.add("key-1");
+
+    assertThat(idempotencyService.claim("key-1", JobKey.jobKey("job", "email"))).isFalse();
+  }
+
+  @Test
+  void releasedKeyCanBeClaimedAgain() {
+    JobKey jobKey = JobKey.jobKey("job", "email");
+    idempotencyService.claim("key-1", jobKey);
+
+    idempotencyService.release("key-1");
+
+    assertThat(idempotencyService.claim("key-1", jobKey)).isTrue();
+  }
+
+  @Test
+  void requestsWithoutKeyAreNotTracked() {
+    assertThat(idempotencyService.claim(null, JobKey.jobKey("job", "email"))).isTrue();
+    assertThat(repository.claims).isZero();
+  }
+
+  @Test
+  void rejectsBlankKey() {
+    assertThatThrownBy(() -> idempotencyService.claim(" ", JobKey.jobKey("job", "email")))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static class InMemoryRepository extends IdempotencyKeyRepository {
+
+    private final Set<String> keys = new HashSet<>();
+
+    private int claims;
+
+    InMemoryRepository() {
+      super(null);
+    }
+
+    @Override
+    public boolean claim(String idempotencyKey, JobKey jobKey) {
+      claims++;
+      return keys.add(idempotencyKey);
+    }
+
+    @Override
+    public void release(String idempotencyKey) {
+      keys.remove(idempotencyKey);
+    }
+
+    @Override
+    public int deleteCreatedBefore(LocalDateTime createdBefore) {
+      return 0;
+    }
+
+  }
+
+}
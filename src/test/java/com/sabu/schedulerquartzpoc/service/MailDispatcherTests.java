@@ -0,0 +1,87 @@
+package com.sabu.schedulerquartzpoc.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+class MailDispatcherTests {
+
+  @Test
+  void coalescesBufferedMailsIntoBatches() {
+    RecordingMailSender mailSender = new RecordingMailSender();
+    MailDispatcher dispatcher = new MailDispatcher(mailSender, true, 10, 200);
+
+    List<CompletableFuture<Void>> futures = new ArrayList<>();
+    for (int i = 0; i < 25; i++) {
+      futures.add(dispatcher.dispatch(message("user" + i + "@example.com")));
+    }
+    dispatcher.flush();
+
+    assertThat(mailSender.batchSizes).containsExactly(10, 10, 5);
+    assertThat(futures).allMatch(future -> future.isDone() && !future.isCompletedExceptionally());
+  }
+
+  @Test
+  void failsOnlyTheRejectedMessagesOfABatch() {
+    SimpleMailMessage rejected = message("rejected@example.com");
+    RecordingMailSender mailSender = new RecordingMailSender() {
+      @Override
+      public void send(SimpleMailMessage... simpleMessages) {
+        throw new MailSendException(Collections.singletonMap(rejected, new RuntimeException()));
+      }
+    };
+    MailDispatcher dispatcher = new MailDispatcher(mailSender, true, 10, 200);
+
+    CompletableFuture<Void> accepted = dispatcher.dispatch(message("accepted@example.com"));
+    CompletableFuture<Void> failed = dispatcher.dispatch(rejected);
+    dispatcher.flush();
+
+    assertThat(accepted).isCompleted();
+    assertThat(failed).isCompletedExceptionally();
+  }
+
+  @Test
+  void failsTheWholeBatchWhenTheConnectionFails() {
+    RecordingMailSender mailSender = new RecordingMailSender() {
+      @Override
+      public void send(SimpleMailMessage... simpleMessages) {
+        throw new MailAuthenticationException("rejected");
+      }
+    };
+    MailDispatcher dispatcher = new MailDispatcher(mailSender, true, 10, 200);
+
+    CompletableFuture<Void> first = dispatcher.dispatch(message("first@example.com"));
+    CompletableFuture<Void> second = dispatcher.dispatch(message("second@example.com"));
+    dispatcher.flush();
+
+    assertThat(first).isCompletedExceptionally();
+    assertThat(second).isCompletedExceptionally();
+  }
+
+  private static SimpleMailMessage message(String to) {
+    SimpleMailMessage message = new SimpleMailMessage();
+    message.setTo(to);
+    message.setSubject("subject");
+    message.setText("text");
+    return message;
+  }
+
+  private static class RecordingMailSender extends JavaMailSenderImpl {
+
+    private final List<Integer> batchSizes = new ArrayList<>();
+
+    @Override
+    public void send(SimpleMailMessage... simpleMessages) {
+      batchSizes.add(simpleMessages.length);
+    }
+  }
+
+}
@@ -0,0 +1,266 @@
+package com.sabu.schedulerquartzpoc.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.sabu.schedulerquartzpoc.builder.JobBuilderUtil;
+import com.sabu.schedulerquartzpoc.builder.JobDataCodec;
+import com.sabu.schedulerquartzpoc.builder.JobTypeRegistry;
+import com.sabu.schedulerquartzpoc.builder.TriggerBuilderUtil;
+import com.sabu.schedulerquartzpoc.job.TestJob;
+import com.sabu.schedulerquartzpoc.model.JobDescriptor;
+import com.sabu.schedulerquartzpoc.model.ScheduleImportResult;
+import com.sabu.schedulerquartzpoc.model.TriggerDescriptor;
+import com.sabu.schedulerquartzpoc.repository.JobQueryRepository;
+import com.sabu.schedulerquartzpoc.scheduler.DataSourceConnectionProvider;
+import com.sabu.schedulerquartzpoc.scheduler.HotTier;
+import com.sabu.schedulerquartzpoc.scheduler.PausableJobStoreTX;
+import com.sabu.schedulerquartzpoc.scheduler.SchedulerRouter;
+import com.sabu.schedulerquartzpoc.scheduler.TimingWheelDispatcher;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.quartz.CronTrigger;
+import org.quartz.JobKey;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.SimpleScheduleBuilder;
+import org.quartz.Trigger;
+import org.quartz.Trigger.TriggerState;
+import org.quartz.TriggerBuilder;
+import org.quartz.impl.StdSchedulerFactory;
+import org.quartz.simpl.SimpleJobFactory;
+import org.quartz.utils.DBConnectionManager;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class ScheduleTransferServiceTests {
+
+  private static final String GROUP = "transfer";
+
+  private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+  private final Map<Scheduler, HikariDataSource> dataSources = new LinkedHashMap<>();
+
+  private Scheduler source;
+
+  private Scheduler target;
+
+  private JobService sourceJobs;
+
+  private ScheduleTransferService sourceTransfer;
+
+  private ScheduleTransferService targetTransfer;
+
+  @BeforeEach
+  void setUp() throws SchedulerException {
+    String run = UUID.randomUUID().toString();
+    source = jdbcScheduler("transfer-source-" + run);
+    target = jdbcScheduler("transfer-target-" + run);
+    sourceJobs = jobService(source);
+    sourceTransfer = transferService(source, sourceJobs);
+    targetTransfer = transferService(target, jobService(target));
+  }
+
+  @AfterEach
+  void tearDown() throws SchedulerException {
+    for (Map.Entry<Scheduler, HikariDataSource> entry : dataSources.entrySet()) {
+      entry.getKey().shutdown(false);
+      entry.getValue().close();
+    }
+  }
+
+  @Test
+  void roundTripKeepsTriggersDataPauseAndRetries() throws Exception {
+    LocalDateTime tomorrow = LocalDateTime.now().plusDays(1).withNano(0);
+    sourceJobs.createJob(job("two-triggers", TriggerDescriptor.builder().cron("0 0 12 * * ?")
+        .build(), TriggerDescriptor.builder().fireTime(tomorrow).build()));
+    sourceJobs.createJob(job("paused", TriggerDescriptor.builder().fireTime(tomorrow).build()));
+    sourceJobs.pauseJob(GROUP, "paused");
+    sourceJobs.createJob(job("retried", TriggerDescriptor.builder().fireTime(tomorrow).build()));
+    Date retryAt = new Date(System.currentTimeMillis() + 3_600_000);
+    source.scheduleJob(TriggerBuilder
+        .newTrigger()
+        .withIdentity("retried-retry-1-" + UUID.randomUUID(), GROUP)
+        .forJob("retried", GROUP)
+        .withSchedule(
+            SimpleScheduleBuilder.simpleSchedule().withMisfireHandlingInstructionFireNow())
+        .startAt(retryAt)
+        .usingJobData("retryAttempt", "1")
+        .build());
+
+    ScheduleImportResult result = targetTransfer.importJobs(export());
+
+    assertThat(result.getScheduled()).isEqualTo(3);
+    assertThat(result.getFailed()).isZero();
+
+    assertThat(target.getTriggersOfJob(JobKey.jobKey("two-triggers", GROUP)))
+        .extracting(trigger -> trigger.getKey().getName())
+        .containsExactlyInAnyOrder("two-triggers", "two-triggers-1");
+    assertThat(target.getTriggersOfJob(JobKey.jobKey("two-triggers", GROUP)))
+        .filteredOn(trigger -> trigger instanceof CronTrigger)
+        .hasSize(1);
+    assertThat(target.getJobDetail(JobKey.jobKey("two-triggers", GROUP)).getJobDataMap())
+        .containsEntry("toEmail", "user@example.com");
+
+    assertThat(target.getTriggersOfJob(JobKey.jobKey("paused", GROUP))).hasSize(1);
+    for (Trigger trigger : target.getTriggersOfJob(JobKey.jobKey("paused", GROUP))) {
+      assertThat(target.getTriggerState(trigger.getKey())).isEqualTo(TriggerState.PAUSED);
+    }
+
+    List<? extends Trigger> retried = target.getTriggersOfJob(JobKey.jobKey("retried", GROUP));
+    assertThat(retried).hasSize(2);
+    assertThat(retried)
+        .filteredOn(trigger -> "1".equals(trigger.getJobDataMap().get("retryAttempt")))
+        .singleElement()
+        .satisfies(trigger -> assertThat(trigger.getStartTime()).isEqualTo(retryAt));
+  }
+
+  @Test
+  void passedOneShotFiresAfterTheImportUnlessSkipped() throws Exception {
+    storePassedOneShot("recovered", false);
+    storePassedOneShot("skipped", true);
+
+    ScheduleImportResult result = targetTransfer.importJobs(export());
+
+    assertThat(result.getScheduled()).isEqualTo(1);
+    assertThat(result.getSkipped()).isEqualTo(1);
+    assertThat(result.getFailed()).isZero();
+    assertThat(target.getTriggersOfJob(JobKey.jobKey("recovered", GROUP)))
+        .singleElement()
+        .satisfies(trigger -> assertThat(trigger.getNextFireTime()).isAfter(new Date()));
+    assertThat(target.checkExists(JobKey.jobKey("skipped", GROUP))).isFalse();
+  }
+
+  private ByteArrayInputStream export() throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    sourceTransfer.exportJobs(out);
+    return new ByteArrayInputStream(out.toByteArray());
+  }
+
+  /**
+   * @param skip MISFIRE POLICY SKIP INSTEAD OF RECOVER
+   */
+  private void storePassedOneShot(String name, boolean skip) throws SchedulerException {
+    // THE SCHEDULER IS NOT STARTED, THE TRIGGER STAYS WAITING PAST ITS FIRE TIME
+    LocalDateTime fireTime = LocalDateTime.now().minusMinutes(1);
+    SimpleScheduleBuilder schedule = SimpleScheduleBuilder.simpleSchedule();
+    schedule = skip
+        ? schedule.withMisfireHandlingInstructionNextWithRemainingCount()
+        : schedule.withMisfireHandlingInstructionFireNow();
+    source.scheduleJob(
+        new JobBuilderUtil(triggerBuilder(), codec(), registry())
+            .buildJobDetail(job(name)),
+        TriggerBuilder
+            .newTrigger()
+            .withIdentity(name, GROUP)
+            .withSchedule(schedule)
+            .startAt(Timestamp.valueOf(fireTime))
+            .usingJobData("fireTime", fireTime.toString())
+            .build());
+  }
+
+  private static JobDescriptor job(String name, TriggerDescriptor... triggers) {
+    return JobDescriptor
+        .builder()
+        .type(TestJob.class.getName())
+        .name(name)
+        .group(GROUP)
+        .data(Map.of("toEmail", "user@example.com"))
+        .triggerDescriptors(new ArrayList<>(List.of(triggers)))
+        .build();
+  }
+
+  private JobService jobService(Scheduler scheduler) {
+    JobBuilderUtil jobBuilder = new JobBuilderUtil(triggerBuilder(), codec(), registry());
+    SchedulerRouter schedulerRouter = new SchedulerRouter(List.of(scheduler));
+    HotTier hotTier = new HotTier(jobBuilder, triggerBuilder(), schedulerRouter, objectMapper,
+        new SimpleJobFactory(), null);
+    TimingWheelDispatcher timingWheel = new TimingWheelDispatcher(null, jobBuilder,
+        triggerBuilder(), schedulerRouter, new SimpleJobFactory(), objectMapper,
+        new SimpleMeterRegistry());
+    JobService jobService = new JobService(schedulerRouter, hotTier, timingWheel, jobBuilder,
+        triggerBuilder(), null);
+    ReflectionTestUtils.setField(jobService, "bulkChunkSize", 500);
+    return jobService;
+  }
+
+  private ScheduleTransferService transferService(Scheduler scheduler, JobService jobService) {
+    JobQueryRepository jobQueryRepository = new JobQueryRepository(
+        new JdbcTemplate(dataSources.get(scheduler)),
+        new SchedulerRouter(List.of(scheduler)), registry());
+    ReflectionTestUtils.setField(jobQueryRepository, "tablePrefix", "QRTZ_");
+
+    JobBuilderUtil jobBuilder = new JobBuilderUtil(triggerBuilder(), codec(), registry());
+    SchedulerRouter schedulerRouter = new SchedulerRouter(List.of(scheduler));
+    HotTier hotTier = new HotTier(jobBuilder, triggerBuilder(), schedulerRouter, objectMapper,
+        new SimpleJobFactory(), null);
+    TimingWheelDispatcher timingWheel = new TimingWheelDispatcher(null, jobBuilder,
+        triggerBuilder(), schedulerRouter, new SimpleJobFactory(),
+        objectMapper, new SimpleMeterRegistry());
+    ScheduleTransferService transferService = new ScheduleTransferService(jobService,
+        jobQueryRepository, hotTier, timingWheel, jobBuilder, registry(), objectMapper);
+    // PAGES OF TWO JOBS, SO THE EXPORT PAGES
+    ReflectionTestUtils.setField(transferService, "batchSize", 2);
+    ReflectionTestUtils.setField(transferService, "importThreads", 2);
+    return transferService;
+  }
+
+  private static TriggerBuilderUtil triggerBuilder() {
+    return new TriggerBuilderUtil();
+  }
+
+  private JobDataCodec codec() {
+    return new JobDataCodec(objectMapper);
+  }
+
+  private static JobTypeRegistry registry() {
+    JobTypeRegistry registry = new JobTypeRegistry();
+    registry.register(TestJob.class);
+    return registry;
+  }
+
+  private Scheduler jdbcScheduler(String name) throws SchedulerException {
+    HikariDataSource dataSource = new HikariDataSource();
+    dataSource.setJdbcUrl("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+    ResourceDatabasePopulator populator = new ResourceDatabasePopulator(
+        new ClassPathResource("org/quartz/impl/jdbcjobstore/tables_h2.sql"));
+    populator.setIgnoreFailedDrops(true);
+    populator.execute(dataSource);
+    DBConnectionManager.getInstance().addConnectionProvider(name + "-ds",
+        new DataSourceConnectionProvider(dataSource, new SimpleMeterRegistry()));
+
+    Properties properties = new Properties();
+    properties.setProperty("org.quartz.scheduler.instanceName", name);
+    properties.setProperty("org.quartz.scheduler.skipUpdateCheck", "true");
+    properties.setProperty("org.quartz.jobStore.class", PausableJobStoreTX.class.getName());
+    properties.setProperty("org.quartz.jobStore.driverDelegateClass",
+        "org.quartz.impl.jdbcjobstore.StdJDBCDelegate");
+    properties.setProperty("org.quartz.jobStore.dataSource", name + "-ds");
+    properties.setProperty("org.quartz.jobStore.tablePrefix", "QRTZ_");
+    properties.setProperty("org.quartz.jobStore.useProperties", "true");
+    properties.setProperty("org.quartz.threadPool.class", "org.quartz.simpl.SimpleThreadPool");
+    properties.setProperty("org.quartz.threadPool.threadCount", "1");
+
+    Scheduler scheduler = new StdSchedulerFactory(properties).getScheduler();
+    dataSources.put(scheduler, dataSource);
+    return scheduler;
+  }
+
+}
@@ -0,0 +1,43 @@
+package com.sabu.schedulerquartzpoc.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTests {
+
+  private static final long START = System.nanoTime();
+
+  @Test
+  void reservesOneSlotPerCallerBeyondTheBurst() {
+    TokenBucket bucket = new TokenBucket(2, 1);
+
+    assertThat(bucket.reserve(START)).isZero();
+    assertThat(TimeUnit.NANOSECONDS.toMillis(bucket.reserve(START))).isBetween(499L, 500L);
+    assertThat(TimeUnit.NANOSECONDS.toMillis(bucket.reserve(START))).isBetween(999L, 1000L);
+    assertThat(TimeUnit.NANOSECONDS.toMillis(
+        bucket.reserve(START + TimeUnit.MILLISECONDS.toNanos(500)))).isBetween(999L, 1000L);
+  }
+
+  @Test
+  void isFullAgainOnlyOnceTheReservedSlotsPassed() {
+    TokenBucket bucket = new TokenBucket(2, 1);
+
+    bucket.reserve(START);
+    bucket.reserve(START);
+    assertThat(bucket.isOverdrawn(START)).isTrue();
+    assertThat(TimeUnit.NANOSECONDS.toMillis(bucket.nanosUntilFull(START))).isBetween(999L, 1000L);
+
+    long slotPassed = START + TimeUnit.MILLISECONDS.toNanos(600);
+    assertThat(bucket.isOverdrawn(slotPassed)).isFalse();
+    assertThat(bucket.nanosUntilFull(START + TimeUnit.SECONDS.toNanos(2))).isZero();
+  }
+
+  @Test
+  void rejectsInvalidRate() {
+    assertThatThrownBy(() -> new TokenBucket(0, 1)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+}